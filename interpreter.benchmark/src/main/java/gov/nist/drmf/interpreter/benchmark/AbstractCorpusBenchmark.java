@@ -0,0 +1,46 @@
+package gov.nist.drmf.interpreter.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The common settings of all benchmarks. Every benchmark method processes a single element of a corpus
+ * and continues with the next element on the next invocation. Hence, the throughput is given in
+ * processed elements per millisecond and the sampled times are the latencies of a single element.
+ * <p>
+ * The settings are fixed (rather than the JMH defaults) so that numbers of different releases are comparable.
+ *
+ * @author Andre Greiner-Petter
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xss50M", "-Dlog4j.configurationFile=log4j2-benchmark.xml"})
+@State(Scope.Thread)
+public abstract class AbstractCorpusBenchmark<T> {
+    private List<T> corpus;
+
+    private int cursor = 0;
+
+    /**
+     * @param corpus the elements that are processed by the benchmark (must not be empty)
+     */
+    protected void setCorpus(List<T> corpus) {
+        if ( corpus.isEmpty() ) throw new IllegalArgumentException("The benchmark corpus must not be empty");
+        this.corpus = new ArrayList<>(corpus);
+        this.cursor = 0;
+    }
+
+    /**
+     * @return the next element of the corpus (starts over after the last element)
+     */
+    protected T next() {
+        T element = corpus.get(cursor);
+        cursor = (cursor + 1) % corpus.size();
+        return element;
+    }
+}
@@ -0,0 +1,79 @@
+package gov.nist.drmf.interpreter.benchmark;
+
+import gov.nist.drmf.interpreter.common.tests.TranslationTestCase;
+import gov.nist.drmf.interpreter.common.tests.TranslationTestCaseProvider;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the expressions the benchmarks are driven by. The corpora are the translation test cases
+ * of the lacast module and the sample expressions of the pom module. They are copied to the resources
+ * of this module during the build, so the benchmarks run without the sources of the other modules.
+ *
+ * @author Andre Greiner-Petter
+ */
+public final class BenchmarkCorpus {
+    public static final String[] TRANSLATION_TEST_FILES = new String[]{
+            "translations/Integrals.json",
+            "translations/Limits.json",
+            "translations/Products.json",
+            "translations/SpecialFunctions.json",
+            "translations/Sums.json"
+    };
+
+    public static final String SAMPLE_EXPRESSIONS_FILE = "Shorten-Sample-Expr.txt";
+
+    private BenchmarkCorpus() {}
+
+    /**
+     * @return all translation test cases in the order of {@link #TRANSLATION_TEST_FILES}
+     * @throws IOException if a test file cannot be loaded
+     */
+    public static List<TranslationTestCase> loadTranslationTestCases() throws IOException {
+        List<TranslationTestCase> testCases = new LinkedList<>();
+        for ( String file : TRANSLATION_TEST_FILES ) {
+            testCases.addAll(TranslationTestCaseProvider.provideTestCases(file).collect(Collectors.toList()));
+        }
+        return testCases;
+    }
+
+    /**
+     * The sample file is a dump of parse trees. Every parsed expression is a non-indented line
+     * followed by a colon, e.g., {@code \JacobiP{\alpha}{\beta}{n}@{\cos{a\Theta}}:}.
+     * @return the expressions of the sample file
+     * @throws IOException if the sample file cannot be loaded
+     */
+    public static List<String> loadSampleExpressions() throws IOException {
+        List<String> expressions = new LinkedList<>();
+        InputStream in = BenchmarkCorpus.class.getClassLoader().getResourceAsStream(SAMPLE_EXPRESSIONS_FILE);
+        if ( in == null ) throw new IOException("Unable to find " + SAMPLE_EXPRESSIONS_FILE);
+
+        try ( BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)) ) {
+            String line;
+            while ( (line = reader.readLine()) != null ) {
+                if ( line.isBlank() || Character.isWhitespace(line.charAt(0)) || !line.endsWith(":") ) continue;
+                expressions.add(line.substring(0, line.length()-1));
+            }
+        }
+        return expressions;
+    }
+
+    /**
+     * @return the sample expressions followed by the LaTeX expressions of all translation test cases
+     * @throws IOException if one of the corpora cannot be loaded
+     */
+    public static List<String> loadAllExpressions() throws IOException {
+        List<String> expressions = loadSampleExpressions();
+        for ( TranslationTestCase testCase : loadTranslationTestCases() ) {
+            expressions.add(testCase.getLatex());
+        }
+        return expressions;
+    }
+}
@@ -0,0 +1,31 @@
+package gov.nist.drmf.interpreter.benchmark;
+
+import gov.nist.drmf.interpreter.pom.MLPWrapper;
+import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
+import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
+import mlp.ParseException;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+
+/**
+ * Parses all expressions of the corpora with the standard semantic parser one after another.
+ *
+ * @author Andre Greiner-Petter
+ */
+@State(Scope.Thread)
+public class MLPWrapperBenchmark extends AbstractCorpusBenchmark<String> {
+
+    private MLPWrapper mlp;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        mlp = SemanticMLPWrapper.getStandardInstance();
+        setCorpus(BenchmarkCorpus.loadAllExpressions());
+    }
+
+    @Benchmark
+    public PrintablePomTaggedExpression parse() throws ParseException {
+        return mlp.parse(next());
+    }
+}
@@ -0,0 +1,53 @@
+package gov.nist.drmf.interpreter.benchmark;
+
+import gov.nist.drmf.interpreter.common.exceptions.NotMatchableException;
+import gov.nist.drmf.interpreter.pom.moi.MOIDependencyGraph;
+import mlp.ParseException;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Builds dependency graphs of the given number of nodes from the expressions of the corpora. Since adding a node
+ * compares the new node with all existing nodes, a single invocation builds an entire graph (rather than
+ * adding a single node to a graph of unknown size). Hence, the numbers are given per graph.
+ *
+ * @author Andre Greiner-Petter
+ */
+@State(Scope.Thread)
+public class MOIDependencyGraphBenchmark extends AbstractCorpusBenchmark<List<String>> {
+
+    @Param({"10", "50"})
+    private int nodes;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        List<String> mois = new LinkedList<>();
+        MOIDependencyGraph<Void> probe = new MOIDependencyGraph<>();
+        // only use the expressions that can be added to a graph
+        for ( String expression : new LinkedHashSet<>(BenchmarkCorpus.loadAllExpressions()) ) {
+            if ( mois.size() >= nodes ) break;
+            try {
+                probe.addNode(Integer.toString(mois.size()), expression);
+                mois.add(expression);
+            } catch (ParseException | NotMatchableException e) {
+                // skip
+            }
+        }
+        setCorpus(List.of(mois));
+    }
+
+    @Benchmark
+    public MOIDependencyGraph<Void> addNodes() throws ParseException, NotMatchableException {
+        List<String> mois = next();
+        MOIDependencyGraph<Void> graph = new MOIDependencyGraph<>();
+        int id = 0;
+        for ( String moi : mois ) {
+            graph.addNode(Integer.toString(id++), moi);
+        }
+        return graph;
+    }
+}
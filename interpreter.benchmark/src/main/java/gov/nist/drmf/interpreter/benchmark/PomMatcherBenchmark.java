@@ -0,0 +1,48 @@
+package gov.nist.drmf.interpreter.benchmark;
+
+import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
+import gov.nist.drmf.interpreter.pom.extensions.MatchablePomTaggedExpression;
+import gov.nist.drmf.interpreter.pom.extensions.PomMatcher;
+import gov.nist.drmf.interpreter.pom.extensions.PomMatcherBuilder;
+import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
+import mlp.ParseException;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Finds all hits of a pattern in the parsed expressions of the corpora one after another.
+ * The expressions are parsed and the pattern is compiled once before the benchmark starts.
+ *
+ * @author Andre Greiner-Petter
+ */
+@State(Scope.Thread)
+public class PomMatcherBenchmark extends AbstractCorpusBenchmark<PrintablePomTaggedExpression> {
+
+    @Param({"var1^{var2}", "\\frac{var1}{var2}", "\\int_{var1}^{var2} var3 \\diff{var4}"})
+    private String pattern;
+
+    private MatchablePomTaggedExpression matchablePattern;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, ParseException {
+        SemanticMLPWrapper mlp = SemanticMLPWrapper.getStandardInstance();
+        matchablePattern = PomMatcherBuilder.compile(mlp, pattern, "var\\d+");
+
+        List<PrintablePomTaggedExpression> expressions = new LinkedList<>();
+        for ( String expression : BenchmarkCorpus.loadAllExpressions() ) {
+            expressions.add(mlp.parse(expression));
+        }
+        setCorpus(expressions);
+    }
+
+    @Benchmark
+    public int find() {
+        PomMatcher matcher = matchablePattern.matcher(next());
+        int hits = 0;
+        while ( matcher.find() ) hits++;
+        return hits;
+    }
+}
@@ -0,0 +1,43 @@
+package gov.nist.drmf.interpreter.benchmark;
+
+import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
+import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
+import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
+import gov.nist.drmf.interpreter.common.tests.TranslationTestCase;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Translates the translation test cases (that have a translation to the given CAS) one after another.
+ * No CAS is required to translate expressions.
+ *
+ * @author Andre Greiner-Petter
+ */
+@State(Scope.Thread)
+public class SemanticLatexTranslatorBenchmark extends AbstractCorpusBenchmark<TranslationTestCase> {
+
+    @Param({"Maple", "Mathematica", "SymPy"})
+    private String cas;
+
+    private SemanticLatexTranslator translator;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, InitTranslatorException {
+        translator = new SemanticLatexTranslator(cas);
+        List<TranslationTestCase> testCases = BenchmarkCorpus.loadTranslationTestCases().stream()
+                .filter( test -> test.getCASTranslation(cas) != null )
+                .collect(Collectors.toList());
+        setCorpus(testCases);
+    }
+
+    @Benchmark
+    public String translate() throws TranslationException {
+        TranslationTestCase test = next();
+        if ( test.getLabel() == null || test.getLabel().isBlank() )
+            return translator.translate(test.getLatex());
+        else return translator.translate(test.getLatex(), test.getLabel());
+    }
+}
@@ -0,0 +1,25 @@
+package gov.nist.drmf.interpreter.benchmark;
+
+import gov.nist.drmf.interpreter.common.latex.TeXPreProcessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+
+/**
+ * Pre-processes all expressions of the corpora one after another.
+ *
+ * @author Andre Greiner-Petter
+ */
+@State(Scope.Thread)
+public class TeXPreProcessorBenchmark extends AbstractCorpusBenchmark<String> {
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        setCorpus(BenchmarkCorpus.loadAllExpressions());
+    }
+
+    @Benchmark
+    public String preProcessingTeX() {
+        return TeXPreProcessor.preProcessingTeX(next());
+    }
+}
@@ -6,6 +6,13 @@ import gov.nist.drmf.interpreter.common.latex.RelationalComponents;
 import java.util.*;
 
 /**
+ * The result of a translation. Besides the translated expression, it contains additional information
+ * about the translation process, e.g., the free variables or the required packages.
+ * <p>
+ * An unmodifiable snapshot of the information (see {@link #unmodifiableCopy()}) can be shared safely,
+ * e.g., by caches. All setters of such a snapshot throw an {@link UnsupportedOperationException} and its
+ * getters return unmodifiable views (e.g., {@link FreeVariables#unmodifiableView(FreeVariables)}) or copies.
+ *
  * @author Andre Greiner-Petter
  */
 public class TranslationInformation {
@@ -23,7 +30,10 @@ public class TranslationInformation {
 
     private List<TranslationInformation> partialTranslations;
 
+    private final boolean unmodifiable;
+
     public TranslationInformation() {
+        this.unmodifiable = false;
         this.expression = "";
         this.translatedExpression = "";
         this.information = new InformationLogger();
@@ -40,43 +50,93 @@ public class TranslationInformation {
         this.translatedExpression = translatedExpression;
     }
 
+    private TranslationInformation(TranslationInformation orig, boolean unmodifiable) {
+        this.unmodifiable = unmodifiable;
+        this.expression = orig.expression;
+        this.translatedExpression = orig.translatedExpression;
+        this.information = new InformationLogger(orig.information);
+        this.requiredPackages = new HashSet<>(orig.requiredPackages);
+        this.translatedConstraints = new LinkedList<>(orig.translatedConstraints);
+        this.freeVariables = unmodifiable ?
+                FreeVariables.unmodifiableView(new FreeVariables(orig.freeVariables)) :
+                new FreeVariables(orig.freeVariables);
+        this.relationalComponents = new RelationalComponents(orig.relationalComponents);
+        this.partialTranslations = new LinkedList<>();
+        for ( TranslationInformation partial : orig.partialTranslations ) {
+            this.partialTranslations.add(new TranslationInformation(partial, unmodifiable));
+        }
+    }
+
+    /**
+     * @return an unmodifiable deep copy of this translation information
+     */
+    public TranslationInformation unmodifiableCopy() {
+        if ( unmodifiable ) return this;
+        return new TranslationInformation(this, true);
+    }
+
+    /**
+     * @return a modifiable deep copy of this translation information
+     */
+    public TranslationInformation modifiableCopy() {
+        return new TranslationInformation(this, false);
+    }
+
+    public boolean isUnmodifiable() {
+        return unmodifiable;
+    }
+
+    private void checkModifiable() {
+        if ( unmodifiable ) throw new UnsupportedOperationException("The translation information is unmodifiable.");
+    }
+
     public void setExpression(String expression) {
+        checkModifiable();
         this.expression = expression;
     }
 
     public void setTranslatedExpression(String translatedExpression) {
+        checkModifiable();
         this.translatedExpression = translatedExpression;
     }
 
     public void setInformation(InformationLogger information) {
+        checkModifiable();
         this.information = new InformationLogger(information);
     }
 
     public void setRequiredPackages(Set<String> requiredPackages) {
+        checkModifiable();
         this.requiredPackages = new HashSet<>(requiredPackages);
     }
 
     public void setFreeVariables(FreeVariables freeVariables) {
+        checkModifiable();
         this.freeVariables = freeVariables;
     }
 
     public void setRelationalComponents(RelationalComponents relationalComponents) {
+        checkModifiable();
         this.relationalComponents = relationalComponents;
     }
 
     public void addTranslatedConstraints(String... translatedConstraint) {
+        checkModifiable();
         this.translatedConstraints.addAll(Arrays.asList(translatedConstraint));
     }
 
     public void addTranslatedConstraints(Collection<String> translatedConstraint) {
+        checkModifiable();
         this.translatedConstraints.addAll(translatedConstraint);
     }
 
     public void addTranslations(TranslationInformation... translationInformation) {
+        checkModifiable();
         this.partialTranslations.addAll(Arrays.asList(translationInformation));
     }
 
     public void addTranslations(Collection<TranslationInformation> translationInformation) {
+        checkModifiable();
         this.partialTranslations.addAll(translationInformation);
     }
 
@@ -89,6 +149,7 @@ public class TranslationInformation {
     }
 
     public InformationLogger getTranslationInformation() {
+        if ( unmodifiable ) return new InformationLogger(information);
         return information;
     }
 
@@ -97,18 +158,22 @@ public class TranslationInformation {
     }
 
     public RelationalComponents getRelationalComponents() {
+        if ( unmodifiable ) return new RelationalComponents(relationalComponents);
         return relationalComponents;
     }
 
     public Set<String> getRequiredPackages() {
+        if ( unmodifiable ) return Collections.unmodifiableSet(requiredPackages);
         return requiredPackages;
     }
 
     public List<String> getTranslatedConstraints() {
+        if ( unmodifiable ) return Collections.unmodifiableList(translatedConstraints);
         return translatedConstraints;
     }
 
     public List<TranslationInformation> getPartialTranslations() {
+        if ( unmodifiable ) return Collections.unmodifiableList(partialTranslations);
         return partialTranslations;
     }
 }
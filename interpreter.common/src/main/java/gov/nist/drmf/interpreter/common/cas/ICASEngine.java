@@ -21,6 +21,32 @@ public interface ICASEngine {
      */
     String enterCommand(String command) throws ComputerAlgebraSystemEngineException;
 
+    /**
+     * Enters a command that changes the global state of the CAS, e.g., defines procedures that are required by
+     * all later computations. Engines that dispatch commands to multiple CAS instances enter the command into every
+     * instance (including instances that are restarted later). By default, the command is simply entered via
+     * {@link #enterCommand(String)}.
+     *
+     * @param command the command that should be processed within the CAS
+     * @throws ComputerAlgebraSystemEngineException if the command caused an exception in the CAS
+     */
+    default void enterGlobalCommand(String command) throws ComputerAlgebraSystemEngineException {
+        enterCommand(command);
+    }
+
+    /**
+     * Opens a session in which all computations of the current thread are performed on the same CAS instance,
+     * until the session is closed. Use a session for a sequence of commands that depend on each other, e.g.,
+     * entering assumptions, performing a test under these assumptions, and resetting the assumptions afterwards.
+     * By default, the engine is a single CAS instance and the session does nothing.
+     *
+     * @return the open session (close it once the sequence of commands is finished)
+     * @throws ComputerAlgebraSystemEngineException if the session cannot be opened
+     */
+    default ICASEngineSession openSession() throws ComputerAlgebraSystemEngineException {
+        return () -> {};
+    }
+
     /**
      * Manually force the CAS to clean the cash
      * @throws ComputerAlgebraSystemEngineException if the CAS threw an exception
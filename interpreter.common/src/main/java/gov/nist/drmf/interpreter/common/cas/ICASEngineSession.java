@@ -0,0 +1,14 @@
+package gov.nist.drmf.interpreter.common.cas;
+
+/**
+ * A session of a {@link ICASEngine}. As long as the session is open, all computations of the thread that opened
+ * the session are performed on the same CAS instance. Closing the session never throws an exception.
+ *
+ * @author Andre Greiner-Petter
+ * @see ICASEngine#openSession()
+ */
+@FunctionalInterface
+public interface ICASEngineSession extends AutoCloseable {
+    @Override
+    void close();
+}
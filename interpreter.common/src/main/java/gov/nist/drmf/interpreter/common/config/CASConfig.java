@@ -25,6 +25,9 @@ public class CASConfig {
     @JsonProperty("license")
     private String license;
 
+    @JsonProperty("kernels")
+    private int kernels = 1;
+
     private CASConfig(){}
 
     @JsonSetter("install.path")
@@ -57,6 +60,19 @@ public class CASConfig {
         this.license = license;
     }
 
+    /**
+     * @return the number of CAS kernels that can run in parallel (e.g., limited by the license), at least 1
+     */
+    @JsonGetter("kernels")
+    public int getNumberOfKernels() {
+        return Math.max(1, kernels);
+    }
+
+    @JsonSetter("kernels")
+    public void setNumberOfKernels(int kernels) {
+        this.kernels = kernels;
+    }
+
     @JsonIgnore
     public Path getInstallPath() {
         if ( path == null ) return null;
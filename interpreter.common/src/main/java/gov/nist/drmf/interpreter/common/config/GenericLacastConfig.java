@@ -20,6 +20,9 @@ public class GenericLacastConfig {
     @JsonProperty("elasticsearch.macros.index")
     private String macroIndex = "dlmf-macros";
 
+    @JsonProperty("macros.index.embedded")
+    private boolean embeddedMacroIndex = false;
+
     @JsonProperty("mathoid.url")
     private String mathoidUrl = "http://localhost:10044/texvcinfo";
 
@@ -37,6 +40,7 @@ public class GenericLacastConfig {
         this.esHost = copy.esHost;
         this.esPort = copy.esPort;
         this.macroIndex = copy.macroIndex;
+        this.embeddedMacroIndex = copy.embeddedMacroIndex;
         this.mathoidUrl = copy.mathoidUrl;
         this.settings = new Settings(copy.settings);
         this.mapleSubprocessInfo = copy.mapleSubprocessInfo;
@@ -54,6 +58,14 @@ public class GenericLacastConfig {
         return macroIndex;
     }
 
+    /**
+     * @return true if the macros should be retrieved from an embedded (in-process) index
+     *         rather than from Elasticsearch
+     */
+    public boolean useEmbeddedMacroIndex() {
+        return embeddedMacroIndex;
+    }
+
     public String getMathoidUrl() {
         return mathoidUrl;
     }
@@ -94,6 +106,10 @@ public class GenericLacastConfig {
         this.macroIndex = macroIndex;
     }
 
+    public void setEmbeddedMacroIndex(boolean embeddedMacroIndex) {
+        this.embeddedMacroIndex = embeddedMacroIndex;
+    }
+
     public void setMathoidUrl(String mathoidUrl) {
         this.mathoidUrl = mathoidUrl;
     }
@@ -15,4 +15,16 @@ public interface EvaluationConfig {
     Path getOutputPath();
 
     Path getMissingMacrosOutputPath();
+
+    /**
+     * @return the number of workers that evaluate test cases in parallel (default is 1, i.e., sequential).
+     * Each worker has its own translator and CAS connection.
+     */
+    int getNumberOfWorkers();
+
+    /**
+     * @return the path of the journal of finished test cases or null if no journal should be used.
+     * An existing journal continues an interrupted evaluation.
+     */
+    Path getResultJournalPath();
 }
@@ -103,4 +103,10 @@ public interface NativeComputerAlgebraInterfaceBuilder {
             getCASEngine().enterCommand(proc);
         }
     }
+
+    /**
+     * Releases the CAS resources that were acquired by this builder, e.g., stops the CAS processes it started.
+     * The builder must not be used afterwards. By default, nothing happens.
+     */
+    default void shutdown() {}
 }
@@ -181,6 +181,17 @@ public class NumericalConfig implements EvaluationConfig {
         return Double.parseDouble(val == null ? "0" : val);
     }
 
+    @Override
+    public int getNumberOfWorkers() {
+        return Integer.parseInt(settings.get(NumericalProperties.KEY_WORKERS));
+    }
+
+    @Override
+    public Path getResultJournalPath() {
+        String path = settings.get(NumericalProperties.KEY_RESULT_JOURNAL);
+        return path == null ? null : Paths.get(path);
+    }
+
     public String getEntireTestSuiteAssumptions() {
         return settings.get(NumericalProperties.KEY_ASSUMPTION);
     }
@@ -220,7 +231,9 @@ public class NumericalConfig implements EvaluationConfig {
         KEY_SPECIAL_VARS_VALUES("special_variables_values", null),
         KEY_PREV_RESULTS("symbolic_results_data", null),
         KEY_ASSUMPTION("entire_test_set_assumptions", null),
-        KEY_TIMEOUT("timeout", null);
+        KEY_TIMEOUT("timeout", null),
+        KEY_WORKERS("workers", "1"),
+        KEY_RESULT_JOURNAL("result_journal", null);
 
         private final String key, value;
 
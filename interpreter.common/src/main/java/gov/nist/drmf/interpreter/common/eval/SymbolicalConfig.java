@@ -138,6 +138,17 @@ public class SymbolicalConfig implements EvaluationConfig {
         return Double.parseDouble(settings.get(SymbolicProperties.KEY_TIMEOUT));
     }
 
+    @Override
+    public int getNumberOfWorkers() {
+        return Integer.parseInt(settings.get(SymbolicProperties.KEY_WORKERS));
+    }
+
+    @Override
+    public Path getResultJournalPath() {
+        String path = settings.get(SymbolicProperties.KEY_RESULT_JOURNAL);
+        return path == null ? null : Paths.get(path);
+    }
+
     private enum SymbolicProperties{
         KEY_DATASET("dlmf_dataset", null),
         KEY_SUBSET("subset_tests", null),
@@ -152,7 +163,9 @@ public class SymbolicalConfig implements EvaluationConfig {
         KEY_ENABLE_EXPAND_EXP("enable_pre_expansion_with_exp", "true"),
         KEY_ENABLE_EXPAND_HYP("enable_pre_expansion_with_hypergeom", "true"),
         KEY_ASSUMPTION("entire_test_set_assumptions", null),
-        KEY_TIMEOUT("timeout", "10");
+        KEY_TIMEOUT("timeout", "10"),
+        KEY_WORKERS("workers", "1"),
+        KEY_RESULT_JOURNAL("result_journal", null);
 
         private final String key, value;
 
@@ -3,12 +3,35 @@ package gov.nist.drmf.interpreter.common.interfaces;
 public interface TranslationFeature<T> {
     T preProcess(T obj);
 
+    /**
+     * Translations with this feature can only be cached if the feature always pre-processes the same
+     * input the same way. In that case, the feature identifies itself by a unique key.
+     * @return the unique key of this feature or null if translations with this feature must not be cached
+     */
+    default String getCacheKey() {
+        return null;
+    }
+
     static <T> TranslationFeature<T> combine(TranslationFeature<T>... features) {
-        return obj -> {
-            for ( TranslationFeature<T> feature : features ) {
-                obj = feature.preProcess(obj);
+        return new TranslationFeature<>() {
+            @Override
+            public T preProcess(T obj) {
+                for ( TranslationFeature<T> feature : features ) {
+                    obj = feature.preProcess(obj);
+                }
+                return obj;
+            }
+
+            @Override
+            public String getCacheKey() {
+                StringBuilder key = new StringBuilder();
+                for ( TranslationFeature<T> feature : features ) {
+                    String featureKey = feature.getCacheKey();
+                    if ( featureKey == null ) return null;
+                    key.append(featureKey).append(";");
+                }
+                return key.toString();
             }
-            return obj;
         };
     }
 }
@@ -1,41 +1,62 @@
 package gov.nist.drmf.interpreter.common.latex;
 
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * @author Andre Greiner-Petter
  */
 public class CaseSplitter {
-    private static final Pattern PM_PATTERN = Pattern.compile("\\\\(pm|mp)(?![a-zA-Z])");
-
     private CaseSplitter(){}
 
+    /**
+     * Splits the given expression in the two cases of the contained {@code \pm} and {@code \mp} symbols.
+     * In the first case, {@code \pm} becomes {@code +} and {@code \mp} becomes {@code -}, and vice versa
+     * for the second case. The expression is scanned only once and both cases are built side by side.
+     * @param latex the expression
+     * @return a list with the two cases or a list only with the given expression if there
+     *          was nothing to split (null if the input was null)
+     */
     public static List<String> splitPMSymbols(String latex) {
         if ( latex == null ) return null;
-        StringBuilder firstCase = new StringBuilder();
-        StringBuilder secondCase = new StringBuilder();
-        StringBuilder refSb = new StringBuilder();
-        Matcher m = PM_PATTERN.matcher(latex);
-        while ( m.find() ) {
-            m.appendReplacement(refSb, "");
-            if ( m.group(1).matches("pm") ) {
-                firstCase.append(refSb.toString()).append("+");
-                secondCase.append(refSb.toString()).append("-");
-            } else {
-                firstCase.append(refSb.toString()).append("-");
-                secondCase.append(refSb.toString()).append("+");
-            }
-            refSb = new StringBuilder();
+
+        int idx = nextPmIndex(latex, 0);
+        if ( idx < 0 ) return List.of(latex);
+
+        StringBuilder firstCase = new StringBuilder(latex.length());
+        StringBuilder secondCase = new StringBuilder(latex.length());
+        int start = 0;
+        while ( idx >= 0 ) {
+            firstCase.append(latex, start, idx);
+            secondCase.append(latex, start, idx);
+            boolean pm = latex.charAt(idx+1) == 'p';
+            firstCase.append(pm ? '+' : '-');
+            secondCase.append(pm ? '-' : '+');
+            start = idx + 3;
+            idx = nextPmIndex(latex, start);
         }
-        m.appendTail(refSb);
-        firstCase.append(refSb.toString());
-        secondCase.append(refSb.toString());
+        firstCase.append(latex, start, latex.length());
+        secondCase.append(latex, start, latex.length());
+        return List.of(firstCase.toString(), secondCase.toString());
+    }
+
+    /**
+     * @param latex the expression
+     * @param from the index to start the search
+     * @return the index of the next backslash of a {@code \pm} or {@code \mp} macro, or -1 if there is none
+     */
+    private static int nextPmIndex(String latex, int from) {
+        int idx = latex.indexOf('\\', from);
+        while ( idx >= 0 ) {
+            if ( (latex.startsWith("pm", idx+1) || latex.startsWith("mp", idx+1)) && !isLetter(latex, idx+3) )
+                return idx;
+            idx = latex.indexOf('\\', idx+1);
+        }
+        return -1;
+    }
 
-        String first = firstCase.toString();
-        String second = secondCase.toString();
-        if ( first.equals(second) ) return List.of(first);
-        else return List.of(first, second);
+    private static boolean isLetter(String latex, int idx) {
+        if ( idx >= latex.length() ) return false;
+        char c = latex.charAt(idx);
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
     }
 }
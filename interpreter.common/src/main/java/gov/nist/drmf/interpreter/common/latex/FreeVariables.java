@@ -9,6 +9,9 @@ import java.util.*;
 import static java.util.function.Predicate.not;
 
 /**
+ * The free variables of a translation. An unmodifiable view (see {@link #unmodifiableView(FreeVariables)})
+ * throws an {@link UnsupportedOperationException} on every modification.
+ *
  * @author Andre Greiner-Petter
  */
 public class FreeVariables {
@@ -20,19 +23,51 @@ public class FreeVariables {
 
     private int suppressionStartPosition;
 
+    private final boolean unmodifiable;
+
     public FreeVariables() {
         freeVariables = new LinkedList<>();
         temporarilySuppressedVars = new HashSet<>();
         suppressionStartPosition = -1;
+        unmodifiable = false;
     }
 
     public FreeVariables(FreeVariables fvars) {
         freeVariables = new LinkedList<>(fvars.freeVariables);
         temporarilySuppressedVars = new HashSet<>(fvars.temporarilySuppressedVars);
         suppressionStartPosition = fvars.suppressionStartPosition;
+        unmodifiable = false;
+    }
+
+    private FreeVariables(FreeVariables fvars, boolean unmodifiable) {
+        freeVariables = fvars.freeVariables;
+        temporarilySuppressedVars = fvars.temporarilySuppressedVars;
+        suppressionStartPosition = fvars.suppressionStartPosition;
+        this.unmodifiable = unmodifiable;
+    }
+
+    /**
+     * Returns an unmodifiable view of the given free variables. The view shares the variables with the
+     * given object and throws an {@link UnsupportedOperationException} on every modification.
+     * A copy (see {@link #FreeVariables(FreeVariables)}) of a view is modifiable again.
+     * @param fvars the free variables
+     * @return an unmodifiable view of the given free variables
+     */
+    public static FreeVariables unmodifiableView(FreeVariables fvars) {
+        if ( fvars.unmodifiable ) return fvars;
+        return new FreeVariables(fvars, true);
+    }
+
+    public boolean isUnmodifiable() {
+        return unmodifiable;
+    }
+
+    private void checkModifiable() {
+        if ( unmodifiable ) throw new UnsupportedOperationException("The free variables are unmodifiable.");
     }
 
     public void clear() {
+        checkModifiable();
         freeVariables.clear();
         temporarilySuppressedVars.clear();
         suppressionStartPosition = -1;
@@ -43,6 +78,7 @@ public class FreeVariables {
     }
 
     public void replaceFreeVariables(FreeVariables otherVars) {
+        checkModifiable();
         freeVariables.clear();
         temporarilySuppressedVars.clear();
         freeVariables.addAll(otherVars.freeVariables);
@@ -51,12 +87,14 @@ public class FreeVariables {
     }
 
     public void suppressingVars(String... vars) {
+        checkModifiable();
         suppressionStartPosition = freeVariables.size();
         if ( vars == null ) return;
         suppressingVars(Arrays.asList(vars));
     }
 
     public void suppressingVars(Collection<String> vars) {
+        checkModifiable();
         suppressionStartPosition = freeVariables.size();
         if ( vars == null ) return;
         LOG.debug("Suppress free variables " + vars);
@@ -64,6 +102,7 @@ public class FreeVariables {
     }
 
     public void releaseVars(String... vars) {
+        checkModifiable();
         if ( vars == null ) {
             suppressionStartPosition = -1;
             return;
@@ -72,6 +111,7 @@ public class FreeVariables {
     }
 
     public void releaseVars(Collection<String> vars) {
+        checkModifiable();
         LOG.debug("Release free variables " + vars);
         deleteFreeVariablesSinceSuppression(vars);
         suppressionStartPosition = -1;
@@ -80,6 +120,7 @@ public class FreeVariables {
     }
 
     public void releaseAllVars() {
+        checkModifiable();
         LOG.debug("Release all free variables");
         suppressionStartPosition = -1;
         temporarilySuppressedVars.clear();
@@ -90,6 +131,7 @@ public class FreeVariables {
     }
 
     public void addFreeVariables(List<String> vars) {
+        checkModifiable();
         if ( vars == null || vars.size() == 0 ) return;
         ListExtender.addAll(
                 freeVariables, vars, not(temporarilySuppressedVars::contains)
@@ -97,11 +139,13 @@ public class FreeVariables {
     }
 
     public void deleteFreeVariablesSinceSuppression(String... vars) {
+        checkModifiable();
         if ( vars == null ) return;
         deleteFreeVariablesSinceSuppression(Arrays.asList(vars));
     }
 
     public void deleteFreeVariablesSinceSuppression(Collection<String> vars) {
+        checkModifiable();
         if ( vars == null ) return;
         Set<String> varsSet = new TreeSet<>(vars);
         for ( int i = freeVariables.size() - 1; i >= suppressionStartPosition && i >= 0; i-- ) {
@@ -111,6 +155,7 @@ public class FreeVariables {
     }
 
     public boolean removeLastVariable(String var) {
+        checkModifiable();
         if ( freeVariables.isEmpty() ) return false;
         if ( freeVariables.getLast().equals(var) ) {
             freeVariables.removeLast();
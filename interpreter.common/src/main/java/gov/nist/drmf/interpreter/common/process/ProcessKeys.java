@@ -13,4 +13,26 @@ public final class ProcessKeys {
     public static String JAVA_CLASSPATH = "java.class.path";
 
     public static String JAVA_CLASSPATH_FLAG = "-classpath";
+
+    /**
+     * The system property that specifies the port of the RMI registry of a subprocess
+     */
+    public static final String RMI_PORT = "lacast.rmi.port";
+
+    public static final int DEFAULT_RMI_PORT = 1099;
+
+    /**
+     * @param port the port of the RMI registry
+     * @return the JVM argument to pass the port of the RMI registry to a subprocess
+     */
+    public static String rmiPortArgument(int port) {
+        return "-D" + RMI_PORT + "=" + port;
+    }
+
+    /**
+     * @return the port of the RMI registry passed to this JVM or the default port 1099
+     */
+    public static int getRmiPort() {
+        return Integer.getInteger(RMI_PORT, DEFAULT_RMI_PORT);
+    }
 }
@@ -20,7 +20,10 @@ public class BasicFunctionsTranslator extends GenericTranslationMapper implement
 
     public static final String POSITION_MARKER = "$";
 
-    private static GenericTranslationMapper translationMapper;
+    /**
+     * Shared by all instances, it is only published after it was completely loaded
+     */
+    private static volatile GenericTranslationMapper translationMapper;
 
     private final String TO;
 
@@ -32,12 +35,17 @@ public class BasicFunctionsTranslator extends GenericTranslationMapper implement
 
     public void init() throws IOException {
         if ( translationMapper == null ) {
-            translationMapper = new GenericTranslationMapper();
-            translationMapper.init(
-                    GlobalPaths.PATH_BASIC_FUNCTIONS,
-                    KEY_LANGUAGES,
-                    KEY_FUNCTIONS
-            );
+            synchronized ( BasicFunctionsTranslator.class ) {
+                if ( translationMapper == null ) {
+                    GenericTranslationMapper mapper = new GenericTranslationMapper();
+                    mapper.init(
+                            GlobalPaths.PATH_BASIC_FUNCTIONS,
+                            KEY_LANGUAGES,
+                            KEY_FUNCTIONS
+                    );
+                    translationMapper = mapper;
+                }
+            }
         }
     }
 
@@ -18,7 +18,10 @@ public class Constants extends GenericTranslationMapper implements ITranslator {
             KEY_LANGUAGES = "Constants Languages",
             KEY_CONSTANTS = "Constants";
 
-    private static GenericTranslationMapper translationMapper;
+    /**
+     * Shared by all instances, it is only published after it was completely loaded
+     */
+    private static volatile GenericTranslationMapper translationMapper;
 
     private final String FROM, TO;
 
@@ -32,12 +35,17 @@ public class Constants extends GenericTranslationMapper implements ITranslator {
 
     public void init() throws IOException {
         if ( translationMapper == null ) {
-            translationMapper = new GenericTranslationMapper();
-            translationMapper.init(
-                    GlobalPaths.PATH_GREEK_LETTERS_AND_CONSTANTS_FILE,
-                    KEY_LANGUAGES,
-                    KEY_CONSTANTS
-            );
+            synchronized ( Constants.class ) {
+                if ( translationMapper == null ) {
+                    GenericTranslationMapper mapper = new GenericTranslationMapper();
+                    mapper.init(
+                            GlobalPaths.PATH_GREEK_LETTERS_AND_CONSTANTS_FILE,
+                            KEY_LANGUAGES,
+                            KEY_CONSTANTS
+                    );
+                    translationMapper = mapper;
+                }
+            }
         }
     }
 
@@ -22,7 +22,10 @@ public class GreekLetters extends GenericTranslationMapper implements ITranslato
             KEY_LANGUAGES = "Greek Letter Languages",
             KEY_LETTERS = "Greek Letters";
 
-    private static GenericTranslationMapper translationMapper;
+    /**
+     * Shared by all instances, it is only published after it was completely loaded
+     */
+    private static volatile GenericTranslationMapper translationMapper;
 
     private final String FROM, TO;
 
@@ -37,12 +40,17 @@ public class GreekLetters extends GenericTranslationMapper implements ITranslato
 
     public void init() throws IOException {
         if ( translationMapper == null ) {
-            translationMapper = new GenericTranslationMapper();
-            translationMapper.init(
-                    GlobalPaths.PATH_GREEK_LETTERS_AND_CONSTANTS_FILE,
-                    KEY_LANGUAGES,
-                    KEY_LETTERS
-            );
+            synchronized ( GreekLetters.class ) {
+                if ( translationMapper == null ) {
+                    GenericTranslationMapper mapper = new GenericTranslationMapper();
+                    mapper.init(
+                            GlobalPaths.PATH_GREEK_LETTERS_AND_CONSTANTS_FILE,
+                            KEY_LANGUAGES,
+                            KEY_LETTERS
+                    );
+                    translationMapper = mapper;
+                }
+            }
         }
     }
 
@@ -18,7 +18,10 @@ public class SymbolTranslator extends GenericTranslationMapper implements ITrans
     public static final String
             KEY_NAME = "MLP";
 
-    private static GenericTranslationMapper translationMapper;
+    /**
+     * Shared by all instances, it is only published after it was completely loaded
+     */
+    private static volatile GenericTranslationMapper translationMapper;
 
     private final String FROM;
     private final String TO;
@@ -37,12 +40,17 @@ public class SymbolTranslator extends GenericTranslationMapper implements ITrans
 
     public static void init() throws IOException {
         if ( translationMapper == null ) {
-            translationMapper = new GenericTranslationMapper();
-            translationMapper.init(
-                    GlobalPaths.PATH_BASIC_FUNCTIONS,
-                    KEY_LANGUAGES,
-                    KEY_SYMBOLS
-            );
+            synchronized ( SymbolTranslator.class ) {
+                if ( translationMapper == null ) {
+                    GenericTranslationMapper mapper = new GenericTranslationMapper();
+                    mapper.init(
+                            GlobalPaths.PATH_BASIC_FUNCTIONS,
+                            KEY_LANGUAGES,
+                            KEY_SYMBOLS
+                    );
+                    translationMapper = mapper;
+                }
+            }
         }
     }
 
@@ -40,6 +40,14 @@ public class CaseSplitterTests {
                 "\\cos t = \\frac{\\cot t}{\\sqrt{1 + \\cot^2t}} = \\frac{-ma}{\\sqrt{m^2 a^2 + b^2}}");
     }
 
+    @Test
+    void multipleSignsTest() {
+        String in = "a\\pm b \\mp \\pmod{c} \\mp\\mpx \\\\pm";
+        test(CaseSplitter.splitPMSymbols(in),
+                "a+ b - \\pmod{c} -\\mpx \\+",
+                "a- b + \\pmod{c} +\\mpx \\-");
+    }
+
     private static void test(List<String> result, String... expecting) {
         assertEquals(result.size(), expecting.length, result.toString() + " but expected: " + Arrays.toString(expecting));
         for( int i = 0; i < expecting.length; i++ ) {
@@ -47,6 +47,9 @@ public class CaseAnalyzer {
         private String symbolDefID = null;
         private String link = null;
 
+        // alphanumeric constraints (e.g., variable names) are collected until the next constraint of the line
+        private String tmpConst = null;
+
         public SymbolDefInfo(){
             reset();
         }
@@ -55,6 +58,7 @@ public class CaseAnalyzer {
             symbolDefID = null;
             symbolDefSymb = null;
             link = null;
+            tmpConst = null;
         }
     }
 
@@ -130,8 +134,6 @@ public class CaseAnalyzer {
         return cases;
     }
 
-    private static String tmpConst = null;
-
     private static void fillString(
             Matcher metaDataMatcher,
             SymbolDefInfo symbDef,
@@ -140,15 +142,15 @@ public class CaseAnalyzer {
     ) {
         if ( metaDataMatcher.group(CONSTRAINT_GRP) != null ) {
             String m = metaDataMatcher.group(CONSTRAINT_GRP);
-            if ( m.matches("[A-Za-z0-9]*") && tmpConst == null ) {
-                tmpConst = m;
+            if ( m.matches("[A-Za-z0-9]*") && symbDef.tmpConst == null ) {
+                symbDef.tmpConst = m;
                 return;
-            } else if ( m.matches("[A-Za-z0-9]*") && tmpConst != null ) {
-                tmpConst += ", " + m;
+            } else if ( m.matches("[A-Za-z0-9]*") && symbDef.tmpConst != null ) {
+                symbDef.tmpConst += ", " + m;
                 return;
-            } else if ( tmpConst != null ) {
-                m = tmpConst + ", " + m;
-                tmpConst = null;
+            } else if ( symbDef.tmpConst != null ) {
+                m = symbDef.tmpConst + ", " + m;
+                symbDef.tmpConst = null;
             }
             if ( m.matches("^\\s*([<>]=?|=|\\\\[lgn]eq).*") ) {
                 String last = constraints.removeLast();
@@ -0,0 +1,242 @@
+package gov.nist.drmf.interpreter.evaluation.common;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An append-only journal of finished test cases. Every finished test case is written as a single JSON line,
+ * containing the line number, the index of the test case within the line, the status counters the test case
+ * increased, the result strings the test case produced, and the missing macros it reported.
+ * The journal is flushed after every entry, so it survives crashes of the JVM.
+ * <p>
+ * When the journal is opened again (e.g., after a crash), all previously journaled test cases are available via
+ * {@link #get(int, int)} and do not need to be evaluated again. An incomplete last line (the JVM crashed while
+ * writing it) is ignored.
+ * <p>
+ * The first line of the journal is a header with the fingerprint of the run, i.e., of its config and test cases.
+ * A journal with a different (or without a) fingerprint belongs to another run. It is not replayed but moved aside
+ * (to the same path with the suffix {@value #STALE_SUFFIX}) and a new journal is started.
+ * <p>
+ * The journal is shared by the workers of a parallel run, hence lookups and appends are thread-safe.
+ *
+ * @author Andre Greiner-Petter
+ */
+public class ResultJournal implements AutoCloseable {
+    private static final Logger LOG = LogManager.getLogger(ResultJournal.class.getName());
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static final String STALE_SUFFIX = ".stale";
+
+    private final Path path;
+
+    private final String fingerprint;
+
+    private final Map<String, Entry> entries;
+
+    private final BufferedWriter writer;
+
+    /**
+     * Opens the journal at the given path. If the file exists and belongs to the same run (i.e., has the same
+     * fingerprint), the journaled test cases are loaded and new entries are appended. Otherwise, a new journal
+     * is created.
+     * @param path the path of the journal
+     * @param fingerprint the fingerprint of the run, i.e., of its config and test cases
+     * @throws IOException if the journal cannot be read or opened for writing
+     */
+    public ResultJournal(Path path, String fingerprint) throws IOException {
+        this.path = path;
+        this.fingerprint = Objects.requireNonNull(fingerprint);
+        this.entries = new ConcurrentHashMap<>();
+
+        boolean newJournal = !Files.exists(path) || !isSameRun();
+        boolean completeLastLine = newJournal || load();
+        this.writer = Files.newBufferedWriter(
+                path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND
+        );
+
+        if ( newJournal ) {
+            writer.write(MAPPER.writeValueAsString(new Header(fingerprint)));
+            writer.newLine();
+            writer.flush();
+        } else if ( !completeLastLine ) {
+            // otherwise, the next entry would be appended to the incomplete last line
+            writer.newLine();
+        }
+    }
+
+    /**
+     * Checks the fingerprint of the existing journal. A journal of another run is moved aside.
+     * @return true if the existing journal belongs to the same run
+     */
+    private boolean isSameRun() throws IOException {
+        String journaledFingerprint = null;
+        try ( BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8) ) {
+            String headerLine = reader.readLine();
+            if ( headerLine != null ) journaledFingerprint = MAPPER.readValue(headerLine, Header.class).fingerprint;
+        } catch (JsonProcessingException e) {
+            LOG.debug("Journal " + path + " has no valid header.");
+        }
+
+        if ( fingerprint.equals(journaledFingerprint) ) return true;
+
+        Path stale = path.resolveSibling(path.getFileName() + STALE_SUFFIX);
+        LOG.warn("Journal " + path + " belongs to another run (config or test cases changed). " +
+                "Do not replay it but move it to " + stale + " and start a new journal.");
+        Files.move(path, stale, StandardCopyOption.REPLACE_EXISTING);
+        return false;
+    }
+
+    /**
+     * @return false if the last line of the journal is incomplete
+     */
+    private boolean load() throws IOException {
+        String content = Files.readString(path, StandardCharsets.UTF_8);
+        String[] lines = content.split("\\R");
+        // the first line is the header
+        for ( int i = 1; i < lines.length; i++ ) {
+            String line = lines[i];
+            if ( line.isBlank() ) continue;
+            try {
+                Entry entry = MAPPER.readValue(line, Entry.class);
+                entries.put(key(entry.line, entry.subCase), entry);
+            } catch (JsonProcessingException e) {
+                LOG.warn("Ignore incomplete or corrupted journal entry: " + line);
+            }
+        }
+        LOG.info("Loaded " + entries.size() + " finished test cases from journal " + path);
+        return content.isEmpty() || content.endsWith("\n");
+    }
+
+    private static String key(int line, int subCase) {
+        return line + "-" + subCase;
+    }
+
+    /**
+     * @return the fingerprint of the run this journal belongs to
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * @return the number of journaled test cases
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @param line the line number of the test case
+     * @param subCase the index of the test case within the line
+     * @return the journaled result of the test case or null if the test case was not finished yet
+     */
+    public Entry get(int line, int subCase) {
+        return entries.get(key(line, subCase));
+    }
+
+    /**
+     * Appends a finished test case to the journal and flushes it to the disk.
+     * @param entry the finished test case
+     * @throws IOException if the entry cannot be written
+     */
+    public synchronized void append(Entry entry) throws IOException {
+        writer.write(MAPPER.writeValueAsString(entry));
+        writer.newLine();
+        writer.flush();
+        entries.put(key(entry.line, entry.subCase), entry);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * The first line of a journal.
+     */
+    private static class Header {
+        @JsonProperty("fingerprint")
+        private String fingerprint;
+
+        private Header() {}
+
+        private Header(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    /**
+     * The result of a single finished test case.
+     */
+    public static class Entry {
+        @JsonProperty("line")
+        private int line;
+
+        @JsonProperty("subCase")
+        private int subCase;
+
+        @JsonProperty("status")
+        private List<Status> status;
+
+        @JsonProperty("results")
+        private List<String> results;
+
+        @JsonProperty("missingMacros")
+        private List<String> missingMacros;
+
+        private Entry() {}
+
+        public Entry(int line, int subCase, List<Status> status, List<String> results, List<String> missingMacros) {
+            this.line = line;
+            this.subCase = subCase;
+            this.status = status;
+            this.results = results;
+            this.missingMacros = missingMacros;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public int getSubCase() {
+            return subCase;
+        }
+
+        /**
+         * @return the status counters the test case increased (in order)
+         */
+        public List<Status> getStatus() {
+            return status == null ? Collections.emptyList() : status;
+        }
+
+        /**
+         * @return the result strings of the test case for its line
+         */
+        public List<String> getResults() {
+            return results == null ? Collections.emptyList() : results;
+        }
+
+        /**
+         * @return the missing macros the test case reported
+         */
+        public List<String> getMissingMacros() {
+            return missingMacros == null ? Collections.emptyList() : missingMacros;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package gov.nist.drmf.interpreter.evaluation.common;
 
 import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The basic idea of the status is as follows
@@ -11,6 +14,8 @@ import java.util.Arrays;
  *      1.4) skipped defs are definitions of non-semantic expressions
  *  2) successful trans = successful test case + failure
  *
+ * The counters are thread-safe, so test cases can be evaluated in parallel.
+ *
  * @author Andre Greiner-Petter
  */
 public enum Status {
@@ -29,15 +34,18 @@ public enum Status {
     ABORTED(0),
     ERROR(0);
 
-    private int counter;
+    // the status changes of the current thread while recording, see startRecording()
+    private static final ThreadLocal<List<Status>> RECORDER = new ThreadLocal<>();
+
+    private final AtomicInteger counter;
 
     Status( int counter ){
-        this.counter = counter;
+        this.counter = new AtomicInteger(counter);
     }
 
     public static void reset(){
         for ( Status s : Status.values() )
-            s.counter = 0;
+            s.counter.set(0);
     }
 
     public void add(){
@@ -45,18 +53,43 @@ public enum Status {
             case SKIPPED:
             case DEFINITIONS:
             case STARTED_TEST_CASES:
-                TOTAL.counter++;
+                TOTAL.counter.incrementAndGet();
         }
-        this.counter++;
+        this.counter.incrementAndGet();
+
+        List<Status> recorded = RECORDER.get();
+        if ( recorded != null ) recorded.add(this);
+    }
+
+    /**
+     * Starts recording all status changes ({@link #add()}) of the current thread,
+     * e.g., to journal the changes of a single test case.
+     */
+    public static void startRecording() {
+        RECORDER.set(new LinkedList<>());
+    }
+
+    /**
+     * Stops recording the status changes of the current thread.
+     * @return the status changes since {@link #startRecording()} (in order)
+     */
+    public static List<Status> stopRecording() {
+        List<Status> recorded = RECORDER.get();
+        RECORDER.remove();
+        return recorded == null ? new LinkedList<>() : recorded;
     }
 
     public void set(int counter){
-        this.counter = counter;
+        this.counter.set(counter);
+    }
+
+    public int get(){
+        return this.counter.get();
     }
 
     @Override
     public String toString(){
-        return this.name() + ": " + counter;
+        return this.name() + ": " + counter.get();
     }
 
     public static String buildString(){
@@ -64,14 +97,14 @@ public enum Status {
     }
 
     public static String buildNumericalString() {
-        String out = "[TOTAL: " + TOTAL.counter + ", " +
+        String out = "[TOTAL: " + TOTAL.get() + ", " +
                 "SUCCESS: " +
-                (SUCCESS_SYMB.counter > 0 ? SUCCESS_SYMB.counter : SUCCESS_NUM.counter)
+                (SUCCESS_SYMB.get() > 0 ? SUCCESS_SYMB.get() : SUCCESS_NUM.get())
                 + ", ";
-        out += "FAILURE: " + FAILURE.counter + ", ";
-        out += "LIMIT_SKIPS: " + MISSING.counter + ", ";
-        out += "TESTED: " + SUCCESS_TRANS.counter + ", ";
-        out += "ERROR: " + ERROR.counter + "]";
+        out += "FAILURE: " + FAILURE.get() + ", ";
+        out += "LIMIT_SKIPS: " + MISSING.get() + ", ";
+        out += "TESTED: " + SUCCESS_TRANS.get() + ", ";
+        out += "ERROR: " + ERROR.get() + "]";
         return out;
     }
 }
@@ -1,5 +1,6 @@
 package gov.nist.drmf.interpreter.evaluation.common;
 
+import gov.nist.drmf.interpreter.cas.translation.MultiTargetTranslator;
 import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
 import gov.nist.drmf.interpreter.common.TranslationInformation;
 import gov.nist.drmf.interpreter.common.constants.Keys;
@@ -86,6 +87,8 @@ public class TranslationWikidataTableGenerator extends AbstractEvaluator {
 
     private SemanticLatexTranslator mapleTranslator, mathematicaTranslator;
 
+    private MultiTargetTranslator multiTranslator;
+
     private int[] range = new int[]{0,1};
 
     private Map<String, String> displayTitleMap;
@@ -112,6 +115,7 @@ public class TranslationWikidataTableGenerator extends AbstractEvaluator {
         this.qidLib = new HashMap<>();
         this.mapleTranslator = new SemanticLatexTranslator(Keys.KEY_MAPLE);
         this.mathematicaTranslator = new SemanticLatexTranslator(Keys.KEY_MATHEMATICA);
+        this.multiTranslator = new MultiTargetTranslator(mapleTranslator, mathematicaTranslator);
 
         this.mapleSym = new HashMap<>();
         this.mapleNum = new HashMap<>();
@@ -400,20 +404,14 @@ public class TranslationWikidataTableGenerator extends AbstractEvaluator {
         if ( symbMaple == null && symbMath == null ) return;
 
         try {
-            // new GenericFunctionAnnotator()
-            TranslationInformation ti = mapleTranslator.translateToObject(expr, label, new GenericFunctionAnnotator());
-            maple = ti.getTranslatedExpression();
-//            maple = mapleTranslator.translate(expr, label);
-        } catch ( Exception e ){
-            maple = "Error";
-        }
-
-        try {
-            TranslationInformation ti = mathematicaTranslator.translateToObject(expr, label, new GenericFunctionAnnotator());
-            mathematica = ti.getTranslatedExpression();
-//            mathematica = mathematicaTranslator.translate(expr, label);
+            // parse once, translate to both CAS
+            Map<String, TranslationInformation> tis = multiTranslator.translateToObjects(expr, label, new GenericFunctionAnnotator());
+            maple = tis.get(Keys.KEY_MAPLE).getTranslatedExpression();
+            mathematica = tis.get(Keys.KEY_MATHEMATICA).getTranslatedExpression();
         } catch ( Exception e ){
-            mathematica = "Error";
+            // at least one of the translations failed, translate separately to find out which one
+            maple = translateOrError(mapleTranslator, expr, label);
+            mathematica = translateOrError(mathematicaTranslator, expr, label);
         }
 
         if ( maple.equals("Error") && mathematica.equals("Error") ) return;
@@ -444,6 +442,15 @@ public class TranslationWikidataTableGenerator extends AbstractEvaluator {
 //        writer.write("|-\n");
     }
 
+    private static String translateOrError( SemanticLatexTranslator translator, String expr, String label ) {
+        try {
+            TranslationInformation ti = translator.translateToObject(expr, label, new GenericFunctionAnnotator());
+            return ti.getTranslatedExpression();
+        } catch ( Exception e ){
+            return "Error";
+        }
+    }
+
     private String getNumericResultString( boolean mapleMode, String id ) {
         Pattern elPattern = mapleMode ?
                 NumericalDifferencesAnalyzer.mapleEntityPattern :
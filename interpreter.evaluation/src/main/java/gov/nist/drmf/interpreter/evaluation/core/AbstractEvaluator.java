@@ -2,9 +2,12 @@ package gov.nist.drmf.interpreter.evaluation.core;
 
 import gov.nist.drmf.interpreter.common.TranslationInformation;
 import gov.nist.drmf.interpreter.common.eval.EvaluationConfig;
+import gov.nist.drmf.interpreter.common.eval.NativeComputerAlgebraInterfaceBuilder;
+import gov.nist.drmf.interpreter.common.exceptions.CASUnavailableException;
 import gov.nist.drmf.interpreter.common.exceptions.ComputerAlgebraSystemEngineException;
 import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
 import gov.nist.drmf.interpreter.common.cas.ICASEngine;
+import gov.nist.drmf.interpreter.common.cas.ICASEngineSession;
 import gov.nist.drmf.interpreter.common.interfaces.IPackageWrapper;
 import gov.nist.drmf.interpreter.evaluation.common.*;
 import gov.nist.drmf.interpreter.common.interfaces.IConstraintTranslator;
@@ -15,14 +18,35 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 /**
+ * The base of the evaluators. The test cases are evaluated sequentially by default. If the config specifies
+ * more than one worker (see {@link EvaluationConfig#getNumberOfWorkers()}), the evaluator supports parallel
+ * evaluations (see {@link #supportsParallelEvaluation()}), and a {@link WorkerConnectorFactory} is set, the test cases
+ * are evaluated in parallel. Every additional worker is an evaluator with its own translator and CAS connection
+ * (see {@link #createWorker(NativeComputerAlgebraInterfaceBuilder)}) that writes its results to the results of this
+ * evaluator. All test cases of a single line are evaluated by the same worker in their original order. Hence, the
+ * results of a parallel run are identical to a sequential run. The CAS connections of the additional workers are
+ * shut down once all test cases are evaluated. If a worker fails, the remaining test cases are cancelled and the
+ * failure is thrown by {@link #performAllTests(LinkedList)}.
+ * <p>
+ * If the config specifies a result journal (see {@link EvaluationConfig#getResultJournalPath()}), every finished
+ * test case is journaled immediately. An evaluation that crashed continues with the unfinished test cases
+ * once it is restarted. The journal is tied to the config and test cases of the run, so the journal of another
+ * run is not replayed (see {@link ResultJournal}). The journal is deleted when the results of a complete run
+ * are written. If the run did not finish, the journal is kept.
+ *
  * @author Andre Greiner-Petter
  */
 public abstract class AbstractEvaluator {
@@ -35,7 +59,7 @@ public abstract class AbstractEvaluator {
     private IConstraintTranslator<PrintablePomTaggedExpression> forwardTranslator;
     private ICASEngine engine;
 
-    private HashMap<String, Integer> missingMacrosLib;
+    private ConcurrentHashMap<String, Integer> missingMacrosLib;
 
     private SymbolDefinedLibrary symbolDefinitionLibrary;
 
@@ -46,6 +70,16 @@ public abstract class AbstractEvaluator {
 
     private boolean rememberPackages = false;
 
+    private WorkerConnectorFactory workerConnectorFactory = null;
+
+    private ResultJournal resultJournal = null;
+
+    // true if the latest call of performAllTests evaluated all test cases
+    private boolean completedRun = false;
+
+    // the missing macros of the current test case while it is journaled
+    private List<String> journaledMissingMacros = null;
+
     public static final Pattern filterCases = Pattern.compile(
             "\\\\([Bb]igO|littleo|[fdc]Diff|asymp|sim)(?:[^a-zA-Z]|$)|" +
                     "(?<!\\d|\\d\\s{0,5}\\\\[.,; ])\\s*\\\\([lc]?dots)(?:[^a-zA-Z]|$)|" +
@@ -61,7 +95,7 @@ public abstract class AbstractEvaluator {
         this.packageWrapper = forwardTranslator.getPackageWrapper();
         this.reqPackageMemory = new TreeSet<>();
         this.engine = engine;
-        this.missingMacrosLib = new HashMap<>();
+        this.missingMacrosLib = new ConcurrentHashMap<>();
         this.symbolDefinitionLibrary = new SymbolDefinedLibrary();
     }
 
@@ -96,6 +130,16 @@ public abstract class AbstractEvaluator {
         engine.enterCommand(cmd);
     }
 
+    /**
+     * Enters a command that all later test cases depend on, e.g., the definition of a procedure.
+     * @param cmd the command
+     * @throws ComputerAlgebraSystemEngineException if the CAS was unable to process the command
+     * @see ICASEngine#enterGlobalCommand(String)
+     */
+    public void enterGlobalEngineCommand(String cmd) throws ComputerAlgebraSystemEngineException {
+        engine.enterGlobalCommand(cmd);
+    }
+
     public Set<String> getRequiredPackages() {
         return reqPackageMemory;
     }
@@ -109,11 +153,8 @@ public abstract class AbstractEvaluator {
     }
 
     public void addMissingMacro(String macro) {
-        if ( missingMacrosLib.containsKey(macro) ) {
-            missingMacrosLib.put(macro, missingMacrosLib.get(macro)+1);
-        } else {
-            missingMacrosLib.put(macro, 1);
-        }
+        missingMacrosLib.merge(macro, 1, Integer::sum);
+        if ( journaledMissingMacros != null ) journaledMissingMacros.add(macro);
     }
 
     public List<String> getOrderedMissingMacros() {
@@ -121,8 +162,11 @@ public abstract class AbstractEvaluator {
                 missingMacrosLib.entrySet()
         );
 
-        Collections.sort(entries, Comparator.comparingInt(Map.Entry::getValue));
-        Collections.reverse(entries);
+        // macros with the same number of occurrences are sorted by name, so the order does not depend on the workers
+        entries.sort(
+                Comparator.comparing(Map.Entry<String, Integer>::getValue).reversed()
+                        .thenComparing(Map.Entry::getKey)
+        );
 
         LinkedList<String> output = new LinkedList<>();
         for ( Map.Entry<String, Integer> e : entries ) {
@@ -138,15 +182,278 @@ public abstract class AbstractEvaluator {
 
     public abstract void performSingleTest(Case testCase);
 
+    /**
+     * Sets the factory that creates the CAS connections of additional workers. Without a factory,
+     * all test cases are evaluated sequentially.
+     * @param workerConnectorFactory the factory of CAS connections for additional workers
+     */
+    public void setWorkerConnectorFactory(WorkerConnectorFactory workerConnectorFactory) {
+        this.workerConnectorFactory = workerConnectorFactory;
+    }
+
+    /**
+     * Evaluators that support parallel evaluations must override this method and
+     * {@link #createWorker(NativeComputerAlgebraInterfaceBuilder)}.
+     * @return true if this evaluator can create additional workers, otherwise false (default)
+     */
+    protected boolean supportsParallelEvaluation() {
+        return false;
+    }
+
+    /**
+     * Creates an additional worker that evaluates test cases on the given CAS connection. The worker must
+     * write its results to the results of this evaluator, i.e., {@link #getLineResults()} and
+     * {@link #getLabelLibrary()} of the worker must return the same objects as this evaluator.
+     * The symbol definitions and missing macros are shared by {@link #performAllTests(LinkedList)}.
+     * This method is only called if {@link #supportsParallelEvaluation()} returns true.
+     * @param connector the CAS connection of the worker
+     * @return a new worker
+     * @throws Exception if the worker cannot be created
+     */
+    protected AbstractEvaluator createWorker(NativeComputerAlgebraInterfaceBuilder connector) throws Exception {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support parallel evaluations.");
+    }
+
+    /**
+     * Evaluates all given test cases. If a test case fails with an exception, the evaluation stops and the
+     * exception is thrown. In a parallel evaluation, the remaining test cases are cancelled in this case.
+     * @param testCases the test cases
+     */
     public void performAllTests(LinkedList<Case> testCases) {
-//        HashSet<Integer> m = new HashSet<>();
-//        for ( Integer i : NumericalEvaluator.POT_DIFF ) m.add(i);
+        completedRun = false;
+        openResultJournal(testCases);
+        List<NativeComputerAlgebraInterfaceBuilder> workerConnectors = new LinkedList<>();
+        try {
+            List<AbstractEvaluator> workers = createWorkers(workerConnectors);
+            if ( workers.size() > 1 ) {
+                performAllTestsInParallel(testCases, workers);
+                completedRun = true;
+                return;
+            }
+
+//            HashSet<Integer> m = new HashSet<>();
+//            for ( Integer i : NumericalEvaluator.POT_DIFF ) m.add(i);
+
+            Map<Integer, Integer> subCaseCounter = new HashMap<>();
+            for ( Case test : testCases ) {
+//                if ( m.contains(test.getLine()) ) {
+//                    test.replaceSymbolsUsed(symbolDefinitionLibrary);
+                int subCase = subCaseCounter.merge(test.getLine(), 1, Integer::sum) - 1;
+                performJournaledTest(test, subCase);
+//                }
+            }
+            completedRun = true;
+        } finally {
+            shutdownWorkerConnectors(workerConnectors);
+            closeResultJournal();
+        }
+    }
+
+    private static void shutdownWorkerConnectors(List<NativeComputerAlgebraInterfaceBuilder> workerConnectors) {
+        for ( NativeComputerAlgebraInterfaceBuilder connector : workerConnectors ) {
+            try {
+                connector.shutdown();
+            } catch (Exception e) {
+                LOG.error("Unable to shut down the CAS connection of a worker.", e);
+            }
+        }
+    }
+
+    private void openResultJournal(List<Case> testCases) {
+        Path journalPath = getConfig() == null ? null : getConfig().getResultJournalPath();
+        if ( journalPath == null ) return;
+
+        try {
+            resultJournal = new ResultJournal(journalPath, computeFingerprint(testCases));
+            if ( resultJournal.size() > 0 )
+                LOG.info("Continue evaluation. Skip " + resultJournal.size() + " test cases that are finished already.");
+        } catch (IOException e) {
+            LOG.error("Unable to open result journal " + journalPath + ". Continue without journal.", e);
+            resultJournal = null;
+        }
+    }
+
+    /**
+     * The fingerprint of a run ties its journal to the evaluator, the config, and the test cases (i.e., the dataset).
+     * @param testCases the test cases of the run
+     * @return the fingerprint of the run
+     */
+    private String computeFingerprint(List<Case> testCases) {
+        EvaluationConfig config = getConfig();
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getName()).append(NL);
+        sb.append(config.getTestExpression()).append(NL);
+        sb.append(Arrays.toString(config.getSubSetInterval())).append(NL);
+        for ( Case test : testCases ) {
+            sb.append(test.getLine()).append(": ")
+                    .append(test.getLHS()).append(" ").append(test.getRelation()).append(" ").append(test.getRHS())
+                    .append("; ").append(test.getRawConstraint()).append(NL);
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            return new BigInteger(1, hash).toString(16);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void closeResultJournal() {
+        if ( resultJournal == null ) return;
+        try {
+            resultJournal.close();
+        } catch (IOException e) {
+            LOG.error("Unable to close result journal.", e);
+        }
+        resultJournal = null;
+    }
+
+    /**
+     * Performs the given test case, unless it is journaled already. In that case, the journaled results
+     * are taken instead. Otherwise, the results of the test case are journaled once it finished.
+     * @param test the test case
+     * @param subCase the index of the test case within its line
+     */
+    private void performJournaledTest(Case test, int subCase) {
+        if ( resultJournal == null ) {
+            performSingleTestInSession(test);
+            return;
+        }
+
+        LinkedList<String> lineResult = getLineResult(test.getLine());
+        ResultJournal.Entry entry = resultJournal.get(test.getLine(), subCase);
+        if ( entry != null ) {
+            LOG.info("Skip test case " + test.getLine() + "-" + subCase + " because it was finished already.");
+            entry.getStatus().forEach(Status::add);
+            lineResult.addAll(entry.getResults());
+            entry.getMissingMacros().forEach( macro -> missingMacrosLib.merge(macro, 1, Integer::sum) );
+            return;
+        }
+
+        int finishedResults = lineResult.size();
+        List<Status> status;
+        List<String> missingMacros = new LinkedList<>();
+        journaledMissingMacros = missingMacros;
+        Status.startRecording();
+        try {
+            performSingleTestInSession(test);
+        } finally {
+            status = Status.stopRecording();
+            journaledMissingMacros = null;
+        }
+
+        List<String> results = new ArrayList<>(lineResult.subList(finishedResults, lineResult.size()));
+        try {
+            resultJournal.append(new ResultJournal.Entry(test.getLine(), subCase, status, results, missingMacros));
+        } catch (IOException e) {
+            LOG.error("Unable to journal results of test case " + test.getLine() + "-" + subCase, e);
+        }
+    }
+
+    /**
+     * The CAS computations of a test case (e.g., pre-commands, the test itself, and post-commands) depend on each
+     * other. Hence, they are performed in a single session of the CAS engine (see {@link ICASEngine#openSession()}).
+     * @param test the test case
+     */
+    private void performSingleTestInSession(Case test) {
+        try ( ICASEngineSession session = openEngineSession() ) {
+            performSingleTest(test);
+        }
+    }
 
+    private ICASEngineSession openEngineSession() {
+        if ( engine == null ) return () -> {};
+        try {
+            return engine.openSession();
+        } catch (ComputerAlgebraSystemEngineException e) {
+            LOG.error("Unable to open a session of the CAS. The commands of the test case may be performed on " +
+                    "different CAS instances.", e);
+            return () -> {};
+        }
+    }
+
+    private LinkedList<String> getLineResult(int line) {
+        LinkedList<String>[] lineResults = getLineResults();
+        if ( lineResults[line] == null ) lineResults[line] = new LinkedList<>();
+        return lineResults[line];
+    }
+
+    /**
+     * @param workerConnectors the list to which the CAS connections of the additional workers are added
+     * @return this evaluator and the additional workers
+     */
+    private List<AbstractEvaluator> createWorkers(List<NativeComputerAlgebraInterfaceBuilder> workerConnectors) {
+        List<AbstractEvaluator> workers = new LinkedList<>();
+        workers.add(this);
+
+        int numberOfWorkers = getConfig() == null ? 1 : getConfig().getNumberOfWorkers();
+        if ( numberOfWorkers <= 1 ) return workers;
+        if ( !supportsParallelEvaluation() ) {
+            LOG.warn(getClass().getSimpleName() + " does not support parallel evaluations. Continue with a single worker.");
+            return workers;
+        }
+        if ( workerConnectorFactory == null ) {
+            LOG.warn("Parallel evaluation is not supported for this CAS. Continue with a single worker.");
+            return workers;
+        }
+
+        for ( int i = 1; i < numberOfWorkers; i++ ) {
+            try {
+                NativeComputerAlgebraInterfaceBuilder connector = workerConnectorFactory.create(i);
+                if ( connector != null ) workerConnectors.add(connector);
+                AbstractEvaluator worker = createWorker(connector);
+                worker.symbolDefinitionLibrary = this.symbolDefinitionLibrary;
+                worker.missingMacrosLib = this.missingMacrosLib;
+                worker.resultJournal = this.resultJournal;
+                workers.add(worker);
+            } catch (Exception e) {
+                LOG.error("Unable to create worker " + i + ". Continue with " + workers.size() + " workers.", e);
+                break;
+            }
+        }
+        return workers;
+    }
+
+    private void performAllTestsInParallel(LinkedList<Case> testCases, List<AbstractEvaluator> workers) {
+        // a line is evaluated by a single worker, so the results of a line are in the same order as in a sequential run
+        Map<Integer, List<Case>> lines = new LinkedHashMap<>();
         for ( Case test : testCases ) {
-//            if ( m.contains(test.getLine()) ) {
-//                test.replaceSymbolsUsed(symbolDefinitionLibrary);
-                performSingleTest(test);
-//            }
+            lines.computeIfAbsent(test.getLine(), line -> new LinkedList<>()).add(test);
+        }
+
+        LOG.info("Evaluate " + testCases.size() + " test cases of " + lines.size() + " lines with " + workers.size() + " workers.");
+        BlockingQueue<AbstractEvaluator> idleWorkers = new ArrayBlockingQueue<>(workers.size(), false, workers);
+        ExecutorService executor = Executors.newFixedThreadPool(workers.size());
+        try {
+            List<Future<?>> results = new LinkedList<>();
+            for ( List<Case> lineCases : lines.values() ) {
+                results.add(executor.submit(() -> {
+                    AbstractEvaluator worker = idleWorkers.take();
+                    try {
+                        for ( int i = 0; i < lineCases.size(); i++ ) worker.performJournaledTest(lineCases.get(i), i);
+                    } finally {
+                        idleWorkers.add(worker);
+                    }
+                    return null;
+                }));
+            }
+
+            // waiting for the results also makes the line results of the workers visible to this thread
+            for ( Future<?> result : results ) result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the workers.", e);
+        } catch (ExecutionException e) {
+            // the executor is shut down (i.e., the remaining test cases are cancelled) before the failure is thrown
+            LOG.error("A worker was unable to finish its test cases. Cancel the remaining test cases.");
+            Throwable cause = e.getCause();
+            if ( cause instanceof RuntimeException ) throw (RuntimeException) cause;
+            if ( cause instanceof Error ) throw (Error) cause;
+            throw new IllegalStateException("A worker was unable to finish its test cases.", cause);
+        } finally {
+            executor.shutdownNow();
         }
     }
 
@@ -326,6 +633,15 @@ public abstract class AbstractEvaluator {
                 this.getConfig().getOutputPath(),
                 results.getBytes()
         );
+
+        Path journalPath = getConfig().getResultJournalPath();
+        if ( journalPath == null ) return;
+        if ( completedRun ) {
+            // the results are complete, so the journal of the run is no longer needed
+            Files.deleteIfExists(journalPath);
+        } else {
+            LOG.warn("The evaluation did not finish. Keep the journal " + journalPath + " to continue the run later.");
+        }
     }
 
     public int[] getResultInterval() {
@@ -440,6 +756,21 @@ public abstract class AbstractEvaluator {
         }
     }
 
+    /**
+     * Creates the CAS connection of an additional worker.
+     */
+    @FunctionalInterface
+    public interface WorkerConnectorFactory {
+        /**
+         * @param index the index of the additional worker (starting with 1)
+         * @return a new CAS connection that is independent of the connections of all other workers. The evaluator
+         * shuts down the connection (see {@link NativeComputerAlgebraInterfaceBuilder#shutdown()}) once all test
+         * cases are evaluated.
+         * @throws CASUnavailableException if the CAS cannot be started
+         */
+        NativeComputerAlgebraInterfaceBuilder create(int index) throws CASUnavailableException;
+    }
+
     public class DummyCase extends Case {
         public DummyCase(CaseMetaData metaData) {
             super(null, null, null, metaData);
@@ -54,9 +54,14 @@ public abstract class AbstractNumericalEvaluator extends AbstractEvaluator imple
         reloadScripts();
     }
 
+    /**
+     * Enters the scripts as global commands, i.e., if the CAS consists of multiple instances,
+     * every instance loads the scripts.
+     * @throws ComputerAlgebraSystemEngineException if the CAS was unable to load a script
+     */
     public void reloadScripts() throws ComputerAlgebraSystemEngineException {
         for ( String script : scripts ) {
-            enterEngineCommand(script);
+            enterGlobalEngineCommand(script);
         }
     }
 
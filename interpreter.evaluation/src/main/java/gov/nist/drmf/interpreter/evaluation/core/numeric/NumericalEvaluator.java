@@ -22,6 +22,7 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -93,7 +94,7 @@ public class NumericalEvaluator extends AbstractNumericalEvaluator {//implements
 
     private final INumericalEvaluationScripts scriptHandler;
 
-    private int currentTestCase = 0;
+    private AtomicInteger currentTestCase = new AtomicInteger(0);
     private int currentNumOfTestCases = 0;
 
     private HashSet<Integer> lastSkips;
@@ -118,6 +119,13 @@ public class NumericalEvaluator extends AbstractNumericalEvaluator {//implements
      */
     public NumericalEvaluator(
             NativeComputerAlgebraInterfaceBuilder interfaceBuilder
+    ) throws ComputerAlgebraSystemEngineException, InitTranslatorException {
+        this(interfaceBuilder, true);
+    }
+
+    private NumericalEvaluator(
+            NativeComputerAlgebraInterfaceBuilder interfaceBuilder,
+            boolean resetStatus
     ) throws ComputerAlgebraSystemEngineException, InitTranslatorException {
         super(new DLMFTranslator(interfaceBuilder.getLanguageKey()), interfaceBuilder.getCASEngine(), interfaceBuilder.getNumericEvaluator());
         this.scriptHandler = interfaceBuilder.getEvaluationScriptHandler();
@@ -159,10 +167,28 @@ public class NumericalEvaluator extends AbstractNumericalEvaluator {//implements
         setUpScripts(interfaceBuilder.getNumericProcedures());
         interfaceBuilder.getNumericEvaluator().setTimeout( config.getTimeout() );
 
-        Status.reset();
+        if ( resetStatus ) Status.reset();
         init();
     }
 
+    @Override
+    protected boolean supportsParallelEvaluation() {
+        return true;
+    }
+
+    @Override
+    protected AbstractEvaluator createWorker(NativeComputerAlgebraInterfaceBuilder connector)
+            throws ComputerAlgebraSystemEngineException, InitTranslatorException {
+        NumericalEvaluator worker = new NumericalEvaluator(connector, false);
+        worker.isMaple = this.isMaple;
+        worker.labelLib = this.labelLib;
+        worker.lineResult = this.lineResult;
+        worker.subset = this.subset;
+        worker.currentTestCase = this.currentTestCase;
+        worker.currentNumOfTestCases = this.currentNumOfTestCases;
+        return worker;
+    }
+
     public void init() {
         LOG.info("Setup numerical tests...");
         String overallAss = config.getEntireTestSuiteAssumptions();
@@ -215,7 +241,7 @@ public class NumericalEvaluator extends AbstractNumericalEvaluator {//implements
         }
 
         currentNumOfTestCases = testCases.size();
-        currentTestCase = 0;
+        currentTestCase.set(0);
         return testCases;
     }
 
@@ -247,7 +273,7 @@ public class NumericalEvaluator extends AbstractNumericalEvaluator {//implements
 
         LOG.info("Start test for line: " + c.getLine());
         LOG.info("Test case: " + c);
-        LOG.info("Test case " + (currentTestCase++) + " of " + currentNumOfTestCases);
+        LOG.info("Test case " + currentTestCase.getAndIncrement() + " of " + currentNumOfTestCases);
 
         LOG.info("Replacing defined symbols.");
         c.replaceSymbolsUsed(super.getSymbolDefinitionLibrary());
@@ -488,12 +514,14 @@ public class NumericalEvaluator extends AbstractNumericalEvaluator {//implements
             throws IOException, ComputerAlgebraSystemEngineException, InitTranslatorException {
         NumericalEvaluator evaluator = new NumericalEvaluator(new MapleConnector());
         evaluator.isMaple = true;
+        evaluator.setWorkerConnectorFactory(MapleConnector::createIndependentConnector);
         return evaluator;
     }
 
     public static NumericalEvaluator createStandardMathematicaEvaluator() throws IOException, ComputerAlgebraSystemEngineException, InitTranslatorException {
         NumericalEvaluator evaluator = new NumericalEvaluator(new MathematicaConnector());
         evaluator.isMaple = false;
+        evaluator.setWorkerConnectorFactory(MathematicaConnector::createIndependentConnector);
         return evaluator;
     }
 
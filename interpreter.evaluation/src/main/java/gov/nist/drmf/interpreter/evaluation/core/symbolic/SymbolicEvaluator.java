@@ -58,6 +58,13 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
      */
     public SymbolicEvaluator(
             NativeComputerAlgebraInterfaceBuilder casBuilder
+    ) throws IOException, InitTranslatorException {
+        this(casBuilder, true);
+    }
+
+    private SymbolicEvaluator(
+            NativeComputerAlgebraInterfaceBuilder casBuilder,
+            boolean resetStatus
     ) throws IOException, InitTranslatorException {
         super( new DLMFTranslator(casBuilder.getLanguageKey()), casBuilder.getCASEngine(), casBuilder.getSymbolicEvaluator(), casBuilder.getDefaultSymbolicTestCases() );
 
@@ -91,7 +98,7 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
             idSkips.add(Integer.parseInt(s));
         }
 
-        Status.reset();
+        if ( resetStatus ) Status.reset();
         mathematica = (casBuilder.getCASEngine() instanceof MathematicaInterface);
         expectedResult = Double.parseDouble(config.getExpectationValue());
     }
@@ -101,6 +108,22 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
         overallAss = config.getEntireTestSuiteAssumptions();
     }
 
+    @Override
+    protected boolean supportsParallelEvaluation() {
+        return true;
+    }
+
+    @Override
+    protected AbstractEvaluator createWorker(NativeComputerAlgebraInterfaceBuilder connector)
+            throws IOException, InitTranslatorException, ComputerAlgebraSystemEngineException {
+        SymbolicEvaluator worker = new SymbolicEvaluator(connector, false);
+        worker.init();
+        worker.setGlobalAssumption();
+        worker.labelLib = this.labelLib;
+        worker.lineResults = this.lineResults;
+        return worker;
+    }
+
     @Override
     public LinkedList<Case> loadTestCases() {
         int[] subset = config.getSubSetInterval();
@@ -430,12 +453,14 @@ public class SymbolicEvaluator extends AbstractSymbolicEvaluator {
 
     public static SymbolicEvaluator createStandardMapleEvaluator() throws Exception {
         SymbolicEvaluator evaluator = new SymbolicEvaluator(new MapleConnector());
+        evaluator.setWorkerConnectorFactory(MapleConnector::createIndependentConnector);
         evaluator.init();
         return evaluator;
     }
 
     public static SymbolicEvaluator createStandardMathematicaEvaluator() throws Exception {
         SymbolicEvaluator evaluator = new SymbolicEvaluator(new MathematicaConnector());
+        evaluator.setWorkerConnectorFactory(MathematicaConnector::createIndependentConnector);
         evaluator.init();
         return evaluator;
     }
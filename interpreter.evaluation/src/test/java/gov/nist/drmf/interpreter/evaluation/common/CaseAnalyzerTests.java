@@ -146,6 +146,17 @@ public class CaseAnalyzerTests {
         assertEquals(Relations.GREATER_THAN, c.getRelation());
     }
 
+    @Test
+    public void constraintsDoNotLeakIntoNextLineTest() {
+        // a single alphanumeric constraint waits for the next constraint of the same line
+        String line = "x = y \\constraint{a} \\url{http://dlmf.nist.gov/1.2.E1}";
+        String nextLine = "z = w \\constraint{z > 0} \\url{http://dlmf.nist.gov/1.2.E2}";
+
+        CaseAnalyzer.analyzeLine(line, 1, new SymbolDefinedLibrary());
+        LinkedList<Case> cc = CaseAnalyzer.analyzeLine(nextLine, 2, new SymbolDefinedLibrary());
+        assertEquals("[z > 0]", cc.get(0).getRawConstraint());
+    }
+
     @Test
     public void genlogTest() {
         String line = "1 \\ge\\cpi + \\genlog{1}@{1} \\geq\\pi \\url{http://dlmf.nist.gov/1.2.E1}";
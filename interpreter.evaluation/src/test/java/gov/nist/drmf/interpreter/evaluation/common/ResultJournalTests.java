@@ -0,0 +1,137 @@
+package gov.nist.drmf.interpreter.evaluation.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+public class ResultJournalTests {
+
+    @Test
+    void appendAndReloadTest(@TempDir Path tmpDir) throws IOException {
+        Path path = tmpDir.resolve("journal.jsonl");
+        try ( ResultJournal journal = new ResultJournal(path, "run") ) {
+            assertEquals(0, journal.size());
+            journal.append(new ResultJournal.Entry(
+                    3, 1,
+                    List.of(Status.SUCCESS_SYMB, Status.MISSING),
+                    List.of("3-b (http://dlmf.nist.gov/1.1.E3): Successful [Simplified: 0]"),
+                    List.of("\\macro")
+            ));
+            assertNotNull(journal.get(3, 1));
+            assertNull(journal.get(3, 0));
+        }
+
+        try ( ResultJournal journal = new ResultJournal(path, "run") ) {
+            assertEquals(1, journal.size());
+            ResultJournal.Entry entry = journal.get(3, 1);
+            assertEquals(List.of(Status.SUCCESS_SYMB, Status.MISSING), entry.getStatus());
+            assertEquals(List.of("3-b (http://dlmf.nist.gov/1.1.E3): Successful [Simplified: 0]"), entry.getResults());
+            assertEquals(List.of("\\macro"), entry.getMissingMacros());
+
+            journal.append(new ResultJournal.Entry(4, 0, List.of(), List.of(), List.of()));
+        }
+
+        // the header and two entries
+        assertEquals(3, Files.readAllLines(path).size());
+    }
+
+    @Test
+    void concurrentAppendAndLookupTest(@TempDir Path tmpDir) throws Exception {
+        Path path = tmpDir.resolve("journal.jsonl");
+        int workers = 4;
+        int entriesPerWorker = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try ( ResultJournal journal = new ResultJournal(path, "run") ) {
+            List<Future<?>> futures = new LinkedList<>();
+            for ( int w = 0; w < workers; w++ ) {
+                int worker = w;
+                futures.add(executor.submit(() -> {
+                    for ( int i = 0; i < entriesPerWorker; i++ ) {
+                        journal.append(new ResultJournal.Entry(i, worker, List.of(Status.SUCCESS_SYMB), List.of(), List.of()));
+                        // the own entries must always be visible, even while other workers append
+                        for ( int j = 0; j <= i; j++ ) {
+                            assertNotNull(journal.get(j, worker), "Missing entry " + j + "-" + worker);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for ( Future<?> future : futures ) future.get();
+            assertEquals(workers * entriesPerWorker, journal.size());
+        } finally {
+            executor.shutdown();
+        }
+
+        try ( ResultJournal journal = new ResultJournal(path, "run") ) {
+            assertEquals(workers * entriesPerWorker, journal.size());
+        }
+    }
+
+    @Test
+    void incompleteLastEntryTest(@TempDir Path tmpDir) throws IOException {
+        Path path = tmpDir.resolve("journal.jsonl");
+        Files.writeString(path,
+                "{\"fingerprint\":\"run\"}\n" +
+                "{\"line\":1,\"subCase\":0,\"status\":[\"SUCCESS_NUM\"],\"results\":[],\"missingMacros\":[]}\n" +
+                "{\"line\":1,\"subCase\":1,\"stat"
+        );
+
+        try ( ResultJournal journal = new ResultJournal(path, "run") ) {
+            assertEquals(1, journal.size());
+            assertEquals(List.of(Status.SUCCESS_NUM), journal.get(1, 0).getStatus());
+            assertNull(journal.get(1, 1));
+            journal.append(new ResultJournal.Entry(1, 1, List.of(Status.FAILURE), List.of(), List.of()));
+        }
+
+        try ( ResultJournal journal = new ResultJournal(path, "run") ) {
+            assertEquals(2, journal.size());
+            assertEquals(List.of(Status.FAILURE), journal.get(1, 1).getStatus());
+        }
+    }
+
+    @Test
+    void staleJournalTest(@TempDir Path tmpDir) throws IOException {
+        Path path = tmpDir.resolve("journal.jsonl");
+        try ( ResultJournal journal = new ResultJournal(path, "run") ) {
+            journal.append(new ResultJournal.Entry(1, 0, List.of(Status.SUCCESS_NUM), List.of(), List.of()));
+        }
+
+        try ( ResultJournal journal = new ResultJournal(path, "other run") ) {
+            assertEquals(0, journal.size());
+            assertEquals("other run", journal.getFingerprint());
+        }
+
+        // the stale journal is moved aside rather than replayed or deleted
+        Path stale = tmpDir.resolve("journal.jsonl" + ResultJournal.STALE_SUFFIX);
+        assertEquals(2, Files.readAllLines(stale).size());
+        try ( ResultJournal journal = new ResultJournal(path, "other run") ) {
+            assertEquals(0, journal.size());
+        }
+    }
+
+    @Test
+    void journalWithoutHeaderTest(@TempDir Path tmpDir) throws IOException {
+        Path path = tmpDir.resolve("journal.jsonl");
+        Files.writeString(path,
+                "{\"line\":1,\"subCase\":0,\"status\":[\"SUCCESS_NUM\"],\"results\":[],\"missingMacros\":[]}\n"
+        );
+
+        try ( ResultJournal journal = new ResultJournal(path, "run") ) {
+            assertEquals(0, journal.size());
+        }
+        assertTrue(Files.exists(tmpDir.resolve("journal.jsonl" + ResultJournal.STALE_SUFFIX)));
+    }
+}
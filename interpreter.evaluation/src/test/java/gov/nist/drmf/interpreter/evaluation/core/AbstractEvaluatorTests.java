@@ -0,0 +1,336 @@
+package gov.nist.drmf.interpreter.evaluation.core;
+
+import gov.nist.drmf.interpreter.common.cas.ICASEngine;
+import gov.nist.drmf.interpreter.common.cas.ICASEngineNumericalEvaluator;
+import gov.nist.drmf.interpreter.common.cas.ICASEngineSymbolicEvaluator;
+import gov.nist.drmf.interpreter.common.constants.Keys;
+import gov.nist.drmf.interpreter.common.eval.EvaluationConfig;
+import gov.nist.drmf.interpreter.common.eval.ISymbolicTestCases;
+import gov.nist.drmf.interpreter.common.eval.NativeComputerAlgebraInterfaceBuilder;
+import gov.nist.drmf.interpreter.common.exceptions.CASUnavailableException;
+import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
+import gov.nist.drmf.interpreter.core.api.DLMFTranslator;
+import gov.nist.drmf.interpreter.evaluation.common.Case;
+import gov.nist.drmf.interpreter.evaluation.common.CaseAnalyzer;
+import gov.nist.drmf.interpreter.evaluation.common.ResultJournal;
+import gov.nist.drmf.interpreter.evaluation.common.Status;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the parallel evaluation of test cases with stub workers, i.e., no CAS is required.
+ *
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class AbstractEvaluatorTests {
+    private static final int NUMBER_OF_LINES = 50;
+
+    @Test
+    public void parallelEqualsSequentialTest() throws InitTranslatorException {
+        StubEvaluator sequential = new StubEvaluator(1);
+        String sequentialResults = evaluate(sequential);
+        String sequentialStatus = Status.buildString();
+        assertEquals(1, sequential.usedWorkers.size());
+
+        StubEvaluator parallel = new StubEvaluator(4);
+        String parallelResults = evaluate(parallel);
+        assertEquals(sequentialResults, parallelResults);
+        assertEquals(sequentialStatus, Status.buildString());
+        assertEquals(sequential.getOrderedMissingMacros(), parallel.getOrderedMissingMacros());
+        assertTrue(parallel.usedWorkers.size() > 1, "Expected multiple workers but only one was used");
+        assertEquals(2*NUMBER_OF_LINES, Status.SUCCESS_SYMB.get());
+    }
+
+    @Test
+    public void noConnectorFactoryTest() throws InitTranslatorException {
+        StubEvaluator evaluator = new StubEvaluator(4);
+        evaluator.performAllTests(loadTestCases(evaluator));
+        assertEquals(1, evaluator.usedWorkers.size());
+    }
+
+    @Test
+    public void parallelWorkerFailureTest() throws InitTranslatorException {
+        StubEvaluator crashing = new StubEvaluator(4);
+        crashing.crashAfter = 20;
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> evaluate(crashing));
+        assertEquals("Simulated crash", e.getMessage());
+        assertTrue(crashing.performedTests.get() < 2*NUMBER_OF_LINES, "Expected the remaining test cases to be cancelled");
+    }
+
+    @Test
+    public void shutdownWorkerConnectorsTest() throws InitTranslatorException {
+        AtomicInteger shutdowns = new AtomicInteger(0);
+        StubEvaluator evaluator = new StubEvaluator(4);
+        evaluator.setWorkerConnectorFactory(index -> new StubConnector(shutdowns));
+        evaluator.performAllTests(loadTestCases(evaluator));
+        assertEquals(3, shutdowns.get());
+    }
+
+    @Test
+    public void resumeFromJournalTest(@TempDir Path tmpDir) throws Exception {
+        String expectedResults = evaluate(new StubEvaluator(1));
+        String expectedStatus = Status.buildString();
+
+        Path journal = tmpDir.resolve("journal.jsonl");
+        StubEvaluator crashing = new StubEvaluator(1, journal);
+        crashing.crashAfter = 35;
+        assertThrows(IllegalStateException.class, () -> evaluate(crashing));
+        // the header and the finished test cases
+        assertEquals(36, Files.readAllLines(journal).size());
+
+        // the last entry was not completely written before the crash
+        Files.writeString(journal, Files.readString(journal) + "{\"line\":18,\"sub");
+
+        StubEvaluator resumed = new StubEvaluator(1, journal);
+        assertEquals(expectedResults, evaluate(resumed));
+        assertEquals(expectedStatus, Status.buildString());
+        assertEquals(2*NUMBER_OF_LINES - 35, resumed.performedTests.get());
+
+        resumed.writeResults();
+        assertFalse(Files.exists(journal));
+    }
+
+    @Test
+    public void resumeParallelFromJournalTest(@TempDir Path tmpDir) throws Exception {
+        String expectedResults = evaluate(new StubEvaluator(1));
+
+        Path journal = tmpDir.resolve("journal.jsonl");
+        StubEvaluator crashing = new StubEvaluator(4, journal);
+        crashing.crashAfter = 20;
+        assertThrows(IllegalStateException.class, () -> evaluate(crashing));
+        // the header and at least the test cases that finished before the crash
+        assertTrue(Files.readAllLines(journal).size() > 20);
+
+        // writing the partial results of a crashed run must not delete the journal
+        crashing.writeResults();
+        assertTrue(Files.exists(journal));
+
+        StubEvaluator resumed = new StubEvaluator(4, journal);
+        assertEquals(expectedResults, evaluate(resumed));
+        assertEquals(2*NUMBER_OF_LINES, Status.SUCCESS_SYMB.get());
+
+        resumed.writeResults();
+        assertFalse(Files.exists(journal));
+    }
+
+    @Test
+    public void staleJournalTest(@TempDir Path tmpDir) throws Exception {
+        Path journal = tmpDir.resolve("journal.jsonl");
+        StubEvaluator crashing = new StubEvaluator(1, journal);
+        crashing.crashAfter = 35;
+        assertThrows(IllegalStateException.class, () -> evaluate(crashing));
+
+        // another config must not replay the journal of the crashed run
+        StubEvaluator otherRun = new StubEvaluator(1, journal);
+        otherRun.config.testExpression = "(#LHS)/(#RHS)";
+        evaluate(otherRun);
+        assertEquals(2*NUMBER_OF_LINES, otherRun.performedTests.get());
+        assertTrue(Files.exists(tmpDir.resolve("journal.jsonl" + ResultJournal.STALE_SUFFIX)));
+    }
+
+    private static String evaluate(StubEvaluator evaluator) {
+        Status.reset();
+        evaluator.setWorkerConnectorFactory(index -> null);
+        evaluator.performAllTests(loadTestCases(evaluator));
+        return evaluator.getResults(evaluator.getConfig(), evaluator.getLabelLibrary(), evaluator.getLineResults());
+    }
+
+    private static LinkedList<Case> loadTestCases(StubEvaluator evaluator) {
+        LinkedList<Case> testCases = new LinkedList<>();
+        for ( int i = 1; i <= NUMBER_OF_LINES; i++ ) {
+            // every line contains two test cases
+            String line = "a_{" + i + "} = b_{" + i + "} = c_{" + i + "} \\url{http://dlmf.nist.gov/1.1.E" + i + "}";
+            testCases.addAll(CaseAnalyzer.analyzeLine(line, i, evaluator.getSymbolDefinitionLibrary()));
+        }
+        return testCases;
+    }
+
+    private static class StubEvaluator extends AbstractEvaluator {
+        private final StubConfig config;
+
+        private final Set<AbstractEvaluator> usedWorkers;
+
+        private final AtomicInteger performedTests;
+
+        private int crashAfter = Integer.MAX_VALUE;
+
+        private HashMap<Integer, String> labelLib;
+
+        private LinkedList<String>[] lineResults;
+
+        @SuppressWarnings("unchecked")
+        StubEvaluator(int numberOfWorkers) throws InitTranslatorException {
+            this(numberOfWorkers, null);
+        }
+
+        @SuppressWarnings("unchecked")
+        StubEvaluator(int numberOfWorkers, Path journal) throws InitTranslatorException {
+            super(new DLMFTranslator(Keys.KEY_MAPLE), null);
+            this.config = new StubConfig(numberOfWorkers, journal);
+            this.usedWorkers = ConcurrentHashMap.newKeySet();
+            this.performedTests = new AtomicInteger(0);
+            this.labelLib = new HashMap<>();
+            this.lineResults = new LinkedList[NUMBER_OF_LINES+1];
+        }
+
+        private StubEvaluator(StubEvaluator master) throws InitTranslatorException {
+            super(new DLMFTranslator(Keys.KEY_MAPLE), null);
+            this.config = master.config;
+            this.usedWorkers = master.usedWorkers;
+            this.performedTests = master.performedTests;
+            this.crashAfter = master.crashAfter;
+            this.labelLib = master.labelLib;
+            this.lineResults = master.lineResults;
+        }
+
+        @Override
+        protected boolean supportsParallelEvaluation() {
+            return true;
+        }
+
+        @Override
+        protected AbstractEvaluator createWorker(NativeComputerAlgebraInterfaceBuilder connector) throws InitTranslatorException {
+            return new StubEvaluator(this);
+        }
+
+        @Override
+        public void performSingleTest(Case testCase) {
+            if ( performedTests.incrementAndGet() > crashAfter ) throw new IllegalStateException("Simulated crash");
+            usedWorkers.add(this);
+            if ( lineResults[testCase.getLine()] == null ) lineResults[testCase.getLine()] = new LinkedList<>();
+
+            try {
+                // shuffles the order in which the workers finish their test cases
+                Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            if ( testCase.getLine() % 3 == 0 ) addMissingMacro("\\macro" + testCase.getLine() % 2);
+            lineResults[testCase.getLine()].add("Successful " + testCase.getLHS() + " = " + testCase.getRHS());
+            Status.SUCCESS_SYMB.add();
+        }
+
+        @Override
+        public LinkedList<Case> loadTestCases() {
+            return AbstractEvaluatorTests.loadTestCases(this);
+        }
+
+        @Override
+        public EvaluationConfig getConfig() {
+            return config;
+        }
+
+        @Override
+        public HashMap<Integer, String> getLabelLibrary() {
+            return labelLib;
+        }
+
+        @Override
+        public LinkedList<String>[] getLineResults() {
+            return lineResults;
+        }
+    }
+
+    private static class StubConnector implements NativeComputerAlgebraInterfaceBuilder {
+        private final AtomicInteger shutdowns;
+
+        StubConnector(AtomicInteger shutdowns) {
+            this.shutdowns = shutdowns;
+        }
+
+        @Override
+        public boolean isCASAvailable() {
+            return false;
+        }
+
+        @Override
+        public String getLanguageKey() {
+            return Keys.KEY_MAPLE;
+        }
+
+        @Override
+        public ICASEngine getCASEngine() throws CASUnavailableException {
+            throw new CASUnavailableException();
+        }
+
+        @Override
+        public ICASEngineNumericalEvaluator getNumericEvaluator() throws CASUnavailableException {
+            throw new CASUnavailableException();
+        }
+
+        @Override
+        public ICASEngineSymbolicEvaluator getSymbolicEvaluator() throws CASUnavailableException {
+            throw new CASUnavailableException();
+        }
+
+        @Override
+        public ISymbolicTestCases[] getDefaultSymbolicTestCases() {
+            return new ISymbolicTestCases[0];
+        }
+
+        @Override
+        public void shutdown() {
+            shutdowns.incrementAndGet();
+        }
+    }
+
+    private static class StubConfig implements EvaluationConfig {
+        private final int numberOfWorkers;
+
+        private final Path journal;
+
+        private String testExpression = "(#LHS)-(#RHS)";
+
+        StubConfig(int numberOfWorkers, Path journal) {
+            this.numberOfWorkers = numberOfWorkers;
+            this.journal = journal;
+        }
+
+        @Override
+        public int[] getSubSetInterval() {
+            return new int[]{1, NUMBER_OF_LINES+1};
+        }
+
+        @Override
+        public String getTestExpression() {
+            return testExpression;
+        }
+
+        @Override
+        public boolean showDLMFLinks() {
+            return false;
+        }
+
+        @Override
+        public Path getOutputPath() {
+            return journal == null ? null : journal.resolveSibling("results.txt");
+        }
+
+        @Override
+        public Path getMissingMacrosOutputPath() {
+            return null;
+        }
+
+        @Override
+        public int getNumberOfWorkers() {
+            return numberOfWorkers;
+        }
+
+        @Override
+        public Path getResultJournalPath() {
+            return journal;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import gov.nist.drmf.interpreter.common.config.ElasticSearchConfig;
 import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
+import gov.nist.drmf.interpreter.generic.interfaces.IMacroSearchEngine;
 import gov.nist.drmf.interpreter.generic.macro.MacroBean;
 import gov.nist.drmf.interpreter.generic.macro.MacroDefinitionStyleFileParser;
 import org.apache.http.HttpHost;
@@ -53,7 +54,7 @@ import static gov.nist.drmf.interpreter.common.constants.GlobalPaths.PATH_ELASTI
  * synchronously!
  * @author Andre Greiner-Petter
  */
-public class DLMFElasticSearchClient {
+public class DLMFElasticSearchClient implements IMacroSearchEngine {
     private static final Logger LOG = LogManager.getLogger(DLMFElasticSearchClient.class.getName());
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
@@ -78,6 +79,7 @@ public class DLMFElasticSearchClient {
      * Stops the client.
      * After calling, you must create another client connection if needed.
      */
+    @Override
     public void stop() {
         try {
             this.client.close();
@@ -86,6 +88,7 @@ public class DLMFElasticSearchClient {
         }
     }
 
+    @Override
     public LinkedList<MacroResult> searchMacroDescription(String description, int max) throws IOException {
         SearchRequest searchRequest = buildSearchRequest(description, max);
         SearchResponse searchResponse = client.search(searchRequest, RequestOptions.DEFAULT);
@@ -0,0 +1,206 @@
+package gov.nist.drmf.interpreter.generic.elasticsearch;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
+import gov.nist.drmf.interpreter.generic.interfaces.IMacroSearchEngine;
+import gov.nist.drmf.interpreter.generic.macro.MacroBean;
+import gov.nist.drmf.interpreter.generic.macro.MacroMetaBean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.analysis.*;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.en.PorterStemFilter;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.pattern.PatternReplaceCharFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.search.similarities.Similarity;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.QueryBuilder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * An embedded (in-process) alternative to {@link DLMFElasticSearchClient}. Rather than sending every
+ * search request to an Elasticsearch cluster, this class builds an in-memory inverted index of the
+ * descriptions of the DLMF macros ({@code DLMFMacroReplacementDB.json}).
+ * <p>
+ * The index mirrors the settings of the Elasticsearch index (see {@code config/elasticsearch/index-config.json}),
+ * i.e., it uses the same analyzer for the descriptions, the same BM25 parameters, and the same match query
+ * semantics. Hence, the scores of the results are the same as the scores from Elasticsearch.
+ * <p>
+ * The index is read-only after construction and can be shared among multiple threads.
+ *
+ * @author Andre Greiner-Petter
+ */
+public class DLMFEmbeddedMacroIndex implements IMacroSearchEngine {
+    private static final Logger LOG = LogManager.getLogger(DLMFEmbeddedMacroIndex.class.getName());
+
+    private static final String ID_FIELD = "id";
+    private static final String DESCRIPTION_FIELD = "meta.description";
+
+    /**
+     * The number of results Elasticsearch returns if no size was specified
+     */
+    private static final int DEFAULT_SIZE = 10;
+
+    // the BM25 parameters of index-config.json
+    private static final float BM25_K1 = 2f;
+    private static final float BM25_B = 0.25f;
+
+    // the char filters of index-config.json
+    private static final Pattern TEX_FILTER_EQ = Pattern.compile("\\$(.*?)\\$");
+    private static final Pattern TEX_FILTER_CHARS = Pattern.compile("(?:\\\\|\\{.*})");
+    private static final Pattern TEX_FILTER_MACRO_SPLITTER = Pattern.compile("(?<=\\p{Lower})(?=\\p{Upper})|-");
+
+    private static DLMFEmbeddedMacroIndex standardInstance;
+
+    private final List<MacroBean> macros;
+
+    private final Analyzer analyzer;
+
+    private final IndexSearcher searcher;
+
+    /**
+     * Creates an embedded index of the DLMF macro database at the given path.
+     * @param database the path to the {@code DLMFMacroReplacementDB.json}
+     * @throws IOException if the database cannot be read
+     */
+    public DLMFEmbeddedMacroIndex(Path database) throws IOException {
+        this(loadDatabase(database).values());
+    }
+
+    /**
+     * Creates an embedded index of the given macros.
+     * @param macros the macros to index
+     * @throws IOException if the index cannot be built
+     */
+    public DLMFEmbeddedMacroIndex(Collection<MacroBean> macros) throws IOException {
+        this.macros = new ArrayList<>(macros);
+        this.analyzer = new DLMFAnalyzer();
+
+        Similarity similarity = new BM25Similarity(BM25_K1, BM25_B);
+        Directory directory = new ByteBuffersDirectory();
+        IndexWriterConfig writerConfig = new IndexWriterConfig(analyzer);
+        writerConfig.setSimilarity(similarity);
+
+        try ( IndexWriter writer = new IndexWriter(directory, writerConfig) ) {
+            for ( int i = 0; i < this.macros.size(); i++ ) {
+                Document doc = new Document();
+                doc.add(new StoredField(ID_FIELD, i));
+                MacroMetaBean meta = this.macros.get(i).getMetaInformation();
+                if ( meta != null && meta.getDescription() != null )
+                    doc.add(new TextField(DESCRIPTION_FIELD, meta.getDescription(), Field.Store.NO));
+                writer.addDocument(doc);
+            }
+            writer.forceMerge(1);
+        }
+
+        this.searcher = new IndexSearcher(DirectoryReader.open(directory));
+        this.searcher.setSimilarity(similarity);
+        LOG.info("Indexed " + this.macros.size() + " macros in embedded macro index.");
+    }
+
+    /**
+     * @return the shared embedded index of the DLMF macro database
+     *         at {@link GlobalPaths#PATH_MACROS_REPLACEMENT_PATTERNS}
+     * @throws IOException if the database cannot be read
+     */
+    public static synchronized DLMFEmbeddedMacroIndex getStandardInstance() throws IOException {
+        if ( standardInstance == null ) {
+            standardInstance = new DLMFEmbeddedMacroIndex(GlobalPaths.PATH_MACROS_REPLACEMENT_PATTERNS);
+        }
+        return standardInstance;
+    }
+
+    private static Map<String, MacroBean> loadDatabase(Path database) throws IOException {
+        if ( !Files.exists(database) ) {
+            LOG.error("Unable to build embedded macro index because the DB file is missing. Expected " +
+                    "it to be in: " + database);
+            throw new IOException("Unable to locate " + database);
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        TypeReference<Map<String, MacroBean>> typeRef = new TypeReference<>() {};
+        return mapper.readValue(Files.readString(database), typeRef);
+    }
+
+    /**
+     * Searches for macros that match the given description. The macros in the results are shared among all
+     * searches and must not be modified.
+     * @param description the description, e.g., a definiens of a formula
+     * @param max maximum number of results (if not positive, at most 10 results are returned)
+     * @return the matching macros ordered by their score
+     * @throws IOException if the index is corrupted
+     */
+    @Override
+    public LinkedList<MacroResult> searchMacroDescription(String description, int max) throws IOException {
+        LinkedList<MacroResult> results = new LinkedList<>();
+        if ( description == null ) return results;
+
+        // equivalent to elasticsearch's match query, i.e., a disjunction of all analyzed tokens
+        Query query = new QueryBuilder(analyzer).createBooleanQuery(DESCRIPTION_FIELD, description);
+        if ( query == null ) return results;
+
+        TopDocs hits = searcher.search(query, max > 0 ? max : DEFAULT_SIZE);
+        for ( ScoreDoc hit : hits.scoreDocs ) {
+            int id = searcher.doc(hit.doc).getField(ID_FIELD).numericValue().intValue();
+            results.addLast(new MacroResult(hit.score, macros.get(id)));
+        }
+        return results;
+    }
+
+    /**
+     * The embedded index does not hold any external resources. Hence, stopping it does nothing
+     * and the index remains usable.
+     */
+    @Override
+    public void stop() {
+        // nothing to do
+    }
+
+    /**
+     * The {@code dlmf_analyzer} of index-config.json.
+     */
+    private static class DLMFAnalyzer extends Analyzer {
+        @Override
+        protected Reader initReader(String fieldName, Reader reader) {
+            reader = new PatternReplaceCharFilter(TEX_FILTER_EQ, "$1", reader);
+            reader = new PatternReplaceCharFilter(TEX_FILTER_CHARS, "", reader);
+            reader = new PatternReplaceCharFilter(TEX_FILTER_MACRO_SPLITTER, " ", reader);
+            return reader;
+        }
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new StandardTokenizer();
+            TokenStream stream = new LowerCaseFilter(tokenizer);
+            stream = new ASCIIFoldingFilter(stream);
+            stream = new PorterStemFilter(stream);
+            stream = new StopFilter(stream, EnglishAnalyzer.ENGLISH_STOP_WORDS_SET);
+            return new TokenStreamComponents(tokenizer, stream);
+        }
+    }
+}
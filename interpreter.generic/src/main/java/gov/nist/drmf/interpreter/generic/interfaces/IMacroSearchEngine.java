@@ -0,0 +1,30 @@
+package gov.nist.drmf.interpreter.generic.interfaces;
+
+import gov.nist.drmf.interpreter.generic.elasticsearch.MacroResult;
+
+import java.io.IOException;
+import java.util.LinkedList;
+
+/**
+ * A search engine for semantic macros. The engine retrieves the macros whose textual descriptions
+ * (i.e., {@code meta.description} of the DLMF macro database) match a given description best.
+ *
+ * @see gov.nist.drmf.interpreter.generic.elasticsearch.DLMFElasticSearchClient
+ * @see gov.nist.drmf.interpreter.generic.elasticsearch.DLMFEmbeddedMacroIndex
+ * @author Andre Greiner-Petter
+ */
+public interface IMacroSearchEngine {
+    /**
+     * Searches for macros that match the given description.
+     * @param description the description, e.g., a definiens of a formula
+     * @param max maximum number of results (if not positive, the default number of results is returned)
+     * @return the matching macros ordered by their score (highest score first)
+     * @throws IOException if the search engine is not reachable
+     */
+    LinkedList<MacroResult> searchMacroDescription(String description, int max) throws IOException;
+
+    /**
+     * Stops the search engine. After calling, you must not use this instance anymore.
+     */
+    void stop();
+}
@@ -3,7 +3,9 @@ package gov.nist.drmf.interpreter.generic.macro;
 import com.formulasearchengine.mathosphere.mlp.pojos.Relation;
 import gov.nist.drmf.interpreter.common.config.GenericLacastConfig;
 import gov.nist.drmf.interpreter.generic.elasticsearch.DLMFElasticSearchClient;
+import gov.nist.drmf.interpreter.generic.elasticsearch.DLMFEmbeddedMacroIndex;
 import gov.nist.drmf.interpreter.generic.elasticsearch.MacroResult;
+import gov.nist.drmf.interpreter.generic.interfaces.IMacroSearchEngine;
 import gov.nist.drmf.interpreter.generic.mlp.pojo.MLPLacastScorer;
 import gov.nist.drmf.interpreter.generic.mlp.pojo.MOIAnnotation;
 import gov.nist.drmf.interpreter.generic.mlp.pojo.SemanticReplacementRule;
@@ -35,8 +37,6 @@ public class MacroRetriever {
     }
 
     public RetrievedMacros retrieveReplacements(MOINode<MOIAnnotation> node) {
-        DLMFElasticSearchClient client = new DLMFElasticSearchClient(config.getESConfig());
-
         List<MOINode<MOIAnnotation>> dependentNodes = new LinkedList<>();
         dependentNodes.add( node );
 
@@ -44,18 +44,26 @@ public class MacroRetriever {
         if ( config.getSuppressedMacros() != null && !config.getSuppressedMacros().isEmpty() )
             config.getSuppressedMacros().forEach(retrievedMacros::addMacro);
 
+        IMacroSearchEngine client = null;
         try {
+            client = createSearchEngine();
             retrieveReplacements(client, 0, dependentNodes, retrievedMacros);
         } catch (IOException ioe) {
-            LOG.error("Unable to retrieve information from Elasticsearch!", ioe);
+            LOG.error("Unable to retrieve information from the macro search engine!", ioe);
+        } finally {
+            if ( client != null ) client.stop();
         }
 
-        client.stop();
         return retrievedMacros;
     }
 
+    private IMacroSearchEngine createSearchEngine() throws IOException {
+        if ( config.useEmbeddedMacroIndex() ) return DLMFEmbeddedMacroIndex.getStandardInstance();
+        else return new DLMFElasticSearchClient(config.getESConfig());
+    }
+
     private void retrieveReplacements(
-            DLMFElasticSearchClient esClient,
+            IMacroSearchEngine searchEngine,
             int depth,
             List<MOINode<MOIAnnotation>> dependencyList,
             RetrievedMacros retrievedMacros
@@ -70,7 +78,7 @@ public class MacroRetriever {
             Relation rel = new Relation();
             rel.setDefinition(s);
             rel.setScore(0.1); // default low score
-            retrieveFromDefinition(esClient, retrievedMacros, rel, depth);
+            retrieveFromDefinition(searchEngine, retrievedMacros, rel, depth);
         }
 
         // iterate through the current depth and generate a new depth list of nodes that must be checked
@@ -93,12 +101,12 @@ public class MacroRetriever {
 
             int max = config.getMaxRelations() > 0 ? config.getMaxRelations() : definiensList.size();
             for ( int i = 0; i < definiensList.size() && i < max; i++ ) {
-                retrieveFromDefinition( esClient, retrievedMacros, definiensList.get(i), depth );
+                retrieveFromDefinition( searchEngine, retrievedMacros, definiensList.get(i), depth );
             }
         }
 
         retrieveReplacements(
-                esClient,
+                searchEngine,
                 depth+1,
                 nextDepthList,
                 retrievedMacros
@@ -124,7 +132,7 @@ public class MacroRetriever {
         return sb.toString();
     }
 
-    private void retrieveFromDefinition(DLMFElasticSearchClient esClient, RetrievedMacros retrievedMacros, Relation definitionRelation, int depth) throws IOException {
+    private void retrieveFromDefinition(IMacroSearchEngine searchEngine, RetrievedMacros retrievedMacros, Relation definitionRelation, int depth) throws IOException {
         double definiensScore = definitionRelation.getScore();
         String definition = definitionRelation.getDefinition();
         definition = preprocessDefinition(definition);
@@ -132,7 +140,7 @@ public class MacroRetriever {
         if ( retrievedMacros.containsDefinition(definition) ) return;
         retrievedMacros.addDefinition(definition);
 
-        LinkedList<MacroResult> macros = esClient.searchMacroDescription(definition, config.getMaxMacros());
+        LinkedList<MacroResult> macros = searchEngine.searchMacroDescription(definition, config.getMaxMacros());
         LOG.debug("For definition " + definition + ": retrieved " + macros.size() + " semantic macros " + macros);
 
         double maxMacroScore = macros.isEmpty() ? 0 : macros.get(0).getScore();
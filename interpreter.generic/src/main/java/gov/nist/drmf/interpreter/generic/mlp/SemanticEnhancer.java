@@ -263,8 +263,8 @@ public class SemanticEnhancer implements IPartialEnhancer {
 
             LOG.debug("Apply replacement from '"+genericLaTeXPattern+"' to '"+semanticLaTeXPattern+"'.");
 
-            MatchablePomTaggedExpression genericPattern =
-                    PomMatcherBuilder.compile(genericLaTeXPattern, MacroHelper.WILDCARD_PATTERNS);
+            PomPattern genericPattern =
+                    PomMatcherBuilder.compileCached(genericLaTeXPattern, MacroHelper.WILDCARD_PATTERNS);
             PomMatcher matcher = genericPattern.matcher(pte, config);
             pte = matcher.replacePattern(semanticLaTeXPattern);
             LOG.debug("Replacement applied, updated MOI: " + pte.getTexString());
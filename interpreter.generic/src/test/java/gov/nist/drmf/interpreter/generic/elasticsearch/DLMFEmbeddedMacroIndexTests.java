@@ -0,0 +1,46 @@
+package gov.nist.drmf.interpreter.generic.elasticsearch;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+public class DLMFEmbeddedMacroIndexTests {
+    private static DLMFEmbeddedMacroIndex index;
+
+    @BeforeAll
+    static void setup() throws IOException {
+        index = DLMFEmbeddedMacroIndex.getStandardInstance();
+    }
+
+    @Test
+    void searchLeviCivitaTest() throws IOException {
+        List<MacroResult> results = index.searchMacroDescription("Levi Civita Symbol", 5);
+        assertNotNull(results);
+        assertTrue( results.size() > 1 );
+        assertEquals( "LeviCivitasym", results.get(0).getMacro().getName() );
+        assertTrue( results.get(0).getScore() > 5.0 );
+    }
+
+    @Test
+    void searchOrderTest() throws IOException {
+        List<MacroResult> results = index.searchMacroDescription("Jacobi polynomial", 3);
+        assertEquals( 3, results.size() );
+        assertEquals( "JacobipolyP", results.get(0).getMacro().getName() );
+        for ( int i = 1; i < results.size(); i++ ) {
+            assertTrue( results.get(i-1).getScore() >= results.get(i).getScore() );
+        }
+    }
+
+    @Test
+    void stopWordsOnlyTest() throws IOException {
+        assertTrue( index.searchMacroDescription("the", 5).isEmpty() );
+        assertTrue( index.searchMacroDescription("", 5).isEmpty() );
+    }
+}
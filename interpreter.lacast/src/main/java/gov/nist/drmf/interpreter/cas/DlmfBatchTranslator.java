@@ -4,6 +4,7 @@ package gov.nist.drmf.interpreter.cas;
 import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.io.xml.DomDriver;
 import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
+import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -11,21 +12,54 @@ import org.apache.commons.cli.Options;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.filefilter.DirectoryFileFilter;
 import org.apache.commons.io.filefilter.RegexFileFilter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collection;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 public class DlmfBatchTranslator {
 
 	public static final String MLPERROR = "mlperror";
 
+	private static final Logger LOG = LogManager.getLogger( DlmfBatchTranslator.class.getName() );
+
+	private static final String CAS = "Maple";
+
+	private final Path outPutDir;
+	private final String prefix;
+	private final boolean mlpfilter;
+
+	/**
+	 * Every worker owns its own translator, so the problem tokens are collected per worker
+	 */
+	private final List<SemanticLatexTranslator> translators = Collections.synchronizedList( new LinkedList<>() );
+	private final ThreadLocal<SemanticLatexTranslator> workerTranslator = ThreadLocal.withInitial( () -> {
+		SemanticLatexTranslator translator = SemanticToCASInterpreter.getParser( false, CAS );
+		translator.setTolerant( true );
+		translators.add( translator );
+		return translator;
+	} );
+
+	DlmfBatchTranslator( Path outPutDir, String prefix, boolean mlpfilter ) {
+		this.outPutDir = outPutDir;
+		this.prefix = prefix;
+		this.mlpfilter = mlpfilter;
+	}
+
 	public static void main( String[] args ) throws Exception {
 		// create Options object
 		Options options = new Options();
@@ -34,52 +68,110 @@ public class DlmfBatchTranslator {
 		options.addOption("s","subdir",true,"subdirectory for filtering");
 		options.addOption( "f", "filter", true, "filter" );
 		options.addOption( "e","error",true,"file for error report" );
+		options.addOption( "t", "threads", true, "number of workers (default: number of available processors)" );
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd = parser.parse( options, args );
 		Collection<File> files = getFiles( cmd );
 		final Path outPutDir = FileUtils.getFile( cmd.getOptionValue( "o" ) ).toPath();
-		SemanticLatexTranslator translator = SemanticToCASInterpreter.getParser( false, "Maple" );
-		translator.setTolerant( true );
-		final boolean mlpfilter;
-		if ( cmd.hasOption( "f" ) ) {
-			if ( cmd.getOptionValue( "f" ).equals( MLPERROR ) ) {
-				mlpfilter = true;
-			} else {
-				mlpfilter = false;
+		final boolean mlpfilter = cmd.hasOption( "f" ) && cmd.getOptionValue( "f" ).equals( MLPERROR );
+		final int threads = cmd.hasOption( "t" ) ?
+				Integer.parseInt( cmd.getOptionValue( "t" ) ) :
+				Runtime.getRuntime().availableProcessors();
+		final String prefix = cmd.getOptionValue( "i" ).replace( "/", "-" );
+
+		DlmfBatchTranslator batchTranslator = new DlmfBatchTranslator( outPutDir, prefix, mlpfilter );
+		batchTranslator.translate( files, threads );
+		if(cmd.hasOption( 'e' )) {
+			final Map<String, Map<Integer, Set<String>>> problemTokens = batchTranslator.getProblemTokens();
+			XStream xstream = new XStream( new DomDriver() );
+			try ( Writer writer = Files.newBufferedWriter( Paths.get( cmd.getOptionValue( "e" ) ) ) ) {
+				xstream.toXML( problemTokens, writer );
 			}
-		} else {
-			mlpfilter = false;
 		}
-		Path finalOutPutDir = outPutDir;
-		// System.out.println("processing files" + files.size());
-		final String prefix = cmd.getOptionValue( "i" ).replace( "/", "-" );
-		files.forEach( file -> {
-			try {
-				final String sTeX = FileUtils.readFileToString( file );
-				final String id = file.getPath().replace( "/", "-" ).replace( prefix, "" );
-				translator.reset();
-				translator.setFileID( id );
-				translator.translate( sTeX );
-				final String translatedExpression = translator.getTranslatedExpression();
-				if ( mlpfilter ) {
-					if ( translator.isMlpError() ) {
-						final File f = Paths.get( finalOutPutDir.toString(), id ).toFile();
-						FileUtils.write( f, sTeX );
-					}
-				} else {
-					final File f = Paths.get( finalOutPutDir.toString(), id + ".maple" ).toFile();
-					FileUtils.write( f, translatedExpression );
+	}
+
+	/**
+	 * Translates the given files on a pool of workers. Every file contains a single expression, hence its
+	 * result is written to disk once the worker finished the file (i.e., while other files are still
+	 * translated). A file that fails (even with an unexpected exception) is logged and skipped.
+	 * @param files the .s.tex files
+	 * @param threads the number of workers
+	 * @return the number of files that were translated successfully
+	 * @throws IOException if the output directory cannot be created
+	 * @throws InterruptedException if the batch was interrupted
+	 */
+	int translate( Collection<File> files, int threads ) throws IOException, InterruptedException {
+		Files.createDirectories( outPutDir );
+		ExecutorService executor = Executors.newFixedThreadPool( Math.max( 1, threads ) );
+		AtomicInteger success = new AtomicInteger();
+		try {
+			List<File> fileList = new ArrayList<>( files );
+			List<Callable<Object>> tasks = new ArrayList<>( fileList.size() );
+			for ( File file : fileList ) {
+				tasks.add( Executors.callable( () -> {
+					if ( translate( file ) ) success.incrementAndGet();
+				} ) );
+			}
+			List<Future<Object>> results = executor.invokeAll( tasks );
+			for ( int i = 0; i < results.size(); i++ ) {
+				try {
+					results.get( i ).get();
+				} catch ( ExecutionException e ) {
+					LOG.error( "Worker failed to translate " + fileList.get( i ), e.getCause() );
 				}
-			} catch ( IOException e ) {
-				e.printStackTrace();
 			}
-		});
-		if(cmd.hasOption( 'e' )) {
-			final Map<String, Map<Integer, Set<String>>> problemTokens = translator.getProblemTokens();
-			XStream xstream = new XStream( new DomDriver() );
-			xstream.toXML( problemTokens, new FileWriter( cmd.getOptionValue( "e" ) ) );
+		} finally {
+			executor.shutdown();
 		}
+		LOG.info( "Translated " + success.get() + " of " + files.size() + " files" );
+		return success.get();
+	}
+
+	private boolean translate( File file ) {
+		final String id = file.getPath().replace( "/", "-" ).replace( prefix, "" );
+		try {
+			final String sTeX = FileUtils.readFileToString( file, StandardCharsets.UTF_8 );
+			SemanticLatexTranslator translator = workerTranslator.get();
+			translator.reset();
+			translator.setFileID( id );
+			translator.translate( sTeX );
+			if ( mlpfilter ) {
+				if ( translator.isMlpError() ) {
+					Files.writeString( outPutDir.resolve( id ), sTeX );
+				}
+			} else {
+				Files.writeString( outPutDir.resolve( id + ".maple" ), translator.getTranslatedExpression() );
+			}
+			return true;
+		} catch ( IOException | TranslationException e ) {
+			LOG.warn( "Unable to translate " + id + ": " + e.getMessage() );
+			return false;
+		}
+	}
+
+	/**
+	 * @return the problem tokens of all workers
+	 */
+	Map<String, Map<Integer, Set<String>>> getProblemTokens() {
+		final Map<String, Map<Integer, Set<String>>> problemTokens = new TreeMap<>();
+		synchronized ( translators ) {
+			for ( SemanticLatexTranslator translator : translators ) {
+				mergeProblemTokens( problemTokens, translator.getProblemTokens() );
+			}
+		}
+		return problemTokens;
+	}
 
+	static void mergeProblemTokens(
+			Map<String, Map<Integer, Set<String>>> target,
+			Map<String, Map<Integer, Set<String>>> partial
+	) {
+		partial.forEach( (token, positions) -> {
+			Map<Integer, Set<String>> targetPositions = target.computeIfAbsent( token, k -> new TreeMap<>() );
+			positions.forEach( (position, ids) ->
+					targetPositions.computeIfAbsent( position, k -> new TreeSet<>() ).addAll( ids )
+			);
+		} );
 	}
 
 	static Collection<File> getFiles( CommandLine cmd ) {
@@ -0,0 +1,88 @@
+package gov.nist.drmf.interpreter.cas.blueprints;
+
+import java.util.*;
+
+/**
+ * An index over a list of blueprints that preserves the order (i.e., the priority) of the blueprints.
+ * Every blueprint requires a set of literal tokens (e.g., relation symbols such as {@code =}, {@code \leq}
+ * or {@code \to}) on the top level of an expression to match. Instead of trying every blueprint in order,
+ * the index only returns the blueprints whose required tokens are all present in a given expression.
+ * <p>
+ * Every blueprint is stored under one anchor token, the least frequent of its required tokens among all
+ * blueprints. Blueprints without required tokens (e.g., {@code varN}) may match any expression and are
+ * therefore always candidates.
+ *
+ * @param <T> the type of the blueprints
+ * @author Andre Greiner-Petter
+ */
+class BlueprintIndex<T extends BlueprintRuleMatcher> {
+    private final List<T> blueprints;
+
+    private Map<String, List<Integer>> anchoredBlueprints;
+    private List<Integer> unanchoredBlueprints;
+
+    BlueprintIndex() {
+        this.blueprints = new ArrayList<>();
+    }
+
+    /**
+     * Adds a new blueprint with the lowest priority so far.
+     * @param blueprint the blueprint
+     */
+    synchronized void add(T blueprint) {
+        blueprints.add(blueprint);
+        anchoredBlueprints = null;
+        unanchoredBlueprints = null;
+    }
+
+    /**
+     * @return the number of blueprints in this index
+     */
+    synchronized int size() {
+        return blueprints.size();
+    }
+
+    /**
+     * Returns all blueprints that may match an expression with the given top level tokens. The blueprints
+     * are in the same order as they were added. Blueprints that cannot match because one of their required
+     * tokens is missing are not returned.
+     * @param tokens the literal tokens of the top level of an expression
+     * @return the blueprints that may match the expression in order of their priority
+     */
+    synchronized List<T> candidates(Set<String> tokens) {
+        if ( anchoredBlueprints == null ) build();
+
+        TreeSet<Integer> ids = new TreeSet<>(unanchoredBlueprints);
+        for ( String token : tokens ) {
+            List<Integer> anchored = anchoredBlueprints.get(token);
+            if ( anchored == null ) continue;
+            for ( Integer id : anchored ) {
+                if ( tokens.containsAll(blueprints.get(id).getRequiredTokens()) ) ids.add(id);
+            }
+        }
+
+        List<T> result = new ArrayList<>(ids.size());
+        for ( Integer id : ids ) result.add(blueprints.get(id));
+        return result;
+    }
+
+    private void build() {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for ( T blueprint : blueprints ) {
+            for ( String token : blueprint.getRequiredTokens() ) frequencies.merge(token, 1, Integer::sum);
+        }
+
+        anchoredBlueprints = new HashMap<>();
+        unanchoredBlueprints = new ArrayList<>();
+        for ( int i = 0; i < blueprints.size(); i++ ) {
+            Set<String> required = blueprints.get(i).getRequiredTokens();
+            if ( required.isEmpty() ) {
+                unanchoredBlueprints.add(i);
+                continue;
+            }
+
+            String anchor = Collections.min(required, Comparator.comparingInt(frequencies::get));
+            anchoredBlueprints.computeIfAbsent(anchor, k -> new ArrayList<>()).add(i);
+        }
+    }
+}
@@ -10,7 +10,7 @@ import mlp.ParseException;
 public class BlueprintLimTree extends BlueprintRuleMatcher {
     private static final String DEFAULT_LOWER_LIMIT = "numL1";
 
-    private LimDirections direction;
+    private final LimDirections direction;
 
     public BlueprintLimTree(SemanticLatexTranslator translator, String blueprint,
                             String limitDir) throws ParseException {
@@ -19,9 +19,12 @@ public class BlueprintLimTree extends BlueprintRuleMatcher {
     }
 
     @Override
-    protected MathematicalEssentialOperatorMetadata getExtractedMEOM() {
-        MathematicalEssentialOperatorMetadata lim = super.getExtractedMEOM();
-        lim.setDirection(direction);
-        return lim;
+    String getId() {
+        return super.getId() + " (" + direction + ")";
+    }
+
+    @Override
+    protected LimDirections getDirection() {
+        return direction;
     }
 }
@@ -2,6 +2,9 @@ package gov.nist.drmf.interpreter.cas.blueprints;
 
 import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
 import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
+import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
+import gov.nist.drmf.interpreter.pom.common.PomTaggedExpressionNormalizer;
+import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
 import mlp.ParseException;
 import mlp.PomTaggedExpression;
 import org.apache.logging.log4j.LogManager;
@@ -11,9 +14,14 @@ import org.intellij.lang.annotations.Language;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.LinkedList;
+import java.util.*;
+import java.util.function.Supplier;
 
 /**
+ * Extracts the limits of sums, products and limits (MEOMs) via blueprints. The same bounds
+ * (e.g., {@code n=0} of {@code \\sum_{n=0}^\\infty}) appear over and over again. Hence, the extracted limits are
+ * immutable and memoized by the TeX string of the bounds.
+ *
  * @author Andre Greiner-Petter
  */
 public class BlueprintMaster {
@@ -25,17 +33,51 @@ public class BlueprintMaster {
     public static final boolean LIMITED = false;
     public static final boolean LIM = true;
 
-    private LinkedList<BlueprintRuleMatcher> limitedTrees;
-    private LinkedList<BlueprintLimTree> limTrees;
+    /**
+     * The maximum number of memoized limits
+     */
+    private static final int MEMO_SIZE = 4096;
+
+    /**
+     * Matches of limits, shared by the masters of all targets (see {@link #matchShared(boolean, String, Supplier)}).
+     */
+    private static final Map<String, Optional<BlueprintMatch>> SHARED_MATCHES =
+            Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Optional<BlueprintMatch>> eldest) {
+                    return size() > MEMO_SIZE;
+                }
+            });
+
+    private BlueprintIndex<BlueprintRuleMatcher> limitedTrees;
+    private BlueprintIndex<BlueprintLimTree> limTrees;
+
+    /**
+     * The blueprints by their ids (see {@link BlueprintRuleMatcher#getId()})
+     */
+    private final Map<String, BlueprintRuleMatcher> limitedRules, limRules;
     private SemanticLatexTranslator slt;
 
     private Path limitBTFile, limBTFile;
 
+    /**
+     * Memoized limits, a limit that does not match any blueprint is memoized as an empty optional
+     */
+    private final Map<String, Optional<MathematicalEssentialOperatorMetadata>> memo =
+            Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Optional<MathematicalEssentialOperatorMetadata>> eldest) {
+                    return size() > MEMO_SIZE;
+                }
+            });
+
     public BlueprintMaster(SemanticLatexTranslator slt) {
         limitBTFile = GlobalPaths.PATH_MEOM_BLUEPRINTS;
         limBTFile = GlobalPaths.PATH_MEOM_LIMIT_BLUEPRINTS;
-        limitedTrees = new LinkedList<>();
-        limTrees = new LinkedList<>();
+        limitedTrees = new BlueprintIndex<>();
+        limTrees = new BlueprintIndex<>();
+        limitedRules = new HashMap<>();
+        limRules = new HashMap<>();
         this.slt = slt;
     }
 
@@ -50,7 +92,9 @@ public class BlueprintMaster {
     private void addLimitedTrees( String l ) {
         String[] s = l.split(" ==> ");
         try {
-            limitedTrees.add(new BlueprintRuleMatcher(slt, s[0], s[1]));
+            BlueprintRuleMatcher matcher = new BlueprintRuleMatcher(slt, s[0], s[1]);
+            limitedTrees.add(matcher);
+            limitedRules.putIfAbsent(matcher.getId(), matcher);
         } catch (ParseException e) {
             LOG.error("Illegal string generating Blueprint: " + l, e);
         }
@@ -59,23 +103,150 @@ public class BlueprintMaster {
     private void addLimTrees( String l ) {
         String[] s = l.split(" ==> ");
         try {
-            limTrees.add(new BlueprintLimTree(slt, s[0], s[1]));
+            BlueprintLimTree matcher = new BlueprintLimTree(slt, s[0], s[1]);
+            limTrees.add(matcher);
+            limRules.putIfAbsent(matcher.getId(), matcher);
         } catch (ParseException e) {
             LOG.error("Illegal string for generating Blueprint: " + l, e);
         }
     }
 
     public MathematicalEssentialOperatorMetadata findMatchingLimit(boolean lim, String limit) {
-        for ( BlueprintRuleMatcher t : (lim == LIM) ? limTrees : limitedTrees ) {
-            if ( t.match(limit) ) return t.getExtractedMEOM();
-        }
-        return null;
+        if ( limit == null || limit.isBlank() ) return null;
+        String cleanedLimit = BlueprintRuleMatcher.preCleaning(limit);
+        String key = "raw:" + cleanedLimit;
+        return memoize(lim, key, () -> extract(lim, matchShared(lim, key, () -> {
+            try {
+                return new PomTaggedExpression[]{SemanticMLPWrapper.getStandardInstance().parse(cleanedLimit)};
+            } catch (ParseException e) {
+                return null;
+            }
+        })));
     }
 
+    /**
+     * Finds the first blueprint that matches the given limit expression. The result is memoized by the TeX
+     * string of the given expressions, so the same limit is only matched and translated once. Since the match
+     * itself does not depend on the target language, it is shared with the masters of the other targets.
+     * @param lim true if the expression is a limit of {@code \\lim} (see {@link #LIM}), otherwise false
+     * @param pte the limit expression
+     * @return the extracted limit of the matching blueprint or null if no blueprint matches
+     */
     public MathematicalEssentialOperatorMetadata findMatchingLimit(boolean lim, PomTaggedExpression... pte) {
-        for ( BlueprintRuleMatcher t : (lim == LIM) ? limTrees : limitedTrees ) {
-            if ( t.match(pte) ) return t.getExtractedMEOM();
+        if ( pte == null || pte.length == 0 ) return null;
+
+        String key = getMemoKey(pte);
+        if ( key == null ) return extract(lim, match(lim, pte));
+        return memoize(lim, key, () -> extract(lim, matchShared(lim, key, () -> pte)));
+    }
+
+    private MathematicalEssentialOperatorMetadata memoize(
+            boolean lim,
+            String key,
+            Supplier<MathematicalEssentialOperatorMetadata> extractor
+    ) {
+        // the extracted limits are translated, so they depend on the flags of the translator
+        String memoKey = lim + "," + slt.getConfig().getTranslationFlags() + "," + key;
+        Optional<MathematicalEssentialOperatorMetadata> meom = memo.get(memoKey);
+        if ( meom == null ) {
+            meom = Optional.ofNullable(extractor.get());
+            memo.put(memoKey, meom);
+        }
+        return meom.orElse(null);
+    }
+
+    private static String getMemoKey(PomTaggedExpression... pte) {
+        StringBuilder sb = new StringBuilder("pom:");
+        for ( PomTaggedExpression p : pte ) {
+            if ( !(p instanceof PrintablePomTaggedExpression) ) return null;
+            sb.append(((PrintablePomTaggedExpression) p).getTexString()).append(' ');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * All masters load the same blueprints and matching a blueprint does not depend on the target language.
+     * Hence, the match of a limit expression is shared among the masters of all targets (e.g., of a
+     * {@link gov.nist.drmf.interpreter.cas.translation.MultiTargetTranslator}). Only the translation of the
+     * matched groups is done by every target.
+     * @param lim true if the expression is a limit of {@code \\lim} (see {@link #LIM}), otherwise false
+     * @param key the TeX string of the limit expression
+     * @param expression the limit expression (or null if the expression cannot be parsed)
+     * @return the match or null if no blueprint matches
+     */
+    private BlueprintMatch matchShared(boolean lim, String key, Supplier<PomTaggedExpression[]> expression) {
+        String memoKey = lim + "," + key;
+        Optional<BlueprintMatch> match = SHARED_MATCHES.get(memoKey);
+        if ( match == null ) {
+            PomTaggedExpression[] pte = expression.get();
+            match = Optional.ofNullable(pte == null ? null : match(lim, pte));
+            SHARED_MATCHES.put(memoKey, match);
+        }
+        return match.orElse(null);
+    }
+
+    /**
+     * Matches the given limit expression against the blueprints. The blueprints are compiled patterns that
+     * do not keep any state of a match, hence concurrent translations can match them at the same time.
+     */
+    private BlueprintMatch match(boolean lim, PomTaggedExpression... pte) {
+        // wrap and normalize the expression only once rather than for every blueprint
+        PrintablePomTaggedExpression ppte = BlueprintRuleMatcher.wrap(pte);
+        PomTaggedExpressionNormalizer.normalize(ppte);
+        Set<String> tokens = getTopLevelTokens(ppte);
+
+        BlueprintIndex<? extends BlueprintRuleMatcher> index = (lim == LIM) ? limTrees : limitedTrees;
+        for ( BlueprintRuleMatcher t : index.candidates(tokens) ) {
+            Map<String, String> groups = t.matchGroups(ppte);
+            if ( groups != null ) return new BlueprintMatch(t.getId(), groups, BlueprintRuleMatcher.isOverSet(ppte));
         }
         return null;
     }
+
+    private MathematicalEssentialOperatorMetadata extract(boolean lim, BlueprintMatch match) {
+        if ( match == null ) return null;
+        BlueprintRuleMatcher matcher = (lim == LIM) ? limRules.get(match.blueprintId) : limitedRules.get(match.blueprintId);
+        if ( matcher == null ) {
+            LOG.warn("Unknown blueprint of a shared match: " + match.blueprintId);
+            return null;
+        }
+        return matcher.extractLimits(match.groups, match.isOverSet);
+    }
+
+    /**
+     * @return the number of shared matches
+     */
+    static int getSharedMatchesSize() {
+        return SHARED_MATCHES.size();
+    }
+
+    /**
+     * @return the number of memoized limits
+     */
+    int getMemoSize() {
+        return memo.size();
+    }
+
+    /**
+     * The match of a blueprint, i.e., the groups of the matched expression before they are translated
+     */
+    private static final class BlueprintMatch {
+        private final String blueprintId;
+        private final Map<String, String> groups;
+        private final boolean isOverSet;
+
+        private BlueprintMatch(String blueprintId, Map<String, String> groups, boolean isOverSet) {
+            this.blueprintId = blueprintId;
+            this.groups = Collections.unmodifiableMap(new LinkedHashMap<>(groups));
+            this.isOverSet = isOverSet;
+        }
+    }
+
+    private static Set<String> getTopLevelTokens(PomTaggedExpression pte) {
+        Set<String> tokens = new HashSet<>();
+        for ( PomTaggedExpression comp : pte.getComponents() ) {
+            if ( comp.getRoot() != null ) tokens.add(comp.getRoot().getTermText());
+        }
+        return tokens;
+    }
 }
@@ -5,9 +5,14 @@ import gov.nist.drmf.interpreter.common.latex.TeXPreProcessor;
 import gov.nist.drmf.interpreter.common.interfaces.IBlueprintMatcher;
 import gov.nist.drmf.interpreter.pom.common.FakeMLPGenerator;
 import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
+import gov.nist.drmf.interpreter.pom.common.PomTaggedExpressionUtility;
+import gov.nist.drmf.interpreter.pom.common.grammar.ExpressionTags;
+import gov.nist.drmf.interpreter.pom.common.grammar.LimDirections;
 import gov.nist.drmf.interpreter.pom.extensions.MatchablePomTaggedExpression;
+import gov.nist.drmf.interpreter.pom.extensions.MatchablePomTaggedExpressionConfig;
 import gov.nist.drmf.interpreter.pom.extensions.MatcherConfig;
 import gov.nist.drmf.interpreter.pom.extensions.PomMatcherBuilder;
+import gov.nist.drmf.interpreter.pom.extensions.PomPattern;
 import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
 import mlp.ParseException;
 import mlp.PomTaggedExpression;
@@ -35,27 +40,30 @@ public class BlueprintRuleMatcher implements IBlueprintMatcher {
     private static final String VAR_SPLITTER = " / ";
     private static final String LOW_UP_SPLITTER = ",";
 
-    private final MatcherConfig matcherConfig;
+    private static final Pattern OVER_SET_PATTERN = Pattern.compile(".*\\\\(in|divides)[^A-Za-z]+.*");
 
-    private List<String> vars = null;
+    private final MatcherConfig matcherConfig;
+    private final MatcherConfig normalizedMatcherConfig;
 
     private String varPattern, upBPattern, lowBPattern;
     private final Pattern LIMIT_PATTERN;
 
-    private final MatchablePomTaggedExpression matchablePom;
+    private final PomPattern blueprintPattern;
     private final SemanticLatexTranslator translator;
     private final String[] limitPattern;
 
-    private Map<String, String> matches;
-
-    private boolean isOverSet;
-
     private final String pattern;
 
+    private final Set<String> requiredTokens;
+
     public BlueprintRuleMatcher(SemanticLatexTranslator translator, String pattern, String replacement) throws ParseException {
         PrintablePomTaggedExpression ppte = SemanticMLPWrapper.getStandardInstance().parse(pattern);
         ppte = (PrintablePomTaggedExpression) FakeMLPGenerator.wrapNonSequenceInSequence(ppte);
-        matchablePom = PomMatcherBuilder.compile(ppte, WILDCARD_PATTERN);
+        blueprintPattern = PomMatcherBuilder.compilePattern(
+                new MatchablePomTaggedExpressionConfig(SemanticMLPWrapper.getStandardInstance(), WILDCARD_PATTERN),
+                ppte
+        );
+        this.requiredTokens = extractRequiredTokens(blueprintPattern);
         this.translator = translator;
         this.limitPattern = replacement.split(VAR_SPLITTER);
         this.LIMIT_PATTERN = setupPattern();
@@ -65,6 +73,7 @@ public class BlueprintRuleMatcher implements IBlueprintMatcher {
                 .allowFollowingTokens(false)
                 .setIllegalCharacterForWildcard("var", DEFAULT_ILLEGAL_CHAR_FOR_VARS)
                 .setIllegalCharacterForWildcard("varN", DEFAULT_ILLEGAL_CHAR_FOR_VARS);
+        this.normalizedMatcherConfig = new MatcherConfig(matcherConfig).expressionNormalized(true);
     }
 
     private Pattern setupPattern() {
@@ -72,16 +81,8 @@ public class BlueprintRuleMatcher implements IBlueprintMatcher {
         upBPattern = translate(UPPER_BOUND_TOKEN);
         varPattern = translate(VAR_TOKEN);
 
-//        lowBPattern = lowBPattern.replaceAll("\\*", "\\\\*");
-//        upBPattern = upBPattern.replaceAll("\\*", "\\\\*");
-//        varPattern = varPattern.replaceAll("\\*", "\\\\*");
-
-        lowBPattern = Pattern.quote(lowBPattern);
-        upBPattern = Pattern.quote(upBPattern);
-        varPattern = Pattern.quote(varPattern);
-
         return Pattern.compile(
-                "("+lowBPattern+"|"+varPattern+"|"+upBPattern+").?(\\d+)"
+                "("+Pattern.quote(lowBPattern)+"|"+Pattern.quote(varPattern)+"|"+Pattern.quote(upBPattern)+").?(\\d+)"
         );
     }
 
@@ -99,28 +100,100 @@ public class BlueprintRuleMatcher implements IBlueprintMatcher {
     }
 
     public boolean match(PomTaggedExpression... expressions) {
-        this.isOverSet = false;
         if ( expressions == null || expressions.length == 0 ) return false;
-        boolean match = false;
+        return blueprintPattern.match(wrap(expressions), matcherConfig);
+    }
+
+    /**
+     * Matches an expression that was already wrapped via {@link #wrap(PomTaggedExpression...)}. The blueprint
+     * does not keep any state of the match, so it can be used concurrently. The expression must be normalized
+     * already, it is not normalized again.
+     * <p>
+     * The matched groups do not depend on the target language of the translator, only the limits extracted
+     * from them via {@link #extractLimits(Map, boolean)} do.
+     * @param ppte the wrapped and normalized expression
+     * @return the matched groups or null if this blueprint does not match the given expression
+     */
+    Map<String, String> matchGroups(PrintablePomTaggedExpression ppte) {
+        return blueprintPattern.matchGroups(ppte, normalizedMatcherConfig);
+    }
+
+    /**
+     * Translates the groups of a match of this blueprint (see {@link #matchGroups(PrintablePomTaggedExpression)})
+     * to the limits of the expression.
+     * @param groups the matched groups
+     * @param isOverSet true if the matched expression iterates over a set (e.g., {@code n \in S})
+     * @return the extracted limits
+     */
+    MathematicalEssentialOperatorMetadata extractLimits(Map<String, String> groups, boolean isOverSet) {
+        return getExtractedMEOM(groups, isOverSet);
+    }
+
+    /**
+     * @param ppte a matched expression
+     * @return true if the expression iterates over a set (e.g., {@code n \in S})
+     */
+    static boolean isOverSet(PrintablePomTaggedExpression ppte) {
+        return OVER_SET_PATTERN.matcher(ppte.getTexString()).matches();
+    }
+
+    /**
+     * The blueprint and its replacement rule. Two blueprints with the same id match the same expressions
+     * and extract the same limits (if they translate to the same target language).
+     * @return the id of this blueprint
+     */
+    String getId() {
+        return pattern + " ==> " + String.join(VAR_SPLITTER, limitPattern);
+    }
+
+    /**
+     * Wraps the given expressions in a single sequence, so that they can be matched against blueprints.
+     * @param expressions non-empty list of expressions
+     * @return a sequence of the given expressions
+     */
+    static PrintablePomTaggedExpression wrap(PomTaggedExpression... expressions) {
         if ( expressions.length > 1 ) {
             PrintablePomTaggedExpression ppte = FakeMLPGenerator.generateEmptySequencePPTE();
             ppte.setPrintableComponents(expressions);
-            match = matchablePom.match(ppte, matcherConfig);
-            this.isOverSet = ppte.getTexString().matches(".*\\\\(in|divides)[^A-Za-z]+.*");
+            return ppte;
         } else {
-            PrintablePomTaggedExpression ppte = (PrintablePomTaggedExpression) FakeMLPGenerator.wrapNonSequenceInSequence(expressions[0]);
-            match = matchablePom.match(ppte, matcherConfig);
-            this.isOverSet = ppte.getTexString().matches(".*\\\\(in|divides)[^A-Za-z]+.*");
+            return (PrintablePomTaggedExpression) FakeMLPGenerator.wrapNonSequenceInSequence(expressions[0]);
         }
-        if ( match ) {
-            analyzeMatchedGroups();
+    }
+
+    /**
+     * The literal tokens on the top level of this blueprint (e.g., relation symbols). An expression
+     * can only match this blueprint if it contains all of these tokens on its top level.
+     * @return the required top level tokens of this blueprint
+     */
+    Set<String> getRequiredTokens() {
+        return requiredTokens;
+    }
+
+    private static Set<String> extractRequiredTokens(PomPattern pattern) {
+        MatchablePomTaggedExpression matchablePom = pattern.acquire();
+        try {
+            return extractRequiredTokens(matchablePom);
+        } finally {
+            pattern.release(matchablePom);
         }
-        return match;
     }
 
-    private void analyzeMatchedGroups() {
-        matches = matchablePom.getStringMatches();
+    private static Set<String> extractRequiredTokens(MatchablePomTaggedExpression matchablePom) {
+        Set<String> tokens = new TreeSet<>();
+        for ( PomTaggedExpression pte : matchablePom.getComponents() ) {
+            if ( !(pte instanceof MatchablePomTaggedExpression) || ((MatchablePomTaggedExpression) pte).isWildcard() )
+                continue;
+            if ( !pte.getComponents().isEmpty() || PomTaggedExpressionUtility.equals(pte, ExpressionTags.matrix) )
+                continue;
+
+            String text = pte.getRoot().getTermText();
+            if ( text != null && !text.isBlank() ) tokens.add(text);
+        }
+        return Collections.unmodifiableSet(tokens);
+    }
 
+    private List<String> analyzeMatchedGroups(Map<String, String> matches) {
         Collection<Match> varsCol = new LinkedList<>();
 
         matches.forEach((key, value) -> {
@@ -134,7 +207,7 @@ public class BlueprintRuleMatcher implements IBlueprintMatcher {
             }
         });
 
-        this.vars = parseToList(varsCol);
+        return parseToList(varsCol);
     }
 
     private List<String> parseToList(Collection<Match> matches) {
@@ -144,11 +217,12 @@ public class BlueprintRuleMatcher implements IBlueprintMatcher {
                 .collect(Collectors.toList());
     }
 
-    protected MathematicalEssentialOperatorMetadata getExtractedMEOM() {
+    private MathematicalEssentialOperatorMetadata getExtractedMEOM(Map<String, String> matches, boolean isOverSet) {
+        List<String> vars = analyzeMatchedGroups(matches);
         LinkedList<String> lowers = new LinkedList<>();
         LinkedList<String> uppers = new LinkedList<>();
 
-        for ( int i = 0; i < this.vars.size(); i++ ) {
+        for ( int i = 0; i < vars.size(); i++ ) {
             String[] lu;
             if ( i >= limitPattern.length ) {
                 lu = limitPattern[limitPattern.length-1].split(LOW_UP_SPLITTER);
@@ -158,24 +232,25 @@ public class BlueprintRuleMatcher implements IBlueprintMatcher {
 
             String t = translate(lu[0]);
             Matcher lMatcher = LIMIT_PATTERN.matcher(t); // lower limit
-            lowers.addLast(replaceAllPatterns(lMatcher));
+            lowers.addLast(replaceAllPatterns(lMatcher, matches, vars));
 
             if ( lu.length == 2 ) {
                 t = translate(lu[1]);
                 Matcher uMatcher = LIMIT_PATTERN.matcher(t); // upper limit
-                uppers.addLast(replaceAllPatterns(uMatcher));
+                uppers.addLast(replaceAllPatterns(uMatcher, matches, vars));
             } else {
                 uppers.addLast(translate(MathematicalEssentialOperatorMetadata.DEFAULT_UPPER_LIMIT));
             }
         }
 
-        MathematicalEssentialOperatorMetadata l = new MathematicalEssentialOperatorMetadata(
-                this.vars,
-                lowers,
-                uppers
-        );
-        l.setLimitOverSet(isOverSet);
-        return l;
+        return new MathematicalEssentialOperatorMetadata(vars, lowers, uppers, getDirection(), isOverSet);
+    }
+
+    /**
+     * @return the direction of the limits extracted by this blueprint (null if there is no direction)
+     */
+    protected LimDirections getDirection() {
+        return null;
     }
 
     private String translate(String str) {
@@ -183,23 +258,23 @@ public class BlueprintRuleMatcher implements IBlueprintMatcher {
         return translator.getTranslatedExpression();
     }
 
-    private String replaceAllPatterns( Matcher matcher ) {
-        StringBuffer buffer = new StringBuffer();
+    private String replaceAllPatterns( Matcher matcher, Map<String, String> matches, List<String> vars ) {
+        StringBuilder buffer = new StringBuilder();
         while( matcher.find() ){
-            if ( matcher.group(1).matches(lowBPattern) ) {
+            if ( matcher.group(1).equals(lowBPattern) ) {
                 // lower index replacement
                 int idx = Integer.parseInt(matcher.group(2));
                 String trans = translator.translate( matches.getOrDefault("numL"+idx, "" ));
                 matcher.appendReplacement(buffer, Matcher.quoteReplacement(trans));
-            } else if ( matcher.group(1).matches(upBPattern) ) {
+            } else if ( matcher.group(1).equals(upBPattern) ) {
                 // lower index replacement
                 int idx = Integer.parseInt(matcher.group(2));
                 String trans = translator.translate( matches.getOrDefault("numU"+idx, "" ));
                 matcher.appendReplacement(buffer, Matcher.quoteReplacement(trans));
-            } else if ( matcher.group(1).matches(varPattern) ) {
+            } else if ( matcher.group(1).equals(varPattern) ) {
                 // lower index replacement
                 int idx = Integer.parseInt(matcher.group(2));
-                String trans = this.vars.get(idx-1);
+                String trans = vars.get(idx-1);
                 matcher.appendReplacement(buffer, trans);
             }
         }
@@ -3,12 +3,17 @@ package gov.nist.drmf.interpreter.cas.blueprints;
 import gov.nist.drmf.interpreter.pom.common.grammar.LimDirections;
 import gov.nist.drmf.interpreter.pom.common.grammar.LimitedExpressions;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
 /**
  * This class contains the limits of sums, prods, ints, and lims.
  * Note that the vars and bounds are NOT translated yet.
+ * <p>
+ * The metadata is immutable. Hence, the limits extracted by the {@link BlueprintMaster} can be
+ * shared between multiple translations.
  *
  * @author Andre Greiner-Petter
  */
@@ -16,28 +21,30 @@ public class MathematicalEssentialOperatorMetadata {
     public static String DEFAULT_UPPER_LIMIT = "\\infty";
 
     private final List<String> vars, upper, lower;
-    private LimDirections direction;
+    private final LimDirections direction;
 
-    private boolean isLimitOverSet = false;
+    private final boolean isLimitOverSet;
 
     public MathematicalEssentialOperatorMetadata() {
-        this.vars = new LinkedList<>();
-        this.upper = new LinkedList<>();
-        this.lower = new LinkedList<>();
+        this(new LinkedList<>(), new LinkedList<>(), new LinkedList<>());
     }
 
     public MathematicalEssentialOperatorMetadata(List<String> vars, List<String> lower, List<String> upper) {
-        this.vars = vars;
-        this.upper = upper;
-        this.lower = lower;
+        this(vars, lower, upper, null, false);
     }
 
-    public void setLimitOverSet(boolean limitOverSet) {
-        isLimitOverSet = limitOverSet;
-    }
-
-    public void setDirection(LimDirections direction) {
+    public MathematicalEssentialOperatorMetadata(
+            List<String> vars,
+            List<String> lower,
+            List<String> upper,
+            LimDirections direction,
+            boolean isLimitOverSet
+    ) {
+        this.vars = Collections.unmodifiableList(new ArrayList<>(vars));
+        this.upper = Collections.unmodifiableList(new ArrayList<>(upper));
+        this.lower = Collections.unmodifiableList(new ArrayList<>(lower));
         this.direction = direction;
+        this.isLimitOverSet = isLimitOverSet;
     }
 
     public List<String> getVars() {
@@ -60,10 +67,26 @@ public class MathematicalEssentialOperatorMetadata {
         return isLimitOverSet;
     }
 
-    public void overwriteUpperLimit(String newUpper) {
-        for ( int i = 0; i < upper.size(); i++ ) {
-            upper.set(i, newUpper);
-        }
+    /**
+     * @param newVars the new variables
+     * @return a copy of this metadata with the given variables
+     */
+    public MathematicalEssentialOperatorMetadata withVars(List<String> newVars) {
+        return new MathematicalEssentialOperatorMetadata(newVars, lower, upper, direction, isLimitOverSet);
+    }
+
+    /**
+     * @param newUpper the new upper limit
+     * @return a copy of this metadata where every upper limit is replaced by the given limit
+     */
+    public MathematicalEssentialOperatorMetadata withUpperLimit(String newUpper) {
+        return new MathematicalEssentialOperatorMetadata(
+                vars,
+                lower,
+                Collections.nCopies(upper.size(), newUpper),
+                direction,
+                isLimitOverSet
+        );
     }
 
     public BoundaryStrings getArguments(int index, boolean indef, String arg, LimitedExpressions category) {
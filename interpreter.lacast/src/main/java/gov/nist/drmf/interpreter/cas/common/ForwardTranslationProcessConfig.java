@@ -9,6 +9,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
+import java.util.regex.Pattern;
 
 /**
  * This is the configuration for the forward translator. It defines to which language (CAS) the translations
@@ -21,9 +22,10 @@ public class ForwardTranslationProcessConfig extends TranslationProcessConfig {
 
     private String TAB = "";
     private String MULTIPLY = "*";
+    private Pattern endOnMultiplyPattern = compileEndOnMultiplyPattern(MULTIPLY);
     private String LINE_DELIMITER = "\n";
 
-    private BlueprintMaster limitParser = null;
+    private volatile BlueprintMaster limitParser = null;
 
     private boolean extensiveOutput = false;
 
@@ -31,6 +33,8 @@ public class ForwardTranslationProcessConfig extends TranslationProcessConfig {
 
     private boolean translateLettersAsConstantsIfPossible = false;
 
+    private TranslationCache translationCache = null;
+
     public ForwardTranslationProcessConfig(String to_language) {
         super(Keys.KEY_LATEX, to_language);
 
@@ -43,6 +47,7 @@ public class ForwardTranslationProcessConfig extends TranslationProcessConfig {
     public void init() throws InitTranslatorException {
         super.init();
         MULTIPLY = super.getSymbolTranslator().translateFromMLPKey( Keys.MLP_KEY_MULTIPLICATION );
+        endOnMultiplyPattern = compileEndOnMultiplyPattern(MULTIPLY);
         LINE_DELIMITER = super.getSymbolTranslator().translateFromMLPKey( Keys.MLP_KEY_END_OF_LINE );
     }
 
@@ -72,24 +77,58 @@ public class ForwardTranslationProcessConfig extends TranslationProcessConfig {
     }
 
     /**
-     * Careful, lazy initialization.
+     * Enables (or disables if null) caching of translations. The cache can be shared among multiple configs.
+     * @param translationCache the cache of translations or null to disable caching
+     * @see TranslationCache
+     */
+    public void setTranslationCache(TranslationCache translationCache) {
+        this.translationCache = translationCache;
+    }
+
+    /**
+     * @return the cache of translations or null if caching is disabled
+     */
+    public TranslationCache getTranslationCache() {
+        return translationCache;
+    }
+
+    /**
+     * The flags of this config that change translations or the logged translation information.
+     * Translations are only cached for the same flags, see {@link TranslationCache.Key}.
+     * @return the flags as a string
+     */
+    public String getTranslationFlags() {
+        return "inlinePackages=" + inlinePackageMode +
+                ",lettersAsConstants=" + translateLettersAsConstantsIfPossible +
+                ",extensiveOutput=" + extensiveOutput;
+    }
+
+    /**
+     * Careful, lazy initialization. Every limited expression asks for the blueprint master,
+     * hence it is only synchronized until the master is loaded.
      * @return the blueprint master
      */
     public BlueprintMaster getLimitParser() throws InitTranslatorException {
-        if ( limitParser == null ) {
-            LOG.debug("Lazy init blueprint masters.");
-            SemanticLatexTranslator blueprintTranslator = new SemanticLatexTranslator(this);
-            limitParser = new BlueprintMaster(blueprintTranslator);
-            try {
-                limitParser.init();
-            } catch (IOException e) {
-                throw new InitTranslatorException(
-                        "Unable to load blueprint translator.",
-                        e
-                );
+        BlueprintMaster master = limitParser;
+        if ( master != null ) return master;
+
+        synchronized ( this ) {
+            if ( limitParser == null ) {
+                LOG.debug("Lazy init blueprint masters.");
+                SemanticLatexTranslator blueprintTranslator = new SemanticLatexTranslator(this);
+                master = new BlueprintMaster(blueprintTranslator);
+                try {
+                    master.init();
+                } catch (IOException e) {
+                    throw new InitTranslatorException(
+                            "Unable to load blueprint translator.",
+                            e
+                    );
+                }
+                limitParser = master;
             }
+            return limitParser;
         }
-        return limitParser;
     }
 
     public boolean shortenedOutput() {
@@ -112,6 +151,18 @@ public class ForwardTranslationProcessConfig extends TranslationProcessConfig {
         return MULTIPLY;
     }
 
+    /**
+     * @return the pattern of an expression that ends on the multiplication symbol {@link #getMULTIPLY()}.
+     * The first group is the expression without the multiplication symbol.
+     */
+    public Pattern getEndOnMultiplyPattern() {
+        return endOnMultiplyPattern;
+    }
+
+    private static Pattern compileEndOnMultiplyPattern(String multiply) {
+        return Pattern.compile("(.*)"+Pattern.quote(multiply)+"\\s*");
+    }
+
     public String getLineDelimiter() {
         return LINE_DELIMITER;
     }
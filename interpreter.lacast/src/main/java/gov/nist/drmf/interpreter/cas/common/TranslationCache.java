@@ -0,0 +1,352 @@
+package gov.nist.drmf.interpreter.cas.common;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gov.nist.drmf.interpreter.common.InformationLogger;
+import gov.nist.drmf.interpreter.common.TranslationInformation;
+import gov.nist.drmf.interpreter.common.latex.FreeVariables;
+import gov.nist.drmf.interpreter.common.latex.RelationalComponents;
+import gov.nist.drmf.interpreter.common.latex.Relations;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A size-bounded cache of translations. The cache is opt-in, i.e., a translator only uses the cache if it is
+ * set in the config via {@link ForwardTranslationProcessConfig#setTranslationCache(TranslationCache)}.
+ * The cache is keyed by the pre-processed LaTeX expression, the target language, and the translation flags
+ * (see {@link Key}). It stores and returns unmodifiable {@link TranslationInformation} objects (see
+ * {@link TranslationInformation#unmodifiableCopy()}). If the cache is full, the least recently used translation
+ * is removed. Expressions that cannot be translated are not cached. Cache hits do not update the problem tokens
+ * of the translator, since the expression is not translated again.
+ * <p>
+ * The cache can be persisted to the disk (see {@link #save(Path)} and {@link #load(Path, int)}), e.g., to reuse
+ * the translations of previous runs. Note that a persisted cache is outdated once the translation rules change.
+ * <p>
+ * The cache is thread-safe.
+ *
+ * @author Andre Greiner-Petter
+ */
+public class TranslationCache {
+    private static final Logger LOG = LogManager.getLogger(TranslationCache.class.getName());
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final int maxSize;
+
+    private final LinkedHashMap<Key, TranslationInformation> cache;
+
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+    private final AtomicLong evictions = new AtomicLong(0);
+
+    /**
+     * @param maxSize the maximum number of cached translations (must be positive)
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public TranslationCache(int maxSize) {
+        if ( maxSize < 1 ) throw new IllegalArgumentException("The size of a translation cache must be positive but was " + maxSize);
+        this.maxSize = maxSize;
+        // access order, i.e., the first entry is the least recently used entry
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, TranslationInformation> eldest) {
+                if ( size() <= TranslationCache.this.maxSize ) return false;
+                evictions.incrementAndGet();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * @param key the key of the translation
+     * @return the cached translation or null if the translation is not cached
+     */
+    public TranslationInformation get(Key key) {
+        TranslationInformation ti;
+        synchronized (cache) {
+            ti = cache.get(key);
+        }
+        if ( ti == null ) misses.incrementAndGet();
+        else hits.incrementAndGet();
+        return ti;
+    }
+
+    /**
+     * Caches the given translation.
+     * @param key the key of the translation
+     * @param translationInformation the translation
+     * @return the cached, i.e., unmodifiable version of the given translation
+     */
+    public TranslationInformation put(Key key, TranslationInformation translationInformation) {
+        TranslationInformation unmodifiable = translationInformation.unmodifiableCopy();
+        synchronized (cache) {
+            cache.put(key, unmodifiable);
+        }
+        return unmodifiable;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * @return the ratio of hits of all lookups or 0 if the cache was not used yet
+     */
+    public double getHitRate() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    /**
+     * Removes all translations and resets the statistics.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+        evictions.set(0);
+    }
+
+    /**
+     * Writes all cached translations to the given file (one JSON object per line). The least recently used
+     * translation is written first.
+     * @param path the file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path path) throws IOException {
+        List<Map.Entry<Key, TranslationInformation>> entries;
+        synchronized (cache) {
+            entries = new ArrayList<>(cache.entrySet());
+        }
+
+        try ( BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8) ) {
+            for ( Map.Entry<Key, TranslationInformation> entry : entries ) {
+                writer.write(MAPPER.writeValueAsString(new PersistedTranslation(entry.getKey(), entry.getValue())));
+                writer.newLine();
+            }
+        }
+        LOG.info("Saved " + entries.size() + " cached translations to " + path);
+    }
+
+    /**
+     * Loads a cache that was previously saved via {@link #save(Path)}. If the file does not exist, the new cache
+     * is empty. Corrupted lines are ignored.
+     * @param path the file
+     * @param maxSize the maximum number of cached translations (must be positive)
+     * @return the loaded cache
+     * @throws IOException if the file cannot be read
+     */
+    public static TranslationCache load(Path path, int maxSize) throws IOException {
+        TranslationCache translationCache = new TranslationCache(maxSize);
+        if ( !Files.exists(path) ) return translationCache;
+
+        for ( String line : Files.readAllLines(path, StandardCharsets.UTF_8) ) {
+            if ( line.isBlank() ) continue;
+            try {
+                PersistedTranslation persisted = MAPPER.readValue(line, PersistedTranslation.class);
+                translationCache.put(persisted.getKey(), persisted.toTranslationInformation());
+            } catch (JsonProcessingException | RuntimeException e) {
+                LOG.warn("Ignore corrupted cached translation: " + line);
+            }
+        }
+        LOG.info("Loaded " + translationCache.size() + " cached translations from " + path);
+        return translationCache;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "Translation cache [size: %d/%d, hits: %d, misses: %d, hit rate: %.2f, evictions: %d]",
+                size(), maxSize, getHits(), getMisses(), getHitRate(), getEvictions()
+        );
+    }
+
+    /**
+     * The key of a cached translation. Two translations are identical if they have the same pre-processed
+     * LaTeX input, the same target language, and the same translation flags (e.g., the inline package mode,
+     * the tolerant mode of the translator, or the keys of the translation features).
+     */
+    public static final class Key {
+        private final String latex;
+        private final String targetLanguage;
+        private final String flags;
+
+        public Key(String latex, String targetLanguage, String flags) {
+            this.latex = Objects.requireNonNull(latex);
+            this.targetLanguage = Objects.requireNonNull(targetLanguage);
+            this.flags = flags == null ? "" : flags;
+        }
+
+        public String getLatex() {
+            return latex;
+        }
+
+        public String getTargetLanguage() {
+            return targetLanguage;
+        }
+
+        public String getFlags() {
+            return flags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if ( this == o ) return true;
+            if ( !(o instanceof Key) ) return false;
+            Key key = (Key) o;
+            return latex.equals(key.latex) && targetLanguage.equals(key.targetLanguage) && flags.equals(key.flags);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(latex, targetLanguage, flags);
+        }
+
+        @Override
+        public String toString() {
+            return targetLanguage + "[" + flags + "]: " + latex;
+        }
+    }
+
+    /**
+     * The JSON representation of a cached translation.
+     */
+    private static class PersistedTranslation {
+        @JsonProperty("latex")
+        private String latex;
+
+        @JsonProperty("targetLanguage")
+        private String targetLanguage;
+
+        @JsonProperty("flags")
+        private String flags;
+
+        @JsonProperty("translation")
+        private PersistedInformation translation;
+
+        private PersistedTranslation() {}
+
+        PersistedTranslation(Key key, TranslationInformation ti) {
+            this.latex = key.getLatex();
+            this.targetLanguage = key.getTargetLanguage();
+            this.flags = key.getFlags();
+            this.translation = new PersistedInformation(ti);
+        }
+
+        Key getKey() {
+            return new Key(latex, targetLanguage, flags);
+        }
+
+        TranslationInformation toTranslationInformation() {
+            return translation.toTranslationInformation();
+        }
+    }
+
+    private static class PersistedInformation {
+        @JsonProperty("expression")
+        private String expression;
+
+        @JsonProperty("translatedExpression")
+        private String translatedExpression;
+
+        @JsonProperty("translatedConstraints")
+        private List<String> translatedConstraints;
+
+        @JsonProperty("generalInformation")
+        private Map<String, String> generalInformation;
+
+        @JsonProperty("macroInformation")
+        private Map<String, String> macroInformation;
+
+        @JsonProperty("requiredPackages")
+        private Set<String> requiredPackages;
+
+        @JsonProperty("freeVariables")
+        private Set<String> freeVariables;
+
+        @JsonProperty("components")
+        private List<String> components;
+
+        @JsonProperty("relations")
+        private List<Relations> relations;
+
+        @JsonProperty("partialTranslations")
+        private List<PersistedInformation> partialTranslations;
+
+        private PersistedInformation() {}
+
+        PersistedInformation(TranslationInformation ti) {
+            InformationLogger logger = ti.getTranslationInformation();
+            RelationalComponents relationalComponents = ti.getRelationalComponents();
+            this.expression = ti.getExpression();
+            this.translatedExpression = ti.getTranslatedExpression();
+            this.translatedConstraints = new ArrayList<>(ti.getTranslatedConstraints());
+            this.generalInformation = new TreeMap<>(logger.getGeneralTranslationInformation());
+            this.macroInformation = new TreeMap<>(logger.getMacroTranslationInformation());
+            this.requiredPackages = new TreeSet<>(ti.getRequiredPackages());
+            this.freeVariables = ti.getFreeVariables().getFreeVariables();
+            this.components = new ArrayList<>(relationalComponents.getComponents());
+            this.relations = new ArrayList<>(relationalComponents.getRelations());
+            this.partialTranslations = new ArrayList<>();
+            for ( TranslationInformation partial : ti.getPartialTranslations() ) {
+                this.partialTranslations.add(new PersistedInformation(partial));
+            }
+        }
+
+        TranslationInformation toTranslationInformation() {
+            TranslationInformation ti = new TranslationInformation(expression, translatedExpression);
+
+            InformationLogger logger = new InformationLogger();
+            generalInformation.forEach(logger::addGeneralInfo);
+            macroInformation.forEach(logger::addMacroInfo);
+            ti.setInformation(logger);
+
+            ti.addTranslatedConstraints(translatedConstraints);
+            ti.setRequiredPackages(requiredPackages);
+
+            FreeVariables vars = new FreeVariables();
+            vars.addFreeVariables(new ArrayList<>(freeVariables));
+            ti.setFreeVariables(vars);
+
+            RelationalComponents relationalComponents = new RelationalComponents();
+            components.forEach(relationalComponents::addComponent);
+            relations.forEach(relationalComponents::addRelation);
+            ti.setRelationalComponents(relationalComponents);
+
+            for ( PersistedInformation partial : partialTranslations ) {
+                ti.addTranslations(partial.toTranslationInformation());
+            }
+            return ti;
+        }
+    }
+}
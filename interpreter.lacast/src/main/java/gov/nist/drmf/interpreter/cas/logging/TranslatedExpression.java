@@ -10,17 +10,32 @@ import gov.nist.drmf.interpreter.pom.common.grammar.Brackets;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
+ * The translated fragments of an expression. The fragments are stored in an indexable list and the
+ * positions of relation symbols and relational components are tracked incrementally, so that appending,
+ * removing, and accessing the last fragments, relations and components is cheap.
+ *
  * @author Andre Greiner-Petter
  */
 public class TranslatedExpression {
-    private LinkedList<String> trans_exps;
+    private static final Pattern END_OF_ARGUMENT_PATTERN = Pattern.compile("^.*[=<>.,;\n\t]\\s*$");
+
+    private final ArrayList<String> trans_exps;
 
     private final Set<String> requiredPackages;
 
-    private LinkedList<Integer> relationSymbolPositions;
+    /**
+     * The positions of relation symbols. It may contain the same position multiple times.
+     */
+    private final ArrayList<Integer> relationSymbolPositions;
+
+    /**
+     * The maximum of {@link #relationSymbolPositions}, only valid if {@link #lastRelationSymbolPositionValid}
+     */
+    private int lastRelationSymbolPosition = -1;
+
+    private boolean lastRelationSymbolPositionValid = true;
 
     private List<String> constraints;
 
@@ -30,33 +45,40 @@ public class TranslatedExpression {
 
     private final FreeVariables freeVariables;
 
-    private final Map<Integer, RelationalComponents> componentsPositions;
+    private final TreeMap<Integer, RelationalComponents> componentsPositions;
+
+    /**
+     * The relational components with the highest position (null if unknown)
+     */
+    private RelationalComponents lastRelationalComponents;
 
 //    private final RelationalComponents relationalComponents;
 
     private boolean lockRelationalComponents = false;
 
     public TranslatedExpression(){
-        this.trans_exps = new LinkedList<>();
+        this.trans_exps = new ArrayList<>();
         this.autoMergeLast = 0;
         this.requiredPackages = new TreeSet<>();
         this.negativeReplacements = 0;
         this.constraints = new LinkedList<>();
-        this.relationSymbolPositions = new LinkedList<>();
+        this.relationSymbolPositions = new ArrayList<>();
         this.freeVariables = new FreeVariables();
 //        this.relationalComponents = new RelationalComponents();
-        this.componentsPositions = new HashMap<>();
+        this.componentsPositions = new TreeMap<>();
     }
 
     public TranslatedExpression(TranslatedExpression copy) {
-        this.trans_exps = new LinkedList<>(copy.trans_exps);
+        this.trans_exps = new ArrayList<>(copy.trans_exps);
         this.autoMergeLast = copy.autoMergeLast;
         this.requiredPackages = new TreeSet<>(copy.requiredPackages);
         this.negativeReplacements = copy.negativeReplacements;
         this.constraints = new LinkedList<>(copy.constraints);
-        this.relationSymbolPositions = new LinkedList<>(copy.relationSymbolPositions);
+        this.relationSymbolPositions = new ArrayList<>(copy.relationSymbolPositions);
+        this.lastRelationSymbolPosition = copy.lastRelationSymbolPosition;
+        this.lastRelationSymbolPositionValid = copy.lastRelationSymbolPositionValid;
         this.freeVariables = new FreeVariables(copy.freeVariables);
-        this.componentsPositions = new HashMap<>();
+        this.componentsPositions = new TreeMap<>();
         copy.componentsPositions.forEach((key, value) -> componentsPositions.put(key, new RelationalComponents(value)));
     }
 
@@ -66,6 +88,7 @@ public class TranslatedExpression {
 
     public void clearRelationalComponents() {
         componentsPositions.clear();
+        lastRelationalComponents = null;
     }
 
 //    public void addRelationalComponents(RelationalComponents relationalComponents) {
@@ -79,10 +102,8 @@ public class TranslatedExpression {
 
     public RelationalComponents getAllRelationalComponents() {
         RelationalComponents total = new RelationalComponents();
-        List<Integer> poss = new LinkedList<>(this.componentsPositions.keySet());
-        Collections.sort(poss);
-        for (Integer integer : poss) {
-            RelationalComponents r = componentsPositions.get(integer);
+        // the tree map is already sorted by the positions
+        for (RelationalComponents r : componentsPositions.values()) {
             total.addRelationalComponents(r);
         }
         return total;
@@ -109,20 +130,46 @@ public class TranslatedExpression {
     }
 
     public RelationalComponents getLastRelationalComponent() {
-        RelationalComponents rel = this.componentsPositions.entrySet().stream()
-                .max(Comparator.comparingInt(Map.Entry::getKey))
-                .map(Map.Entry::getValue)
-                .orElse(null);
-        if ( rel == null ) {
-            rel = new RelationalComponents();
-            this.componentsPositions.put(Math.max(0, trans_exps.size()-1), rel);
+        if ( lastRelationalComponents != null ) return lastRelationalComponents;
+
+        if ( this.componentsPositions.isEmpty() ) {
+            putComponents(Math.max(0, trans_exps.size()-1), new RelationalComponents());
         }
-        return rel;
+        lastRelationalComponents = this.componentsPositions.get(this.componentsPositions.lastKey());
+        return lastRelationalComponents;
+    }
+
+    private void putComponents(int position, RelationalComponents components) {
+        this.componentsPositions.put(position, components);
+        this.lastRelationalComponents = null;
     }
 
     private int getLastRelationSymbolPosition() {
-        if ( relationSymbolPositions.isEmpty() ) return -1;
-        return Collections.max(relationSymbolPositions);
+        if ( !lastRelationSymbolPositionValid ) {
+            lastRelationSymbolPosition = -1;
+            for ( int pos : relationSymbolPositions ) lastRelationSymbolPosition = Math.max(lastRelationSymbolPosition, pos);
+            lastRelationSymbolPositionValid = true;
+        }
+        return lastRelationSymbolPosition;
+    }
+
+    private void addRelationSymbolPosition(int position) {
+        relationSymbolPositions.add(position);
+        if ( lastRelationSymbolPositionValid ) lastRelationSymbolPosition = Math.max(lastRelationSymbolPosition, position);
+    }
+
+    private void removeRelationSymbolPosition(int position) {
+        int idx = relationSymbolPositions.lastIndexOf(position);
+        if ( idx < 0 ) return;
+        relationSymbolPositions.remove(idx);
+        // only if we removed the maximum, we have to search for the new maximum
+        if ( position == lastRelationSymbolPosition ) lastRelationSymbolPositionValid = false;
+    }
+
+    private void clearRelationSymbolPositions() {
+        relationSymbolPositions.clear();
+        lastRelationSymbolPosition = -1;
+        lastRelationSymbolPositionValid = true;
     }
 
     public boolean endedOnRelationSymbol() {
@@ -134,7 +181,7 @@ public class TranslatedExpression {
     }
 
     public void tagLastElementAsRelation(){
-        this.relationSymbolPositions.add( Math.max(0, trans_exps.size()-1) );
+        addRelationSymbolPosition( Math.max(0, trans_exps.size()-1) );
     }
 
     public TranslatedExpression getElementsAfterRelation() {
@@ -148,8 +195,8 @@ public class TranslatedExpression {
         if ( last < trans_exps.size() )
             te.trans_exps.addAll(this.trans_exps.subList(last+1, trans_exps.size()));
 
-        this.componentsPositions.entrySet().stream().filter( e -> e.getKey() >= last )
-                .forEach( e -> te.componentsPositions.put( e.getKey()-last, e.getValue() ));
+        this.componentsPositions.tailMap(last, true)
+                .forEach( (key, value) -> te.putComponents( key-last, value ));
         return te;
     }
 
@@ -178,12 +225,17 @@ public class TranslatedExpression {
     }
 
     private String autoMergeLast(){
-        String last_elems = "";
+        if ( autoMergeLast <= 0 || trans_exps.isEmpty() ) return "";
+        StringBuilder last_elems = new StringBuilder();
         for ( ; autoMergeLast > 0; autoMergeLast-- ){
             if ( trans_exps.isEmpty() ) break;
-            last_elems += trans_exps.removeLast();
+            last_elems.append(removeLast(trans_exps));
         }
-        return last_elems;
+        return last_elems.toString();
+    }
+
+    private static String removeLast(List<String> list) {
+        return list.remove(list.size()-1);
     }
 
     public void addTranslatedExpression( String trans_exp ){
@@ -192,17 +244,16 @@ public class TranslatedExpression {
 
     public void addTranslatedExpression( TranslatedExpression expressions ){
         if ( expressions.negativeReplacements > 0 && trans_exps.size() >= expressions.negativeReplacements ) {
-            List<String> tmp = trans_exps.subList(0, trans_exps.size() - expressions.negativeReplacements);
-            this.trans_exps = new LinkedList<>(tmp);
+            trans_exps.subList(trans_exps.size() - expressions.negativeReplacements, trans_exps.size()).clear();
         }
 
-        expressions.relationSymbolPositions.forEach( i -> this.relationSymbolPositions.add( i+trans_exps.size() ));
+        for ( int i : expressions.relationSymbolPositions ) addRelationSymbolPosition( i+trans_exps.size() );
 
         this.requiredPackages.addAll(expressions.getRequiredPackages());
         ListExtender.addIfNotExist(constraints, expressions.constraints);
         this.freeVariables.addFreeVariables(expressions.getFreeVariables());
         for ( Map.Entry<Integer, RelationalComponents> entry : expressions.componentsPositions.entrySet() ) {
-            this.componentsPositions.put( entry.getKey()+trans_exps.size(), new RelationalComponents(entry.getValue()) );
+            putComponents( entry.getKey()+trans_exps.size(), new RelationalComponents(entry.getValue()) );
         }
 
         this.autoMergeLast += expressions.autoMergeLast;
@@ -213,7 +264,7 @@ public class TranslatedExpression {
         }
 
         if ( !expressions.trans_exps.isEmpty() ) {
-            next += expressions.trans_exps.removeFirst();
+            next += expressions.trans_exps.remove(0);
         }
 
         this.trans_exps.add( next );
@@ -226,31 +277,35 @@ public class TranslatedExpression {
 
     public int clear(){
         int s = trans_exps.size();
-        trans_exps = new LinkedList<>();
+        trans_exps.clear();
         requiredPackages.clear();
-        relationSymbolPositions.clear();
+        clearRelationSymbolPositions();
 //        relationalComponents.clear();
-        componentsPositions.clear();
+        clearRelationalComponents();
         freeVariables.clear();
         return s;
     }
 
     public TranslatedExpression removeLastNExps(int n){
         TranslatedExpression sub = new TranslatedExpression();
-        LinkedList<String> tmp = new LinkedList<>();
         int limit = trans_exps.size() - n;
 
-        List<Integer> tmpPos = this.relationSymbolPositions.stream().filter( i -> i > limit ).collect(Collectors.toList());
-        tmpPos.forEach( i -> sub.relationSymbolPositions.add( i - limit ) );
+        for ( int i : this.relationSymbolPositions ) {
+            if ( i > limit ) sub.addRelationSymbolPosition( i - limit );
+        }
 
-        for( int i = 0; i < n && !trans_exps.isEmpty(); i++ ){
-            tmp.add(removeLastExpression());
+        int removed = Math.max(0, Math.min(n, trans_exps.size()));
+        String[] tmp = new String[removed];
+        for( int i = removed-1; i >= 0; i-- ){
+            tmp[i] = removeLastExpression();
         }
-        while ( !tmp.isEmpty() )
-            sub.addTranslatedExpression( tmp.removeLast() );
+        for ( String exp : tmp )
+            sub.addTranslatedExpression( exp );
 
-        List<Integer> pos = this.componentsPositions.keySet().stream().filter(relationalComponents -> relationalComponents >= limit).collect(Collectors.toList());
-        pos.forEach( p -> sub.componentsPositions.put(p-limit, this.componentsPositions.remove(p)));
+        SortedMap<Integer, RelationalComponents> pos = this.componentsPositions.tailMap(limit);
+        pos.forEach( (p, components) -> sub.putComponents(p-limit, components) );
+        pos.clear();
+        lastRelationalComponents = null;
         return sub;
     }
 
@@ -260,11 +315,11 @@ public class TranslatedExpression {
             return;
         }
         TranslatedExpression tmp = new TranslatedExpression();
-        LinkedList<String> tmpList = new LinkedList<>();
-        for ( int i = 0; i < n; i++ )
-            tmpList.add( this.removeLastExpression() );
-        while ( !tmpList.isEmpty() ){
-            tmp.addTranslatedExpression( tmpList.removeLast() );
+        String[] tmpList = new String[Math.max(0, n)];
+        for ( int i = tmpList.length-1; i >= 0; i-- )
+            tmpList[i] = this.removeLastExpression();
+        for ( String exp : tmpList ){
+            tmp.addTranslatedExpression( exp );
         }
         addTranslatedExpression( tmp.toString() );
     }
@@ -279,12 +334,13 @@ public class TranslatedExpression {
     }
 
     public int mergeAllWithParenthesis(){
-        String tmp = Brackets.left_parenthesis.symbol;
+        StringBuilder tmp = new StringBuilder(Brackets.left_parenthesis.symbol);
         int i = trans_exps.size();
-        while ( !trans_exps.isEmpty() ){
-            tmp += trans_exps.removeFirst();
+        for ( String exp : trans_exps ){
+            tmp.append(exp);
         }
-        trans_exps.add( tmp + Brackets.left_parenthesis.counterpart );
+        trans_exps.clear();
+        trans_exps.add( tmp.append(Brackets.left_parenthesis.counterpart).toString() );
         autoMergeLast = 0;
         return i;
     }
@@ -292,21 +348,21 @@ public class TranslatedExpression {
     public String removeLastExpression(){
         if ( !trans_exps.isEmpty() ) {
             int currPos = trans_exps.size();
-            relationSymbolPositions.removeLastOccurrence(currPos-1);
-            return trans_exps.removeLast();
+            removeRelationSymbolPosition(currPos-1);
+            return removeLast(trans_exps);
         }
         else return null;
     }
 
     public String getLastExpression(){
         if ( trans_exps.isEmpty() ) return null;
-        else return trans_exps.getLast();
+        else return trans_exps.get(trans_exps.size()-1);
     }
 
     public void replaceLastExpression( String new_exp ){
         if ( !trans_exps.isEmpty() )
-            trans_exps.removeLast();
-        trans_exps.add(new_exp);
+            trans_exps.set(trans_exps.size()-1, new_exp);
+        else trans_exps.add(new_exp);
     }
 
     /**
@@ -322,7 +378,7 @@ public class TranslatedExpression {
         if ( trans_exps.isEmpty() ) return cache;
 
         // first element is ALWAYS part of the argument
-        cache.trans_exps.addFirst(trans_exps.removeFirst());
+        cache.trans_exps.add(trans_exps.get(0));
 
         if ( multiplyChar.matches("\\*") ) {
             multiplyChar = "\\*";
@@ -332,16 +388,13 @@ public class TranslatedExpression {
         // does the previous element ends with a multiplication symbol?
         TranslatedExpressionHelper helper = new TranslatedExpressionHelper(multiplyChar, cache.trans_exps);
 
-        while ( !trans_exps.isEmpty() ){
-            helper.handleElement(trans_exps.removeFirst(), var);
+        for ( int i = 1; i < trans_exps.size(); i++ ){
+            helper.handleElement(trans_exps.get(i), var);
         }
+        trans_exps.clear();
 
-        LinkedList<String> innerCache = helper.getInnerCache();
         // otherwise, roll back inner cache expressions
-        while ( !innerCache.isEmpty() ) {
-            // be careful, reverse order here
-            this.trans_exps.addFirst(innerCache.removeLast());
-        }
+        this.trans_exps.addAll(helper.getInnerCache());
 
         cache.addRequiredPackages(requiredPackages);
         return cache;
@@ -356,19 +409,18 @@ public class TranslatedExpression {
         for ( int i = trans_exps.size()-1; i >= 0; i-- ) {
             String element = trans_exps.get(i);
 
-            if ( element.matches("^.*[=<>.,;\n\t]\\s*$") ) break;
+            if ( END_OF_ARGUMENT_PATTERN.matcher(element).matches() ) break;
             if ( TranslatedExpressionHelper.hit(element, var) ) latestHitIdx = i;
         }
 
         if ( latestHitIdx == trans_exps.size() ) return te;
 
-        String lastElement = trans_exps.getLast();
+        String lastElement = getLastExpression();
         Pattern multiplyPattern = Pattern.compile("^(.*)\\Q"+ multiply +"\\E\\s*$");
         Matcher m = multiplyPattern.matcher(lastElement);
         if ( m.matches() ) {
             lastElement = m.group(1);
-            trans_exps.removeLast();
-            trans_exps.addLast(lastElement);
+            replaceLastExpression(lastElement);
         }
 
         List<String> elementsPointer = trans_exps.subList(latestHitIdx, trans_exps.size());
@@ -388,24 +440,22 @@ public class TranslatedExpression {
     }
 
     public String[] splitOn(String splitter) {
-        LinkedList<List<String>> parts = new LinkedList<>();
-        parts.add(new LinkedList<>());
+        Pattern splitterPattern = Pattern.compile("\\s*"+splitter+"\\s*");
+        List<String> parts = new ArrayList<>();
+        StringBuilder part = new StringBuilder();
 
         for ( String p : trans_exps ) {
-            if ( p != null && !p.isBlank() && p.matches("\\s*"+splitter+"\\s*") ) {
-                parts.addLast(new LinkedList<>());
+            if ( p != null && !p.isBlank() && splitterPattern.matcher(p).matches() ) {
+                parts.add(part.toString());
+                part.setLength(0);
                 continue;
             }
 
-            parts.getLast().add(p);
-        }
-
-        String[] res = new String[parts.size()];
-        for ( int i = 0; i < parts.size(); i++ ) {
-            res[i] = String.join("", parts.get(i));
+            part.append(p);
         }
+        parts.add(part.toString());
 
-        return res;
+        return parts.toArray(new String[0]);
     }
 
     public void addRequiredPackages(Collection<String> requiredPackages) {
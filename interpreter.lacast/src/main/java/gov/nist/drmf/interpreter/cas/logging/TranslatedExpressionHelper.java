@@ -12,19 +12,19 @@ public class TranslatedExpressionHelper {
 
     private final ElementCache elementCache;
     private final String multiplyChar;
-    private LinkedList<String> cache;
+    private List<String> cache;
     private LinkedList<String> innerCache;
 
     public TranslatedExpressionHelper(
             String multiplyChar,
-            LinkedList<String> cache
+            List<String> cache
     ){
         this.multiplyChar = multiplyChar;
         this.cache = cache;
         this.innerCache = new LinkedList<>();
 
         boolean prevElementEndsWithMultiply =
-                TranslatedExpressionHelper.endsWithMultiply(cache.getLast(), multiplyChar);
+                TranslatedExpressionHelper.endsWithMultiply(cache.get(cache.size()-1), multiplyChar);
         this.elementCache = new ElementCache(prevElementEndsWithMultiply, false);;
     }
 
@@ -47,9 +47,9 @@ public class TranslatedExpressionHelper {
     ) {
         // contains element! so add it, but first, add remaining inner cache, if existing
         while ( !innerCache.isEmpty() ) {
-            cache.addLast(innerCache.removeFirst());
+            cache.add(innerCache.removeFirst());
         } // now, inner cache is clean. add new element
-        cache.addLast(element);
+        cache.add(element);
         elementCache.setPrevElementInnerCache(false);
         elementCache.setPrevElementEndsWithMultiply(endsWithMultiply(element, multiplyChar));
     }
@@ -68,7 +68,7 @@ public class TranslatedExpressionHelper {
             // multiply symbols may appear isolated in single elements. If so treat them as a multiply
             if ( elementCache.isPrevElementInnerCache() )
                 innerCache.addLast(element);
-            else cache.addLast(element);
+            else cache.add(element);
             // note, prevElementInnerCache does not change here... of course
             elementCache.setPrevElementEndsWithMultiply(true);
         } else {
@@ -84,7 +84,7 @@ public class TranslatedExpressionHelper {
             // the previous element went to innerCache, so fill up the innerCache
             innerCache.addLast(element);
         } else { // otherwise the previous element went to the cache directly, so put it there
-            cache.addLast(element);
+            cache.add(element);
         }
         // note, here also, prev element does not change
         elementCache.setPrevElementEndsWithMultiply(endsWithMultiply(element, multiplyChar));
@@ -118,4 +118,20 @@ public class TranslatedExpressionHelper {
         ti.setRelationalComponents( te.getAllRelationalComponents() );
         ti.addTranslatedConstraints( te.getConstraints() );
     }
+
+    /**
+     * The reverse of {@link #addTranslatedExpressionInformation(TranslatedExpression, TranslationInformation)},
+     * e.g., to restore the partial translations of a cached translation.
+     * @param ti the translation information
+     * @return a new translated expression with the translation, required packages, free variables
+     *         and constraints of the given information
+     */
+    public static TranslatedExpression toTranslatedExpression(TranslationInformation ti) {
+        TranslatedExpression te = new TranslatedExpression();
+        te.addTranslatedExpression( ti.getTranslatedExpression() );
+        te.addRequiredPackages( ti.getRequiredPackages() );
+        te.getFreeVariables().addFreeVariables( ti.getFreeVariables() );
+        ti.getTranslatedConstraints().forEach( te::addConstraint );
+        return te;
+    }
 }
@@ -68,7 +68,7 @@ public abstract class AbstractListTranslator extends AbstractTranslator {
     );
 
     public Pattern getEndOnMultiplyPattern() {
-        return Pattern.compile("(.*)"+Pattern.quote(getConfig().getMULTIPLY())+"\\s*");
+        return getConfig().getEndOnMultiplyPattern();
     }
 
     public static boolean addMultiplySpecTreatment(
@@ -221,7 +221,7 @@ public abstract class AbstractListTranslator extends AbstractTranslator {
      * @return
      */
     public static String stripMultiParentheses(String expr) {
-        if ( expr == null || !expr.matches("\\(.*\\)") )
+        if ( !isWrappedInParentheses(expr) )
             return expr;
 
         int open = 1;
@@ -233,6 +233,22 @@ public abstract class AbstractListTranslator extends AbstractTranslator {
         return expr.substring(1, expr.length()-1);
     }
 
+    /**
+     * Same as {@code expr.matches("\\(.*\\)")} but without a regex, since it is called for every argument
+     * of every macro.
+     */
+    private static boolean isWrappedInParentheses(String expr) {
+        if ( expr == null || expr.length() < 2 || expr.charAt(0) != '(' || expr.charAt(expr.length()-1) != ')' )
+            return false;
+
+        for ( int i = 1; i < expr.length()-1; i++ ) {
+            char c = expr.charAt(i);
+            // the dot in a regex does not match line terminators
+            if ( c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029' ) return false;
+        }
+        return true;
+    }
+
     private static int update(String expr, int idx, int open) {
         Character c = expr.charAt(idx);
         if ( c.equals(')') ) open--;
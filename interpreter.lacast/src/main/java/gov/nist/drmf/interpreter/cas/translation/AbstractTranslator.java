@@ -18,12 +18,18 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.*;
 
 /**
  * The abstract translator delegates the translation process to the specialized sub-translator
  * classes. All sub-translators must extend the {@link AbstractTranslator} or it's subclass
  * {@link AbstractListTranslator}.
+ * <p>
+ * The state of a translation process is stored in a {@link TranslationContext} that is shared among
+ * all translators of this process. A root translator (i.e., without a super translator) holds the
+ * context of the current translation for every thread separately. Hence, a single root translator can be used
+ * by multiple threads at the same time.
  *
  * @author Andre Greiner-Petter
  */
@@ -33,10 +39,15 @@ public abstract class AbstractTranslator implements IForwardTranslator {
      */
     private static final Logger LOG = LogManager.getLogger(AbstractTranslator.class.getName());
 
+    /**
+     * Caches if a tag is an open parenthesis tag, since this is checked for almost every term
+     */
+    private static final Map<String, Boolean> OPEN_PARENTHESIS_TAGS = new ConcurrentHashMap<>();
+
     /**
      * Store problematic tokens for error analysis
      */
-    private final Map<String, Map<Integer, Set<String>>> problemTokens = new HashMap<>();
+    private final Map<String, Map<Integer, Set<String>>> problemTokens = new ConcurrentHashMap<>();
 
     /**
      * The translator may work on a specific file -> this is the fileID.
@@ -45,32 +56,19 @@ public abstract class AbstractTranslator implements IForwardTranslator {
     private String fileID = "undefined";
 
     /**
-     * The global information logger
-     */
-    private InformationLogger infoLogger;
-
-    /**
-     * The global translated expression list
-     */
-    private TranslatedExpression globalExp;
-
-    /**
-     * In case of equation arrays or multi-case expressions, we most likely end up
-     * with additional global expressions.
+     * The context of the translation process of a sub-translator (null for root translators)
      */
-    private List<TranslatedExpression> partialTranslations;
+    private final TranslationContext context;
 
     /**
-     * The translation information object. This is unique for one translation
-     * process.
+     * The context of the current translation process of each thread (null for sub-translators)
      */
-    private TranslationInformation translationInformation;
+    private final ThreadLocal<TranslationContext> threadContexts;
 
     /**
-     * Flags of each translator
+     * Flags of each translator. The set mode of a root translator is part of the context.
      */
     private boolean SET_MODE    = false;
-    private boolean mlpError    = false;
 
     /**
      * Tolerant mode means, an error gets ignored
@@ -96,10 +94,8 @@ public abstract class AbstractTranslator implements IForwardTranslator {
     AbstractTranslator(ForwardTranslationProcessConfig config) {
         this.superTranslator = null;
         this.config = config;
-        this.globalExp = new TranslatedExpression();
-        this.infoLogger = new InformationLogger();
-        this.partialTranslations = new LinkedList<>();
-        this.translationInformation = new TranslationInformation();
+        this.context = null;
+        this.threadContexts = ThreadLocal.withInitial(TranslationContext::new);
     }
 
     /**
@@ -116,30 +112,11 @@ public abstract class AbstractTranslator implements IForwardTranslator {
 
         // the following objects are shared among all translators
         this.config = superTranslator.config;
+        this.context = superTranslator.getContext();
+        this.threadContexts = null;
 
-        if ( superTranslator.globalExp == null ) {
-            superTranslator.globalExp = new TranslatedExpression();
-        }
-        this.globalExp = superTranslator.globalExp;
-
-        if ( superTranslator.infoLogger == null ) {
-            superTranslator.infoLogger = new InformationLogger();
-        }
-        this.infoLogger = superTranslator.infoLogger;
-
-        if ( superTranslator.partialTranslations == null ) {
-            superTranslator.partialTranslations = new LinkedList<>();
-        }
-        this.partialTranslations = superTranslator.partialTranslations;
-
-        if ( superTranslator.translationInformation == null ) {
-            superTranslator.translationInformation = new TranslationInformation();
-        }
-        this.translationInformation = superTranslator.translationInformation;
-
-        this.SET_MODE = superTranslator.SET_MODE;
+        this.SET_MODE = superTranslator.isSetMode();
         this.tolerant = superTranslator.tolerant;
-        this.mlpError = superTranslator.mlpError;
     }
 
     @Override
@@ -148,6 +125,10 @@ public abstract class AbstractTranslator implements IForwardTranslator {
     /**
      * The main function of the abstract translator. This function
      * delegates a translation process to the specialized sub-translators.
+     * <p>
+     * Every element gets a new sub-translator. The sub-translators keep the state of their element
+     * (e.g., its translated expression, the current macro, or the bracket of a sequence) and serve as
+     * super translators for the elements they contain. Hence, they cannot be shared among elements.
      *
      * @param exp the current element
      * @param expList siblings of the current element (might be null)
@@ -171,7 +152,7 @@ public abstract class AbstractTranslator implements IForwardTranslator {
         if (exp.isEmpty()) {
             transExpression = new TranslatedExpression();
             transExpression.addTranslatedExpression("");
-            globalExp.addTranslatedExpression("");
+            getGlobalTranslationList().addTranslatedExpression("");
             return transExpression;
         }
 
@@ -188,7 +169,7 @@ public abstract class AbstractTranslator implements IForwardTranslator {
             transExpression = parseGeneralTerm(term, exp, expList);
         }
 
-        LOG.trace("Global translation list: " + globalExp.debugString());
+        LOG.trace("Global translation list: " + getGlobalTranslationList().debugString());
         return transExpression; //inner_parser.getTranslatedExpressionObject();
     }
 
@@ -262,7 +243,7 @@ public abstract class AbstractTranslator implements IForwardTranslator {
 
     protected static boolean isSubSequence(MathTerm term) {
         String tag = term.getTag();
-        if (tag != null && tag.matches(MathTermTags.OPEN_PARENTHESIS_PATTERN)) {
+        if (tag != null && OPEN_PARENTHESIS_TAGS.computeIfAbsent(tag, t -> t.matches(MathTermTags.OPEN_PARENTHESIS_PATTERN))) {
             return true;
         } else if (tag != null && tag.matches(MathTermTags.CLOSE_PARENTHESIS_PATTERN)) {
             LOG.error("Reached a closed bracket " + term.getTermText() +
@@ -279,12 +260,32 @@ public abstract class AbstractTranslator implements IForwardTranslator {
         return this.config;
     }
 
+    /**
+     * Gets the context of the current translation process. For root translators,
+     * this is the context of the current translation of the calling thread.
+     * @return the context of the current translation process
+     */
+    TranslationContext getContext() {
+        if ( context != null ) return context;
+        else return threadContexts.get();
+    }
+
+    /**
+     * Replaces the context of the current translation process of the calling thread.
+     * Only root translators can replace their context.
+     * @param context the new context
+     */
+    void setContext(TranslationContext context) {
+        if ( threadContexts == null ) throw new IllegalStateException("Only root translators can replace their context.");
+        threadContexts.set(context);
+    }
+
     /**
      * Gets the information logger for the forward translation
      * @return information logger
      */
     protected InformationLogger getInfoLogger() {
-        return this.infoLogger;
+        return getContext().getInfoLogger();
     }
 
     /**
@@ -292,8 +293,7 @@ public abstract class AbstractTranslator implements IForwardTranslator {
      * @return global translated expression
      */
     protected TranslatedExpression getGlobalTranslationList() {
-        if ( superTranslator == null ) return globalExp;
-        else return this.superTranslator.getGlobalTranslationList();
+        return getContext().getGlobalTranslationList();
     }
 
     /**
@@ -301,8 +301,7 @@ public abstract class AbstractTranslator implements IForwardTranslator {
      * @param translatedExpression will be copied so its save to use references
      */
     protected void addPartialTranslation(TranslatedExpression translatedExpression) {
-        if ( superTranslator == null ) this.partialTranslations.add(new TranslatedExpression(translatedExpression));
-        else superTranslator.addPartialTranslation(translatedExpression);
+        getContext().getPartialTranslations().add(new TranslatedExpression(translatedExpression));
     }
 
     /**
@@ -310,8 +309,7 @@ public abstract class AbstractTranslator implements IForwardTranslator {
      * @return the list of additional translations
      */
     protected List<TranslatedExpression> getListOfPartialTranslations() {
-        if ( superTranslator == null ) return this.partialTranslations;
-        else return this.superTranslator.getListOfPartialTranslations();
+        return getContext().getPartialTranslations();
     }
 
     /**
@@ -319,8 +317,7 @@ public abstract class AbstractTranslator implements IForwardTranslator {
      * @return the unique translation information for a single translation process
      */
     protected TranslationInformation getTranslationInformation() {
-        if ( superTranslator == null ) return this.translationInformation;
-        else return this.superTranslator.getTranslationInformation();
+        return getContext().getTranslationInformation();
     }
 
     /**
@@ -333,36 +330,48 @@ public abstract class AbstractTranslator implements IForwardTranslator {
 
     public void activateSetMode() {
         LOG.trace("Set-Mode for sequences activated!");
-        SET_MODE = true;
-        if ( this.superTranslator != null ) this.superTranslator.activateSetMode();
+        setSetMode(true);
     }
 
     public void deactivateSetMode() {
         LOG.trace("Set-Mode for sequences deactivated!");
-        SET_MODE = false;
-        if ( this.superTranslator != null ) this.superTranslator.deactivateSetMode();
+        setSetMode(false);
+    }
+
+    private void setSetMode(boolean setMode) {
+        if ( this.superTranslator == null ) {
+            getContext().setSetMode(setMode);
+        } else {
+            SET_MODE = setMode;
+            this.superTranslator.setSetMode(setMode);
+        }
     }
 
     protected boolean isSetMode() {
+        if ( this.superTranslator == null ) return getContext().isSetMode();
         return SET_MODE;
     }
 
     public boolean isMlpError() {
-        return mlpError;
+        return getContext().isMlpError();
     }
 
     public void setTolerant(boolean tolerant) {
         this.tolerant = tolerant;
     }
 
+    public boolean isTolerant() {
+        return tolerant;
+    }
+
+    /**
+     * Starts a new translation process, i.e., the root translator creates a new context
+     * for the calling thread. The context of previous translations is not changed.
+     */
     public void reset() {
-        globalExp = new TranslatedExpression();
-        partialTranslations = new LinkedList<>();
-        translationInformation = new TranslationInformation();
-        mlpError = false;
         SET_MODE = false;
-        infoLogger.clear();
         if ( this.superTranslator != null ) this.superTranslator.reset();
+        else threadContexts.set(new TranslationContext());
     }
 
     public void setFileID(String fileID) {
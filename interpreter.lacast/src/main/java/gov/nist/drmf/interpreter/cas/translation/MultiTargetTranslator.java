@@ -0,0 +1,141 @@
+package gov.nist.drmf.interpreter.cas.translation;
+
+import gov.nist.drmf.interpreter.cas.common.TranslationCache;
+import gov.nist.drmf.interpreter.common.TranslationInformation;
+import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
+import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
+import gov.nist.drmf.interpreter.common.interfaces.TranslationFeature;
+import gov.nist.drmf.interpreter.common.latex.TeXPreProcessor;
+import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+
+/**
+ * Translates a semantic LaTeX expression to multiple CAS at once. The expression is pre-processed,
+ * parsed and annotated by the given translation features only once. Afterward, every target translates
+ * its own copy of the parsed expression (a translation may change the given tree). Hence, the result
+ * of each target is identical to a standalone translation via
+ * {@link SemanticLatexTranslator#translateToObject(String, String, TranslationFeature)}, including
+ * the translation caches of the targets.
+ * <p>
+ * The blueprint matches of limits are shared among the targets (see
+ * {@link gov.nist.drmf.interpreter.cas.blueprints.BlueprintMaster}), only the matched limits are translated
+ * by every target. The remaining analysis of the tree, e.g., of the free variables, depends on the
+ * translation and is done by every target.
+ * <p>
+ * The translator is thread-safe, as long as the underlying {@link SemanticLatexTranslator}s are.
+ *
+ * @author Andre Greiner-Petter
+ */
+public class MultiTargetTranslator {
+    private static final Logger LOG = LogManager.getLogger(MultiTargetTranslator.class.getName());
+
+    private final Map<String, SemanticLatexTranslator> translators;
+
+    /**
+     * Creates a translator to the given CAS.
+     * @param targetLanguages the language keys of the targets
+     * @throws InitTranslatorException if one of the translators cannot be initialized
+     * @see gov.nist.drmf.interpreter.common.constants.Keys
+     */
+    public MultiTargetTranslator( String... targetLanguages ) throws InitTranslatorException {
+        this.translators = new LinkedHashMap<>();
+        for ( String target : targetLanguages ) {
+            if ( !translators.containsKey(target) )
+                translators.put(target, new SemanticLatexTranslator(target));
+        }
+    }
+
+    /**
+     * Creates a multi target translator from the given (already initialized) translators. If
+     * multiple translators have the same target language, the first one is used.
+     * @param translators the translators
+     */
+    public MultiTargetTranslator( SemanticLatexTranslator... translators ) {
+        this.translators = new LinkedHashMap<>();
+        for ( SemanticLatexTranslator slt : translators ) {
+            this.translators.putIfAbsent(slt.getTargetLanguage(), slt);
+        }
+    }
+
+    /**
+     * @return the target languages in the order the translations are returned
+     */
+    public Set<String> getTargetLanguages() {
+        return Collections.unmodifiableSet(translators.keySet());
+    }
+
+    /**
+     * @param targetLanguage the language key of a target
+     * @return the translator of the given target or null if there is no such target
+     */
+    public SemanticLatexTranslator getTranslator( String targetLanguage ) {
+        return translators.get(targetLanguage);
+    }
+
+    /**
+     * Translates the given expression to all targets.
+     * @param expression semantic LaTeX expression
+     * @return the translation information for each target language (in the order of the targets)
+     * @throws TranslationException if the expression cannot be parsed or translated to one of the targets
+     */
+    public Map<String, TranslationInformation> translateToObjects( String expression ) throws TranslationException {
+        return translateToObjects(expression, null, null);
+    }
+
+    /**
+     * Translates the given expression to all targets.
+     * @param expression semantic LaTeX expression
+     * @param label the DLMF label of the expression (might be null)
+     * @param translationFeatures the translation features (might be null)
+     * @return the translation information for each target language (in the order of the targets)
+     * @throws TranslationException if the expression cannot be parsed or translated to one of the targets
+     * @see SemanticLatexTranslator#translateToObject(String, String, TranslationFeature)
+     */
+    public Map<String, TranslationInformation> translateToObjects(
+            String expression,
+            String label,
+            TranslationFeature<PrintablePomTaggedExpression> translationFeatures
+    ) throws TranslationException {
+        Map<String, TranslationInformation> results = new LinkedHashMap<>();
+        if ( expression == null || expression.isEmpty() ) {
+            LOG.warn("Tried to translate an empty expression");
+            for ( String target : translators.keySet() ) results.put(target, new TranslationInformation());
+            return results;
+        }
+
+        String preProcessedExpression = TeXPreProcessor.preProcessingTeX(expression, label);
+
+        // first, we collect all targets that are not cached yet
+        List<SemanticLatexTranslator> missing = new LinkedList<>();
+        Map<String, TranslationCache.Key> keys = new HashMap<>();
+        for ( Map.Entry<String, SemanticLatexTranslator> entry : translators.entrySet() ) {
+            SemanticLatexTranslator slt = entry.getValue();
+            TranslationCache.Key key = slt.getCacheKey(preProcessedExpression, translationFeatures);
+            TranslationInformation cached = slt.getCachedTranslation(key);
+            results.put(entry.getKey(), cached);
+            if ( cached == null ) {
+                missing.add(slt);
+                keys.put(entry.getKey(), key);
+            }
+        }
+
+        if ( missing.isEmpty() ) return results;
+
+        // parse once for all remaining targets, the last target can work on the original tree
+        PrintablePomTaggedExpression parsed = missing.get(0).parse(preProcessedExpression, translationFeatures);
+        Iterator<SemanticLatexTranslator> it = missing.iterator();
+        while ( it.hasNext() ) {
+            SemanticLatexTranslator slt = it.next();
+            PrintablePomTaggedExpression exp = it.hasNext() ? new PrintablePomTaggedExpression(parsed) : parsed;
+            slt.translateParsed(expression, exp);
+
+            String target = slt.getTargetLanguage();
+            results.put(target, slt.cacheTranslation(keys.get(target), slt.getTranslationInformationObject()));
+        }
+
+        return results;
+    }
+}
@@ -2,6 +2,7 @@ package gov.nist.drmf.interpreter.cas.translation;
 
 import gov.nist.drmf.interpreter.cas.blueprints.BlueprintMaster;
 import gov.nist.drmf.interpreter.cas.common.ForwardTranslationProcessConfig;
+import gov.nist.drmf.interpreter.cas.common.TranslationCache;
 import gov.nist.drmf.interpreter.cas.logging.TranslatedExpression;
 import gov.nist.drmf.interpreter.cas.logging.TranslatedExpressionHelper;
 import gov.nist.drmf.interpreter.common.InformationLogger;
@@ -16,8 +17,9 @@ import gov.nist.drmf.interpreter.common.exceptions.TranslationExceptionReason;
 import gov.nist.drmf.interpreter.common.interfaces.IDLMFTranslator;
 import gov.nist.drmf.interpreter.common.replacements.ConditionalReplacementRule;
 import gov.nist.drmf.interpreter.common.replacements.IReplacementCondition;
+import gov.nist.drmf.interpreter.pom.MLPWrapperPool;
 import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
-import gov.nist.drmf.interpreter.pom.common.PomTaggedExpressionNormalizer;
+import gov.nist.drmf.interpreter.pom.common.PlusMinusBranches;
 import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
 import mlp.ParseException;
 import mlp.PomTaggedExpression;
@@ -29,8 +31,10 @@ import java.util.LinkedList;
 /**
  * <p>
  * This class is the high-level entry point to perform translations from semantic LaTeX to CAS.
- * The translator is not thread-safe. To run translations in parallel, you must initiate multiple
- * independent instances.
+ * The translator is thread-safe. Every translation runs in its own {@link TranslationContext}, so a single
+ * instance (with its loaded config) can serve multiple threads at the same time. Methods that return information
+ * of a translation after it finished (e.g., {@link #getTranslationInformation()} or {@link #getInfoLogger()})
+ * refer to the last translation of the calling thread.
  * </p>
  *
  * <p>
@@ -59,14 +63,12 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
     private static final Logger LOG = LogManager.getLogger(SemanticLatexTranslator.class.getName());
 
     /**
-     * The latex parser
+     * The latex parsers (every thread borrows its own parser)
      */
-    private SemanticMLPWrapper parser;
+    private MLPWrapperPool<SemanticMLPWrapper> parser;
 
     private final ForwardTranslationProcessConfig config;
 
-    private TranslatedExpression localTranslations;
-
     /**
      * Creates a forward translator to the specified language.
      * @param to_language the language key
@@ -88,7 +90,6 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
     public SemanticLatexTranslator( ForwardTranslationProcessConfig config ) throws InitTranslatorException {
         super( config );
         this.config = config;
-        this.localTranslations = new TranslatedExpression();
         this.init();
     }
 
@@ -100,7 +101,6 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
         super( orig.getConfig() );
         this.config = orig.config;
         this.parser = orig.parser;
-        this.localTranslations = new TranslatedExpression();
         this.init();
     }
 
@@ -125,7 +125,7 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
     /**
      * Initializes the back end for the translation from semantic LaTeX to
      * a computer algebra system. It loads all translation information
-     * from the files in the given path and instantiate the PomParser from
+     * from the files in the given path and instantiate the pool of PomParsers from
      * Prof. Abdou Youssef.
      *
      * Note, that if the config did not contain a {@link BlueprintMaster}
@@ -136,7 +136,7 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
      */
     private void init() throws InitTranslatorException {
         config.init();
-        parser = SemanticMLPWrapper.getStandardInstance();
+        parser = SemanticMLPWrapper.getStandardPool();
     }
 
     /**
@@ -146,7 +146,7 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
      * @throws TranslationException if an error occurred due translation
      */
     @Override
-    public synchronized String translate( String expression ) throws TranslationException {
+    public String translate( String expression ) throws TranslationException {
         return translate(expression, null);
     }
 
@@ -165,7 +165,7 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
      * @see IReplacementCondition
      */
     @Override
-    public synchronized String translate( String expression, String label ) throws TranslationException {
+    public String translate( String expression, String label ) throws TranslationException {
         if ( expression == null || expression.isEmpty() ) {
             LOG.warn("Tried to translate an empty expression");
             return "";
@@ -181,12 +181,12 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
      * @throws TranslationException if an error occurred due translation
      */
     @Override
-    public synchronized TranslationInformation translateToObject( String expression ) throws TranslationException {
+    public TranslationInformation translateToObject( String expression ) throws TranslationException {
         return translateToObject(expression, null);
     }
 
     @Override
-    public synchronized TranslationInformation translateToObject(
+    public TranslationInformation translateToObject(
             String expression,
             String label,
             TranslationFeature<PrintablePomTaggedExpression> translationFeatures
@@ -196,25 +196,96 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
             return new TranslationInformation();
         }
 
-        innerTranslate(expression, label, translationFeatures);
-        return getTranslationInformationObject();
+        String preProcessedExpression = TeXPreProcessor.preProcessingTeX(expression, label);
+        TranslationCache.Key key = getCacheKey(preProcessedExpression, translationFeatures);
+        TranslationInformation cachedTranslation = getCachedTranslation(key);
+        if ( cachedTranslation != null ) return cachedTranslation;
+
+        innerTranslateRaw(expression, preProcessedExpression, translationFeatures);
+        return cacheTranslation(key, getTranslationInformationObject());
     }
 
     public TranslationInformation getTranslationInformationObject() {
         return super.getTranslationInformation();
     }
 
+    /**
+     * The cache may be shared by multiple translators (it is part of the config). Hence, the key contains the
+     * tolerant mode of this translator, since a tolerant translator may return partial translations of
+     * expressions that a strict translator rejects.
+     * @param preProcessedExpression the pre-processed expression
+     * @param translationFeatures the translation features (might be null)
+     * @return the key of the translation in the cache or null if there is no cache or the translation
+     * cannot be cached
+     */
+    TranslationCache.Key getCacheKey(
+            String preProcessedExpression,
+            TranslationFeature<PrintablePomTaggedExpression> translationFeatures
+    ) {
+        TranslationCache cache = config.getTranslationCache();
+        String featureKey = translationFeatures == null ? "" : translationFeatures.getCacheKey();
+        if ( cache == null || featureKey == null ) return null;
+
+        return new TranslationCache.Key(
+                preProcessedExpression,
+                getTargetLanguage(),
+                config.getTranslationFlags() + ",tolerant=" + isTolerant() + ",features=" + featureKey
+        );
+    }
+
+    /**
+     * Looks up the given key in the cache. If the translation is cached, it becomes the current translation
+     * of the calling thread.
+     * <p>
+     * Note that a cached translation is not translated again, hence it does not update the problem tokens
+     * of this translator (see {@link #getProblemTokens()}). Only {@link #translate(String, String)}, which does
+     * not use the cache, collects the problem tokens of every expression (e.g., for the error report of the
+     * {@link gov.nist.drmf.interpreter.cas.DlmfBatchTranslator}).
+     * @param key the key of the translation (might be null)
+     * @return the cached translation or null if the translation is not cached
+     */
+    TranslationInformation getCachedTranslation(TranslationCache.Key key) {
+        if ( key == null ) return null;
+        TranslationInformation cachedTranslation = config.getTranslationCache().get(key);
+        if ( cachedTranslation != null ) setContext(new TranslationContext(cachedTranslation));
+        return cachedTranslation;
+    }
+
+    TranslationInformation cacheTranslation(TranslationCache.Key key, TranslationInformation translationInformation) {
+        if ( key == null ) return translationInformation;
+        return config.getTranslationCache().put(key, translationInformation);
+    }
+
     private String innerTranslate( String expression, String label, TranslationFeature<PrintablePomTaggedExpression> translationFeatures ) throws TranslationException {
+        return innerTranslateRaw(expression, TeXPreProcessor.preProcessingTeX(expression, label), translationFeatures);
+    }
+
+    private String innerTranslateRaw(
+            String expression,
+            String preProcessedExpression,
+            TranslationFeature<PrintablePomTaggedExpression> translationFeatures
+    ) throws TranslationException {
+        PrintablePomTaggedExpression exp = parse(preProcessedExpression, translationFeatures);
+        return translateParsed(expression, exp);
+    }
+
+    /**
+     * Parses the given pre-processed expression and applies the translation features.
+     * @param preProcessedExpression the pre-processed expression
+     * @param translationFeatures the translation features (might be null)
+     * @return the parsed expression
+     * @throws TranslationException if the expression cannot be parsed
+     */
+    PrintablePomTaggedExpression parse(
+            String preProcessedExpression,
+            TranslationFeature<PrintablePomTaggedExpression> translationFeatures
+    ) throws TranslationException {
         try {
-            PrintablePomTaggedExpression exp = parser.parse(expression, label);
+            PrintablePomTaggedExpression exp = parser.parseRaw(preProcessedExpression);
             if ( translationFeatures != null ) {
                 exp = translationFeatures.preProcess(exp);
             }
-            translate(exp);
-            if ( !super.getInfoLogger().isEmpty() && !config.shortenedOutput() ) {
-                LOG.info(super.getInfoLogger().toString());
-            }
-            return getTranslatedExpression();
+            return exp;
         } catch ( ParseException pe ){
             throw TranslationException.buildException(
                     this,
@@ -222,6 +293,23 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
                     TranslationExceptionReason.MLP_ERROR,
                     pe
             );
+        }
+    }
+
+    /**
+     * Translates an already parsed expression. Note that the translation may change the given expression.
+     * @param expression the original expression (only used for logging)
+     * @param exp the parsed expression
+     * @return the translated expression
+     * @throws TranslationException if the expression cannot be translated
+     */
+    String translateParsed(String expression, PrintablePomTaggedExpression exp) throws TranslationException {
+        try {
+            translate(exp);
+            if ( !super.getInfoLogger().isEmpty() && !config.shortenedOutput() ) {
+                LOG.info(super.getInfoLogger().toString());
+            }
+            return getTranslatedExpression();
         } catch ( TranslationException te ) {
             LOG.error("Unable to translate " + expression + ";\nReason: " + te.toString());
             throw te;
@@ -237,7 +325,7 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
     }
 
     @Override
-    public synchronized TranslatedExpression translate( PomTaggedExpression expression ) throws TranslationException {
+    public TranslatedExpression translate( PomTaggedExpression expression ) throws TranslationException {
         // This is the actual translation expression. Every other translation method
         // is calling this method to translate something. Hence, we only need to prepare translations
         // in this method, i.e., resetting everything and start from scratch.
@@ -247,16 +335,14 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
 
         boolean forceFillUp = false;
         if ( expression instanceof PrintablePomTaggedExpression ) {
-            // in this case, we can trigger +/- splitting
-            PrintablePomTaggedExpression copy = new PrintablePomTaggedExpression((PrintablePomTaggedExpression) expression);
-            if ( PomTaggedExpressionNormalizer.normalizePm(copy, true) ) {
-                // there was a PM and it split so we should translate the first case
-                TranslatedExpression firstCase = translateSingleExpression(copy, false);
+            // in this case, we can trigger +/- splitting. The signs are located once and each case
+            // is only expanded (copied) if there are signs to split, because a translation changes the tree
+            PrintablePomTaggedExpression ppte = (PrintablePomTaggedExpression) expression;
+            PlusMinusBranches branches = PlusMinusBranches.find(ppte);
+            if ( !branches.isEmpty() ) {
+                TranslatedExpression firstCase = translateSingleExpression(branches.expand(ppte, true), false);
                 reset();
-                // change original expression (expression) to first case
-                copy = new PrintablePomTaggedExpression((PrintablePomTaggedExpression) expression);
-                PomTaggedExpressionNormalizer.normalizePm(copy, false);
-                TranslatedExpression secondCase = translateSingleExpression(copy, false);
+                TranslatedExpression secondCase = translateSingleExpression(branches.expand(ppte, false), false);
                 reset();
                 addPartialTranslation(firstCase);
                 addPartialTranslation(secondCase);
@@ -270,7 +356,8 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
     }
 
     private TranslatedExpression translateSingleExpression(PomTaggedExpression pte, boolean forceFillUp) {
-        localTranslations = new TranslatedExpression();
+        TranslatedExpression localTranslations = new TranslatedExpression();
+        getContext().setTranslatedExpression(localTranslations);
         TranslatedExpression global = super.getGlobalTranslationList();
 
         // 2) perform translations
@@ -281,13 +368,13 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
         localTranslations.addTranslatedExpression(global);
         localTranslations.addRequiredPackages(global.getRequiredPackages());
 
-        updateTranslationInformation(forceFillUp);
+        updateTranslationInformation(localTranslations, forceFillUp);
 
         // 4) return result
         return localTranslations;
     }
 
-    private void updateTranslationInformation(boolean forceFillUp) {
+    private void updateTranslationInformation(TranslatedExpression localTranslations, boolean forceFillUp) {
         TranslationInformation ti = super.getTranslationInformation();
         if ( getListOfPartialTranslations().isEmpty() || forceFillUp ) {
             perform(
@@ -320,7 +407,7 @@ public class SemanticLatexTranslator extends AbstractTranslator implements IDLMF
 
     @Override
     public TranslatedExpression getTranslatedExpressionObject() {
-        return localTranslations;
+        return getContext().getTranslatedExpression();
     }
 
     public BlueprintMaster getBlueprintMaster() {
@@ -0,0 +1,114 @@
+package gov.nist.drmf.interpreter.cas.translation;
+
+import gov.nist.drmf.interpreter.cas.logging.TranslatedExpression;
+import gov.nist.drmf.interpreter.cas.logging.TranslatedExpressionHelper;
+import gov.nist.drmf.interpreter.common.InformationLogger;
+import gov.nist.drmf.interpreter.common.TranslationInformation;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * The mutable state of a single translation process. The root translator (e.g., {@link SemanticLatexTranslator})
+ * creates a new context for every translation and all sub-translators of this translation share the same context.
+ * Hence, the root translator itself does not contain any state of a translation and can serve multiple
+ * translations at the same time.
+ *
+ * @author Andre Greiner-Petter
+ */
+final class TranslationContext {
+    /**
+     * The global information logger
+     */
+    private final InformationLogger infoLogger;
+
+    /**
+     * The global translated expression list
+     */
+    private final TranslatedExpression globalExp;
+
+    /**
+     * In case of equation arrays or multi-case expressions, we most likely end up
+     * with additional global expressions.
+     */
+    private final List<TranslatedExpression> partialTranslations;
+
+    /**
+     * The translation information object of this translation process.
+     */
+    private final TranslationInformation translationInformation;
+
+    /**
+     * The final translated expression of the root translator
+     */
+    private TranslatedExpression translatedExpression;
+
+    private boolean setMode = false;
+
+    private boolean mlpError = false;
+
+    /**
+     * Creates a new context for a translation process
+     */
+    TranslationContext() {
+        this.infoLogger = new InformationLogger();
+        this.globalExp = new TranslatedExpression();
+        this.partialTranslations = new LinkedList<>();
+        this.translationInformation = new TranslationInformation();
+        this.translatedExpression = new TranslatedExpression();
+    }
+
+    /**
+     * Creates the context of an already finished translation, e.g., of a cached translation.
+     * @param translationInformation the result of the finished translation
+     */
+    TranslationContext(TranslationInformation translationInformation) {
+        this.infoLogger = translationInformation.getTranslationInformation();
+        this.globalExp = new TranslatedExpression();
+        this.globalExp.addTranslatedExpression(translationInformation.getTranslatedExpression());
+        this.globalExp.addRequiredPackages(translationInformation.getRequiredPackages());
+        this.globalExp.getFreeVariables().addFreeVariables(translationInformation.getFreeVariables());
+        this.partialTranslations = new LinkedList<>();
+        for ( TranslationInformation partial : translationInformation.getPartialTranslations() ) {
+            this.partialTranslations.add(TranslatedExpressionHelper.toTranslatedExpression(partial));
+        }
+        this.translationInformation = translationInformation;
+        this.translatedExpression = new TranslatedExpression(globalExp);
+    }
+
+    InformationLogger getInfoLogger() {
+        return infoLogger;
+    }
+
+    TranslatedExpression getGlobalTranslationList() {
+        return globalExp;
+    }
+
+    List<TranslatedExpression> getPartialTranslations() {
+        return partialTranslations;
+    }
+
+    TranslationInformation getTranslationInformation() {
+        return translationInformation;
+    }
+
+    TranslatedExpression getTranslatedExpression() {
+        return translatedExpression;
+    }
+
+    void setTranslatedExpression(TranslatedExpression translatedExpression) {
+        this.translatedExpression = translatedExpression;
+    }
+
+    boolean isSetMode() {
+        return setMode;
+    }
+
+    void setSetMode(boolean setMode) {
+        this.setMode = setMode;
+    }
+
+    boolean isMlpError() {
+        return mlpError;
+    }
+}
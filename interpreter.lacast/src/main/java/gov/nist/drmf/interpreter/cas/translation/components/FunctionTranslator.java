@@ -61,7 +61,7 @@ public class FunctionTranslator extends AbstractListTranslator {
         super(superTranslator);
         this.localTranslations = new TranslatedExpression();
         this.basicFT = getConfig().getBasicFunctionsTranslator();
-        this.ENDS_ON_MULTIPLY_PATTERN = Pattern.compile("(.*)"+Pattern.quote(getConfig().getMULTIPLY())+"\\s*");
+        this.ENDS_ON_MULTIPLY_PATTERN = getEndOnMultiplyPattern();
     }
 
     @Override
@@ -71,7 +71,11 @@ public class LimitedTranslator extends AbstractListTranslator {
 
         // find elements that are part of the argument:
         // next, split into argument parts and the rest
-        TranslatedExpression translatedPotentialArguments = getPotentialTranslatedExpressions(limit, list);
+        // the limits are immutable, but integrals add their variables of integration while extracting the arguments
+        List<String> vars = new LinkedList<>(limit.getVars());
+        TranslatedExpression translatedPotentialArguments = getPotentialTranslatedExpressions(vars, list);
+        if ( vars.size() != limit.getVars().size() ) limit = limit.withVars(vars);
+
         TranslatedExpression transArgs = getTranslatedExpression(limit, category, translatedPotentialArguments);
 
         String finalTranslation = getFinalTranslationString(limit, transArgs, category, root);
@@ -141,9 +145,9 @@ public class LimitedTranslator extends AbstractListTranslator {
         }
     }
 
-    private TranslatedExpression getPotentialTranslatedExpressions(MathematicalEssentialOperatorMetadata limit, List<PomTaggedExpression> list) {
+    private TranslatedExpression getPotentialTranslatedExpressions(List<String> vars, List<PomTaggedExpression> list) {
         List<PomTaggedExpression> potentialArguments =
-                MeomArgumentExtractor.getPotentialArgumentsUntilEndOfScope(list, limit.getVars(), this);
+                MeomArgumentExtractor.getPotentialArgumentsUntilEndOfScope(list, vars, this);
 
         // the potential arguments is a theoretical sequence, so handle it as a sequence!
         PomTaggedExpression topPTE = FakeMLPGenerator.generateEmptySequencePPTE();
@@ -230,7 +234,7 @@ public class LimitedTranslator extends AbstractListTranslator {
         // if an upper bound was explicitly given, overwrite the parsed upper bound
         if ( !upperBound.isEmpty() ) {
             TranslatedExpression te = translateInnerExp(upperBound.remove(0), upperBound);
-            limit.overwriteUpperLimit(te.getTranslatedExpression());
+            limit = limit.withUpperLimit(te.getTranslatedExpression());
         }
 
         if ( limit == null ) return new MathematicalEssentialOperatorMetadata();
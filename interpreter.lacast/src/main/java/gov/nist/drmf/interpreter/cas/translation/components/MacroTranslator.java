@@ -11,7 +11,6 @@ import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
 import gov.nist.drmf.interpreter.common.exceptions.TranslationExceptionReason;
 import gov.nist.drmf.interpreter.pom.common.grammar.Brackets;
 import gov.nist.drmf.interpreter.pom.common.grammar.MathTermTags;
-import gov.nist.drmf.interpreter.pom.common.interfaces.IFeatureExtractor;
 import gov.nist.drmf.interpreter.pom.common.MathTermUtility;
 import gov.nist.drmf.interpreter.pom.common.PomTaggedExpressionUtility;
 import mlp.FeatureSet;
@@ -128,8 +127,7 @@ public class MacroTranslator extends AbstractListTranslator {
             fset = macroTerm.getNamedFeatureSet(Keys.KEY_DLMF_MACRO_OPTIONAL_PREFIX + optionalParas.size());
             // that's a fall back... if the user misses to specify the number of optional parameters, we better
             // overwrite them now
-            IFeatureExtractor.setFeatureValue(fset, Keys.NUM_OF_OPT_PARAMS, Integer.toString(optionalParas.size()));
-            info = new MacroInfoHolder(this, fset, cas, macro);
+            info = new MacroInfoHolder(this, fset, cas, macro, optionalParas.size());
         } else if ( translationException != null ) {
             // if there are no optional parameters AND previously we caught an exception, its time to throw it now
             throw translationException;
@@ -9,7 +9,6 @@ import gov.nist.drmf.interpreter.common.exceptions.TranslationExceptionReason;
 import gov.nist.drmf.interpreter.pom.common.FakeMLPGenerator;
 import gov.nist.drmf.interpreter.pom.common.MathTermUtility;
 import gov.nist.drmf.interpreter.pom.common.PomTaggedExpressionUtility;
-import gov.nist.drmf.interpreter.pom.common.grammar.DLMFFeatureValues;
 import gov.nist.drmf.interpreter.pom.common.grammar.MathTermTags;
 import mlp.FeatureSet;
 import mlp.MathTerm;
@@ -112,12 +111,14 @@ public class MacroDerivativeHelper {
 
     private int handleMacro(MathTerm mt, List<PomTaggedExpression> expressions, int i, Set<String> variableCandidates) {
         FeatureSet fset = mt.getNamedFeatureSet(Keys.KEY_DLMF_MACRO);
-        Integer slot;
-        Integer numberOfVariables;
-        try {
-            slot = Integer.parseInt(DLMFFeatureValues.SLOT_DERIVATIVE.getFeatureValue(fset, CAS));
-            numberOfVariables = Integer.parseInt(DLMFFeatureValues.NUMBER_OF_VARIABLES.getFeatureValue(fset, CAS));
-        } catch (NumberFormatException e) {
+        MacroTranslationInformation info = getTranslationInformation(fset);
+        int slot;
+        int numberOfVariables;
+        if ( info != null && info.hasSlotOfDifferentiation() ) {
+            // the compiled slot includes the parameters, but we are only interested in the argument slot
+            slot = info.getSlotOfDifferentiation() - info.getNumOfParams();
+            numberOfVariables = info.getNumOfVars();
+        } else {
             LOG.warn("No slot of differentiation found for " + mt.getTermText() + ", assuming its 1.");
             slot = 1;
             numberOfVariables = 1;
@@ -133,6 +134,14 @@ public class MacroDerivativeHelper {
         }
     }
 
+    private MacroTranslationInformation getTranslationInformation(FeatureSet fset) {
+        try {
+            return MacroTranslationTable.getTable(CAS).getTranslationInformation(fset);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     private int skipAllAts(List<PomTaggedExpression> list, int startIdx) {
         boolean passedAtYet = false;
         for ( int i = startIdx; i < list.size(); i++ ) {
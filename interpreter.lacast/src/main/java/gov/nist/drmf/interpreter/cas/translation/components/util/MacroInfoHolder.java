@@ -5,7 +5,6 @@ import gov.nist.drmf.interpreter.cas.common.IForwardTranslator;
 import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
 import gov.nist.drmf.interpreter.common.exceptions.TranslationExceptionReason;
 import gov.nist.drmf.interpreter.common.latex.FreeVariables;
-import gov.nist.drmf.interpreter.pom.common.grammar.DLMFFeatureValues;
 import mlp.FeatureSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -16,17 +15,15 @@ import org.apache.logging.log4j.Logger;
 public class MacroInfoHolder {
     private static final Logger LOG = LogManager.getLogger(MacroInfoHolder.class.getName());
 
-    private int slotOfDifferentiation = Integer.MIN_VALUE;
+    private int slotOfDifferentiation;
 
     private final String macro;
 
     private String variableOfDifferentiation = null;
 
-    private MacroTranslationInformation translationInformation;
+    private final MacroTranslationInformation translationInformation;
 
-    private MacroMetaInformation metaInformation;
-
-    private FreeVariables freeVariables;
+    private final FreeVariables freeVariables;
 
     /**
      * Store information about the macro from an feature set.
@@ -40,10 +37,32 @@ public class MacroInfoHolder {
             FeatureSet fset,
             String cas,
             String macro
+    ) throws TranslationException {
+        this(translator, fset, cas, macro, -1);
+    }
+
+    /**
+     * Store information about the macro from an feature set.
+     * @param fset future set
+     * @param macro the macro
+     * @param numOfOptionalParas the number of optional parameters
+     *                           (negative to use the number specified in the feature set)
+     * @throws TranslationException if the feature set does not provide
+     * the necessary information for a translation
+     */
+    public MacroInfoHolder(
+            IForwardTranslator translator,
+            FeatureSet fset,
+            String cas,
+            String macro,
+            int numOfOptionalParas
     ) throws TranslationException {
         this.macro = macro;
         this.checkFeatureSetValidity(translator, fset);
-        this.storeInfosValidityCheck(translator, fset, cas);
+        this.translationInformation = loadInfosValidityCheck(translator, fset, cas, numOfOptionalParas);
+        this.slotOfDifferentiation = translationInformation.getSlotOfDifferentiation();
+        if ( !translationInformation.hasSlotOfDifferentiation() )
+            LOG.debug("Cannot extract slot of differentiation for " + macro);
         this.freeVariables = new FreeVariables();
     }
 
@@ -57,16 +76,22 @@ public class MacroInfoHolder {
         }
     }
 
-    private void storeInfosValidityCheck(IForwardTranslator translator, FeatureSet fset, String cas)
-            throws TranslationException {
-        // try to extract the information
+    private MacroTranslationInformation loadInfosValidityCheck(
+            IForwardTranslator translator,
+            FeatureSet fset,
+            String cas,
+            int numOfOptionalParas
+    ) throws TranslationException {
+        // try to get the precompiled information
         try {
-            this.storeInfos(fset, cas);
-            if (this.translationInformation.hasNoTranslations()) {
+            MacroTranslationInformation info = MacroTranslationTable.getTable(cas)
+                    .getTranslationInformation(fset, numOfOptionalParas);
+            if (info.hasNoTranslations()) {
                 throw TranslationException.buildExceptionObj(
                         translator, "There are no translation patterns available for: " + macro,
                         TranslationExceptionReason.MISSING_TRANSLATION_INFORMATION, macro);
             }
+            return info;
         } catch (NullPointerException | TranslationException npe) {
             throw TranslationException.buildExceptionObj(
                     translator, "Cannot extract information from feature set: " + macro,
@@ -74,23 +99,6 @@ public class MacroInfoHolder {
         }
     }
 
-    /**
-     * Analyzes and extracts all information from a given feature set of a DLMF macro.
-     * @param fset the feature set
-     */
-    private void storeInfos(FeatureSet fset, String cas) {
-        this.translationInformation = new MacroTranslationInformation(fset, cas);
-
-        try { // true slot is argument slot + numOfParams
-            slotOfDifferentiation = Integer.parseInt(DLMFFeatureValues.SLOT_DERIVATIVE.getFeatureValue(fset, cas))
-                    + translationInformation.getNumOfParams();
-        } catch (NumberFormatException e) {
-            LOG.debug("Cannot extract slot of differentiation for " + macro);
-        }
-
-        metaInformation = new MacroMetaInformation(fset, cas);
-    }
-
     public FreeVariables getFreeVariables() {
         return freeVariables;
     }
@@ -142,6 +150,6 @@ public class MacroInfoHolder {
     }
 
     public MacroMetaInformation getMetaInformation() {
-        return metaInformation;
+        return translationInformation.getMetaInformation();
     }
 }
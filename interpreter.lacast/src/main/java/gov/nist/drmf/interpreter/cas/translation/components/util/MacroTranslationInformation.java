@@ -4,38 +4,61 @@ import gov.nist.drmf.interpreter.pom.common.grammar.DLMFFeatureValues;
 import mlp.FeatureSet;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Collections;
 import java.util.Set;
 import java.util.SortedSet;
 
 import static org.apache.logging.log4j.LogManager.getLogger;
 
 /**
+ * The immutable translation information of a DLMF macro for a specific CAS. Since the information
+ * only depends on the feature set and the CAS, it is compiled once and shared via
+ * {@link MacroTranslationTable}.
+ *
  * @author Andre Greiner-Petter
  */
 public class MacroTranslationInformation {
     private static final Logger LOG = getLogger(MacroTranslationInformation.class.getName());
 
-    private int numOfOptionalParas, numOfParams, numOfAts, numOfVars;
+    private final int numOfOptionalParas, numOfParams, numOfAts, numOfVars;
 
-    private String constraints;
+    private final int slotOfDifferentiation;
 
-    private String defDlmf, defCas;
+    private final String constraints;
 
-    private String translationPattern;
-    private SortedSet<String> alternativePattern;
+    private final String defDlmf, defCas;
 
-    private String branchCuts, casBranchCuts;
+    private final String translationPattern;
+    private final SortedSet<String> alternativePattern;
+    private final TranslationPatternTemplate translationTemplate;
 
-    private Set<String> requiredPackages;
+    private final String branchCuts, casBranchCuts;
+
+    private final Set<String> requiredPackages;
+
+    private final MacroMetaInformation metaInformation;
 
     public MacroTranslationInformation(FeatureSet fset, String cas) {
+        this(fset, cas, -1);
+    }
+
+    /**
+     * @param fset the feature set of the macro
+     * @param cas the target CAS
+     * @param numOfOptionalParas the number of optional parameters
+     *                           (negative to use the number specified in the feature set)
+     */
+    MacroTranslationInformation(FeatureSet fset, String cas, int numOfOptionalParas) {
         // now store all additional information
         // first of all number of parameters, ats and vars
-        String optParaString = DLMFFeatureValues.NUMBER_OF_OPTIONAL_PARAMETERS.getFeatureValue(fset, cas);
-        numOfOptionalParas = optParaString.isBlank() ? 0 : Integer.parseInt(optParaString);
+        if ( numOfOptionalParas < 0 ) {
+            String optParaString = DLMFFeatureValues.NUMBER_OF_OPTIONAL_PARAMETERS.getFeatureValue(fset, cas);
+            this.numOfOptionalParas = optParaString.isBlank() ? 0 : Integer.parseInt(optParaString);
+        } else this.numOfOptionalParas = numOfOptionalParas;
         numOfParams = Integer.parseInt(DLMFFeatureValues.NUMBER_OF_PARAMETERS.getFeatureValue(fset, cas));
         numOfAts = Integer.parseInt(DLMFFeatureValues.NUMBER_OF_ATS.getFeatureValue(fset, cas));
         numOfVars = Integer.parseInt(DLMFFeatureValues.NUMBER_OF_VARIABLES.getFeatureValue(fset, cas));
+        slotOfDifferentiation = parseSlotOfDifferentiation(fset, cas, numOfParams);
 
         // now store additional information about the translation
         // Meaning: name of the function (defined by DLMF)
@@ -49,18 +72,38 @@ public class MacroTranslationInformation {
 
         // Translation information
         translationPattern = DLMFFeatureValues.CAS_TRANSLATIONS.getFeatureValue(fset, cas);
-        alternativePattern = DLMFFeatureValues.CAS_TRANSLATION_ALTERNATIVES.getFeatureSet(fset, cas);
+        alternativePattern = unmodifiable(DLMFFeatureValues.CAS_TRANSLATION_ALTERNATIVES.getFeatureSet(fset, cas));
         casBranchCuts = DLMFFeatureValues.CAS_BRANCH_CUTS.getFeatureValue(fset, cas);
+        translationTemplate = compileTemplate(translationPattern, alternativePattern);
 
         // links to the definitions
         defDlmf = DLMFFeatureValues.DLMF_LINK.getFeatureValue(fset, cas);
         defCas = DLMFFeatureValues.CAS_HYPERLINK.getFeatureValue(fset, cas);
 
-        requiredPackages = DLMFFeatureValues.REQUIRED_PACKAGES.getFeatureSet(fset, cas);
+        requiredPackages = unmodifiable(DLMFFeatureValues.REQUIRED_PACKAGES.getFeatureSet(fset, cas));
+
+        metaInformation = new MacroMetaInformation(fset, cas);
+    }
+
+    private static int parseSlotOfDifferentiation(FeatureSet fset, String cas, int numOfParams) {
+        try { // true slot is argument slot + numOfParams
+            return Integer.parseInt(DLMFFeatureValues.SLOT_DERIVATIVE.getFeatureValue(fset, cas)) + numOfParams;
+        } catch (NumberFormatException e) {
+            return Integer.MIN_VALUE;
+        }
+    }
+
+    private static TranslationPatternTemplate compileTemplate(String pattern, SortedSet<String> alternatives) {
+        // if there is no direct translation, we use the first alternative translation
+        if ( pattern == null || pattern.isEmpty() ) {
+            if ( alternatives == null || alternatives.isEmpty() ) return null;
+            pattern = alternatives.first();
+        }
+        return TranslationPatternTemplate.compile(pattern);
     }
 
-    public void setNumOfOptionalParas( int numOptionalParas ) {
-        this.numOfOptionalParas = numOptionalParas;
+    private static SortedSet<String> unmodifiable(SortedSet<String> set) {
+        return set == null ? null : Collections.unmodifiableSortedSet(set);
     }
 
     public int getNumOfOptionalParas() {
@@ -79,6 +122,22 @@ public class MacroTranslationInformation {
         return numOfVars;
     }
 
+    /**
+     * @return the slot of differentiation (including the parameters) or {@link Integer#MIN_VALUE}
+     * if the macro does not define a slot of differentiation
+     */
+    public int getSlotOfDifferentiation() {
+        return slotOfDifferentiation;
+    }
+
+    public boolean hasSlotOfDifferentiation() {
+        return slotOfDifferentiation != Integer.MIN_VALUE;
+    }
+
+    public MacroMetaInformation getMetaInformation() {
+        return metaInformation;
+    }
+
     public String getConstraints() {
         return constraints;
     }
@@ -95,6 +154,18 @@ public class MacroTranslationInformation {
         return translationPattern;
     }
 
+    /**
+     * @return the compiled translation pattern or, if there is no direct translation, the compiled first
+     * alternative translation pattern (null if there are no translations at all)
+     */
+    public TranslationPatternTemplate getTranslationTemplate() {
+        return translationTemplate;
+    }
+
+    public boolean isAlternativeTranslation() {
+        return translationPattern == null || translationPattern.isEmpty();
+    }
+
     public SortedSet<String> getAlternativePattern() {
         return alternativePattern;
     }
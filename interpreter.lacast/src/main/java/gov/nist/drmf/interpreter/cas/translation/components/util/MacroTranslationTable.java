@@ -0,0 +1,92 @@
+package gov.nist.drmf.interpreter.cas.translation.components.util;
+
+import mlp.FeatureSet;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The compiled translation information of DLMF macros for a single CAS. The feature sets of a macro
+ * are shared lexicon entries, i.e., all occurrences of the same macro refer to the same {@link FeatureSet}
+ * objects. Hence, the feature values of a feature set (the number of parameters, the translation patterns,
+ * required packages, and so on) are extracted and parsed only once per CAS and the resulting immutable
+ * {@link MacroTranslationInformation} is shared by all translations of this macro.
+ * <p>
+ * The table holds its feature sets weakly. If a lexicon is dropped, its compiled macros are dropped as well.
+ * The tables are thread-safe.
+ *
+ * @author Andre Greiner-Petter
+ */
+public final class MacroTranslationTable {
+    private static final Logger LOG = LogManager.getLogger(MacroTranslationTable.class.getName());
+
+    private static final Map<String, MacroTranslationTable> TABLES = new ConcurrentHashMap<>();
+
+    private final String cas;
+
+    private final Map<FeatureSet, MacroTranslationInformation> table;
+
+    private MacroTranslationTable(String cas) {
+        this.cas = cas;
+        this.table = Collections.synchronizedMap(new WeakHashMap<>());
+    }
+
+    /**
+     * @param cas the target CAS
+     * @return the table of compiled macros for the given CAS
+     */
+    public static MacroTranslationTable getTable(String cas) {
+        return TABLES.computeIfAbsent(cas, MacroTranslationTable::new);
+    }
+
+    public String getCas() {
+        return cas;
+    }
+
+    /**
+     * Returns the compiled translation information of the given feature set of a DLMF macro.
+     * @param fset the feature set of a DLMF macro
+     * @return the compiled translation information
+     * @throws NullPointerException if the feature set is null or misses necessary information
+     * @throws NumberFormatException if the number of parameters, ats or variables is not defined
+     */
+    public MacroTranslationInformation getTranslationInformation(FeatureSet fset) {
+        return getTranslationInformation(fset, -1);
+    }
+
+    /**
+     * Returns the compiled translation information of the given feature set of a DLMF macro.
+     * In contrast to {@link #getTranslationInformation(FeatureSet)}, the number of optional parameters
+     * is given explicitly, e.g., because the feature set of a macro with optional parameters does not
+     * specify it.
+     * @param fset the feature set of a DLMF macro
+     * @param numOfOptionalParas the number of optional parameters
+     *                           (negative to use the number specified in the feature set)
+     * @return the compiled translation information
+     * @throws NullPointerException if the feature set is null or misses necessary information
+     * @throws NumberFormatException if the number of parameters, ats or variables is not defined
+     */
+    public MacroTranslationInformation getTranslationInformation(FeatureSet fset, int numOfOptionalParas) {
+        MacroTranslationInformation info = table.get(fset);
+        if ( info != null && (numOfOptionalParas < 0 || info.getNumOfOptionalParas() == numOfOptionalParas) ) {
+            return info;
+        }
+
+        // compiling the same macro twice concurrently is harmless, both results are identical
+        info = new MacroTranslationInformation(fset, cas, numOfOptionalParas);
+        table.put(fset, info);
+        LOG.trace("Compiled translation information of " + fset.getFeatureSetName() + " for " + cas);
+        return info;
+    }
+
+    /**
+     * @return the number of compiled macros in this table
+     */
+    public int size() {
+        return table.size();
+    }
+}
@@ -3,13 +3,11 @@ package gov.nist.drmf.interpreter.cas.translation.components.util;
 import gov.nist.drmf.interpreter.cas.common.DLMFPatterns;
 import gov.nist.drmf.interpreter.cas.common.ForwardTranslationProcessConfig;
 import gov.nist.drmf.interpreter.cas.translation.AbstractListTranslator;
-import gov.nist.drmf.interpreter.common.constants.GlobalConstants;
 import gov.nist.drmf.interpreter.common.symbols.BasicFunctionsTranslator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.List;
-import java.util.SortedSet;
 
 /**
  * This class fills a translation pattern by the provided information.
@@ -57,7 +55,7 @@ public class PatternFiller {
         // when the alternative mode is activated, it tries to translate
         // the alternative translation
         MacroTranslationInformation translationInformation = macroInfo.getTranslationInformation();
-        String pattern = getTranslationPattern(translationInformation);
+        TranslationPatternTemplate template = getTranslationTemplate(translationInformation);
 
         // Maybe, we need to substitute an argument.
         String subbedExpression = null;
@@ -68,10 +66,8 @@ public class PatternFiller {
         } else if ( derivInfo.isComplexDerivativeVar() && macroInfo.isDeriv() ) {
             args = updateArgumentsForSubstitution(args);
             subbedExpression = args[2];
-            pattern = args[1].replaceAll(
-                    "\\Q"+args[2]+"\\E",
-                    this.tempVariableString
-            );
+            // the pattern is the argument itself here, so it cannot be compiled in advance
+            template = TranslationPatternTemplate.compile(args[1].replace(args[2], this.tempVariableString));
             args[2] = this.tempVariableString;
         }
 
@@ -81,8 +77,8 @@ public class PatternFiller {
         }
 
         // finally, fill up pattern with arguments
-        LOG.debug("Fill pattern: " + pattern);
-        pattern = fillPattern(args, pattern);
+        LOG.debug("Fill pattern: " + template);
+        String pattern = fillPattern(args, template);
         LOG.debug("Translated DLMF macro to: " + pattern);
 
         // apply derivative and plug in the subbed out expression to replace temp during execution in CAS
@@ -116,17 +112,14 @@ public class PatternFiller {
         return args;
     }
 
-    private String getTranslationPattern(MacroTranslationInformation translationInformation) {
-        String pattern = translationInformation.getTranslationPattern();
-        if ( pattern == null || pattern.isEmpty() ) {
+    private TranslationPatternTemplate getTranslationTemplate(MacroTranslationInformation translationInformation) {
+        if ( translationInformation.isAlternativeTranslation() ) {
             LOG.debug("No direct translation available, switch to alternative mode.");
-            SortedSet<String> alts = translationInformation.getAlternativePattern();
-            if ( alts.size() > 1 )
+            if ( translationInformation.getAlternativePattern().size() > 1 )
                 LOG.debug("Found multiple alternative translations. We choose first. " +
                         "Check translation information for other options");
-            pattern = alts.first();
         }
-        return pattern;
+        return translationInformation.getTranslationTemplate();
     }
 
     private String[] getArgumentsOfWronskian(String[] args) {
@@ -136,14 +129,12 @@ public class PatternFiller {
         return newComponents;
     }
 
-    private String fillPattern(String[] args, String pattern) {
+    private String fillPattern(String[] args, TranslationPatternTemplate template) {
+        String[] strippedArgs = new String[args.length];
         for (int i = 0; i < args.length; i++) {
-            pattern = pattern.replace(
-                    GlobalConstants.POSITION_MARKER + i,
-                    AbstractListTranslator.stripMultiParentheses(args[i])
-            );
+            strippedArgs[i] = AbstractListTranslator.stripMultiParentheses(args[i]);
         }
-        return pattern;
+        return template.fill(strippedArgs);
     }
 
     private String simpleDerivative(
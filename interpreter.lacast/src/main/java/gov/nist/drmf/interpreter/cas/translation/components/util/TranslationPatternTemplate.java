@@ -0,0 +1,98 @@
+package gov.nist.drmf.interpreter.cas.translation.components.util;
+
+import gov.nist.drmf.interpreter.common.constants.GlobalConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A translation pattern, such as {@code JacobiP($3, $0, $1, $2)}, split into literal segments and
+ * the slots in between. The slots are the position markers {@link GlobalConstants#POSITION_MARKER}
+ * followed by a single digit, i.e., the index of the argument. Once compiled, a template is filled
+ * by a single pass over its segments.
+ * <p>
+ * Templates are immutable and can be shared between threads. The templates of the DLMF macros
+ * are compiled once together with the {@link MacroTranslationInformation}.
+ *
+ * @author Andre Greiner-Petter
+ */
+public final class TranslationPatternTemplate {
+    private final String pattern;
+
+    /**
+     * The literal segments, there is always one more literal than slots (maybe empty)
+     */
+    private final String[] literals;
+
+    private final int[] slots;
+
+    private TranslationPatternTemplate(String pattern, String[] literals, int[] slots) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.slots = slots;
+    }
+
+    /**
+     * Splits the given pattern into literals and slots.
+     * @param pattern the translation pattern
+     * @return the compiled template
+     */
+    public static TranslationPatternTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+
+        char marker = GlobalConstants.POSITION_MARKER.charAt(0);
+        int start = 0;
+        for ( int i = 0; i < pattern.length() - 1; i++ ) {
+            char next = pattern.charAt(i + 1);
+            if ( pattern.charAt(i) == marker && next >= '0' && next <= '9' ) {
+                literals.add(pattern.substring(start, i));
+                slots.add(next - '0');
+                start = i + 2;
+                i++;
+            }
+        }
+        literals.add(pattern.substring(start));
+
+        int[] slotArray = new int[slots.size()];
+        for ( int i = 0; i < slotArray.length; i++ ) slotArray[i] = slots.get(i);
+        return new TranslationPatternTemplate(pattern, literals.toArray(new String[0]), slotArray);
+    }
+
+    /**
+     * Fills the slots of this template with the given arguments. Slots without an argument, i.e.,
+     * an index larger than the number of arguments, remain unchanged.
+     * @param args the arguments (none of them can be null)
+     * @return the filled pattern
+     * @throws NullPointerException if one of the arguments is null
+     */
+    public String fill(String[] args) throws NullPointerException {
+        int length = pattern.length();
+        for ( String arg : args ) length += arg.length();
+
+        StringBuilder sb = new StringBuilder(length);
+        for ( int i = 0; i < slots.length; i++ ) {
+            sb.append(literals[i]);
+            if ( slots[i] < args.length ) sb.append(args[slots[i]]);
+            else sb.append(GlobalConstants.POSITION_MARKER).append(slots[i]);
+        }
+        sb.append(literals[slots.length]);
+        return sb.toString();
+    }
+
+    /**
+     * @return the number of slots in this template (a slot referenced twice counts twice)
+     */
+    public int getNumberOfSlots() {
+        return slots.length;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
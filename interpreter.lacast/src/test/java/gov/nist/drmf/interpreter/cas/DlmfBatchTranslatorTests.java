@@ -0,0 +1,67 @@
+package gov.nist.drmf.interpreter.cas;
+
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class DlmfBatchTranslatorTests {
+
+    @Test
+    public void parallelBatchTest(@TempDir Path tmpDir) throws Exception {
+        Path in = Files.createDirectories(tmpDir.resolve("in"));
+        Path out = tmpDir.resolve("out");
+        List<File> files = new LinkedList<>();
+        String[] expressions = new String[]{"\\sin@{x}", "\\cos@{x}", "\\cpi", "x^2", "\\JacobiP{\\alpha}{\\beta}{n}@{x}"};
+        for ( int i = 0; i < expressions.length; i++ ) {
+            Path file = in.resolve("eq" + i + ".s.tex");
+            Files.writeString(file, expressions[i]);
+            files.add(file.toFile());
+        }
+
+        String prefix = in.toString().replace("/", "-");
+        DlmfBatchTranslator batchTranslator = new DlmfBatchTranslator(out, prefix, false);
+        assertEquals(expressions.length, batchTranslator.translate(files, 3));
+
+        assertEquals("sin(x)", Files.readString(out.resolve("-eq0.s.tex.maple")));
+        assertEquals("cos(x)", Files.readString(out.resolve("-eq1.s.tex.maple")));
+        assertEquals("Pi", Files.readString(out.resolve("-eq2.s.tex.maple")));
+        assertEquals("JacobiP(n, alpha, beta, x)", Files.readString(out.resolve("-eq4.s.tex.maple")));
+    }
+
+    @Test
+    public void failingWorkerTest(@TempDir Path tmpDir) throws Exception {
+        Path file = tmpDir.resolve("eq0.s.tex");
+        Files.writeString(file, "\\sin@{x}");
+        List<File> files = new LinkedList<>();
+        files.add(null); // a worker fails with an unexpected exception
+        files.add(file.toFile());
+
+        DlmfBatchTranslator batchTranslator = new DlmfBatchTranslator(tmpDir.resolve("out"), "", false);
+        assertEquals(1, batchTranslator.translate(files, 2));
+    }
+
+    @Test
+    public void mergeProblemTokensTest() {
+        Map<String, Map<Integer, Set<String>>> merged = new TreeMap<>();
+        DlmfBatchTranslator.mergeProblemTokens(merged, Map.of("\\foo", Map.of(1, Set.of("a"))));
+        DlmfBatchTranslator.mergeProblemTokens(merged, Map.of(
+                "\\foo", Map.of(1, Set.of("b"), 2, Set.of("c")),
+                "\\bar", Map.of(1, Set.of("a"))
+        ));
+
+        assertEquals(List.of("\\bar", "\\foo"), List.copyOf(merged.keySet()));
+        assertEquals(Set.of("a", "b"), merged.get("\\foo").get(1));
+        assertEquals(Set.of("c"), merged.get("\\foo").get(2));
+    }
+}
@@ -0,0 +1,57 @@
+package gov.nist.drmf.interpreter.cas.blueprints;
+
+import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
+import gov.nist.drmf.interpreter.common.constants.Keys;
+import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import mlp.ParseException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class BlueprintIndexTests {
+
+    private static SemanticLatexTranslator slt;
+
+    @BeforeAll
+    public static void setup() throws InitTranslatorException {
+        slt = new SemanticLatexTranslator(Keys.KEY_MAPLE);
+    }
+
+    @Test
+    public void requiredTokensTest() throws ParseException {
+        BlueprintRuleMatcher matcher = new BlueprintRuleMatcher(slt, "numL1 \\leq varN < numU1", "numL1,numU1-1");
+        assertEquals(Set.of("\\leq", "<"), matcher.getRequiredTokens());
+
+        BlueprintRuleMatcher wildcardOnly = new BlueprintRuleMatcher(slt, "varN", "-\\infty,\\infty");
+        assertTrue(wildcardOnly.getRequiredTokens().isEmpty());
+    }
+
+    @Test
+    public void candidatesInOrderTest() throws ParseException {
+        BlueprintRuleMatcher eq = new BlueprintRuleMatcher(slt, "varN = numL1", "numL1");
+        BlueprintRuleMatcher leqLess = new BlueprintRuleMatcher(slt, "numL1 \\leq varN < numU1", "numL1,numU1-1");
+        BlueprintRuleMatcher less = new BlueprintRuleMatcher(slt, "varN < numU1", "-\\infty,numU1-1");
+        BlueprintRuleMatcher any = new BlueprintRuleMatcher(slt, "varN", "-\\infty,\\infty");
+
+        BlueprintIndex<BlueprintRuleMatcher> index = new BlueprintIndex<>();
+        index.add(eq);
+        index.add(leqLess);
+        index.add(less);
+        index.add(any);
+        assertEquals(4, index.size());
+
+        assertEquals(List.of(eq, any), index.candidates(Set.of("n", "=", "1")));
+        assertEquals(List.of(less, any), index.candidates(Set.of("n", "<", "1")));
+        assertEquals(List.of(leqLess, less, any), index.candidates(Set.of("0", "\\leq", "n", "<", "1")));
+        assertEquals(List.of(any), index.candidates(Set.of("n")));
+    }
+}
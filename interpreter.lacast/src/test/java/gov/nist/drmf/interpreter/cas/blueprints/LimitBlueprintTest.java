@@ -324,4 +324,46 @@ public class LimitBlueprintTest {
         assertNull(btmaster.findMatchingLimit(false, ""));
         assertNull(btmaster.findMatchingLimit(false));
     }
+
+    @Test
+    public void memoizedLimitTest() {
+        MathematicalEssentialOperatorMetadata limit = btmaster.findMatchingLimit(BlueprintMaster.LIMITED, "k = 1");
+        int memoized = btmaster.getMemoSize();
+        assertSame(limit, btmaster.findMatchingLimit(BlueprintMaster.LIMITED, "k = 1"));
+        assertEquals(memoized, btmaster.getMemoSize());
+
+        // the same bound of a limit is not a bound of a sum
+        assertNotSame(limit, btmaster.findMatchingLimit(BlueprintMaster.LIM, "k = 1"));
+
+        // memoized limits are immutable
+        assertThrows(UnsupportedOperationException.class, () -> limit.getVars().add("x"));
+        MathematicalEssentialOperatorMetadata overwritten = limit.withUpperLimit("n");
+        assertEquals("n", overwritten.getUpper().get(0));
+        assertEquals("infinity", limit.getUpper().get(0));
+    }
+
+    @Test
+    public void memoizedTranslationTest() throws Exception {
+        String sum = "\\sum_{n=0}^\\infty \\frac{x^n}{n!} + \\sum_{n=0}^{N} n";
+        String expected = slt.translate(sum);
+        assertEquals(expected, slt.translate(sum));
+        assertEquals("sum(((x)^(n))/(factorial(n)), n = 0..infinity)+ sum(n, n = 0..N)", expected);
+    }
+
+    @Test
+    public void sharedMatchTest() throws Exception {
+        MathematicalEssentialOperatorMetadata mapleLimit = btmaster.findMatchingLimit(BlueprintMaster.LIMITED, "j = 1");
+        int shared = BlueprintMaster.getSharedMatchesSize();
+
+        // the master of another target reuses the match but translates the limits to its own language
+        BlueprintMaster mathematicaMaster = new SemanticLatexTranslator(Keys.KEY_MATHEMATICA).getBlueprintMaster();
+        MathematicalEssentialOperatorMetadata mathematicaLimit =
+                mathematicaMaster.findMatchingLimit(BlueprintMaster.LIMITED, "j = 1");
+        assertEquals(shared, BlueprintMaster.getSharedMatchesSize());
+        assertEquals(1, mathematicaMaster.getMemoSize());
+        assertEquals("infinity", mapleLimit.getUpper().get(0));
+        assertEquals("Infinity", mathematicaLimit.getUpper().get(0));
+        assertEquals(mapleLimit.getVars(), mathematicaLimit.getVars());
+        assertEquals(mapleLimit.getLower(), mathematicaLimit.getLower());
+    }
 }
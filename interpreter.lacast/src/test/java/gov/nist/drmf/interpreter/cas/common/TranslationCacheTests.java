@@ -0,0 +1,185 @@
+package gov.nist.drmf.interpreter.cas.common;
+
+import gov.nist.drmf.interpreter.cas.logging.TranslatedExpression;
+import gov.nist.drmf.interpreter.cas.translation.SemanticLatexTranslator;
+import gov.nist.drmf.interpreter.common.TranslationInformation;
+import gov.nist.drmf.interpreter.common.constants.Keys;
+import gov.nist.drmf.interpreter.common.exceptions.InitTranslatorException;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import gov.nist.drmf.interpreter.pom.generic.GenericFunctionAnnotator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class TranslationCacheTests {
+
+    @Test
+    public void cachedTranslationTest() throws InitTranslatorException {
+        SemanticLatexTranslator slt = createTranslator(new TranslationCache(10));
+        TranslationCache cache = slt.getConfig().getTranslationCache();
+
+        TranslationInformation first = slt.translateToObject("\\JacobiP{\\alpha}{\\beta}{n}@{\\cos@{a\\Theta}} + x");
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        TranslationInformation second = slt.translateToObject("\\JacobiP{\\alpha}{\\beta}{n}@{\\cos@{a\\Theta}} + x");
+        assertEquals(1, cache.getHits());
+        assertSame(first, second);
+        assertEquals("JacobiP(n, alpha, beta, cos(a*Theta))+ x", second.getTranslatedExpression());
+        assertEquals(List.of("Theta", "a", "alpha", "beta", "n", "x"), List.copyOf(second.getFreeVariables().getFreeVariables()));
+        assertEquals(second.getTranslatedExpression(), slt.getTranslatedExpression());
+        assertSame(second, slt.getTranslationInformation());
+
+        assertTrue(second.isUnmodifiable());
+        assertThrows(UnsupportedOperationException.class, () -> second.setTranslatedExpression("x"));
+        assertThrows(UnsupportedOperationException.class, () -> second.getRequiredPackages().add("package"));
+        assertTrue(second.getFreeVariables().isUnmodifiable());
+        assertThrows(UnsupportedOperationException.class, () -> second.getFreeVariables().addFreeVariable("y"));
+        assertThrows(UnsupportedOperationException.class, () -> second.getFreeVariables().clear());
+        assertFalse(second.getFreeVariables().getFreeVariables().contains("y"));
+    }
+
+    @Test
+    public void cachedPartialTranslationsTest() throws InitTranslatorException {
+        ForwardTranslationProcessConfig config = new ForwardTranslationProcessConfig(Keys.KEY_MAPLE);
+        config.setTranslationCache(new TranslationCache(10));
+        PartialTranslationsTranslator slt = new PartialTranslationsTranslator(config);
+
+        TranslationInformation first = slt.translateToObject("\\sin@{x} = y \\pm 1");
+        List<String> partials = slt.getPartialTranslatedExpressions();
+        assertEquals(2, partials.size());
+
+        TranslationInformation second = slt.translateToObject("\\sin@{x} = y \\pm 1");
+        assertEquals(1, config.getTranslationCache().getHits());
+        assertSame(first, second);
+        assertEquals(partials, slt.getPartialTranslatedExpressions());
+        assertEquals(
+                first.getFreeVariables().getFreeVariables(),
+                slt.getTranslatedExpressionObject().getFreeVariables().getFreeVariables()
+        );
+    }
+
+    @Test
+    public void flagsAndFeaturesTest() throws InitTranslatorException {
+        TranslationCache cache = new TranslationCache(10);
+        SemanticLatexTranslator maple = createTranslator(cache);
+        SemanticLatexTranslator mathematica = new SemanticLatexTranslator(new ForwardTranslationProcessConfig(Keys.KEY_MATHEMATICA));
+        mathematica.getConfig().setTranslationCache(cache);
+
+        TranslationInformation mapleTI = maple.translateToObject("\\cpi");
+        TranslationInformation mathematicaTI = mathematica.translateToObject("\\cpi");
+        assertEquals("Pi", mapleTI.getTranslatedExpression());
+        assertEquals("Pi", mathematicaTI.getTranslatedExpression());
+        assertNotSame(mapleTI, mathematicaTI);
+        assertEquals(2, cache.getMisses());
+
+        maple.getConfig().setInlinePackageMode(true);
+        maple.translateToObject("\\cpi");
+        assertEquals(3, cache.getMisses());
+
+        // the extensive output changes the logged translation information
+        maple.getConfig().shortenOutput(false);
+        maple.translateToObject("\\cpi");
+        assertEquals(4, cache.getMisses());
+        maple.getConfig().shortenOutput(true);
+
+        maple.translateToObjectFeatured("f(x)", new GenericFunctionAnnotator());
+        maple.translateToObjectFeatured("f(x)", new GenericFunctionAnnotator());
+        assertEquals(1, cache.getHits());
+
+        // features without a cache key are never cached
+        maple.translateToObjectFeatured("f(x)", pte -> pte);
+        assertEquals(1, cache.getHits());
+        assertEquals(5, cache.getMisses());
+        assertEquals(5, cache.size());
+    }
+
+    @Test
+    public void tolerantModeTest() throws InitTranslatorException {
+        SemanticLatexTranslator strict = createTranslator(new TranslationCache(10));
+        TranslationCache cache = strict.getConfig().getTranslationCache();
+        SemanticLatexTranslator tolerant = new SemanticLatexTranslator(strict.getConfig());
+        tolerant.setTolerant(true);
+
+        tolerant.translateToObject("\\cpi");
+        strict.translateToObject("\\cpi");
+        assertEquals(0, cache.getHits());
+        assertEquals(2, cache.getMisses());
+
+        strict.translateToObject("\\cpi");
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void evictionTest() throws InitTranslatorException {
+        SemanticLatexTranslator slt = createTranslator(new TranslationCache(2));
+        TranslationCache cache = slt.getConfig().getTranslationCache();
+
+        slt.translateToObject("x");
+        slt.translateToObject("y");
+        slt.translateToObject("x");
+        slt.translateToObject("z");
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+
+        // y was the least recently used translation
+        slt.translateToObject("x");
+        slt.translateToObject("y");
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    public void persistenceTest(@TempDir Path tmpDir) throws InitTranslatorException, IOException {
+        SemanticLatexTranslator slt = createTranslator(new TranslationCache(10));
+        TranslationInformation orig = slt.translateToObject("\\sin@{x} = y \\pm 1");
+        Path path = tmpDir.resolve("cache.jsonl");
+        slt.getConfig().getTranslationCache().save(path);
+
+        TranslationCache loaded = TranslationCache.load(path, 10);
+        assertEquals(1, loaded.size());
+        slt.getConfig().setTranslationCache(loaded);
+
+        TranslationInformation cached = slt.translateToObject("\\sin@{x} = y \\pm 1");
+        assertEquals(1, loaded.getHits());
+        assertEquals(orig.getTranslatedExpression(), cached.getTranslatedExpression());
+        assertEquals(orig.getExpression(), cached.getExpression());
+        assertEquals(orig.getFreeVariables().getFreeVariables(), cached.getFreeVariables().getFreeVariables());
+        assertEquals(orig.getRelationalComponents().getComponents(), cached.getRelationalComponents().getComponents());
+        assertEquals(orig.getRelationalComponents().getRelations(), cached.getRelationalComponents().getRelations());
+        assertEquals(orig.getTranslationInformation().toString(), cached.getTranslationInformation().toString());
+        assertEquals(2, cached.getPartialTranslations().size());
+        assertEquals(
+                orig.getPartialTranslations().get(1).getTranslatedExpression(),
+                cached.getPartialTranslations().get(1).getTranslatedExpression()
+        );
+    }
+
+    private static class PartialTranslationsTranslator extends SemanticLatexTranslator {
+        PartialTranslationsTranslator(ForwardTranslationProcessConfig config) throws InitTranslatorException {
+            super(config);
+        }
+
+        List<String> getPartialTranslatedExpressions() {
+            return getListOfPartialTranslations().stream()
+                    .map(TranslatedExpression::getTranslatedExpression)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static SemanticLatexTranslator createTranslator(TranslationCache cache) throws InitTranslatorException {
+        ForwardTranslationProcessConfig config = new ForwardTranslationProcessConfig(Keys.KEY_MAPLE);
+        config.setTranslationCache(cache);
+        return new SemanticLatexTranslator(config);
+    }
+}
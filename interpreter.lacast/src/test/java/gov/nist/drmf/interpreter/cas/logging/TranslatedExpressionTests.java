@@ -4,8 +4,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.LinkedList;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Andre Greiner-Petter
@@ -53,6 +52,61 @@ public class TranslatedExpressionTests {
         assertTrue(!match4.matches(regex));
     }
 
+    @Test
+    public void relationSymbolTrackingTest() {
+        TranslatedExpression te = generateTE("x", "=");
+        te.tagLastElementAsRelation();
+        assertTrue(te.endedOnRelationSymbol());
+
+        te.addTranslatedExpression("y");
+        te.addTranslatedExpression("<");
+        te.tagLastElementAsRelation();
+        te.addTranslatedExpression("z");
+        assertFalse(te.endedOnRelationSymbol());
+        assertEquals("z", te.getElementsAfterRelation().toString());
+
+        // removing the last relation reveals the previous one
+        te.removeLastExpression();
+        te.removeLastExpression();
+        assertEquals("y", te.getElementsAfterRelation().toString());
+
+        TranslatedExpression sub = te.removeLastNExps(2);
+        assertEquals("x", te.toString());
+        assertEquals("=y", sub.toString());
+        assertFalse(te.containsRelationSymbol());
+    }
+
+    @Test
+    public void relationalComponentsTrackingTest() {
+        TranslatedExpression te = generateTE("a");
+        te.appendRelationalComponent("a");
+        te.appendRelationalRelation("=");
+
+        TranslatedExpression other = generateTE("b", "+", "c");
+        other.appendRelationalComponent("b+c");
+        te.addTranslatedExpression(other);
+
+        // the last components are the components of the appended expression
+        te.appendRelationalComponent("d");
+        assertEquals("[b+c, d]", te.getLastRelationalComponent().getComponents().toString());
+        assertEquals("[a, b+c, d]", te.getAllRelationalComponents().getComponents().toString());
+
+        TranslatedExpression sub = te.removeLastNExps(3);
+        assertEquals("[b+c, d]", sub.getAllRelationalComponents().getComponents().toString());
+        assertEquals("[a]", te.getLastRelationalComponent().getComponents().toString());
+    }
+
+    @Test
+    public void mergeTest() {
+        TranslatedExpression te = generateTE("a", "+", "b", "*", "c");
+        te.mergeLastNExpressions(3);
+        assertEquals(3, te.getLength());
+        assertEquals("b*c", te.getLastExpression());
+        assertEquals(3, te.mergeAllWithParenthesis());
+        assertEquals("(a+b*c)", te.toString());
+        assertEquals(1, te.getLength());
+    }
+
     private TranslatedExpression generateTE(String... elements) {
         TranslatedExpression te = new TranslatedExpression();
         for ( String e : elements ) te.addTranslatedExpression(e);
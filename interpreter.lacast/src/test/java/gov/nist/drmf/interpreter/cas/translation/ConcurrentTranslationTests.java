@@ -0,0 +1,93 @@
+package gov.nist.drmf.interpreter.cas.translation;
+
+import gov.nist.drmf.interpreter.common.TranslationInformation;
+import gov.nist.drmf.interpreter.common.constants.Keys;
+import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
+import gov.nist.drmf.interpreter.common.tests.TranslationTestCase;
+import gov.nist.drmf.interpreter.common.tests.TranslationTestCaseProvider;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that a single translator instance can serve multiple threads at the same time.
+ *
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class ConcurrentTranslationTests {
+    private static final String[] TEST_FILES = new String[]{
+            "translations/Sums.json",
+            "translations/Limits.json",
+            "translations/SpecialFunctions.json"
+    };
+
+    @Test
+    public void sharedTranslatorEqualsSequentialTest() throws Exception {
+        List<String> expressions = new LinkedList<>();
+        for ( String file : TEST_FILES ) {
+            TranslationTestCaseProvider.provideTestCases(file)
+                    .map(TranslationTestCase::getLatex)
+                    .forEach(expressions::add);
+        }
+        expressions.add("a \\pm b = c");
+        expressions.add("\\{ x, y \\}");
+
+        SemanticLatexTranslator slt = new SemanticLatexTranslator(Keys.KEY_MAPLE);
+        List<String> expected = new LinkedList<>();
+        for ( String expression : expressions ) expected.add(translate(slt, expression));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            // every expression is translated multiple times in different orders
+            List<Future<String>> results = new LinkedList<>();
+            for ( int round = 0; round < 4; round++ ) {
+                for ( String expression : expressions ) {
+                    results.add(executor.submit(() -> translate(slt, expression)));
+                }
+            }
+
+            Iterator<Future<String>> resultIterator = results.iterator();
+            for ( int round = 0; round < 4; round++ ) {
+                for ( String expectedTranslation : expected ) {
+                    assertEquals(expectedTranslation, resultIterator.next().get());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void translationInformationPerThreadTest() throws Exception {
+        SemanticLatexTranslator slt = new SemanticLatexTranslator(Keys.KEY_MAPLE);
+        TranslationInformation first = slt.translateToObject("\\JacobiP{\\alpha}{\\beta}{n}@{\\cos@{a\\Theta}}");
+
+        Thread other = new Thread(() -> slt.translateToObject("\\cpi"));
+        other.start();
+        other.join();
+
+        // the translation of the other thread does not change the last translation of this thread
+        assertSame(first, slt.getTranslationInformation());
+        assertEquals(first.getTranslatedExpression(), slt.getTranslatedExpression());
+    }
+
+    private static String translate(SemanticLatexTranslator slt, String expression) {
+        try {
+            TranslationInformation ti = slt.translateToObject(expression);
+            String partialTranslations = ti.getPartialTranslations().stream()
+                    .map(TranslationInformation::getTranslatedExpression)
+                    .collect(Collectors.joining("; "));
+            return ti.getTranslatedExpression() + " [" + partialTranslations + "] " + ti.getFreeVariables().getFreeVariables();
+        } catch (TranslationException te) {
+            return "Error: " + te.getMessage();
+        }
+    }
+}
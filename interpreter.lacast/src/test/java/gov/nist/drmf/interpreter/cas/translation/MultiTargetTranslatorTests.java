@@ -0,0 +1,106 @@
+package gov.nist.drmf.interpreter.cas.translation;
+
+import gov.nist.drmf.interpreter.cas.common.ForwardTranslationProcessConfig;
+import gov.nist.drmf.interpreter.cas.common.TranslationCache;
+import gov.nist.drmf.interpreter.common.TranslationInformation;
+import gov.nist.drmf.interpreter.common.constants.Keys;
+import gov.nist.drmf.interpreter.common.exceptions.TranslationException;
+import gov.nist.drmf.interpreter.common.tests.TranslationTestCase;
+import gov.nist.drmf.interpreter.common.tests.TranslationTestCaseProvider;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class MultiTargetTranslatorTests {
+    private static final String[] TEST_FILES = new String[]{
+            "translations/Sums.json",
+            "translations/Limits.json",
+            "translations/SpecialFunctions.json"
+    };
+
+    @Test
+    public void equalsStandaloneTest() throws Exception {
+        List<String> expressions = new LinkedList<>();
+        for ( String file : TEST_FILES ) {
+            TranslationTestCaseProvider.provideTestCases(file)
+                    .map(TranslationTestCase::getLatex)
+                    .forEach(expressions::add);
+        }
+        expressions.add("a \\pm b = c");
+        expressions.add("\\{ x, y \\}");
+
+        SemanticLatexTranslator maple = new SemanticLatexTranslator(Keys.KEY_MAPLE);
+        SemanticLatexTranslator mathematica = new SemanticLatexTranslator(Keys.KEY_MATHEMATICA);
+        MultiTargetTranslator multi = new MultiTargetTranslator(maple, mathematica);
+        assertEquals(List.of(Keys.KEY_MAPLE, Keys.KEY_MATHEMATICA), List.copyOf(multi.getTargetLanguages()));
+
+        for ( String expression : expressions ) {
+            String expectedMaple = translate(maple, expression);
+            String expectedMathematica = translate(mathematica, expression);
+
+            if ( expectedMaple == null || expectedMathematica == null ) {
+                assertThrows(TranslationException.class, () -> multi.translateToObjects(expression), expression);
+                continue;
+            }
+
+            Map<String, TranslationInformation> results = multi.translateToObjects(expression);
+            assertEquals(expectedMaple, toString(results.get(Keys.KEY_MAPLE)), expression);
+            assertEquals(expectedMathematica, toString(results.get(Keys.KEY_MATHEMATICA)), expression);
+            assertSame(results.get(Keys.KEY_MATHEMATICA), mathematica.getTranslationInformation());
+        }
+    }
+
+    @Test
+    public void cachedTargetsTest() throws Exception {
+        ForwardTranslationProcessConfig config = new ForwardTranslationProcessConfig(Keys.KEY_MAPLE);
+        TranslationCache cache = new TranslationCache(10);
+        config.setTranslationCache(cache);
+        SemanticLatexTranslator maple = new SemanticLatexTranslator(config);
+        SemanticLatexTranslator mathematica = new SemanticLatexTranslator(Keys.KEY_MATHEMATICA);
+        MultiTargetTranslator multi = new MultiTargetTranslator(maple, mathematica);
+
+        TranslationInformation standalone = maple.translateToObject("\\sin@{x} + \\cpi");
+        Map<String, TranslationInformation> results = multi.translateToObjects("\\sin@{x} + \\cpi");
+        assertSame(standalone, results.get(Keys.KEY_MAPLE));
+        assertEquals(1, cache.getHits());
+        assertEquals("Sin[x]+ Pi", results.get(Keys.KEY_MATHEMATICA).getTranslatedExpression());
+
+        results = multi.translateToObjects("\\cos@{x}");
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertSame(results.get(Keys.KEY_MAPLE), maple.translateToObject("\\cos@{x}"));
+    }
+
+    @Test
+    public void emptyTest() throws Exception {
+        MultiTargetTranslator multi = new MultiTargetTranslator(Keys.KEY_MAPLE, Keys.KEY_MATHEMATICA, Keys.KEY_MAPLE);
+        Map<String, TranslationInformation> results = multi.translateToObjects("");
+        assertEquals(2, results.size());
+        assertEquals("", results.get(Keys.KEY_MAPLE).getTranslatedExpression());
+    }
+
+    private static String translate(SemanticLatexTranslator slt, String expression) {
+        try {
+            return toString(slt.translateToObject(expression));
+        } catch (TranslationException te) {
+            return null;
+        }
+    }
+
+    private static String toString(TranslationInformation ti) {
+        String partialTranslations = ti.getPartialTranslations().stream()
+                .map(TranslationInformation::getTranslatedExpression)
+                .collect(Collectors.joining("; "));
+        return ti.getTranslatedExpression() + " [" + partialTranslations + "] "
+                + ti.getFreeVariables().getFreeVariables() + " " + ti.getRequiredPackages()
+                + " " + ti.getTranslationInformation().toString();
+    }
+}
@@ -0,0 +1,64 @@
+package gov.nist.drmf.interpreter.cas.translation.components.util;
+
+import gov.nist.drmf.interpreter.common.constants.Keys;
+import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
+import mlp.FeatureSet;
+import mlp.ParseException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class MacroTranslationTableTests {
+    @Test
+    void compileOnceTest() throws ParseException {
+        FeatureSet fset = getMacroFeatureSet("\\acot@{x}");
+        FeatureSet otherOccurrence = getMacroFeatureSet("\\acot@{y} + 1");
+        assertSame(fset, otherOccurrence);
+
+        MacroTranslationTable table = MacroTranslationTable.getTable(Keys.KEY_MAPLE);
+        MacroTranslationInformation info = table.getTranslationInformation(fset);
+        assertSame(info, table.getTranslationInformation(otherOccurrence));
+        assertSame(table, MacroTranslationTable.getTable(Keys.KEY_MAPLE));
+
+        assertEquals(0, info.getNumOfOptionalParas());
+        assertEquals(0, info.getNumOfParams());
+        assertEquals(2, info.getNumOfAts());
+        assertEquals(1, info.getNumOfVars());
+        assertEquals("arccot($0)", info.getTranslationPattern());
+        assertEquals(2, info.getAlternativePattern().size());
+        assertThrows(UnsupportedOperationException.class, () -> info.getAlternativePattern().add("acot($0)"));
+        assertFalse(info.requirePackages());
+    }
+
+    @Test
+    void perCasTest() throws ParseException {
+        FeatureSet fset = getMacroFeatureSet("\\acot@{x}");
+        MacroTranslationInformation maple = MacroTranslationTable.getTable(Keys.KEY_MAPLE).getTranslationInformation(fset);
+        MacroTranslationInformation mathematica = MacroTranslationTable.getTable(Keys.KEY_MATHEMATICA).getTranslationInformation(fset);
+        assertNotSame(maple, mathematica);
+        assertEquals("arccot($0)", maple.getTranslationPattern());
+        assertEquals("ArcCot[$0]", mathematica.getTranslationPattern());
+    }
+
+    @Test
+    void slotOfDifferentiationTest() throws ParseException {
+        FeatureSet fset = getMacroFeatureSet("\\JacobiP{\\alpha}{\\beta}{n}@{x}");
+        MacroTranslationInformation info = MacroTranslationTable.getTable(Keys.KEY_MAPLE).getTranslationInformation(fset);
+        assertEquals(3, info.getNumOfParams());
+        assertEquals(1, info.getNumOfVars());
+        // the slot of differentiation includes the parameters
+        assertTrue(info.hasSlotOfDifferentiation());
+        assertEquals(4, info.getSlotOfDifferentiation());
+    }
+
+    private static FeatureSet getMacroFeatureSet(String latex) throws ParseException {
+        PrintablePomTaggedExpression ppte = SemanticMLPWrapper.getStandardInstance().parse(latex);
+        return ppte.getPrintableComponents().get(0).getRoot().getNamedFeatureSet(Keys.KEY_DLMF_MACRO);
+    }
+}
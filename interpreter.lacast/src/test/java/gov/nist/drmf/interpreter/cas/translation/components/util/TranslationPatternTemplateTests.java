@@ -0,0 +1,44 @@
+package gov.nist.drmf.interpreter.cas.translation.components.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+public class TranslationPatternTemplateTests {
+    @Test
+    void fillTest() {
+        TranslationPatternTemplate template = TranslationPatternTemplate.compile("JacobiP($3, $0, $1, $2)");
+        assertEquals(4, template.getNumberOfSlots());
+        assertEquals("JacobiP(x, a, b, n)", template.fill(new String[]{"a", "b", "n", "x"}));
+    }
+
+    @Test
+    void repeatedSlotsTest() {
+        TranslationPatternTemplate template = TranslationPatternTemplate.compile("$0^2+$0");
+        assertEquals("x^2+x", template.fill(new String[]{"x"}));
+    }
+
+    @Test
+    void literalOnlyTest() {
+        TranslationPatternTemplate template = TranslationPatternTemplate.compile("Pi");
+        assertEquals(0, template.getNumberOfSlots());
+        assertEquals("Pi", template.fill(new String[0]));
+    }
+
+    @Test
+    void missingArgumentsTest() {
+        TranslationPatternTemplate template = TranslationPatternTemplate.compile("f($0, $1)$");
+        assertEquals("f(x, $1)$", template.fill(new String[]{"x"}));
+        assertThrows(NullPointerException.class, () -> template.fill(new String[]{"x", null}));
+    }
+
+    @Test
+    void argumentsAreNotFilledAgainTest() {
+        // the argument of the first slot contains a marker itself, but it must not be replaced
+        TranslationPatternTemplate template = TranslationPatternTemplate.compile("f($0, $1)");
+        assertEquals("f(g($1), y)", template.fill(new String[]{"g($1)", "y"}));
+    }
+}
@@ -8,12 +8,15 @@ import gov.nist.drmf.interpreter.common.eval.INumericalEvaluationScripts;
 import gov.nist.drmf.interpreter.common.eval.ISymbolicTestCases;
 import gov.nist.drmf.interpreter.common.eval.NativeComputerAlgebraInterfaceBuilder;
 import gov.nist.drmf.interpreter.common.exceptions.CASUnavailableException;
+import gov.nist.drmf.interpreter.common.process.ProcessKeys;
 import gov.nist.drmf.interpreter.common.process.RmiSubprocessInfo;
+import gov.nist.drmf.interpreter.maple.common.MapleConfig;
 import gov.nist.drmf.interpreter.maple.common.MapleConstants;
 import gov.nist.drmf.interpreter.maple.common.MapleScriptHandler;
 import gov.nist.drmf.interpreter.maple.common.SymbolicMapleEvaluatorTypes;
 import gov.nist.drmf.interpreter.maple.secure.DefaultMapleRmiServerSubprocessInfo;
 import gov.nist.drmf.interpreter.maple.secure.MapleRmiClient;
+import gov.nist.drmf.interpreter.maple.secure.MapleRmiClientPool;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -25,16 +28,41 @@ import java.io.IOException;
 public class MapleConnector implements NativeComputerAlgebraInterfaceBuilder {
     private static final Logger LOG = LogManager.getLogger(MapleConnector.class.getName());
 
-    private final MapleRmiClient mapleClient;
+    private final MapleRmiClientPool mapleClient;
     private MapleScriptHandler scriptHandler;
     private boolean loadedScripts = false;
 
+    /**
+     * Starts as many Maple JVMs as specified by 'kernels' in the Maple section of lacast.config.yaml (default 1).
+     * @throws CASUnavailableException if Maple cannot be started
+     */
     public MapleConnector() throws CASUnavailableException {
-        this(new DefaultMapleRmiServerSubprocessInfo());
+        this(new MapleRmiClientPool(MapleConfig.loadNumberOfWorkers()));
     }
 
+    /**
+     * Starts a single Maple JVM with the given settings.
+     * @param casSubprocessInfo the settings of the Maple JVM
+     * @throws CASUnavailableException if Maple cannot be started
+     */
     public MapleConnector(RmiSubprocessInfo casSubprocessInfo) throws CASUnavailableException {
-        this.mapleClient = new MapleRmiClient(casSubprocessInfo);
+        this(casSubprocessInfo, ProcessKeys.DEFAULT_RMI_PORT);
+    }
+
+    /**
+     * Starts a single Maple JVM with the given settings on the given port.
+     * @param casSubprocessInfo the settings of the Maple JVM
+     * @param port the port of the RMI registry of the Maple JVM
+     * @throws CASUnavailableException if Maple cannot be started
+     */
+    public MapleConnector(RmiSubprocessInfo casSubprocessInfo, int port) throws CASUnavailableException {
+        this(new MapleRmiClientPool(
+                1, port, p -> new MapleRmiClient(casSubprocessInfo, p)
+        ));
+    }
+
+    private MapleConnector(MapleRmiClientPool mapleClientPool) throws CASUnavailableException {
+        this.mapleClient = mapleClientPool;
         this.mapleClient.start();
         try {
             this.scriptHandler = new MapleScriptHandler();
@@ -44,6 +72,18 @@ public class MapleConnector implements NativeComputerAlgebraInterfaceBuilder {
         }
     }
 
+    /**
+     * Creates a connector to an additional Maple JVM that is independent of the JVMs of the default
+     * connector {@link #MapleConnector()}. The additional JVMs use the ports after the ports of the default connector.
+     * @param index the index of the additional connector (starting with 1)
+     * @return a new connector to its own Maple JVM
+     * @throws CASUnavailableException if Maple cannot be started
+     */
+    public static MapleConnector createIndependentConnector(int index) throws CASUnavailableException {
+        int port = ProcessKeys.DEFAULT_RMI_PORT + MapleConfig.loadNumberOfWorkers() + index - 1;
+        return new MapleConnector(new DefaultMapleRmiServerSubprocessInfo(port), port);
+    }
+
     public static boolean isMapleAvailable() {
         return MapleRmiClient.isMaplePresent();
     }
@@ -97,4 +137,12 @@ public class MapleConnector implements NativeComputerAlgebraInterfaceBuilder {
     public String[] getNumericProcedures() {
         return scriptHandler.getNumericProcedures();
     }
+
+    /**
+     * Stops the Maple JVMs of this connector.
+     */
+    @Override
+    public void shutdown() {
+        mapleClient.stop();
+    }
 }
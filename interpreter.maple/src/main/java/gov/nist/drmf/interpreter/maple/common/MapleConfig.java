@@ -77,6 +77,15 @@ public final class MapleConfig {
         }
     }
 
+    /**
+     * @return the number of Maple JVMs (workers) that can run in parallel (at least 1)
+     */
+    public static int loadNumberOfWorkers() {
+        CASConfig config = getMapleConfig();
+        if ( config == null ) return 1;
+        return config.getNumberOfKernels();
+    }
+
     private static CASConfig getMapleConfig() {
         Config config = ConfigDiscovery.getConfig();
         return config.getCasConfigs().get(Keys.KEY_MAPLE);
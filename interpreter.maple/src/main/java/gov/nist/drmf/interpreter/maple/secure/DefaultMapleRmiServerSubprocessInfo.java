@@ -1,5 +1,6 @@
 package gov.nist.drmf.interpreter.maple.secure;
 
+import gov.nist.drmf.interpreter.common.process.ProcessKeys;
 import gov.nist.drmf.interpreter.common.process.RmiSubprocessInfo;
 
 import java.util.List;
@@ -8,6 +9,19 @@ import java.util.List;
  * @author Andre Greiner-Petter
  */
 public class DefaultMapleRmiServerSubprocessInfo implements RmiSubprocessInfo {
+    private final int port;
+
+    public DefaultMapleRmiServerSubprocessInfo() {
+        this(ProcessKeys.DEFAULT_RMI_PORT);
+    }
+
+    /**
+     * @param port the port of the RMI registry the Maple JVM should create
+     */
+    public DefaultMapleRmiServerSubprocessInfo(int port) {
+        this.port = port;
+    }
+
     @Override
     public String getClassName() {
         return MapleRmiServer.class.getName();
@@ -18,7 +32,8 @@ public class DefaultMapleRmiServerSubprocessInfo implements RmiSubprocessInfo {
         return List.of(
                 "-XX:HeapDumpPath=/dev/null",
                 "-Xms10g",
-                "-Xss500M"
+                "-Xss500M",
+                ProcessKeys.rmiPortArgument(port)
         );
     }
 }
@@ -1,11 +1,10 @@
 package gov.nist.drmf.interpreter.maple.secure;
 
-import gov.nist.drmf.interpreter.common.cas.IAbortEvaluator;
-import gov.nist.drmf.interpreter.common.cas.ICASEngine;
 import gov.nist.drmf.interpreter.common.constants.Keys;
 import gov.nist.drmf.interpreter.common.eval.*;
 import gov.nist.drmf.interpreter.common.exceptions.CASUnavailableException;
 import gov.nist.drmf.interpreter.common.exceptions.ComputerAlgebraSystemEngineException;
+import gov.nist.drmf.interpreter.common.process.ProcessKeys;
 import gov.nist.drmf.interpreter.common.process.RmiCasServer;
 import gov.nist.drmf.interpreter.common.process.RmiProcessHandler;
 import gov.nist.drmf.interpreter.common.process.RmiSubprocessInfo;
@@ -25,19 +24,38 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 /**
+ * The client of a single Maple JVM. The Maple JVM registers its {@link RmiCasServer} on its own
+ * RMI registry port. Hence, multiple clients with distinct ports can run side by side (see {@link MapleRmiClientPool}).
+ * <p>
+ * If the Maple JVM crashes, the client waits for it to restart. If it cannot be recovered, the client is marked
+ * as unhealthy and should be restarted via {@link #restart()}.
+ *
  * @author Andre Greiner-Petter
  */
-public class MapleRmiClient extends RmiProcessHandler
-        implements ICASEngine, IAbortEvaluator {
+public class MapleRmiClient extends RmiProcessHandler implements MapleRmiEngine {
     private static final Logger LOG = LogManager.getLogger(MapleRmiClient.class.getName());
 
+    private final int port;
+
     private RmiCasServer server;
 
+    private boolean healthy = true;
+
     private final MapleRmiClientNumericEvaluator numericEvaluator;
     private final MapleRmiClientSymbolicEvaluator symbolicEvaluator;
 
     public MapleRmiClient(RmiSubprocessInfo subprocessInfo) throws CASUnavailableException {
+        this(subprocessInfo, ProcessKeys.DEFAULT_RMI_PORT);
+    }
+
+    /**
+     * @param subprocessInfo the info to start the Maple JVM
+     * @param port the port of the RMI registry of the Maple JVM (must match the port the subprocess info
+     *             passes to the Maple JVM, see {@link DefaultMapleRmiServerSubprocessInfo#DefaultMapleRmiServerSubprocessInfo(int)})
+     */
+    public MapleRmiClient(RmiSubprocessInfo subprocessInfo, int port) throws CASUnavailableException {
         super(subprocessInfo);
+        this.port = port;
         numericEvaluator = new MapleRmiClientNumericEvaluator(this);
         symbolicEvaluator = new MapleRmiClientSymbolicEvaluator(this);
     }
@@ -80,17 +98,41 @@ public class MapleRmiClient extends RmiProcessHandler
         super.stop();
     }
 
+    /**
+     * Stops the Maple JVM and starts a new one.
+     * @throws CASUnavailableException if the new Maple JVM cannot be started
+     */
+    public synchronized void restart() throws CASUnavailableException {
+        LOG.info("Restart Maple JVM on port " + port);
+        stop();
+        start();
+    }
+
     private void setupRmiConnection() throws Exception {
-        super.start();
-        LOG.info("Started remote Maple JVM.");
-        Registry registry = LocateRegistry.getRegistry();
-        server = (RmiCasServer) registry.lookup(RmiCasServer.KEY + Keys.KEY_MAPLE);
+        server = connect();
         LOG.info("Initialize maple");
         server.init();
+        healthy = true;
     }
 
-    private static void waitUntilRecovered(CompletableFuture<?> processFuture) throws UnrecoverableProcessException {
+    /**
+     * Starts the Maple JVM and looks up its server on the registry of this client's port.
+     * @return the server of the Maple JVM (not yet initialized)
+     * @throws Exception if the JVM cannot be started or the server cannot be found
+     */
+    protected RmiCasServer connect() throws Exception {
+        super.start();
+        LOG.info("Started remote Maple JVM.");
+        Registry registry = LocateRegistry.getRegistry(port);
+        return (RmiCasServer) registry.lookup(RmiCasServer.KEY + Keys.KEY_MAPLE);
+    }
+
+    private void waitUntilRecovered(CompletableFuture<?> processFuture) throws UnrecoverableProcessException {
         try {
+            if ( processFuture == null ) {
+                LOG.warn("No running subprocess that could recover.");
+                throw new UnrecoverableProcessException();
+            }
             LOG.debug("Block continuing until the subprocess recovered.");
             Object resultObject = processFuture.get();
             LOG.debug("Finished waiting for process to be done.");
@@ -99,10 +141,28 @@ public class MapleRmiClient extends RmiProcessHandler
                 throw new UnrecoverableProcessException();
             }
         } catch (CancellationException | InterruptedException | ExecutionException e) {
+            healthy = false;
             throw new UnrecoverableProcessException(e);
+        } catch (UnrecoverableProcessException e) {
+            healthy = false;
+            throw e;
         }
     }
 
+    /**
+     * @return false if the Maple JVM crashed and was not recovered, otherwise true
+     */
+    public synchronized boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * @return the port of the RMI registry of the Maple JVM
+     */
+    public int getPort() {
+        return port;
+    }
+
     @Override
     public synchronized void setTimeout(EvaluatorType type, double timeoutInSeconds) {
         CompletableFuture<?> processFuture = super.getProcessFuture();
@@ -142,6 +202,7 @@ public class MapleRmiClient extends RmiProcessHandler
         return MapleInterface.buildMapleList(list);
     }
 
+    @Override
     public synchronized void setGlobalNumericAssumptions(List<String> assumptions) throws ComputerAlgebraSystemEngineException {
         CompletableFuture<?> processFuture = super.getProcessFuture();
         try {
@@ -152,6 +213,7 @@ public class MapleRmiClient extends RmiProcessHandler
         }
     }
 
+    @Override
     public synchronized void setGlobalSymbolicAssumptions(List<String> assumptions) throws ComputerAlgebraSystemEngineException {
         CompletableFuture<?> processFuture = super.getProcessFuture();
         try {
@@ -173,6 +235,7 @@ public class MapleRmiClient extends RmiProcessHandler
         }
     }
 
+    @Override
     public synchronized SymbolicResult performSymbolicTest(SymbolicalTest test) {
         CompletableFuture<?> processFuture = super.getProcessFuture();
         try {
@@ -184,6 +247,7 @@ public class MapleRmiClient extends RmiProcessHandler
         }
     }
 
+    @Override
     public synchronized NumericResult performNumericTest(NumericalTest test) throws ComputerAlgebraSystemEngineException {
         CompletableFuture<?> processFuture = super.getProcessFuture();
         try {
@@ -195,6 +259,7 @@ public class MapleRmiClient extends RmiProcessHandler
         }
     }
 
+    @Override
     public synchronized String generateNumericTestExpression(String expression) {
         return MapleNumericCalculator.generateNumericCalculationExpression(expression);
     }
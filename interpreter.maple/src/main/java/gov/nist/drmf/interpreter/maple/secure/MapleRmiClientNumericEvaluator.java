@@ -12,9 +12,9 @@ import java.util.List;
  * @author Andre Greiner-Petter
  */
 public class MapleRmiClientNumericEvaluator implements ICASEngineNumericalEvaluator {
-    private final MapleRmiClient mapleClient;
+    private final MapleRmiEngine mapleClient;
 
-    MapleRmiClientNumericEvaluator(MapleRmiClient mapleClient) {
+    MapleRmiClientNumericEvaluator(MapleRmiEngine mapleClient) {
         this.mapleClient = mapleClient;
     }
 
@@ -0,0 +1,354 @@
+package gov.nist.drmf.interpreter.maple.secure;
+
+import gov.nist.drmf.interpreter.common.cas.ICASEngineSession;
+import gov.nist.drmf.interpreter.common.eval.*;
+import gov.nist.drmf.interpreter.common.exceptions.CASUnavailableException;
+import gov.nist.drmf.interpreter.common.exceptions.ComputerAlgebraSystemEngineException;
+import gov.nist.drmf.interpreter.common.process.ProcessKeys;
+import gov.nist.drmf.interpreter.maple.extension.MapleInterface;
+import gov.nist.drmf.interpreter.maple.extension.MapleNumericCalculator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded pool of independent Maple JVMs (workers). Every worker runs its own
+ * {@link gov.nist.drmf.interpreter.common.process.RmiCasServer} on its own RMI registry port
+ * (the base port plus the index of the worker). A single worker evaluates one command at a time
+ * but multiple workers evaluate in parallel. Hence, a slow computation or a crash only blocks
+ * the worker it runs on.
+ * <p>
+ * Tests and commands are dispatched to the next idle worker. Global settings, i.e., timeouts, global
+ * assumptions, and global commands (see {@link #enterGlobalCommand(String)}), are applied to all workers and again
+ * to every restarted worker. A sequence of commands that depend on each other must be evaluated on the same worker.
+ * Hence, either borrow a worker for the entire sequence, use {@link #apply(WorkerFunction)}:
+ * <pre>{@code
+ * String result = pool.apply( worker -> {
+ *     worker.enterCommand("x := 1;");
+ *     return worker.enterCommand("x + 1;");
+ * });
+ * }</pre>
+ * or open a session (see {@link #openSession()}), which pins a worker to the current thread until the session
+ * is closed:
+ * <pre>{@code
+ * try ( ICASEngineSession session = pool.openSession() ) {
+ *     pool.enterCommand("x := 1;");
+ *     return pool.enterCommand("x + 1;");
+ * }
+ * }</pre>
+ * Workers that crashed and could not be recovered are restarted before they are handed out again.
+ *
+ * @author Andre Greiner-Petter
+ */
+public class MapleRmiClientPool implements MapleRmiEngine {
+    private static final Logger LOG = LogManager.getLogger(MapleRmiClientPool.class.getName());
+
+    private final List<MapleRmiClient> workers;
+
+    private final BlockingQueue<MapleRmiClient> idleWorkers;
+
+    private final Set<MapleRmiClient> borrowedWorkers;
+
+    private final MapleRmiClientNumericEvaluator numericEvaluator;
+    private final MapleRmiClientSymbolicEvaluator symbolicEvaluator;
+
+    private final Map<EvaluatorType, Double> timeouts = new EnumMap<>(EvaluatorType.class);
+    private List<String> numericAssumptions;
+    private List<String> symbolicAssumptions;
+    private final List<String> globalCommands = new LinkedList<>();
+
+    // the worker that is pinned to the current thread by an open session
+    private final ThreadLocal<MapleRmiClient> sessionWorker = new ThreadLocal<>();
+
+    /**
+     * Creates a pool of the given number of workers with the default Maple JVM settings.
+     * The workers use the ports 1099, 1100, and so on.
+     * @param size the number of workers (must be positive)
+     */
+    public MapleRmiClientPool(int size) {
+        this(size, ProcessKeys.DEFAULT_RMI_PORT,
+                port -> new MapleRmiClient(new DefaultMapleRmiServerSubprocessInfo(port), port));
+    }
+
+    /**
+     * Creates a pool of the given number of workers. The workers are not started until {@link #start()} is called.
+     * @param size the number of workers (must be positive)
+     * @param basePort the port of the first worker. The i-th worker uses the port basePort+i.
+     * @param clientFactory the factory to create the client for a worker on the given port
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public MapleRmiClientPool(int size, int basePort, MapleRmiClientFactory clientFactory) {
+        if ( size < 1 ) throw new IllegalArgumentException("The size of a worker pool must be positive but was " + size);
+        Objects.requireNonNull(clientFactory);
+
+        List<MapleRmiClient> workerList = new ArrayList<>(size);
+        this.idleWorkers = new ArrayBlockingQueue<>(size);
+        for ( int i = 0; i < size; i++ ) {
+            MapleRmiClient worker = clientFactory.create(basePort + i);
+            workerList.add(worker);
+            idleWorkers.add(worker);
+        }
+
+        this.workers = Collections.unmodifiableList(workerList);
+        this.borrowedWorkers = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        this.numericEvaluator = new MapleRmiClientNumericEvaluator(this);
+        this.symbolicEvaluator = new MapleRmiClientSymbolicEvaluator(this);
+        LOG.debug("Created pool of " + size + " Maple workers");
+    }
+
+    public MapleRmiClientNumericEvaluator getNumericEvaluator() {
+        return numericEvaluator;
+    }
+
+    public MapleRmiClientSymbolicEvaluator getSymbolicEvaluator() {
+        return symbolicEvaluator;
+    }
+
+    /**
+     * Starts all workers.
+     * @throws CASUnavailableException if a worker cannot be started
+     */
+    public void start() throws CASUnavailableException {
+        for ( MapleRmiClient worker : workers ) {
+            LOG.info("Start Maple worker on port " + worker.getPort());
+            worker.start();
+        }
+    }
+
+    /**
+     * Stops all workers.
+     */
+    public void stop() {
+        workers.forEach(MapleRmiClient::stop);
+    }
+
+    /**
+     * @return the number of workers in this pool
+     */
+    public int size() {
+        return workers.size();
+    }
+
+    /**
+     * @return the number of currently idle (not borrowed) workers
+     */
+    public int available() {
+        return idleWorkers.size();
+    }
+
+    /**
+     * @return all workers of this pool (borrowed or not)
+     */
+    public List<MapleRmiClient> getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Borrows a worker from the pool. If all workers are currently in use, this method waits until
+     * another thread gives back its worker. You must give back the worker via {@link #giveBack(MapleRmiClient)}
+     * once you finished your computations, otherwise the pool runs dry.
+     * @return a worker that is exclusively owned by the caller until it is given back
+     * @throws InterruptedException if the thread was interrupted while waiting for a free worker
+     * @throws CASUnavailableException if the worker was unhealthy and cannot be restarted
+     */
+    public MapleRmiClient borrow() throws InterruptedException, CASUnavailableException {
+        MapleRmiClient worker = idleWorkers.take();
+        if ( !worker.isHealthy() ) {
+            LOG.warn("Maple worker on port " + worker.getPort() + " is unhealthy. Restart it.");
+            try {
+                worker.restart();
+                applyGlobalSettings(worker);
+            } catch ( CASUnavailableException e ) {
+                idleWorkers.add(worker);
+                throw e;
+            } catch ( ComputerAlgebraSystemEngineException e ) {
+                idleWorkers.add(worker);
+                throw new CASUnavailableException("Unable to apply global settings on restarted Maple worker.", e);
+            }
+        }
+        borrowedWorkers.add(worker);
+        return worker;
+    }
+
+    /**
+     * Gives back a previously borrowed worker to the pool.
+     * @param worker the worker that was borrowed via {@link #borrow()}
+     * @throws IllegalArgumentException if the worker is not part of this pool or was not borrowed
+     */
+    public void giveBack(MapleRmiClient worker) {
+        if ( worker == null || workers.stream().noneMatch(w -> w == worker) )
+            throw new IllegalArgumentException("The given worker is not part of this pool.");
+        if ( !borrowedWorkers.remove(worker) )
+            throw new IllegalArgumentException("The given worker was not borrowed or was given back already.");
+        idleWorkers.add(worker);
+    }
+
+    /**
+     * Borrows a worker, applies the given function on it, and gives the worker back. All computations
+     * within the function are performed on the same worker.
+     * @param function the sequence of computations on a single worker
+     * @param <R> the type of the result
+     * @return the result of the function
+     * @throws ComputerAlgebraSystemEngineException if the function throws an exception or the thread was
+     *                                              interrupted while waiting for a free worker
+     */
+    public <R> R apply(WorkerFunction<R> function) throws ComputerAlgebraSystemEngineException {
+        MapleRmiClient pinnedWorker = sessionWorker.get();
+        if ( pinnedWorker != null ) return function.apply(pinnedWorker);
+
+        MapleRmiClient worker = borrowInterruptibly();
+        try {
+            return function.apply(worker);
+        } finally {
+            giveBack(worker);
+        }
+    }
+
+    private MapleRmiClient borrowInterruptibly() throws ComputerAlgebraSystemEngineException {
+        try {
+            return borrow();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ComputerAlgebraSystemEngineException(e);
+        }
+    }
+
+    /**
+     * Borrows a worker and pins it to the current thread. Until the session is closed, all commands and tests of
+     * the current thread are evaluated on this worker. A nested session keeps the worker of the outer session.
+     * @return the open session, which gives back the worker once it is closed
+     * @throws ComputerAlgebraSystemEngineException if the thread was interrupted while waiting for a free worker
+     */
+    @Override
+    public ICASEngineSession openSession() throws ComputerAlgebraSystemEngineException {
+        if ( sessionWorker.get() != null ) return () -> {};
+
+        MapleRmiClient worker = borrowInterruptibly();
+        sessionWorker.set(worker);
+        return () -> {
+            sessionWorker.remove();
+            giveBack(worker);
+        };
+    }
+
+    @Override
+    public String enterCommand(String command) throws ComputerAlgebraSystemEngineException {
+        return apply(worker -> worker.enterCommand(command));
+    }
+
+    /**
+     * Enters the command into all workers. Restarted workers receive the command again.
+     * @param command the command that changes the global state of the workers
+     * @throws ComputerAlgebraSystemEngineException if a worker was unable to process the command
+     */
+    @Override
+    public synchronized void enterGlobalCommand(String command) throws ComputerAlgebraSystemEngineException {
+        globalCommands.add(command);
+        for ( MapleRmiClient worker : getHealthyWorkers() ) worker.enterCommand(command);
+    }
+
+    @Override
+    public void forceGC() throws ComputerAlgebraSystemEngineException {
+        for ( MapleRmiClient worker : getHealthyWorkers() ) worker.forceGC();
+    }
+
+    @Override
+    public String buildList(List<String> list) {
+        return MapleInterface.buildMapleList(list);
+    }
+
+    /**
+     * Applies the global settings of this pool on a (restarted) worker.
+     */
+    private synchronized void applyGlobalSettings(MapleRmiClient worker) throws ComputerAlgebraSystemEngineException {
+        for ( Map.Entry<EvaluatorType, Double> timeout : timeouts.entrySet() ) {
+            if ( timeout.getValue() == null ) worker.disableTimeout(timeout.getKey());
+            else worker.setTimeout(timeout.getKey(), timeout.getValue());
+        }
+        if ( numericAssumptions != null ) worker.setGlobalNumericAssumptions(numericAssumptions);
+        if ( symbolicAssumptions != null ) worker.setGlobalSymbolicAssumptions(symbolicAssumptions);
+        for ( String command : globalCommands ) worker.enterCommand(command);
+    }
+
+    /**
+     * Unhealthy workers are skipped because they receive the global settings when they are restarted.
+     */
+    private List<MapleRmiClient> getHealthyWorkers() {
+        List<MapleRmiClient> healthyWorkers = new LinkedList<>();
+        for ( MapleRmiClient worker : workers ) {
+            if ( worker.isHealthy() ) healthyWorkers.add(worker);
+        }
+        return healthyWorkers;
+    }
+
+    @Override
+    public synchronized void setTimeout(EvaluatorType type, double timeoutInSeconds) {
+        timeouts.put(type, timeoutInSeconds);
+        for ( MapleRmiClient worker : getHealthyWorkers() ) worker.setTimeout(type, timeoutInSeconds);
+    }
+
+    @Override
+    public synchronized void disableTimeout(EvaluatorType type) {
+        timeouts.put(type, null);
+        for ( MapleRmiClient worker : getHealthyWorkers() ) worker.disableTimeout(type);
+    }
+
+    @Override
+    public synchronized void setGlobalNumericAssumptions(List<String> assumptions) throws ComputerAlgebraSystemEngineException {
+        numericAssumptions = assumptions;
+        for ( MapleRmiClient worker : getHealthyWorkers() ) worker.setGlobalNumericAssumptions(assumptions);
+    }
+
+    @Override
+    public synchronized void setGlobalSymbolicAssumptions(List<String> assumptions) throws ComputerAlgebraSystemEngineException {
+        symbolicAssumptions = assumptions;
+        for ( MapleRmiClient worker : getHealthyWorkers() ) worker.setGlobalSymbolicAssumptions(assumptions);
+    }
+
+    @Override
+    public SymbolicResult performSymbolicTest(SymbolicalTest test) {
+        try {
+            return apply(worker -> worker.performSymbolicTest(test));
+        } catch (ComputerAlgebraSystemEngineException e) {
+            String reason = Thread.currentThread().isInterrupted() ?
+                    "Interrupted while waiting for a free Maple worker." :
+                    "Unable to perform the symbolic test on a Maple worker.";
+            LOG.warn(reason + " Test was:\n" + test.getTestExpression(), e);
+            return new SymbolicResult().markAsCrashed();
+        }
+    }
+
+    @Override
+    public NumericResult performNumericTest(NumericalTest test) throws ComputerAlgebraSystemEngineException {
+        return apply(worker -> worker.performNumericTest(test));
+    }
+
+    @Override
+    public String generateNumericTestExpression(String expression) {
+        return MapleNumericCalculator.generateNumericCalculationExpression(expression);
+    }
+
+    /**
+     * Creates the client of a single worker.
+     */
+    @FunctionalInterface
+    public interface MapleRmiClientFactory {
+        /**
+         * @param port the port of the RMI registry of the worker
+         * @return a new client (not yet started)
+         */
+        MapleRmiClient create(int port);
+    }
+
+    /**
+     * A sequence of computations on a single worker.
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    public interface WorkerFunction<R> {
+        R apply(MapleRmiClient worker) throws ComputerAlgebraSystemEngineException;
+    }
+}
@@ -13,9 +13,9 @@ import java.util.List;
  */
 public class MapleRmiClientSymbolicEvaluator implements ICASEngineSymbolicEvaluator {
 
-    private final MapleRmiClient mapleClient;
+    private final MapleRmiEngine mapleClient;
 
-    MapleRmiClientSymbolicEvaluator(MapleRmiClient mapleClient) {
+    MapleRmiClientSymbolicEvaluator(MapleRmiEngine mapleClient) {
         this.mapleClient = mapleClient;
     }
 
@@ -0,0 +1,29 @@
+package gov.nist.drmf.interpreter.maple.secure;
+
+import gov.nist.drmf.interpreter.common.cas.IAbortEvaluator;
+import gov.nist.drmf.interpreter.common.cas.ICASEngine;
+import gov.nist.drmf.interpreter.common.eval.NumericResult;
+import gov.nist.drmf.interpreter.common.eval.NumericalTest;
+import gov.nist.drmf.interpreter.common.eval.SymbolicResult;
+import gov.nist.drmf.interpreter.common.eval.SymbolicalTest;
+import gov.nist.drmf.interpreter.common.exceptions.ComputerAlgebraSystemEngineException;
+
+import java.util.List;
+
+/**
+ * The operations the numeric and symbolic evaluators delegate to, either to a single
+ * Maple JVM ({@link MapleRmiClient}) or to a pool of them ({@link MapleRmiClientPool}).
+ *
+ * @author Andre Greiner-Petter
+ */
+interface MapleRmiEngine extends ICASEngine, IAbortEvaluator {
+    void setGlobalNumericAssumptions(List<String> assumptions) throws ComputerAlgebraSystemEngineException;
+
+    void setGlobalSymbolicAssumptions(List<String> assumptions) throws ComputerAlgebraSystemEngineException;
+
+    SymbolicResult performSymbolicTest(SymbolicalTest test);
+
+    NumericResult performNumericTest(NumericalTest test) throws ComputerAlgebraSystemEngineException;
+
+    String generateNumericTestExpression(String expression);
+}
@@ -4,6 +4,7 @@ import gov.nist.drmf.interpreter.common.constants.Keys;
 import gov.nist.drmf.interpreter.common.eval.*;
 import gov.nist.drmf.interpreter.common.exceptions.CASUnavailableException;
 import gov.nist.drmf.interpreter.common.exceptions.ComputerAlgebraSystemEngineException;
+import gov.nist.drmf.interpreter.common.process.ProcessKeys;
 import gov.nist.drmf.interpreter.common.process.RmiCasServer;
 import gov.nist.drmf.interpreter.common.process.RmiProcessHandler;
 import org.apache.logging.log4j.LogManager;
@@ -24,15 +25,6 @@ public class MapleRmiServer implements RmiCasServer {
 
     private static Registry registry;
 
-    static {
-        try {
-            registry = LocateRegistry.createRegistry(1099);
-        } catch (RemoteException e) {
-            LOG.fatal("Unable to setup RMI LocateRegistry", e);
-            System.exit(1);
-        }
-    }
-
     private InternalRmiMapleConnector mapleConnector;
 
     /**
@@ -121,7 +113,20 @@ public class MapleRmiServer implements RmiCasServer {
         }
     }
 
+    private static void createRegistry(int port) {
+        try {
+            LOG.info("Create RMI registry on port " + port);
+            registry = LocateRegistry.createRegistry(port);
+        } catch (RemoteException e) {
+            LOG.fatal("Unable to setup RMI LocateRegistry", e);
+            System.exit(1);
+        }
+    }
+
     public static void main(String[] args) throws CASUnavailableException, RemoteException {
+        // every worker JVM has its own registry, so multiple Maple JVMs can run side by side
+        createRegistry(ProcessKeys.getRmiPort());
+
         LOG.info("Start Maple JVM");
         MapleRmiServer mapleServer = new MapleRmiServer();
         LOG.info("Successfully started Maple JVM");
@@ -0,0 +1,321 @@
+package gov.nist.drmf.interpreter.maple.secure;
+
+import gov.nist.drmf.interpreter.common.cas.ICASEngineSession;
+import gov.nist.drmf.interpreter.common.eval.*;
+import gov.nist.drmf.interpreter.common.exceptions.ComputerAlgebraSystemEngineException;
+import gov.nist.drmf.interpreter.common.process.RmiCasServer;
+import gov.nist.drmf.interpreter.common.process.UnrecoverableProcessException;
+import org.junit.jupiter.api.Test;
+
+import java.rmi.RemoteException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the dispatching of the worker pool against stub servers, i.e., no Maple is required.
+ *
+ * @author Andre Greiner-Petter
+ */
+public class MapleRmiClientPoolTests {
+
+    @Test
+    public void pinnedSequenceTest() throws Exception {
+        MapleRmiClientPool pool = new MapleRmiClientPool(3, 5000, StubMapleRmiClient::new);
+        pool.start();
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<String>> results = new LinkedList<>();
+            for ( int i = 0; i < 60; i++ ) {
+                String value = Integer.toString(i);
+                results.add(executor.submit(() -> pool.apply(worker -> {
+                    worker.enterCommand("x := " + value + ";");
+                    return worker.enterCommand("x;");
+                })));
+            }
+
+            for ( int i = 0; i < results.size(); i++ ) {
+                assertEquals(Integer.toString(i), results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(3, pool.available());
+        for ( MapleRmiClient worker : pool.getWorkers() ) {
+            assertEquals(1, ((StubMapleRmiClient) worker).getNumberOfConnections());
+        }
+    }
+
+    @Test
+    public void sessionTest() throws Exception {
+        MapleRmiClientPool pool = new MapleRmiClientPool(3, 5000, StubMapleRmiClient::new);
+        pool.start();
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<String>> results = new LinkedList<>();
+            for ( int i = 0; i < 60; i++ ) {
+                String value = Integer.toString(i);
+                results.add(executor.submit(() -> {
+                    try ( ICASEngineSession session = pool.openSession() ) {
+                        // a nested session keeps the worker of the outer session
+                        try ( ICASEngineSession nested = pool.openSession() ) {
+                            pool.enterCommand("x := " + value + ";");
+                        }
+                        pool.enterCommand("1+1;");
+                        return pool.enterCommand("x;");
+                    }
+                }));
+            }
+
+            for ( int i = 0; i < results.size(); i++ ) {
+                assertEquals(Integer.toString(i), results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(3, pool.available());
+    }
+
+    @Test
+    public void globalCommandTest() throws Exception {
+        MapleRmiClientPool pool = new MapleRmiClientPool(3, 5000, StubMapleRmiClient::new);
+        pool.start();
+        pool.enterGlobalCommand("y := 5;");
+
+        for ( MapleRmiClient worker : pool.getWorkers() ) {
+            assertEquals("5", worker.enterCommand("y;"));
+        }
+
+        MapleRmiClient crashed = pool.borrow();
+        assertThrows(UnrecoverableProcessException.class, () -> crashed.enterCommand("crash;"));
+        pool.giveBack(crashed);
+
+        // borrow all workers to make sure the crashed worker is restarted
+        List<MapleRmiClient> workers = new LinkedList<>();
+        for ( int i = 0; i < pool.size(); i++ ) workers.add(pool.borrow());
+        for ( MapleRmiClient worker : workers ) {
+            assertEquals("5", worker.enterCommand("y;"));
+            pool.giveBack(worker);
+        }
+        assertEquals(2, ((StubMapleRmiClient) crashed).getNumberOfConnections());
+    }
+
+    @Test
+    public void parallelWorkersTest() throws Exception {
+        CountDownLatch allInside = new CountDownLatch(3);
+        MapleRmiClientPool pool = new MapleRmiClientPool(3, 5000, port -> new StubMapleRmiClient(port) {
+            @Override
+            protected StubServer createServer() {
+                return new StubServer() {
+                    @Override
+                    protected String compute(String command) {
+                        allInside.countDown();
+                        try {
+                            // only succeeds if all three workers compute at the same time
+                            return Boolean.toString(allInside.await(10, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            return "false";
+                        }
+                    }
+                };
+            }
+        });
+        pool.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<String>> results = new LinkedList<>();
+            for ( int i = 0; i < 3; i++ ) {
+                results.add(executor.submit(() -> pool.enterCommand("simplify(x);")));
+            }
+            for ( Future<String> result : results ) assertEquals("true", result.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void restartCrashedWorkerTest() throws Exception {
+        MapleRmiClientPool pool = new MapleRmiClientPool(2, 5000, StubMapleRmiClient::new);
+        pool.start();
+        pool.setTimeout(EvaluatorType.NUMERIC, 5);
+
+        MapleRmiClient crashed = pool.borrow();
+        MapleRmiClient other = pool.borrow();
+        assertThrows(UnrecoverableProcessException.class, () -> crashed.enterCommand("crash;"));
+        assertFalse(crashed.isHealthy());
+        assertTrue(other.isHealthy());
+        pool.giveBack(crashed);
+
+        // the other worker is not affected by the crash
+        assertEquals("2", other.enterCommand("1+1;"));
+
+        MapleRmiClient restarted = pool.borrow();
+        assertSame(crashed, restarted);
+        assertTrue(restarted.isHealthy());
+        assertEquals(2, ((StubMapleRmiClient) restarted).getNumberOfConnections());
+        assertEquals(1, ((StubMapleRmiClient) other).getNumberOfConnections());
+
+        // global settings are applied again on the restarted worker
+        assertEquals(5.0, ((StubMapleRmiClient) restarted).getServer().timeouts.get(EvaluatorType.NUMERIC));
+        assertEquals("3", restarted.enterCommand("1+2;"));
+        pool.giveBack(restarted);
+        pool.giveBack(other);
+    }
+
+    @Test
+    public void globalSettingsTest() throws Exception {
+        MapleRmiClientPool pool = new MapleRmiClientPool(3, 5000, StubMapleRmiClient::new);
+        pool.start();
+        pool.setGlobalSymbolicAssumptions(List.of("x > 0"));
+        pool.setTimeout(EvaluatorType.SYMBOLIC, 2);
+        pool.disableTimeout(EvaluatorType.NUMERIC);
+
+        for ( MapleRmiClient worker : pool.getWorkers() ) {
+            StubServer server = ((StubMapleRmiClient) worker).getServer();
+            assertEquals(List.of("x > 0"), server.symbolicAssumptions);
+            assertEquals(2.0, server.timeouts.get(EvaluatorType.SYMBOLIC));
+            assertTrue(server.timeouts.containsKey(EvaluatorType.NUMERIC));
+            assertNull(server.timeouts.get(EvaluatorType.NUMERIC));
+        }
+    }
+
+    @Test
+    public void borrowAndGiveBackTest() throws InterruptedException {
+        MapleRmiClientPool pool = new MapleRmiClientPool(2, 5000, StubMapleRmiClient::new);
+        MapleRmiClient first = pool.borrow();
+        MapleRmiClient second = pool.borrow();
+        assertNotSame(first, second);
+        assertEquals(0, pool.available());
+        assertEquals(5000, first.getPort());
+        assertEquals(5001, second.getPort());
+
+        pool.giveBack(first);
+        assertThrows(IllegalArgumentException.class, () -> pool.giveBack(first));
+        assertThrows(IllegalArgumentException.class, () -> pool.giveBack(new StubMapleRmiClient(5002)));
+        pool.giveBack(second);
+        assertEquals(2, pool.available());
+
+        assertThrows(IllegalArgumentException.class, () -> new MapleRmiClientPool(0, 5000, StubMapleRmiClient::new));
+    }
+
+    /**
+     * A client that connects to a new stub server instead of starting a Maple JVM.
+     */
+    private static class StubMapleRmiClient extends MapleRmiClient {
+        private StubServer server;
+
+        private int numberOfConnections = 0;
+
+        StubMapleRmiClient(int port) {
+            super(new DefaultMapleRmiServerSubprocessInfo(port), port);
+        }
+
+        protected StubServer createServer() {
+            return new StubServer();
+        }
+
+        @Override
+        protected RmiCasServer connect() {
+            numberOfConnections++;
+            server = createServer();
+            return server;
+        }
+
+        StubServer getServer() {
+            return server;
+        }
+
+        int getNumberOfConnections() {
+            return numberOfConnections;
+        }
+    }
+
+    /**
+     * A fake server that understands assignments ({@code x := 1;}), lookups of assigned variables ({@code x;}),
+     * and sums of integers ({@code 1+1;}). The command {@code crash;} simulates a crash of the JVM.
+     * The server fails if it is used by multiple threads at the same time.
+     */
+    private static class StubServer implements RmiCasServer {
+        private final Map<String, String> variables = new HashMap<>();
+
+        private final Map<EvaluatorType, Double> timeouts = new EnumMap<>(EvaluatorType.class);
+
+        private List<String> symbolicAssumptions;
+
+        private final AtomicBoolean inUse = new AtomicBoolean(false);
+
+        private boolean crashed = false;
+
+        protected String compute(String command) {
+            if ( command.contains(":=") ) {
+                String[] assignment = command.split("\\s*:=\\s*");
+                variables.put(assignment[0], assignment[1]);
+                return assignment[1];
+            } else if ( command.contains("+") ) {
+                return Integer.toString(Arrays.stream(command.split("\\+")).mapToInt(Integer::parseInt).sum());
+            }
+            return variables.getOrDefault(command, command);
+        }
+
+        @Override
+        public String enterCommand(String command) throws RemoteException {
+            if ( crashed || command.equals("crash;") ) {
+                crashed = true;
+                throw new RemoteException("Connection refused");
+            }
+            if ( !inUse.compareAndSet(false, true) ) fail("Server is used by multiple threads at the same time");
+            try {
+                return compute(command.replaceAll(";$", ""));
+            } finally {
+                inUse.set(false);
+            }
+        }
+
+        @Override
+        public String getId() {
+            return "stub";
+        }
+
+        @Override
+        public void init() {}
+
+        @Override
+        public void forceGC() {}
+
+        @Override
+        public void setTimeout(EvaluatorType type, double timeoutInSeconds) {
+            timeouts.put(type, timeoutInSeconds);
+        }
+
+        @Override
+        public void disableTimeout(EvaluatorType type) {
+            timeouts.put(type, null);
+        }
+
+        @Override
+        public void setGlobalNumericAssumptions(List<String> assumptions) {}
+
+        @Override
+        public void setGlobalSymbolicAssumptions(List<String> assumptions) {
+            symbolicAssumptions = assumptions;
+        }
+
+        @Override
+        public NumericResult performNumericalTest(NumericalTest test) {
+            return new NumericResult();
+        }
+
+        @Override
+        public SymbolicResult performSymbolicTest(SymbolicalTest test) {
+            return new SymbolicResult();
+        }
+
+        @Override
+        public void stop() {}
+    }
+}
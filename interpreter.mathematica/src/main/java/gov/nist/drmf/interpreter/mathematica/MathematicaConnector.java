@@ -24,7 +24,32 @@ public class MathematicaConnector implements NativeComputerAlgebraInterfaceBuild
     private MathematicaNumericalCalculator numericalCalculator = null;
     private MathematicaSimplifier symbolicCalculator = null;
 
-    public MathematicaConnector() {}
+    /**
+     * The interface to a kernel of the kernel pool or null if the default kernel is used
+     */
+    private final MathematicaInterface pooledInterface;
+
+    public MathematicaConnector() {
+        this.pooledInterface = null;
+    }
+
+    private MathematicaConnector(MathematicaInterface pooledInterface) {
+        this.pooledInterface = pooledInterface;
+    }
+
+    /**
+     * Creates a connector to a kernel of the kernel pool (see {@link MathematicaInterface#getKernelPool()}),
+     * which is independent of the kernel of the default connector {@link #MathematicaConnector()}. The number of
+     * kernels in the pool is specified by 'kernels' in the Mathematica section of lacast.config.yaml. The kernel
+     * is given back to the pool by {@link #shutdown()}.
+     * @param index the index of the additional connector (starting with 1)
+     * @return a new connector to its own kernel
+     * @throws CASUnavailableException if Mathematica is not available or all kernels of the pool are in use
+     */
+    public static MathematicaConnector createIndependentConnector(int index) throws CASUnavailableException {
+        if ( !MathematicaConfig.isMathematicaPresent() ) throw new CASUnavailableException();
+        return new MathematicaConnector(MathematicaInterface.getInstance().borrowPooledInterface());
+    }
 
     @Override
     public boolean isCASAvailable() {
@@ -40,20 +65,20 @@ public class MathematicaConnector implements NativeComputerAlgebraInterfaceBuild
     @Override
     public ICASEngine getCASEngine() throws CASUnavailableException {
         if ( !isCASAvailable() ) throw new CASUnavailableException();
-        return MathematicaInterface.getInstance();
+        return getMathematicaInterface();
     }
 
     @Override
     public ICASEngineSymbolicEvaluator getSymbolicEvaluator() throws CASUnavailableException {
         if ( !isCASAvailable() ) throw new CASUnavailableException();
-        if ( symbolicCalculator == null ) symbolicCalculator = new MathematicaSimplifier();
+        if ( symbolicCalculator == null ) symbolicCalculator = new MathematicaSimplifier(getMathematicaInterface());
         return symbolicCalculator;
     }
 
     @Override
     public ICASEngineNumericalEvaluator getNumericEvaluator() throws CASUnavailableException {
         if ( !isCASAvailable() ) throw new CASUnavailableException();
-        if ( numericalCalculator == null ) numericalCalculator = new MathematicaNumericalCalculator();
+        if ( numericalCalculator == null ) numericalCalculator = new MathematicaNumericalCalculator(getMathematicaInterface());
         return numericalCalculator;
     }
 
@@ -67,4 +92,17 @@ public class MathematicaConnector implements NativeComputerAlgebraInterfaceBuild
         String script = CASProcedureLoader.getProcedure(GlobalPaths.PATH_MATHEMATICA_NUMERICAL_PROCEDURES);
         return new String[]{script};
     }
+
+    private MathematicaInterface getMathematicaInterface() {
+        return pooledInterface != null ? pooledInterface : MathematicaInterface.getInstance();
+    }
+
+    /**
+     * Gives back the kernel of a connector that was created by {@link #createIndependentConnector(int)}.
+     * The default kernel is not affected.
+     */
+    @Override
+    public void shutdown() {
+        if ( pooledInterface != null ) pooledInterface.shutdown();
+    }
 }
@@ -55,6 +55,15 @@ public class MathematicaConfig {
         return mathConfig.getLicenseKey();
     }
 
+    /**
+     * @return the number of Mathematica kernels that can run in parallel (at least 1)
+     */
+    public static int loadNumberOfKernels() {
+        CASConfig mathConfig = getMathConfig();
+        if ( mathConfig == null ) return 1;
+        return mathConfig.getNumberOfKernels();
+    }
+
     protected static boolean isMathematicaMathPathAvailable() {
         Path mathPath = MathematicaConfig.loadMathematicaPath();
         if ( mathPath == null || !Files.exists(mathPath) ) {
@@ -0,0 +1,21 @@
+package gov.nist.drmf.interpreter.mathematica.core;
+
+import gov.nist.drmf.interpreter.common.exceptions.CASUnavailableException;
+import gov.nist.drmf.interpreter.mathematica.wrapper.MathLinkException;
+import gov.nist.drmf.interpreter.mathematica.wrapper.jlink.KernelLink;
+
+/**
+ * Launches new links to Wolfram kernels.
+ *
+ * @author Andre Greiner-Petter
+ * @see MathematicaInterface#launchKernelLink()
+ */
+@FunctionalInterface
+public interface KernelLinkFactory {
+    /**
+     * @return a new link to a ready-to-use kernel
+     * @throws MathLinkException if the kernel cannot be launched
+     * @throws CASUnavailableException if Mathematica is not available on the system
+     */
+    KernelLink launch() throws MathLinkException, CASUnavailableException;
+}
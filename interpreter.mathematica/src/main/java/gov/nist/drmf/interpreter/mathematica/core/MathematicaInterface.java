@@ -34,25 +34,42 @@ public final class MathematicaInterface implements ICASEngine {
     /**
      * The kernel
      */
-    private KernelLink mathKernel;
+    private final MathematicaKernel mathKernel;
+
+    /**
+     * Additional kernels for parallel evaluations (lazily created)
+     */
+    private MathematicaKernelPool kernelPool;
+
+    /**
+     * True if the kernel of this interface was borrowed from the kernel pool
+     */
+    private final boolean pooledKernel;
 
     private static MathematicaInterface mathematicaInterface;
 
     private final SymbolicEquivalenceChecker evalChecker;
 
     private MathematicaInterface() {
+        this.mathKernel = new MathematicaKernel("main-kernel", MathematicaInterface::launchKernelLink);
+        this.pooledKernel = false;
+        this.evalChecker = new SymbolicEquivalenceChecker(this);
+    }
+
+    private MathematicaInterface(MathematicaKernelPool kernelPool, MathematicaKernel kernel) {
+        this.mathKernel = kernel;
+        this.kernelPool = kernelPool;
+        this.pooledKernel = true;
         this.evalChecker = new SymbolicEquivalenceChecker(this);
     }
 
     /**
-     * Initiates mathematica interface. This function skips if there is already an instance
-     * available.
-     * @throws MathLinkException if an interface cannot instantiated
+     * Launches a new Wolfram kernel.
+     * @return the link to the new kernel
+     * @throws MathLinkException if the kernel cannot be launched
      * @throws CASUnavailableException if the CAS is unavailable
      */
-    private void init() throws MathLinkException, CASUnavailableException {
-        if ( mathematicaInterface != null && mathKernel != null) return; // already initiated
-
+    static KernelLink launchKernelLink() throws MathLinkException, CASUnavailableException {
         if ( !MathematicaConfig.isMathematicaPresent() ) throw new CASUnavailableException();
         LOG.info("Init mathematica interface");
 
@@ -85,11 +102,11 @@ public final class MathematicaInterface implements ICASEngine {
 
         // set encoding to avoid UTF-8 chars of greek letters
         setCharacterEncoding(mathKernel);
-        this.mathKernel = mathKernel;
         LOG.info("Successfully instantiated mathematica interface");
+        return mathKernel;
     }
 
-    private void initLicense(Path mathPath, String license) throws IOException, InterruptedException {
+    private static void initLicense(Path mathPath, String license) throws IOException, InterruptedException {
         LOG.info("Try to activate Wolfram license.");
         ProcessBuilder procBuilder = new ProcessBuilder(mathPath.toAbsolutePath().toString(), "-activate", license);
         Process proc = procBuilder.start();
@@ -113,7 +130,7 @@ public final class MathematicaInterface implements ICASEngine {
         };
     }
 
-    private void setCharacterEncoding(KernelLink engine){
+    private static void setCharacterEncoding(KernelLink engine){
         try {
             engine.evaluate("$CharacterEncoding = \"ASCII\"");
             engine.discardAnswer();
@@ -145,19 +162,59 @@ public final class MathematicaInterface implements ICASEngine {
      * @return the engine of Mathematica
      */
     KernelLink getMathKernel() throws MathLinkException {
-        init();
-        return mathKernel;
+        return mathKernel.getLink();
+    }
+
+    /**
+     * Returns the pool of additional kernels for parallel evaluations. The size of the pool is specified
+     * in the lacast.config.yaml (Mathematica kernels). Note that the kernels of the pool are independent of
+     * the kernel that is used by the evaluation methods of this interface.
+     * @return the pool of kernels
+     */
+    public synchronized MathematicaKernelPool getKernelPool() {
+        if ( kernelPool == null ) {
+            kernelPool = new MathematicaKernelPool(
+                    MathematicaConfig.loadNumberOfKernels(),
+                    MathematicaInterface::launchKernelLink
+            );
+        }
+        return kernelPool;
+    }
+
+    /**
+     * Borrows a kernel from the kernel pool (see {@link #getKernelPool()}) and returns an interface that evaluates
+     * all commands on this kernel. Hence, multiple threads can evaluate commands in parallel if every thread
+     * uses its own pooled interface. The kernel is given back to the pool by {@link #shutdown()} of the
+     * pooled interface.
+     * @return a new interface that exclusively owns a kernel of the pool
+     * @throws CASUnavailableException if Mathematica is not available or all kernels of the pool are in use
+     */
+    public MathematicaInterface borrowPooledInterface() throws CASUnavailableException {
+        MathematicaKernelPool pool = getKernelPool();
+        MathematicaKernel kernel = pool.tryBorrow();
+        if ( kernel == null )
+            throw new CASUnavailableException("All " + pool.size() + " Wolfram kernels of the pool are in use.");
+        return new MathematicaInterface(pool, kernel);
     }
 
     /**
-     * Shuts down the connection to the math kernel.
+     * Shuts down the connection to the math kernel. If this interface is pooled (see
+     * {@link #borrowPooledInterface()}), the kernel is given back to the pool instead.
      *
      * Since it is an lazy init concept now, theoretically you are free to fire it back on by calling any other method
      * (which probably makes the explicit shutdown pointless?)
      */
     public void shutdown() {
-        if ( mathKernel != null ) mathKernel.close();
-        mathKernel = null;
+        if ( pooledKernel ) {
+            kernelPool.giveBack(mathKernel);
+            return;
+        }
+
+        mathKernel.shutdown();
+        synchronized (this) {
+            if ( kernelPool != null ) kernelPool.shutdown();
+            kernelPool = null;
+        }
         MathematicaInterface.mathematicaInterface = null;
     }
 
@@ -170,22 +227,7 @@ public final class MathematicaInterface implements ICASEngine {
      * @throws CASUnavailableException if mathematica is not available on the system
      */
     private Expr internalRecoveryEvaluate(String input) throws MathLinkException, CASUnavailableException {
-        try {
-            init();
-            mathKernel.evaluate(input);
-            mathKernel.waitForAnswer();
-            return mathKernel.getExpr();
-        } catch (MathLinkException mle) {
-            String msg = mle.getMessage();
-            if ( msg != null && msg.toLowerCase().contains("lost") ) {
-                LOG.error("Lost mathematica kernel connection. Try to recover by re-initiating kernel.");
-                shutdown();
-                init();
-            }
-            mathKernel.evaluate(input);
-            mathKernel.waitForAnswer();
-            return mathKernel.getExpr();
-        }
+        return mathKernel.evaluateToExpression(input);
     }
 
     public Expr internalEnterCommand(String command) throws ComputerAlgebraSystemEngineException {
@@ -0,0 +1,150 @@
+package gov.nist.drmf.interpreter.mathematica.core;
+
+import gov.nist.drmf.interpreter.common.exceptions.CASUnavailableException;
+import gov.nist.drmf.interpreter.mathematica.wrapper.MathLinkException;
+import gov.nist.drmf.interpreter.mathematica.wrapper.jlink.Expr;
+import gov.nist.drmf.interpreter.mathematica.wrapper.jlink.KernelLink;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A single Wolfram kernel. The link to the kernel is launched lazily on the first evaluation.
+ * If the connection to the kernel was lost, the kernel is relaunched and the evaluation is
+ * repeated once. A kernel that failed to recover is marked as unhealthy.
+ * <p>
+ * A kernel evaluates one command at a time. Hence, all methods are synchronized.
+ *
+ * @author Andre Greiner-Petter
+ * @see MathematicaKernelPool
+ */
+public class MathematicaKernel {
+    private static final Logger LOG = LogManager.getLogger(MathematicaKernel.class.getName());
+
+    private final KernelLinkFactory linkFactory;
+
+    private final String name;
+
+    private KernelLink link;
+
+    private boolean healthy = true;
+
+    private int numberOfLaunches = 0;
+
+    /**
+     * @param name the name of the kernel (for logging)
+     * @param linkFactory the factory to launch links to the kernel
+     */
+    public MathematicaKernel(String name, KernelLinkFactory linkFactory) {
+        this.name = name;
+        this.linkFactory = Objects.requireNonNull(linkFactory);
+    }
+
+    /**
+     * Returns the link to the kernel. Launches the kernel if it is not running yet.
+     * @return the link to the kernel
+     * @throws MathLinkException if the kernel cannot be launched
+     * @throws CASUnavailableException if Mathematica is not available on the system
+     */
+    public synchronized KernelLink getLink() throws MathLinkException, CASUnavailableException {
+        if ( link == null ) {
+            LOG.debug("Launch kernel " + name);
+            numberOfLaunches++;
+            link = linkFactory.launch();
+            healthy = true;
+        }
+        return link;
+    }
+
+    /**
+     * Evaluates the given command. If the connection to the kernel was lost, the kernel is relaunched
+     * and the command is evaluated again.
+     * @param input the command that will be entered into mathematica
+     * @return the expression wrapper
+     * @throws MathLinkException if the evaluation failed even after the recovery
+     * @throws CASUnavailableException if mathematica is not available on the system
+     */
+    public synchronized Expr evaluateToExpression(String input) throws MathLinkException, CASUnavailableException {
+        try {
+            return internalEvaluate(input);
+        } catch (MathLinkException mle) {
+            String msg = mle.getMessage();
+            if ( msg != null && msg.toLowerCase().contains("lost") ) {
+                LOG.error("Lost connection to kernel " + name + ". Try to recover by relaunching the kernel.");
+                shutdown();
+            } else if ( link != null ) {
+                link.clearError();
+                link.newPacket();
+            }
+        }
+
+        try {
+            return internalEvaluate(input);
+        } catch (MathLinkException | CASUnavailableException e) {
+            healthy = false;
+            throw e;
+        }
+    }
+
+    private Expr internalEvaluate(String input) throws MathLinkException, CASUnavailableException {
+        KernelLink kernelLink = getLink();
+        kernelLink.evaluate(input);
+        kernelLink.waitForAnswer();
+        return kernelLink.getExpr();
+    }
+
+    public Expr evaluateToExpression(String input, Duration timeout) throws MathLinkException, CASUnavailableException {
+        return evaluateToExpression(MathematicaInterface.wrapInTimeout(input, timeout));
+    }
+
+    public String evaluate(String input) throws MathLinkException, CASUnavailableException {
+        return evaluateToExpression(input).toString();
+    }
+
+    /**
+     * @return false if the latest evaluation failed even after recovering the kernel, otherwise true
+     */
+    public synchronized boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * @return true if the link to the kernel is open
+     */
+    public synchronized boolean isRunning() {
+        return link != null;
+    }
+
+    /**
+     * @return how often the kernel was launched (including relaunches during recoveries)
+     */
+    public synchronized int getNumberOfLaunches() {
+        return numberOfLaunches;
+    }
+
+    /**
+     * Closes the link to the kernel. The kernel will be relaunched on the next evaluation.
+     */
+    public synchronized void shutdown() {
+        if ( link != null ) {
+            try {
+                link.close();
+            } catch ( Exception e ) {
+                LOG.warn("Unable to close kernel " + name + " properly.", e);
+            }
+        }
+        link = null;
+        healthy = true;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
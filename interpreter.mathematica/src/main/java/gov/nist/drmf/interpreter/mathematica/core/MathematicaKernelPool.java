@@ -0,0 +1,172 @@
+package gov.nist.drmf.interpreter.mathematica.core;
+
+import gov.nist.drmf.interpreter.common.exceptions.ComputerAlgebraSystemEngineException;
+import gov.nist.drmf.interpreter.mathematica.wrapper.MathLinkException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded pool of independent Wolfram kernels. A single kernel evaluates one command at a time.
+ * If the license allows multiple kernels, this pool distributes evaluations among them, so that
+ * multiple threads can evaluate commands in parallel.
+ * <p>
+ * Kernels are launched lazily on their first evaluation. A sequence of commands that depend on each other
+ * (e.g., defining variables and evaluating a test on them) must be evaluated on the same kernel. Hence,
+ * either borrow a kernel for the entire sequence or use {@link #apply(KernelFunction)}:
+ * <pre>{@code
+ * MathematicaKernelPool pool = MathematicaInterface.getInstance().getKernelPool();
+ * Expr result = pool.apply( kernel -> {
+ *     kernel.evaluate("vars = {x, y};");
+ *     return kernel.evaluateToExpression(test);
+ * });
+ * }</pre>
+ * Kernels that became unhealthy (i.e., failed to recover from a lost connection) are relaunched before
+ * they are handed out again.
+ *
+ * @author Andre Greiner-Petter
+ * @see MathematicaInterface#getKernelPool()
+ */
+public class MathematicaKernelPool {
+    private static final Logger LOG = LogManager.getLogger(MathematicaKernelPool.class.getName());
+
+    private final List<MathematicaKernel> kernels;
+
+    private final BlockingQueue<MathematicaKernel> idleKernels;
+
+    private final Set<MathematicaKernel> borrowedKernels;
+
+    /**
+     * Creates a pool of the given number of kernels. The kernels are not launched until they are used.
+     * @param size the number of kernels (must be positive)
+     * @param linkFactory the factory to launch the links to the kernels
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public MathematicaKernelPool(int size, KernelLinkFactory linkFactory) {
+        if ( size < 1 ) throw new IllegalArgumentException("The size of a kernel pool must be positive but was " + size);
+        Objects.requireNonNull(linkFactory);
+
+        List<MathematicaKernel> kernelList = new ArrayList<>(size);
+        this.idleKernels = new ArrayBlockingQueue<>(size);
+        for ( int i = 0; i < size; i++ ) {
+            MathematicaKernel kernel = new MathematicaKernel("kernel-" + i, linkFactory);
+            kernelList.add(kernel);
+            idleKernels.add(kernel);
+        }
+
+        this.kernels = Collections.unmodifiableList(kernelList);
+        this.borrowedKernels = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        LOG.debug("Created pool of " + size + " Wolfram kernels");
+    }
+
+    /**
+     * @return the number of kernels in this pool
+     */
+    public int size() {
+        return kernels.size();
+    }
+
+    /**
+     * @return the number of currently idle (not borrowed) kernels
+     */
+    public int available() {
+        return idleKernels.size();
+    }
+
+    /**
+     * @return all kernels of this pool (borrowed or not)
+     */
+    public List<MathematicaKernel> getKernels() {
+        return kernels;
+    }
+
+    /**
+     * Borrows a kernel from the pool. If all kernels are currently in use, this method waits until
+     * another thread gives back its kernel. You must give back the kernel via {@link #giveBack(MathematicaKernel)}
+     * once you finished your evaluations, otherwise the pool runs dry.
+     * @return a kernel that is exclusively owned by the caller until it is given back
+     * @throws InterruptedException if the thread was interrupted while waiting for a free kernel
+     */
+    public MathematicaKernel borrow() throws InterruptedException {
+        MathematicaKernel kernel = idleKernels.take();
+        prepareBorrowedKernel(kernel);
+        return kernel;
+    }
+
+    /**
+     * Borrows a kernel from the pool if one is idle. Otherwise, it returns null immediately.
+     * You must give back the kernel via {@link #giveBack(MathematicaKernel)} once you finished your evaluations.
+     * @return a kernel that is exclusively owned by the caller until it is given back or null if all kernels are in use
+     */
+    public MathematicaKernel tryBorrow() {
+        MathematicaKernel kernel = idleKernels.poll();
+        if ( kernel == null ) return null;
+        prepareBorrowedKernel(kernel);
+        return kernel;
+    }
+
+    private void prepareBorrowedKernel(MathematicaKernel kernel) {
+        if ( !kernel.isHealthy() ) {
+            LOG.warn("Kernel " + kernel + " is unhealthy. Relaunch it.");
+            kernel.shutdown();
+        }
+        borrowedKernels.add(kernel);
+    }
+
+    /**
+     * Gives back a previously borrowed kernel to the pool.
+     * @param kernel the kernel that was borrowed via {@link #borrow()} or {@link #tryBorrow()}
+     * @throws IllegalArgumentException if the kernel is not part of this pool or was not borrowed
+     */
+    public void giveBack(MathematicaKernel kernel) {
+        if ( kernel == null || kernels.stream().noneMatch(k -> k == kernel) )
+            throw new IllegalArgumentException("The given kernel is not part of this pool.");
+        if ( !borrowedKernels.remove(kernel) )
+            throw new IllegalArgumentException("The given kernel was not borrowed or was given back already.");
+        idleKernels.add(kernel);
+    }
+
+    /**
+     * Borrows a kernel, applies the given function on it, and gives the kernel back. All evaluations
+     * within the function are performed on the same kernel.
+     * @param function the sequence of evaluations on a single kernel
+     * @param <R> the type of the result
+     * @return the result of the function
+     * @throws ComputerAlgebraSystemEngineException if the function throws an exception
+     * @throws MathLinkException if an evaluation failed or the thread was interrupted while waiting for a kernel
+     */
+    public <R> R apply(KernelFunction<R> function) throws ComputerAlgebraSystemEngineException, MathLinkException {
+        MathematicaKernel kernel;
+        try {
+            kernel = borrow();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MathLinkException("Interrupted while waiting for a free Wolfram kernel.");
+        }
+
+        try {
+            return function.apply(kernel);
+        } finally {
+            giveBack(kernel);
+        }
+    }
+
+    /**
+     * Closes the links to all kernels. Note that kernels are relaunched if they are used afterwards.
+     */
+    public void shutdown() {
+        kernels.forEach(MathematicaKernel::shutdown);
+    }
+
+    /**
+     * A sequence of evaluations on a single kernel.
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    public interface KernelFunction<R> {
+        R apply(MathematicaKernel kernel) throws ComputerAlgebraSystemEngineException, MathLinkException;
+    }
+}
@@ -65,7 +65,14 @@ public class MathematicaNumericalCalculator extends AbstractCasEngineNumericalEv
     private Expr wasAborted = null;
 
     public MathematicaNumericalCalculator() {
-        this.mathematicaInterface = MathematicaInterface.getInstance();
+        this(MathematicaInterface.getInstance());
+    }
+
+    /**
+     * @param mathematicaInterface the interface to the kernel that performs the numerical tests
+     */
+    public MathematicaNumericalCalculator(MathematicaInterface mathematicaInterface) {
+        this.mathematicaInterface = mathematicaInterface;
         this.latestAppliedConstraints = new LinkedList<>();
     }
 
@@ -29,7 +29,14 @@ public class MathematicaSimplifier extends AbstractCasEngineSymbolicEvaluator<Ex
     private Duration timeout = Duration.ofSeconds(-1);
 
     public MathematicaSimplifier() {
-        this.mathematicaInterface = MathematicaInterface.getInstance();
+        this(MathematicaInterface.getInstance());
+    }
+
+    /**
+     * @param mathematicaInterface the interface to the kernel that performs the simplifications
+     */
+    public MathematicaSimplifier(MathematicaInterface mathematicaInterface) {
+        this.mathematicaInterface = mathematicaInterface;
         assert mathematicaInterface != null;
         this.miEquiChecker = mathematicaInterface.getEvaluationChecker();
     }
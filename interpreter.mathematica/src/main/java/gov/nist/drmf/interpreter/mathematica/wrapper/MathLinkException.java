@@ -4,7 +4,12 @@ public class MathLinkException extends RuntimeException {
     private final int errorCode;
 
     MathLinkException() {
-        this(null);
+        this((Throwable) null);
+    }
+
+    public MathLinkException(String message) {
+        super(message);
+        this.errorCode = -1;
     }
 
     MathLinkException(Throwable e) {
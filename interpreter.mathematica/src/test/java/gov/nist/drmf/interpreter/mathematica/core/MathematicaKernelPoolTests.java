@@ -0,0 +1,291 @@
+package gov.nist.drmf.interpreter.mathematica.core;
+
+import gov.nist.drmf.interpreter.mathematica.wrapper.ExprFormatException;
+import gov.nist.drmf.interpreter.mathematica.wrapper.MathLinkException;
+import gov.nist.drmf.interpreter.mathematica.wrapper.jlink.Expr;
+import gov.nist.drmf.interpreter.mathematica.wrapper.jlink.KernelLink;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the kernel pool against scripted fake links, i.e., no Wolfram kernel is required.
+ *
+ * @author Andre Greiner-Petter
+ */
+public class MathematicaKernelPoolTests {
+
+    @Test
+    public void pinnedSequenceTest() throws Exception {
+        MathematicaKernelPool pool = new MathematicaKernelPool(3, ScriptedKernelLink::new);
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<String>> results = new LinkedList<>();
+            for ( int i = 0; i < 60; i++ ) {
+                String value = Integer.toString(i);
+                results.add(executor.submit(() -> pool.apply(kernel -> {
+                    kernel.evaluate("x = " + value);
+                    return kernel.evaluate("x");
+                })));
+            }
+
+            for ( int i = 0; i < results.size(); i++ ) {
+                assertEquals(Integer.toString(i), results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(3, pool.available());
+        for ( MathematicaKernel kernel : pool.getKernels() ) {
+            assertTrue(kernel.getNumberOfLaunches() <= 1);
+        }
+    }
+
+    @Test
+    public void parallelKernelsTest() throws Exception {
+        CountDownLatch allInside = new CountDownLatch(3);
+        MathematicaKernelPool pool = new MathematicaKernelPool(3, () -> new ScriptedKernelLink() {
+            @Override
+            protected String compute(String input) {
+                allInside.countDown();
+                try {
+                    // only succeeds if all three kernels evaluate at the same time
+                    return Boolean.toString(allInside.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    return "false";
+                }
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<String>> results = new LinkedList<>();
+            for ( int i = 0; i < 3; i++ ) {
+                results.add(executor.submit(() -> pool.apply(kernel -> kernel.evaluate("Pause[1]"))));
+            }
+            for ( Future<String> result : results ) assertEquals("true", result.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void recoverLostConnectionTest() throws InterruptedException {
+        AtomicInteger launches = new AtomicInteger(0);
+        MathematicaKernelPool pool = new MathematicaKernelPool(1, () -> {
+            ScriptedKernelLink link = new ScriptedKernelLink();
+            if ( launches.getAndIncrement() == 0 ) link.loseConnection();
+            return link;
+        });
+
+        MathematicaKernel kernel = pool.borrow();
+        assertEquals("2", kernel.evaluate("1+1"));
+        assertEquals(2, kernel.getNumberOfLaunches());
+        assertTrue(kernel.isHealthy());
+        pool.giveBack(kernel);
+    }
+
+    @Test
+    public void relaunchUnhealthyKernelTest() throws InterruptedException {
+        List<ScriptedKernelLink> links = new LinkedList<>();
+        MathematicaKernelPool pool = new MathematicaKernelPool(1, () -> {
+            ScriptedKernelLink link = new ScriptedKernelLink();
+            // the first two links are broken, so the first evaluation fails even after recovery
+            if ( links.size() < 2 ) link.loseConnection();
+            links.add(link);
+            return link;
+        });
+
+        MathematicaKernel kernel = pool.borrow();
+        assertThrows(MathLinkException.class, () -> kernel.evaluate("1+1"));
+        assertFalse(kernel.isHealthy());
+        pool.giveBack(kernel);
+
+        MathematicaKernel sameKernel = pool.borrow();
+        assertSame(kernel, sameKernel);
+        assertTrue(sameKernel.isHealthy());
+        assertTrue(links.get(1).isClosed());
+        assertEquals("2", sameKernel.evaluate("1+1"));
+        assertEquals(3, sameKernel.getNumberOfLaunches());
+        pool.giveBack(sameKernel);
+    }
+
+    @Test
+    public void borrowAndGiveBackTest() throws InterruptedException {
+        MathematicaKernelPool pool = new MathematicaKernelPool(2, ScriptedKernelLink::new);
+        MathematicaKernel first = pool.borrow();
+        MathematicaKernel second = pool.borrow();
+        assertNotSame(first, second);
+        assertEquals(0, pool.available());
+        assertFalse(first.isRunning());
+
+        pool.giveBack(first);
+        assertThrows(IllegalArgumentException.class, () -> pool.giveBack(first));
+        assertThrows(IllegalArgumentException.class,
+                () -> pool.giveBack(new MathematicaKernel("foreign", ScriptedKernelLink::new)));
+        pool.giveBack(second);
+        assertEquals(2, pool.available());
+
+        assertThrows(IllegalArgumentException.class, () -> new MathematicaKernelPool(0, ScriptedKernelLink::new));
+    }
+
+    @Test
+    public void tryBorrowTest() throws InterruptedException {
+        MathematicaKernelPool pool = new MathematicaKernelPool(1, ScriptedKernelLink::new);
+        MathematicaKernel kernel = pool.tryBorrow();
+        assertNotNull(kernel);
+        assertNull(pool.tryBorrow());
+
+        pool.giveBack(kernel);
+        assertSame(kernel, pool.tryBorrow());
+        pool.giveBack(kernel);
+        assertEquals(1, pool.available());
+    }
+
+    /**
+     * A fake link that understands assignments ({@code x = 1}), lookups of assigned variables ({@code x}),
+     * and sums of integers ({@code 1+1}). The link fails if it is used by multiple threads at the same time.
+     */
+    private static class ScriptedKernelLink implements KernelLink {
+        private final Map<String, String> variables = new HashMap<>();
+
+        private final AtomicBoolean inUse = new AtomicBoolean(false);
+
+        private boolean lostConnection = false;
+
+        private boolean closed = false;
+
+        private String answer;
+
+        void loseConnection() {
+            lostConnection = true;
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        protected String compute(String input) {
+            if ( input.contains("=") ) {
+                String[] assignment = input.split("\\s*=\\s*");
+                variables.put(assignment[0], assignment[1]);
+                return assignment[1];
+            } else if ( input.contains("+") ) {
+                return Integer.toString(Arrays.stream(input.split("\\+")).mapToInt(Integer::parseInt).sum());
+            }
+            return variables.getOrDefault(input, input);
+        }
+
+        @Override
+        public void evaluate(String s) throws MathLinkException {
+            if ( lostConnection ) throw new MathLinkException("MathLink connection was lost.");
+            if ( !inUse.compareAndSet(false, true) ) fail("Link is used by multiple threads at the same time");
+            try {
+                answer = compute(s);
+            } finally {
+                inUse.set(false);
+            }
+        }
+
+        @Override
+        public void discardAnswer() {
+            answer = null;
+        }
+
+        @Override
+        public void clearError() {}
+
+        @Override
+        public void newPacket() {}
+
+        @Override
+        public void waitForAnswer() {}
+
+        @Override
+        public Expr getExpr() {
+            return new ScriptedExpr(answer);
+        }
+
+        @Override
+        public String evaluateToOutputForm(String str, int i) {
+            return compute(str);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public boolean getBoolean() {
+            return Boolean.parseBoolean(answer);
+        }
+
+        @Override
+        public void abortEvaluation() {}
+
+        @Override
+        public Throwable getLastError() {
+            return null;
+        }
+    }
+
+    private static class ScriptedExpr implements Expr {
+        private final String value;
+
+        ScriptedExpr(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public Expr[] args() {
+            return new Expr[0];
+        }
+
+        @Override
+        public int length() {
+            return 0;
+        }
+
+        @Override
+        public boolean trueQ() {
+            return "True".equals(value);
+        }
+
+        @Override
+        public boolean numberQ() {
+            return value.matches("-?\\d+");
+        }
+
+        @Override
+        public double asDouble() throws ExprFormatException {
+            return Double.parseDouble(value);
+        }
+
+        @Override
+        public Expr head() {
+            return this;
+        }
+
+        @Override
+        public boolean listQ() {
+            return false;
+        }
+
+        @Override
+        public String asString() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package gov.nist.drmf.interpreter.pom;
+
+import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
+import mlp.FeatureSet;
+import mlp.Lexicon;
+import mlp.LexiconFactory;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * Loading the lexicon files (e.g., {@code global-lexicon.txt} or {@code DLMF-macros-lexicon.txt})
+ * via the {@link LexiconFactory} tokenizes the "Symbol:/Feature Set:" text format on every start.
+ * This class compiles a lexicon file into a compact binary snapshot next to the text file and loads the
+ * snapshot instead of the text file.
+ * <p>
+ * A snapshot stores the size and the CRC32 checksum of the text file it was compiled from as well as the
+ * signal strings that were used to tokenize the text file. If the text file was changed after the snapshot
+ * was compiled, the snapshot is stale and {@link #loadLexicon(Path, String, String, String, String)}
+ * falls back to the text file.
+ * <p>
+ * The snapshots are compiled at build time via the {@link #main(String[])} method of this class.
+ * You can compile the snapshots also manually via {@link #compile(Path, String, String, String, String)}.
+ *
+ * @author Andre Greiner-Petter
+ */
+public final class LexiconSnapshot {
+    private static final Logger LOG = LogManager.getLogger(LexiconSnapshot.class.getName());
+
+    /**
+     * The signal strings used by the PoM-Tagger to load the global lexicon
+     */
+    public static final String POM_SIGNAL_ENTRY = "Symbol:";
+    public static final String POM_SIGNAL_FEATURESET = "Feature Set:";
+    public static final String POM_SIGNAL_LINE = "-";
+    public static final String POM_SIGNAL_INLINE = "\\|\\|";
+
+    /**
+     * The file extension of snapshots
+     */
+    public static final String SNAPSHOT_EXTENSION = ".snapshot";
+
+    /**
+     * The lexicon files that are compiled to snapshots by {@link #main(String[])}
+     */
+    public static final String GLOBAL_LEXICON = "global-lexicon.txt";
+    public static final String LATEX_UNICODE_LEXICON = "latex-and-unicode-lexicon.txt";
+    public static final String DLMF_MACROS_LEXICON = "DLMF-macros-lexicon.txt";
+
+    private static final int MAGIC = 0x4C435853; // LCXS
+    private static final int VERSION = 1;
+
+    private LexiconSnapshot() {}
+
+    /**
+     * @param lexiconFile the path to the text file of a lexicon
+     * @return the path of the binary snapshot of the given lexicon file (may not exist)
+     */
+    public static Path getSnapshotPath(Path lexiconFile) {
+        return lexiconFile.resolveSibling(lexiconFile.getFileName().toString() + SNAPSHOT_EXTENSION);
+    }
+
+    /**
+     * Loads the lexicon. If an up-to-date snapshot of the given lexicon file exists, the snapshot is loaded.
+     * Otherwise, the text file is loaded via {@link LexiconFactory#createLexicon(Path, String, String, String, String)}.
+     * @param lexiconFile the path to the text file of the lexicon
+     * @param entrySignal the signal of a new entry (e.g., "Symbol:")
+     * @param featureSetSignal the signal of a new feature set (e.g., "Feature Set:")
+     * @param lineSignal the signal of a separator line (e.g., "-")
+     * @param inlineSignal the regex of separators within a single line (e.g., "\\|\\|")
+     * @return the lexicon
+     * @throws IOException if neither the snapshot nor the text file can be loaded
+     */
+    public static Lexicon loadLexicon(
+            Path lexiconFile,
+            String entrySignal,
+            String featureSetSignal,
+            String lineSignal,
+            String inlineSignal
+    ) throws IOException {
+        String[] signals = new String[]{entrySignal, featureSetSignal, lineSignal, inlineSignal};
+        Lexicon lexicon = loadSnapshot(lexiconFile, signals);
+        if ( lexicon != null ) return lexicon;
+        return LexiconFactory.createLexicon(lexiconFile, entrySignal, featureSetSignal, lineSignal, inlineSignal);
+    }
+
+    /**
+     * Loads the snapshot of the given lexicon file.
+     * @param lexiconFile the path to the text file of the lexicon
+     * @param signals the signals that were used to compile the snapshot
+     *                (see {@link #loadLexicon(Path, String, String, String, String)})
+     * @return the lexicon or null if there is no snapshot or the snapshot is stale
+     */
+    public static Lexicon loadSnapshot(Path lexiconFile, String... signals) {
+        Path snapshotFile = getSnapshotPath(lexiconFile);
+        if ( !Files.isRegularFile(snapshotFile) ) {
+            LOG.debug("No snapshot for lexicon " + lexiconFile.getFileName() + " available.");
+            return null;
+        }
+
+        try {
+            Instant start = Instant.now();
+            byte[] source = Files.readAllBytes(lexiconFile);
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(snapshotFile));
+            if ( !isUpToDate(buffer, source, signals) ) {
+                LOG.info("Snapshot of lexicon " + lexiconFile.getFileName() + " is stale, load text file instead.");
+                return null;
+            }
+
+            Lexicon lexicon = new Lexicon(readLexiconMap(buffer));
+            LOG.printf(Level.DEBUG, "Loaded snapshot of lexicon %s [%dms]",
+                    lexiconFile.getFileName(), Duration.between(start, Instant.now()).toMillis());
+            return lexicon;
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Unable to load snapshot of lexicon " + lexiconFile.getFileName() + ", load text file instead.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Compiles the given lexicon file into a binary snapshot (see {@link #getSnapshotPath(Path)}).
+     * If an up-to-date snapshot already exists, it is not compiled again.
+     * @param lexiconFile the path to the text file of the lexicon
+     * @param entrySignal the signal of a new entry (e.g., "Symbol:")
+     * @param featureSetSignal the signal of a new feature set (e.g., "Feature Set:")
+     * @param lineSignal the signal of a separator line (e.g., "-")
+     * @param inlineSignal the regex of separators within a single line (e.g., "\\|\\|")
+     * @return the path to the snapshot
+     * @throws IOException if the lexicon cannot be loaded or the snapshot cannot be written
+     */
+    public static Path compile(
+            Path lexiconFile,
+            String entrySignal,
+            String featureSetSignal,
+            String lineSignal,
+            String inlineSignal
+    ) throws IOException {
+        String[] signals = new String[]{entrySignal, featureSetSignal, lineSignal, inlineSignal};
+        Path snapshotFile = getSnapshotPath(lexiconFile);
+        byte[] source = Files.readAllBytes(lexiconFile);
+
+        if ( Files.isRegularFile(snapshotFile) && isUpToDate(ByteBuffer.wrap(Files.readAllBytes(snapshotFile)), source, signals) ) {
+            LOG.info("Snapshot of lexicon " + lexiconFile.getFileName() + " is up-to-date.");
+            return snapshotFile;
+        }
+
+        Map<String, List<FeatureSet>> lexiconMap = LexiconFactory.createLexiconMap(
+                lexiconFile, entrySignal, featureSetSignal, lineSignal, inlineSignal
+        );
+
+        // write to a temporary file first, so that a concurrent reader never sees a half written snapshot
+        Path tmpFile = snapshotFile.resolveSibling(snapshotFile.getFileName().toString() + ".tmp");
+        try ( DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile))) ) {
+            writeHeader(out, source, signals);
+            writeLexiconMap(out, lexiconMap);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tmpFile);
+            throw ioe;
+        }
+        Files.move(tmpFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        LOG.info("Compiled snapshot of lexicon " + lexiconFile.getFileName() + " to " + snapshotFile);
+        return snapshotFile;
+    }
+
+    private static long checksum(byte[] source) {
+        CRC32 crc = new CRC32();
+        crc.update(source);
+        return crc.getValue();
+    }
+
+    private static void writeHeader(DataOutputStream out, byte[] source, String[] signals) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(source.length);
+        out.writeLong(checksum(source));
+        out.writeInt(signals.length);
+        for ( String signal : signals ) out.writeUTF(signal);
+    }
+
+    private static boolean isUpToDate(ByteBuffer buffer, byte[] source, String[] signals) {
+        if ( buffer.remaining() < 28 ) return false;
+        if ( buffer.getInt() != MAGIC || buffer.getInt() != VERSION ) return false;
+        if ( buffer.getLong() != source.length ) return false;
+        if ( buffer.getLong() != checksum(source) ) return false;
+        if ( buffer.getInt() != signals.length ) return false;
+        for ( String signal : signals ) {
+            int length = Short.toUnsignedInt(buffer.getShort());
+            String storedSignal = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            if ( !storedSignal.equals(signal) ) return false;
+        }
+        return true;
+    }
+
+    /*
+     * The body of a snapshot consists of a string table followed by the entries. Entries, feature sets,
+     * and features only refer to the indices of the string table. Since the feature names and many
+     * feature values are repeated over and over again, this keeps the snapshot compact and the strings
+     * are shared in memory after loading.
+     */
+
+    private static void writeLexiconMap(DataOutputStream out, Map<String, List<FeatureSet>> lexiconMap) throws IOException {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        DataOutputStream body = new DataOutputStream(bodyBytes);
+
+        writeVarInt(body, lexiconMap.size());
+        for ( Map.Entry<String, List<FeatureSet>> entry : lexiconMap.entrySet() ) {
+            writeVarInt(body, index(stringTable, entry.getKey()));
+            writeVarInt(body, entry.getValue().size());
+            for ( FeatureSet fset : entry.getValue() ) {
+                String name = fset.getFeatureSetName();
+                writeVarInt(body, name == null ? 0 : index(stringTable, name) + 1);
+                Set<String> featureNames = fset.getFeatureNames();
+                writeVarInt(body, featureNames.size());
+                for ( String featureName : featureNames ) {
+                    writeVarInt(body, index(stringTable, featureName));
+                    SortedSet<String> values = fset.getFeature(featureName);
+                    writeVarInt(body, values.size());
+                    for ( String value : values ) writeVarInt(body, index(stringTable, value));
+                }
+            }
+        }
+        body.flush();
+
+        writeVarInt(out, stringTable.size());
+        for ( String str : stringTable.keySet() ) {
+            byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        }
+        bodyBytes.writeTo(out);
+    }
+
+    private static Map<String, List<FeatureSet>> readLexiconMap(ByteBuffer buffer) {
+        String[] stringTable = new String[readVarInt(buffer)];
+        byte[] array = buffer.array();
+        for ( int i = 0; i < stringTable.length; i++ ) {
+            int length = readVarInt(buffer);
+            stringTable[i] = new String(array, buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        }
+
+        Map<String, List<FeatureSet>> lexiconMap = new TreeMap<>();
+        int numberOfEntries = readVarInt(buffer);
+        for ( int i = 0; i < numberOfEntries; i++ ) {
+            String key = stringTable[readVarInt(buffer)];
+            int numberOfSets = readVarInt(buffer);
+            List<FeatureSet> sets = new ArrayList<>(numberOfSets);
+            for ( int j = 0; j < numberOfSets; j++ ) {
+                int nameIdx = readVarInt(buffer);
+                int numberOfFeatures = readVarInt(buffer);
+                Map<String, SortedSet<String>> features = new TreeMap<>();
+                for ( int k = 0; k < numberOfFeatures; k++ ) {
+                    String featureName = stringTable[readVarInt(buffer)];
+                    int numberOfValues = readVarInt(buffer);
+                    SortedSet<String> values = new TreeSet<>();
+                    for ( int l = 0; l < numberOfValues; l++ ) values.add(stringTable[readVarInt(buffer)]);
+                    features.put(featureName, values);
+                }
+                sets.add( nameIdx == 0 ? new FeatureSet(features) : new FeatureSet(features, stringTable[nameIdx-1]) );
+            }
+            lexiconMap.put(key, sets);
+        }
+
+        if ( buffer.hasRemaining() ) throw new IllegalStateException("Corrupted lexicon snapshot, unexpected trailing bytes.");
+        return lexiconMap;
+    }
+
+    private static int index(Map<String, Integer> stringTable, String str) {
+        return stringTable.computeIfAbsent(str, s -> stringTable.size());
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ( (value & ~0x7F) != 0 ) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ( (b & 0x80) != 0 );
+        return value;
+    }
+
+    /**
+     * Compiles the snapshots of the global lexicon, the LaTeX and unicode lexicon, and the DLMF macros lexicon.
+     * @param args optional, the path to the lexicon directory. If not specified, {@link GlobalPaths#PATH_LEXICONS}
+     *             is used.
+     * @throws IOException if a lexicon cannot be compiled
+     */
+    public static void main(String[] args) throws IOException {
+        Path lexiconDir = args != null && args.length > 0 ? Paths.get(args[0]) : GlobalPaths.PATH_LEXICONS;
+
+        for ( String lexicon : new String[]{GLOBAL_LEXICON, LATEX_UNICODE_LEXICON} ) {
+            compile(lexiconDir.resolve(lexicon), POM_SIGNAL_ENTRY, POM_SIGNAL_FEATURESET, POM_SIGNAL_LINE, POM_SIGNAL_INLINE);
+        }
+
+        compile(
+                lexiconDir.resolve(DLMF_MACROS_LEXICON),
+                MacrosLexicon.SIGNAL_ENTRY,
+                MacrosLexicon.SIGNAL_FEATURESET,
+                MacrosLexicon.SIGNAL_LINE,
+                MacrosLexicon.SIGNAL_INLINE
+        );
+    }
+}
@@ -5,6 +5,10 @@ import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
 import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
 import mlp.*;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+
 /**
  * A simple wrapper class to parse LaTeX expression via the PoM-Tagger.
  * Since the PoM-Tagger is not able to reproduce the input string
@@ -39,7 +43,51 @@ public abstract class MLPWrapper {
      * @param referenceDirPath the path to the "ReferenceData" folder
      */
     public MLPWrapper(String referenceDirPath) {
-        this.parser = new PomParser(referenceDirPath);
+        this.parser = createParser(referenceDirPath);
+    }
+
+    /**
+     * Creates a sibling of the given wrapper. The PoM-Tagger stores the lexicon, thesaurus, and
+     * ignorable LaTeX commands statically. Hence, the new parser shares these resources with the
+     * given wrapper without reloading them from the disk. Only the character stream and the
+     * parsing state are owned by the new instance. Hence, siblings can parse simultaneously
+     * as long as every sibling is used by one thread at a time.
+     *
+     * The LaTeX macros of a PoM-Tagger are not static. As the PoM-Tagger's own spawn mechanism,
+     * the sibling gets the macros of the given wrapper. The macros are copied, i.e., macros that
+     * are added to the given wrapper later on are not added to the sibling.
+     *
+     * Note that creating a new {@link PomParser} with a reference directory (e.g., via
+     * {@link #MLPWrapper(String)}) resets the shared lexicon for all existing siblings.
+     *
+     * @param origin an already initialized wrapper
+     * @see MLPWrapperPool
+     */
+    protected MLPWrapper(MLPWrapper origin) {
+        Objects.requireNonNull(origin);
+        // the stream is set at every call of parse, so there is no need for an initial stream
+        this.parser = new PomParser((CharStream) null);
+        this.parser.addMacros(origin.parser.getMacros());
+    }
+
+    /**
+     * Creates a new PoM-Tagger. If an up-to-date snapshot of the global lexicon exists (see {@link LexiconSnapshot}),
+     * the global lexicon is loaded from the snapshot. Otherwise, the PoM-Tagger loads the text file itself.
+     * @param referenceDirPath the path to the "ReferenceData" folder
+     * @return a new PoM-Tagger
+     */
+    private static PomParser createParser(String referenceDirPath) {
+        Path lexiconDir = Paths.get(referenceDirPath).resolve("Lexicons");
+        Lexicon globalLexicon = LexiconSnapshot.loadSnapshot(
+                lexiconDir.resolve(LexiconSnapshot.GLOBAL_LEXICON),
+                LexiconSnapshot.POM_SIGNAL_ENTRY,
+                LexiconSnapshot.POM_SIGNAL_FEATURESET,
+                LexiconSnapshot.POM_SIGNAL_LINE,
+                LexiconSnapshot.POM_SIGNAL_INLINE
+        );
+
+        if ( globalLexicon == null ) return new PomParser(referenceDirPath);
+        else return PomParserResources.createParser(globalLexicon, Paths.get(referenceDirPath));
     }
 
     /**
@@ -50,6 +98,14 @@ public abstract class MLPWrapper {
         parser.addLexicons(lexicon);
     }
 
+    /**
+     * Adds LaTeX macros to the parser, e.g., {@code \newcommand{\half}{\frac{1}{2}}}.
+     * @param macros the macro definitions
+     */
+    protected void addMacros( String... macros ) {
+        parser.addMacros(macros);
+    }
+
     /**
      * Parses the given latex string to a {@link PomTaggedExpression}. It performs
      * string replacement rules prior to the parsing process (e.g., space deletions).
@@ -79,7 +135,8 @@ public abstract class MLPWrapper {
      * Simply parses the given latex expression. Raw means, it will not be pre-processed by
      * {@link TeXPreProcessor#preProcessingTeX(String)}. If you wish to pre-process, use one of the non-raw methods.
      *
-     * This method is synchronized because the PoM-tagger cannot run in parallel. Sorry for that.
+     * This method is synchronized because a single PoM-tagger instance cannot run in parallel.
+     * If you need to parse in parallel, borrow independent wrappers from {@link MLPWrapperPool}.
      *
      * @param latex the latex expression to parse.
      * @return the parse tree
@@ -116,7 +173,8 @@ public abstract class MLPWrapper {
      * Does not pre-process the given latex expression via {@link TeXPreProcessor#preProcessingTeX(String)}. If you
      * wish to pre-process the string, use one of the non-raw methods.
      *
-     * This method is synchronized because the underlying PoM-tagger cannot run in parallel.
+     * This method is synchronized because a single PoM-tagger instance cannot run in parallel.
+     * If you need to parse in parallel, borrow independent wrappers from {@link MLPWrapperPool}.
      *
      * @param latex the input string
      * @return parse tree
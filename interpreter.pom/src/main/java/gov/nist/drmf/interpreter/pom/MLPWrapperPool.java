@@ -0,0 +1,200 @@
+package gov.nist.drmf.interpreter.pom;
+
+import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
+import mlp.ParseException;
+import mlp.PomTaggedExpression;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of independent {@link MLPWrapper} instances. A single PoM-Tagger cannot parse
+ * multiple expressions at the same time. Instead of funneling every parse through one synchronized
+ * instance, this pool holds multiple wrappers that share the same (static) lexicon of the PoM-Tagger.
+ * Every thread can borrow its own wrapper, parse with it, and give it back afterwards.
+ * <p>
+ * All wrappers are created eagerly when the pool is created. Borrowing a wrapper blocks until one
+ * wrapper becomes available again. A typical usage looks like:
+ * <pre>{@code
+ * MLPWrapperPool<SemanticMLPWrapper> pool = SemanticMLPWrapper.getStandardPool();
+ * SemanticMLPWrapper mlp = pool.borrow();
+ * try {
+ *     PrintablePomTaggedExpression ppte = mlp.parse(latex);
+ *     ...
+ * } finally {
+ *     pool.giveBack(mlp);
+ * }
+ * }</pre>
+ * Alternatively, the convenience methods (e.g., {@link #parse(String)}) borrow and give back a wrapper
+ * automatically.
+ *
+ * @param <T> the type of the wrappers in this pool
+ * @see SemanticMLPWrapper#getStandardPool()
+ * @author Andre Greiner-Petter
+ */
+public class MLPWrapperPool<T extends MLPWrapper> {
+    private static final Logger LOG = LogManager.getLogger(MLPWrapperPool.class.getName());
+
+    private final BlockingQueue<T> idleWrappers;
+
+    private final Set<T> members;
+
+    private final Set<T> borrowedWrappers;
+
+    private final int size;
+
+    /**
+     * Creates a new pool with the given number of wrappers. The supplier is called {@code size}
+     * times and must return a new wrapper every time.
+     * @param size the number of wrappers in the pool (must be positive)
+     * @param wrapperSupplier creates the wrappers of the pool
+     * @throws IllegalArgumentException if the size is not positive or the supplier does not return
+     *                                  new instances of wrappers
+     */
+    public MLPWrapperPool(int size, Supplier<T> wrapperSupplier) {
+        if ( size < 1 ) throw new IllegalArgumentException("The size of a PoM-tagger pool must be positive but was " + size);
+        this.size = size;
+        this.idleWrappers = new ArrayBlockingQueue<>(size);
+        this.members = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.borrowedWrappers = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+        for ( int i = 0; i < size; i++ ) {
+            T wrapper = wrapperSupplier.get();
+            if ( wrapper == null || !members.add(wrapper) )
+                throw new IllegalArgumentException("The supplier of a PoM-tagger pool must return new wrapper instances.");
+            idleWrappers.add(wrapper);
+        }
+        LOG.debug("Created pool of " + size + " PoM-tagger instances");
+    }
+
+    /**
+     * @return the number of wrappers in this pool
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of currently idle (not borrowed) wrappers
+     */
+    public int available() {
+        return idleWrappers.size();
+    }
+
+    /**
+     * Borrows a wrapper from the pool. If all wrappers are currently in use, this method waits until
+     * another thread gives back its wrapper. You must give back the wrapper via {@link #giveBack(MLPWrapper)}
+     * once you finished parsing, otherwise the pool runs dry.
+     * @return a wrapper that is exclusively owned by the caller until it is given back
+     * @throws InterruptedException if the thread was interrupted while waiting for a free wrapper
+     */
+    public T borrow() throws InterruptedException {
+        T wrapper = idleWrappers.take();
+        borrowedWrappers.add(wrapper);
+        return wrapper;
+    }
+
+    /**
+     * Gives back a previously borrowed wrapper to the pool.
+     * @param wrapper the wrapper that was borrowed via {@link #borrow()}
+     * @throws IllegalArgumentException if the given wrapper is not part of this pool or was not borrowed
+     */
+    public void giveBack(T wrapper) {
+        if ( wrapper == null || !members.contains(wrapper) )
+            throw new IllegalArgumentException("The given wrapper is not part of this pool.");
+        if ( !borrowedWrappers.remove(wrapper) )
+            throw new IllegalArgumentException("The given wrapper was not borrowed or was given back already.");
+        idleWrappers.add(wrapper);
+    }
+
+    /**
+     * Borrows a wrapper, applies the given parse function, and gives the wrapper back.
+     * @param parseFunction the function to apply on a borrowed wrapper
+     * @param <R> the type of the result
+     * @return the result of the parse function
+     * @throws ParseException if the parse function throws an exception or the thread was interrupted
+     *                        while waiting for a free wrapper
+     */
+    public <R> R apply(ParseFunction<T, R> parseFunction) throws ParseException {
+        T wrapper;
+        try {
+            wrapper = borrow();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParseException("Interrupted while waiting for a free PoM-tagger instance.");
+        }
+
+        try {
+            return parseFunction.apply(wrapper);
+        } finally {
+            giveBack(wrapper);
+        }
+    }
+
+    /**
+     * @param latex input string
+     * @return the parsed expression
+     * @throws ParseException if the expression cannot be parsed
+     * @see MLPWrapper#parse(String)
+     */
+    public PrintablePomTaggedExpression parse(String latex) throws ParseException {
+        return apply(mlp -> mlp.parse(latex));
+    }
+
+    /**
+     * @param latex input string
+     * @param label the DLMF label or null
+     * @return the parsed expression
+     * @throws ParseException if the expression cannot be parsed
+     * @see MLPWrapper#parse(String, String)
+     */
+    public PrintablePomTaggedExpression parse(String latex, String label) throws ParseException {
+        return apply(mlp -> mlp.parse(latex, label));
+    }
+
+    /**
+     * @param latex input string (not pre-processed)
+     * @return the parsed expression
+     * @throws ParseException if the expression cannot be parsed
+     * @see MLPWrapper#parseRaw(String)
+     */
+    public PrintablePomTaggedExpression parseRaw(String latex) throws ParseException {
+        return apply(mlp -> mlp.parseRaw(latex));
+    }
+
+    /**
+     * @param latex input string
+     * @return the parsed expression
+     * @throws ParseException if the expression cannot be parsed
+     * @see MLPWrapper#simpleParse(String)
+     */
+    public PomTaggedExpression simpleParse(String latex) throws ParseException {
+        return apply(mlp -> mlp.simpleParse(latex));
+    }
+
+    /**
+     * @param latex input string (not pre-processed)
+     * @return the parsed expression
+     * @throws ParseException if the expression cannot be parsed
+     * @see MLPWrapper#simpleParseRaw(String)
+     */
+    public PomTaggedExpression simpleParseRaw(String latex) throws ParseException {
+        return apply(mlp -> mlp.simpleParseRaw(latex));
+    }
+
+    /**
+     * A function that is applied on a borrowed wrapper.
+     * @param <T> the type of the wrapper
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    public interface ParseFunction<T extends MLPWrapper, R> {
+        R apply(T wrapper) throws ParseException;
+    }
+}
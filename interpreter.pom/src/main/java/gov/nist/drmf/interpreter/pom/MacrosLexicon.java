@@ -2,7 +2,6 @@ package gov.nist.drmf.interpreter.pom;
 
 import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
 import mlp.Lexicon;
-import mlp.LexiconFactory;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -31,7 +30,7 @@ public class MacrosLexicon {
     public static synchronized void init(Path lexiconPath) throws IOException {
         if ( executed ) return;
 
-        dlmf_macros_lexicon = LexiconFactory.createLexicon(
+        dlmf_macros_lexicon = LexiconSnapshot.loadLexicon(
                 lexiconPath,
                 SIGNAL_ENTRY,
                 SIGNAL_FEATURESET,
@@ -0,0 +1,90 @@
+package gov.nist.drmf.interpreter.pom;
+
+import mlp.Lexicon;
+import mlp.MlpUtility;
+import mlp.PomParser;
+
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * The PoM-Tagger only loads its reference resources (global lexicon, thesaurus, and ignorable LaTeX commands)
+ * from the text files in the reference directory. The setters to inject already loaded resources are package
+ * private. This class gives access to these setters, so that the global lexicon can be loaded from a
+ * precompiled snapshot rather than re-tokenizing the text file.
+ * <p>
+ * Note that the resources are shared (static) among all PoM-Tagger instances.
+ *
+ * @author Andre Greiner-Petter
+ */
+final class PomParserResources {
+    private static final String THESAURUS_FILE = "thesaurus.txt";
+    private static final String IGNORABLE_LATEX_FILE = "global-ignorableLatex.txt";
+    private static final String IGNORABLE_LATEX_WITH_PARAMS_FILE = "MathAndTextCmdsWithParamsWithoutRelevantEffect.txt";
+
+    private static final Constructor<PomParser> PARSER_CONSTRUCTOR;
+    private static final Field REFERENCE_DIRECTORY;
+    private static final Method SET_LEXICON;
+    private static final Method SET_THESAURUS;
+    private static final Method SET_IGNORABLE_LATEX;
+    private static final Method SET_IGNORABLE_LATEX_WITH_PARAMS;
+
+    static {
+        try {
+            PARSER_CONSTRUCTOR = PomParser.class.getDeclaredConstructor();
+            REFERENCE_DIRECTORY = PomParser.class.getDeclaredField("refDataDirectory");
+            SET_LEXICON = PomParser.class.getDeclaredMethod("setLexicon", Lexicon.class);
+            SET_THESAURUS = PomParser.class.getDeclaredMethod("setThesaurus", Map.class);
+            SET_IGNORABLE_LATEX = PomParser.class.getDeclaredMethod("setGlobalIgnorableLatex", SortedSet.class);
+            SET_IGNORABLE_LATEX_WITH_PARAMS = PomParser.class.getDeclaredMethod("setGlobalIgnorableLatexWithParams", SortedSet.class);
+
+            PARSER_CONSTRUCTOR.setAccessible(true);
+            REFERENCE_DIRECTORY.setAccessible(true);
+            SET_LEXICON.setAccessible(true);
+            SET_THESAURUS.setAccessible(true);
+            SET_IGNORABLE_LATEX.setAccessible(true);
+            SET_IGNORABLE_LATEX_WITH_PARAMS.setAccessible(true);
+        } catch (NoSuchMethodException | NoSuchFieldException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private PomParserResources() {}
+
+    /**
+     * Creates a new {@link PomParser} with the given global lexicon. The remaining (small) reference resources,
+     * i.e., the thesaurus and the ignorable LaTeX commands, are loaded from the lexicon directory of the given
+     * reference directory. As {@link PomParser#PomParser(String)}, it sets the reference directory of the
+     * PoM-Tagger, so that lexicons can be added later via {@link PomParser#addLexicons(String...)}.
+     * @param globalLexicon the already loaded global lexicon
+     * @param referenceDir the reference data directory (which contains the lexicon directory)
+     * @return a new parser that is set up equally to {@link PomParser#PomParser(String)}
+     */
+    static PomParser createParser(Lexicon globalLexicon, Path referenceDir) {
+        Path lexiconDir = referenceDir.resolve("Lexicons");
+        try {
+            PomParser parser = PARSER_CONSTRUCTOR.newInstance();
+            REFERENCE_DIRECTORY.set(null, new File(referenceDir.toString()));
+            SET_LEXICON.invoke(parser, globalLexicon);
+            SET_THESAURUS.invoke(parser, MlpUtility.csv2Map(MlpUtility.fileToLines(lexiconDir.resolve(THESAURUS_FILE))));
+            SET_IGNORABLE_LATEX.invoke(
+                    parser,
+                    new TreeSet<>(MlpUtility.fileToLines(lexiconDir.resolve(IGNORABLE_LATEX_FILE)))
+            );
+            SET_IGNORABLE_LATEX_WITH_PARAMS.invoke(
+                    parser,
+                    new TreeSet<>(MlpUtility.fileToLines(lexiconDir.resolve(IGNORABLE_LATEX_WITH_PARAMS_FILE)))
+            );
+            return parser;
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to set up the PoM-Tagger with a preloaded global lexicon.", e);
+        }
+    }
+}
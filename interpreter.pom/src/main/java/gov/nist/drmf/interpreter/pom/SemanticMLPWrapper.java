@@ -22,11 +22,25 @@ public class SemanticMLPWrapper extends MLPWrapper {
      */
     private static SemanticMLPWrapper standardInstance;
 
+    /**
+     * A standard pool of semantic PoM-taggers for parallel parsing
+     */
+    private static MLPWrapperPool<SemanticMLPWrapper> standardPool;
+
     public SemanticMLPWrapper() throws IOException {
         super();
         init();
     }
 
+    /**
+     * Creates a sibling of the given semantic wrapper. The sibling shares the already loaded
+     * lexicons (including the semantic DLMF macros) with the given wrapper.
+     * @param origin an initialized semantic wrapper
+     */
+    private SemanticMLPWrapper(SemanticMLPWrapper origin) {
+        super(origin);
+    }
+
     private void init() throws IOException {
         LOG.debug("Loading PoM-tagger lexicon");
         Instant start = Instant.now();
@@ -50,4 +64,30 @@ public class SemanticMLPWrapper extends MLPWrapper {
         }
         return standardInstance;
     }
+
+    /**
+     * Provides access to the standard pool of semantic PoM-taggers. The pool contains one PoM-tagger
+     * per available processor. All of them share the lexicon of the {@link #getStandardInstance()}.
+     * Borrow a wrapper from this pool if you want to parse expressions in parallel.
+     * @return the standard pool of semantic PoM-taggers or null if the standard instance cannot be created
+     * @see MLPWrapperPool
+     */
+    public static synchronized MLPWrapperPool<SemanticMLPWrapper> getStandardPool() {
+        if ( standardPool == null ) {
+            standardPool = createPool(Runtime.getRuntime().availableProcessors());
+        }
+        return standardPool;
+    }
+
+    /**
+     * Creates a new pool of semantic PoM-taggers. All of them share the lexicon of the
+     * {@link #getStandardInstance()}, i.e., the lexicon files are loaded only once.
+     * @param size the number of PoM-taggers in the pool
+     * @return a new pool of semantic PoM-taggers or null if the standard instance cannot be created
+     */
+    public static synchronized MLPWrapperPool<SemanticMLPWrapper> createPool(int size) {
+        SemanticMLPWrapper origin = getStandardInstance();
+        if ( origin == null ) return null;
+        return new MLPWrapperPool<>(size, () -> new SemanticMLPWrapper(origin));
+    }
 }
@@ -167,6 +167,28 @@ public final class MathTermUtility {
         return MathTermTags.command.equals(tag) && term.getTermText().equals("\\operatorname");
     }
 
+    /**
+     * Copies the given term. In contrast to {@link #secureClone(MathTerm)}, the copy shares the alternative
+     * {@link FeatureSet}s with the given term (but not the list of feature sets). The feature sets are loaded
+     * from the lexicon and the parser hands out the very same instances to every term anyway. Hence, they
+     * are not changed after the lexicon was loaded and copying them only wastes memory.
+     * Everything else (text, tags, font action, named features) is copied.
+     * @param term the term to copy
+     * @return the copy of the term
+     */
+    public static MathTerm copy(MathTerm term) {
+        MathTerm mt = new MathTerm(term.getTermText(), term.getTag());
+        mt.setFontAction(term.firstFontAction());
+        mt.addSecondaryTags(term.getSecondaryTags());
+
+        Map<String, String> features = term.getNamedFeatures();
+        for ( Map.Entry<String, String> featureEntry : features.entrySet() )
+            mt.addNamedFeature(featureEntry.getKey(), featureEntry.getValue());
+
+        mt.setAlternativeFeatureSets(new ArrayList<>(term.getAlternativeFeatureSets()));
+        return mt;
+    }
+
     public static MathTerm secureClone(MathTerm term) {
         MathTerm mt = new MathTerm(term.getTermText(), term.getTag());
         mt.setFontAction(term.firstFontAction());
@@ -0,0 +1,118 @@
+package gov.nist.drmf.interpreter.pom.common;
+
+import gov.nist.drmf.interpreter.pom.common.grammar.MathTermTags;
+import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
+import mlp.MathTerm;
+import mlp.PomTaggedExpression;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A compact representation of the sign branches of an expression with {@code \pm} and {@code \mp}
+ * operations. The tree is only walked once to locate the signs (by their index paths). The concrete
+ * cases are expanded on demand, i.e., only the signs are switched in a case and the rest of the tree
+ * is left untouched.
+ * <p>
+ * The first case switches {@code \pm} to plus and {@code \mp} to minus, the second case vice versa
+ * (same as {@link PomTaggedExpressionNormalizer#normalizePm(PomTaggedExpression, boolean)}).
+ * Instances are immutable.
+ *
+ * @author Andre Greiner-Petter
+ */
+public final class PlusMinusBranches {
+    private static final PlusMinusBranches EMPTY = new PlusMinusBranches(Collections.emptyList());
+
+    /**
+     * The index paths from the root to the signs. The last element of each path is 1 for {@code \pm}
+     * and -1 for {@code \mp}.
+     */
+    private final List<int[]> signs;
+
+    private PlusMinusBranches(List<int[]> signs) {
+        this.signs = signs;
+    }
+
+    /**
+     * Locates all {@code \pm} and {@code \mp} operations in the given expression. The expression is not changed.
+     * @param pte the expression
+     * @return the sign branches of the expression (empty if there are no such signs)
+     */
+    public static PlusMinusBranches find(PomTaggedExpression pte) {
+        List<int[]> signs = new LinkedList<>();
+        collect(pte, new int[0], signs);
+        return signs.isEmpty() ? EMPTY : new PlusMinusBranches(Collections.unmodifiableList(signs));
+    }
+
+    private static void collect(PomTaggedExpression pte, int[] path, List<int[]> signs) {
+        if ( pte == null || pte.isEmpty() ) return;
+        if ( MathTermUtility.equals(pte.getRoot(), MathTermTags.operation) ) {
+            String text = pte.getRoot().getTermText();
+            if ( "\\pm".equals(text) ) signs.add(append(path, 1));
+            else if ( "\\mp".equals(text) ) signs.add(append(path, -1));
+        } else {
+            List<PomTaggedExpression> components = pte.getComponents();
+            int i = 0;
+            for ( PomTaggedExpression child : components ) {
+                collect(child, append(path, i), signs);
+                i++;
+            }
+        }
+    }
+
+    private static int[] append(int[] path, int idx) {
+        int[] newPath = new int[path.length+1];
+        System.arraycopy(path, 0, newPath, 0, path.length);
+        newPath[path.length] = idx;
+        return newPath;
+    }
+
+    /**
+     * @return true if there are no {@code \pm} or {@code \mp} signs, i.e., there is nothing to split
+     */
+    public boolean isEmpty() {
+        return signs.isEmpty();
+    }
+
+    /**
+     * @return the number of {@code \pm} and {@code \mp} signs
+     */
+    public int size() {
+        return signs.size();
+    }
+
+    /**
+     * Expands the given case on a copy of the given expression. The given expression must be the
+     * expression (or an identical copy of it) these branches were found in. It is not changed.
+     * @param pte the expression
+     * @param firstCase true for the first case ({@code \pm} becomes +), false for the second case
+     * @return a copy of the given expression with the signs of the given case
+     */
+    public PrintablePomTaggedExpression expand(PrintablePomTaggedExpression pte, boolean firstCase) {
+        PrintablePomTaggedExpression copy = new PrintablePomTaggedExpression(pte);
+        apply(copy, firstCase);
+        return copy;
+    }
+
+    /**
+     * Switches the signs in the given expression to the given case. The given expression must be the
+     * expression (or an identical copy of it) these branches were found in.
+     * @param pte the expression that will be changed
+     * @param firstCase true for the first case ({@code \pm} becomes +), false for the second case
+     */
+    public void apply(PomTaggedExpression pte, boolean firstCase) {
+        for ( int[] path : signs ) {
+            PomTaggedExpression node = pte;
+            for ( int i = 0; i < path.length-1; i++ ) {
+                node = node.getComponents().get(path[i]);
+            }
+
+            MathTerm term = node.getRoot();
+            boolean plus = (path[path.length-1] > 0) == firstCase;
+            if ( plus ) PomTaggedExpressionNormalizer.setMathTermPlus(term);
+            else PomTaggedExpressionNormalizer.setMathTermMinus(term);
+            node.setRoot(term);
+        }
+    }
+}
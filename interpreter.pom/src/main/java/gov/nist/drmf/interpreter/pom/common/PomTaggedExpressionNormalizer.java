@@ -124,35 +124,18 @@ public final class PomTaggedExpressionNormalizer {
      * @return the updated expression without \pm and \mp
      */
     public static boolean normalizePm(PomTaggedExpression pte, boolean firstCase) {
-        boolean encountered = false;
-        if ( pte == null || pte.isEmpty() ) return false;
-        if ( MathTermUtility.equals(pte.getRoot(), MathTermTags.operation) ) {
-            MathTerm term = pte.getRoot();
-            if ( "\\pm".equals(term.getTermText()) ) {
-                if ( firstCase ) setMathTermPlus(term);
-                else setMathTermMinus(term);
-                pte.setRoot(term);
-                encountered = true;
-            } else if ( "\\mp".equals(term.getTermText()) ) {
-                if ( firstCase ) setMathTermMinus(term);
-                else setMathTermPlus(term);
-                pte.setRoot(term);
-                encountered = true;
-            }
-        } else if ( !pte.getComponents().isEmpty() ) {
-            for ( PomTaggedExpression child : pte.getComponents() )
-                encountered |= normalizePm(child, firstCase);
-        }
-        return encountered;
+        PlusMinusBranches branches = PlusMinusBranches.find(pte);
+        branches.apply(pte, firstCase);
+        return !branches.isEmpty();
     }
 
-    private static void setMathTermPlus(MathTerm term) {
+    static void setMathTermPlus(MathTerm term) {
         term.setTermText("+");
         term.setTag(MathTermTags.plus.tag());
         mlp.loadFeatures(term);
     }
 
-    private static void setMathTermMinus(MathTerm term) {
+    static void setMathTermMinus(MathTerm term) {
         term.setTermText("-");
         term.setTag(MathTermTags.minus.tag());
         mlp.loadFeatures(term);
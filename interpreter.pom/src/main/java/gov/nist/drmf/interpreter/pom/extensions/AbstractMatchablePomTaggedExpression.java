@@ -198,7 +198,8 @@ public abstract class AbstractMatchablePomTaggedExpression
      */
     public boolean matchUnsafe(PrintablePomTaggedExpression expression, MatcherConfig config) {
         captures.clear();
-        expression = (PrintablePomTaggedExpression) PomTaggedExpressionNormalizer.normalize(expression);
+        if ( !config.isExpressionNormalized() )
+            expression = (PrintablePomTaggedExpression) PomTaggedExpressionNormalizer.normalize(expression);
         boolean matched;
         if ( config.allowLeadingTokens() ) {
             PomMatcher pomMatcher = new PomMatcher(this, expression, config);
@@ -118,8 +118,7 @@ public class MatchablePomTaggedExpression extends AbstractMatchablePomTaggedExpr
         this.fontManipulations = PomTaggedExpressionUtility.getFontManipulations(refRoot);
         String text = refRoot.getRoot().getTermText();
 
-        String wildcardPattern = config.getWildcardPattern();
-        if (!wildcardPattern.isBlank() && text.matches(wildcardPattern)) {
+        if (config.isWildcard(text)) {
             if (!refRoot.getComponents().isEmpty())
                 throw new NotMatchableException("A wildcard node cannot have children.");
             this.isWildcard = true;
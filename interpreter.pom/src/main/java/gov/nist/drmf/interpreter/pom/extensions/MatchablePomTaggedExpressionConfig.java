@@ -4,6 +4,8 @@ import gov.nist.drmf.interpreter.pom.MLPWrapper;
 import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
 import org.intellij.lang.annotations.Language;
 
+import java.util.regex.Pattern;
+
 /**
  * @author Andre Greiner-Petter
  */
@@ -16,6 +18,8 @@ public class MatchablePomTaggedExpressionConfig {
     @Language("RegExp")
     private String wildcardPattern;
 
+    private Pattern wildcardRegex;
+
     private boolean fallbackConsecutiveWildcards = true;
 
     public MatchablePomTaggedExpressionConfig(){
@@ -28,8 +32,21 @@ public class MatchablePomTaggedExpressionConfig {
 
     public MatchablePomTaggedExpressionConfig(MLPWrapper mlpWrapper, @Language("RegExp") String wildcardPattern) {
         this.mlpWrapper = mlpWrapper;
-        this.wildcardPattern = wildcardPattern;
         this.captures = new GroupCaptures();
+        setWildcardPattern(wildcardPattern);
+    }
+
+    /**
+     * Copies the settings of the given config. The copy has its own (empty) captures, hence
+     * matchable trees compiled by the copy do not share their captured groups with the original.
+     * @param copy the config to copy
+     */
+    public MatchablePomTaggedExpressionConfig(MatchablePomTaggedExpressionConfig copy) {
+        this.mlpWrapper = copy.mlpWrapper;
+        this.captures = new GroupCaptures();
+        this.wildcardPattern = copy.wildcardPattern;
+        this.wildcardRegex = copy.wildcardRegex;
+        this.fallbackConsecutiveWildcards = copy.fallbackConsecutiveWildcards;
     }
 
     public MLPWrapper getMlpWrapper() {
@@ -46,9 +63,18 @@ public class MatchablePomTaggedExpressionConfig {
 
     public MatchablePomTaggedExpressionConfig setWildcardPattern(@Language("RegExp") String wildcardPattern) {
         this.wildcardPattern = wildcardPattern;
+        this.wildcardRegex = wildcardPattern.isBlank() ? null : Pattern.compile(wildcardPattern);
         return this;
     }
 
+    /**
+     * @param text the text of a node
+     * @return true if the given text is a wildcard according to the wildcard pattern
+     */
+    public boolean isWildcard(String text) {
+        return wildcardRegex != null && wildcardRegex.matcher(text).matches();
+    }
+
     public boolean fallbackConsecutiveWildcards() {
         return fallbackConsecutiveWildcards;
     }
@@ -31,6 +31,8 @@ public class MatcherConfig {
 
     private boolean semanticMacroIgnoreTokenRule = false;
 
+    private boolean expressionNormalized = false;
+
     private final Map<String, String> illegalTokenForWildcards = new HashMap<>();
 
     private MatcherConfig() {
@@ -44,6 +46,7 @@ public class MatcherConfig {
         this.ignoreNumberOfAts = referenceConfig.ignoreNumberOfAts;
         this.ignoreOperatorName = referenceConfig.ignoreOperatorName;
         this.semanticMacroIgnoreTokenRule = referenceConfig.semanticMacroIgnoreTokenRule;
+        this.expressionNormalized = referenceConfig.expressionNormalized;
         this.illegalTokenForWildcards.putAll(referenceConfig.illegalTokenForWildcards);
     }
 
@@ -110,6 +113,22 @@ public class MatcherConfig {
         return this;
     }
 
+    public boolean isExpressionNormalized() {
+        return expressionNormalized;
+    }
+
+    /**
+     * If the expressions to match are already normalized (see
+     * {@link gov.nist.drmf.interpreter.pom.common.PomTaggedExpressionNormalizer}), the matcher does not
+     * normalize them again. This is useful if the same expression is matched against many patterns.
+     * @param expressionNormalized true if the expressions are already normalized
+     * @return this config
+     */
+    public MatcherConfig expressionNormalized(boolean expressionNormalized) {
+        this.expressionNormalized = expressionNormalized;
+        return this;
+    }
+
     public @Language("RegExp") String getDefaultIllegalTokenForWildcards() {
         return this.illegalTokenForWildcards.getOrDefault(ALL_KEY, DEFAULT_ILLEGAL_TOKEN_FOR_WILDCARD);
     }
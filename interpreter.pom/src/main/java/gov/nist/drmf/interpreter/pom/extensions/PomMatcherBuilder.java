@@ -138,4 +138,86 @@ public final class PomMatcherBuilder {
             throws NotMatchableException{
         return new MatchablePomTaggedExpression(config, refRoot);
     }
+
+    /**
+     * Compiles an immutable and thread-safe pattern. It uses the standard instance the parser via
+     * {@link SemanticMLPWrapper#getStandardInstance()}.
+     * @param expression the expression to create a pattern
+     * @param wildcardPattern the regex to find wildcards (e.g., var\d+).
+     * @return the compiled pattern
+     * @throws ParseException if the expression cannot be parsed
+     * @throws NotMatchableException if the given expression cannot be matched
+     * @see PomPattern
+     */
+    public static PomPattern compilePattern(String expression, @Language("RegExp") String wildcardPattern)
+            throws ParseException, NotMatchableException {
+        return compilePattern(SemanticMLPWrapper.getStandardInstance(), expression, wildcardPattern);
+    }
+
+    /**
+     * Compiles an immutable and thread-safe pattern.
+     * @param mlp the mlp wrapper to parse the expression
+     * @param expression the expression to create a pattern
+     * @param wildcardPattern the regex to find wildcards (e.g., var\d+).
+     * @return the compiled pattern
+     * @throws ParseException if the {@link MLPWrapper} is unable to parse the expression
+     * @throws NotMatchableException if the given expression cannot be matched
+     * @see PomPattern
+     */
+    public static PomPattern compilePattern(
+            MLPWrapper mlp,
+            String expression,
+            @Language("RegExp") String wildcardPattern
+    ) throws ParseException, NotMatchableException {
+        return compilePattern(new MatchablePomTaggedExpressionConfig(mlp, wildcardPattern), mlp.parse(expression));
+    }
+
+    /**
+     * Compiles an immutable and thread-safe pattern by providing the entire config object.
+     * @param config the configuration
+     * @param refRoot the expression that is the pattern (it is not changed)
+     * @return the compiled pattern
+     * @throws NotMatchableException if the expression is non-matchable
+     * @see PomPattern
+     */
+    public static PomPattern compilePattern(MatchablePomTaggedExpressionConfig config, PrintablePomTaggedExpression refRoot)
+            throws NotMatchableException {
+        return new PomPattern(config, refRoot);
+    }
+
+    /**
+     * Returns the compiled pattern from the shared {@link PomPatternCache#getDefaultCache()}. The pattern
+     * is only parsed and compiled if it is not cached yet. It uses the standard instance the parser via
+     * {@link SemanticMLPWrapper#getStandardInstance()}.
+     * @param expression the expression to create a pattern
+     * @param wildcardPattern the regex to find wildcards (e.g., var\d+).
+     * @return the compiled pattern
+     * @throws ParseException if the expression cannot be parsed
+     * @throws NotMatchableException if the given expression cannot be matched
+     */
+    public static PomPattern compileCached(String expression, @Language("RegExp") String wildcardPattern)
+            throws ParseException, NotMatchableException {
+        return compileCached(SemanticMLPWrapper.getStandardInstance(), expression, wildcardPattern);
+    }
+
+    /**
+     * Returns the compiled pattern from the shared {@link PomPatternCache#getDefaultCache()}. The pattern
+     * is only parsed and compiled if it is not cached yet.
+     * @param mlp the mlp wrapper to parse the expression
+     * @param expression the expression to create a pattern
+     * @param wildcardPattern the regex to find wildcards (e.g., var\d+).
+     * @return the compiled pattern
+     * @throws ParseException if the {@link MLPWrapper} is unable to parse the expression
+     * @throws NotMatchableException if the given expression cannot be matched
+     */
+    public static PomPattern compileCached(
+            MLPWrapper mlp,
+            String expression,
+            @Language("RegExp") String wildcardPattern
+    ) throws ParseException, NotMatchableException {
+        return PomPatternCache.getDefaultCache().compile(
+                new MatchablePomTaggedExpressionConfig(mlp, wildcardPattern),
+                expression
+        );
+    }
 }
@@ -0,0 +1,134 @@
+package gov.nist.drmf.interpreter.pom.extensions;
+
+import gov.nist.drmf.interpreter.common.exceptions.NotMatchableException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A compiled, immutable and thread-safe pattern. In contrast to a {@link MatchablePomTaggedExpression},
+ * which stores the state of the latest match (e.g., the captured groups), this pattern only keeps the
+ * untouched reference tree. Every use of the pattern works on its own matchable tree. Idle matchable
+ * trees are pooled, so the pattern is only compiled again if it is used concurrently (or nested).
+ * <p>
+ * Hence, a pattern can be compiled once and shared among all threads, e.g., as a constant.
+ * <pre>{@code
+ * PomPattern pattern = PomMatcherBuilder.compilePattern("\\frac{var1}{var2}", "var\\d");
+ * Map<String, String> groups = pattern.matchGroups(mlp.parse("\\frac{x}{2}"), MatcherConfig.getExactMatchConfig());
+ * }</pre>
+ *
+ * @see PomMatcherBuilder#compilePattern(String, String)
+ * @author Andre Greiner-Petter
+ */
+public final class PomPattern {
+    private final MatchablePomTaggedExpressionConfig config;
+
+    /**
+     * The reference tree of the pattern. Compiling a matchable tree changes the reference tree
+     * (e.g., normalization), hence this tree is never compiled directly but only copied.
+     */
+    private final PrintablePomTaggedExpression reference;
+
+    private final String pattern;
+
+    private final ConcurrentLinkedQueue<MatchablePomTaggedExpression> idle;
+
+    /**
+     * @param config the configuration of the pattern (it is copied, later changes have no effect on this pattern)
+     * @param reference the pattern (it is copied, later changes have no effect on this pattern)
+     * @throws NotMatchableException if the given pattern is not matchable
+     * @see PomMatcherBuilder#compilePattern(MatchablePomTaggedExpressionConfig, PrintablePomTaggedExpression)
+     */
+    PomPattern(MatchablePomTaggedExpressionConfig config, PrintablePomTaggedExpression reference) throws NotMatchableException {
+        this.config = new MatchablePomTaggedExpressionConfig(config);
+        this.reference = new PrintablePomTaggedExpression(reference);
+        this.pattern = reference.getTexString();
+        this.idle = new ConcurrentLinkedQueue<>();
+
+        // compile once right away to fail early on non-matchable patterns
+        this.idle.add(compile());
+    }
+
+    private MatchablePomTaggedExpression compile() throws NotMatchableException {
+        return new MatchablePomTaggedExpression(
+                new MatchablePomTaggedExpressionConfig(config),
+                new PrintablePomTaggedExpression(reference)
+        );
+    }
+
+    /**
+     * @return the pattern as a string
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Hands out a matchable tree of this pattern that is exclusively owned by the caller until it is given
+     * back via {@link #release(MatchablePomTaggedExpression)}. If the tree is not released, it is simply
+     * not reused.
+     * @return a matchable tree of this pattern
+     */
+    public MatchablePomTaggedExpression acquire() {
+        MatchablePomTaggedExpression mpte = idle.poll();
+        return mpte != null ? mpte : compile();
+    }
+
+    /**
+     * Gives a matchable tree back to the pool of this pattern. The tree must not be used afterward.
+     * @param mpte a tree that was handed out by {@link #acquire()}
+     */
+    public void release(MatchablePomTaggedExpression mpte) {
+        if ( mpte == null ) return;
+        // do not keep references to the matched expressions
+        mpte.getCaptures().clear();
+        idle.add(mpte);
+    }
+
+    /**
+     * @param expression the expression to match
+     * @param config the matcher configuration
+     * @return true if the given expression matches this pattern
+     * @see MatchablePomTaggedExpression#match(PrintablePomTaggedExpression, MatcherConfig)
+     */
+    public boolean match(PrintablePomTaggedExpression expression, MatcherConfig config) {
+        MatchablePomTaggedExpression mpte = acquire();
+        try {
+            return mpte.match(expression, config);
+        } finally {
+            release(mpte);
+        }
+    }
+
+    /**
+     * Matches the given expression and returns the captured groups.
+     * @param expression the expression to match
+     * @param config the matcher configuration
+     * @return the captured groups (wildcard to string) or null if the expression does not match this pattern
+     * @see MatchablePomTaggedExpression#getStringMatches()
+     */
+    public Map<String, String> matchGroups(PrintablePomTaggedExpression expression, MatcherConfig config) {
+        MatchablePomTaggedExpression mpte = acquire();
+        try {
+            return mpte.match(expression, config) ? mpte.getStringMatches() : null;
+        } finally {
+            release(mpte);
+        }
+    }
+
+    /**
+     * Creates a matcher to find (and replace) hits of this pattern in the given expression. The matcher
+     * works on its own matchable tree, which is not returned to the pool of this pattern.
+     * @param expression the expression to search in
+     * @param config the matcher configuration
+     * @return a new matcher
+     */
+    public PomMatcher matcher(PrintablePomTaggedExpression expression, MatcherConfig config) {
+        return compile().matcher(expression, config);
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -0,0 +1,195 @@
+package gov.nist.drmf.interpreter.pom.extensions;
+
+import gov.nist.drmf.interpreter.common.exceptions.NotMatchableException;
+import gov.nist.drmf.interpreter.pom.MLPWrapper;
+import mlp.ParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.intellij.lang.annotations.Language;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A size-bounded cache of compiled patterns. Compiling a pattern from a string requires a full parse of
+ * the pattern, while the compiled {@link PomPattern} is immutable and can be shared. Hence, the same pattern
+ * string should only be compiled once. The cache is keyed by the pattern string, the wildcard regex, the
+ * {@link MLPWrapper} that parses the pattern, and whether consecutive wildcards fall back to single
+ * sequence wildcards (see {@link Key}). The {@link MatcherConfig} is not part of the key, since it is
+ * only used when the pattern is matched.
+ * <p>
+ * If the cache is full, the least recently used pattern is removed. Patterns that cannot be parsed or that
+ * are not matchable are not cached. The cache is thread-safe.
+ *
+ * @see PomMatcherBuilder#compileCached(String, String)
+ * @author Andre Greiner-Petter
+ */
+public class PomPatternCache {
+    private static final Logger LOG = LogManager.getLogger(PomPatternCache.class.getName());
+
+    /**
+     * The default number of patterns of the shared cache
+     */
+    public static final int DEFAULT_SIZE = 10_000;
+
+    private static final PomPatternCache DEFAULT_CACHE = new PomPatternCache(DEFAULT_SIZE);
+
+    private final int maxSize;
+
+    private final LinkedHashMap<Key, PomPattern> cache;
+
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+    private final AtomicLong evictions = new AtomicLong(0);
+
+    /**
+     * @param maxSize the maximum number of cached patterns (must be positive)
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public PomPatternCache(int maxSize) {
+        if ( maxSize < 1 ) throw new IllegalArgumentException("The size of a pattern cache must be positive but was " + maxSize);
+        this.maxSize = maxSize;
+        // access order, i.e., the first entry is the least recently used entry
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, PomPattern> eldest) {
+                if ( size() <= PomPatternCache.this.maxSize ) return false;
+                evictions.incrementAndGet();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * @return the cache that is shared by all users of {@link PomMatcherBuilder#compileCached(String, String)}
+     */
+    public static PomPatternCache getDefaultCache() {
+        return DEFAULT_CACHE;
+    }
+
+    /**
+     * Returns the cached pattern or compiles (and caches) the pattern if it is not cached yet.
+     * @param config the configuration to compile the pattern
+     * @param expression the pattern
+     * @return the compiled pattern
+     * @throws ParseException if the pattern cannot be parsed
+     * @throws NotMatchableException if the pattern is not matchable
+     */
+    public PomPattern compile(MatchablePomTaggedExpressionConfig config, String expression)
+            throws ParseException, NotMatchableException {
+        Key key = new Key(config, expression);
+        PomPattern pattern;
+        synchronized (cache) {
+            pattern = cache.get(key);
+        }
+
+        if ( pattern != null ) {
+            hits.incrementAndGet();
+            return pattern;
+        }
+
+        misses.incrementAndGet();
+        // compile outside of the lock, parsing is the expensive part. If another thread compiled
+        // the same pattern in the meantime, we keep the first one.
+        MLPWrapper mlp = config.getMlpWrapper();
+        PomPattern compiled = PomMatcherBuilder.compilePattern(config, mlp.parse(expression));
+        synchronized (cache) {
+            pattern = cache.putIfAbsent(key, compiled);
+        }
+        return pattern != null ? pattern : compiled;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * @return the ratio of hits of all lookups or 0 if the cache was not used yet
+     */
+    public double getHitRate() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    /**
+     * Removes all patterns and resets the statistics.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+        evictions.set(0);
+        LOG.debug("Cleared pattern cache");
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "Pattern cache [size: %d/%d, hits: %d, misses: %d, hit rate: %.2f, evictions: %d]",
+                size(), maxSize, getHits(), getMisses(), getHitRate(), getEvictions()
+        );
+    }
+
+    /**
+     * The key of a cached pattern. Two patterns are identical if they have the same pattern string,
+     * the same wildcard regex, the same consecutive wildcards fallback setting, and are parsed by
+     * the same {@link MLPWrapper} instance.
+     */
+    public static final class Key {
+        private final MLPWrapper mlp;
+        private final String expression;
+        private final String wildcardPattern;
+        private final boolean fallbackConsecutiveWildcards;
+
+        public Key(MatchablePomTaggedExpressionConfig config, String expression) {
+            this.mlp = config.getMlpWrapper();
+            this.expression = Objects.requireNonNull(expression);
+            this.wildcardPattern = config.getWildcardPattern();
+            this.fallbackConsecutiveWildcards = config.fallbackConsecutiveWildcards();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if ( this == o ) return true;
+            if ( !(o instanceof Key) ) return false;
+            Key key = (Key) o;
+            return mlp == key.mlp
+                    && fallbackConsecutiveWildcards == key.fallbackConsecutiveWildcards
+                    && expression.equals(key.expression)
+                    && wildcardPattern.equals(key.wildcardPattern);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(mlp), expression, wildcardPattern, fallbackConsecutiveWildcards);
+        }
+
+        @Override
+        public String toString() {
+            return expression + " [wildcards: " + wildcardPattern + "]";
+        }
+    }
+}
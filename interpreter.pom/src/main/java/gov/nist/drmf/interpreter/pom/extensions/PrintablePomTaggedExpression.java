@@ -5,6 +5,7 @@ import gov.nist.drmf.interpreter.common.interfaces.IMatcher;
 import gov.nist.drmf.interpreter.common.text.IndexRange;
 import gov.nist.drmf.interpreter.pom.common.MathTermUtility;
 import gov.nist.drmf.interpreter.pom.common.PomTaggedExpressionUtility;
+import gov.nist.drmf.interpreter.pom.common.grammar.ExpressionTags;
 import mlp.MathTerm;
 import mlp.PomTaggedExpression;
 
@@ -30,8 +31,19 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
     private static final PrintablePomTaggedExpressionRangeCalculator rangeCalculator =
             new PrintablePomTaggedExpressionRangeCalculator();
 
+    /**
+     * The caption of this node. It is null as long as the caption is only given by the span
+     * {@link #source}[{@link #start}, {@link #end}), see {@link #getTexString()}.
+     */
     private String caption;
 
+    /**
+     * The source of parsed nodes is shared by all nodes of the tree. Hence, the captions of parsed nodes
+     * do not hold their own copies of the expression until the caption is requested.
+     */
+    private String source;
+    private int start, end;
+
     /**
      * Keep Kryo happy for serialization
      */
@@ -46,11 +58,18 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
      *
      * If you want to copy the entire parse tree, you must copy the root of the tree!
      *
+     * The copy only shares immutable parts with the given tree, i.e., the source string of the captions and
+     * the alternative feature sets of the math terms (see {@link MathTermUtility#copy(MathTerm)}).
+     * Changing the copy does not change the given tree and vice versa.
+     *
      * @param ppte a previously valid printable PoM expression.
      */
     public PrintablePomTaggedExpression( PrintablePomTaggedExpression ppte ) {
-        super(MathTermUtility.secureClone(ppte.getRoot()), ppte.getTag(), ppte.getSecondaryTags());
+        super(MathTermUtility.copy(ppte.getRoot()), ppte.getTag(), ppte.getSecondaryTags());
         this.caption = ppte.caption;
+        this.source = ppte.source;
+        this.start = ppte.start;
+        this.end = ppte.end;
         ppte.getNamedFeatures().forEach(super::addNamedFeature);
         for ( PrintablePomTaggedExpression child : ppte.getPrintableComponents() ) {
             PrintablePomTaggedExpression childCopy = new PrintablePomTaggedExpression(child);
@@ -66,7 +85,7 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
      */
     public PrintablePomTaggedExpression( MathTerm mathTerm, String... exprTags ) {
         super(mathTerm, exprTags);
-        this.caption = mathTerm.getTermText();
+        setCaption(mathTerm.getTermText());
     }
 
     /**
@@ -80,6 +99,14 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
      * @param expr the expression that was used to generate the parse tree {@param pte}
      */
     public PrintablePomTaggedExpression( PomTaggedExpression pte, String expr ) {
+        this(pte, expr, 0, expr.length());
+    }
+
+    /**
+     * Constructs a printable {@link PomTaggedExpression} that was generated with the given region
+     * {@code [from, to)} of the given string. The region is not copied.
+     */
+    private PrintablePomTaggedExpression( PomTaggedExpression pte, String expr, int from, int to ) {
         super();
         super.setRoot(pte.getRoot());
         super.setTag(pte.getTag());
@@ -88,21 +115,47 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
             super.addNamedFeature(k, pte.getFeatureValue(k));
 
         // the fun part, every node has it's own caption
-        this.caption = PomTaggedExpressionUtility.getNormalizedCaption(pte, expr);
-        if ( PomTaggedExpressionUtility.isTeXEnvironment(pte) ) expr = TeXPreProcessor.removeTeXEnvironment(expr);
+        setCaption(pte, expr, from, to);
+        if ( PomTaggedExpressionUtility.isTeXEnvironment(pte) ) {
+            expr = TeXPreProcessor.removeTeXEnvironment(expr.substring(from, to));
+            from = 0;
+            to = expr.length();
+        }
 
-        // now we have to add the components and their respective substrings...
+        // now we have to add the components and their respective regions...
         for (PomTaggedExpression component : pte.getComponents()) {
-            String innerExpression;
+            IndexRange range = rangeCalculator.getRange(component, expr, from, to);
+            PrintablePomTaggedExpression ppte = new PrintablePomTaggedExpression(component, expr, range.getStart(), range.getEnd());
+            from = range.getEnd();
+            super.addComponent(ppte);
+        }
+    }
 
-            IndexRange range = rangeCalculator.getRange(component, expr);
+    /**
+     * Sets the caption of a parsed node. In most cases, the caption is just the trimmed region of the
+     * expression, which is kept as a span. Only if the caption must be normalized, e.g., for the root or
+     * sequences in sequences (see {@link PomTaggedExpressionUtility#getNormalizedCaption(PomTaggedExpression, String)}),
+     * the caption is computed right away.
+     */
+    private void setCaption(PomTaggedExpression pte, String expr, int from, int to) {
+        if ( pte.getParent() == null || pte.isEmpty() ||
+                ( PomTaggedExpressionUtility.isSequence(pte) && ExpressionTags.sequence.equalsPTE(pte.getParent()) ) ) {
+            this.caption = PomTaggedExpressionUtility.getNormalizedCaption(pte, expr.substring(from, to));
+            return;
+        }
 
-            innerExpression = expr.substring(range.getStart(), range.getEnd());
-            expr = expr.substring(range.getEnd());
+        // identical to String.trim()
+        while ( from < to && expr.charAt(from) <= ' ' ) from++;
+        while ( from < to && expr.charAt(to-1) <= ' ' ) to--;
+        this.caption = null;
+        this.source = expr;
+        this.start = from;
+        this.end = to;
+    }
 
-            PrintablePomTaggedExpression ppte = new PrintablePomTaggedExpression(component, innerExpression);
-            super.addComponent(ppte);
-        }
+    private void setCaption(String caption) {
+        this.caption = caption;
+        this.source = null;
     }
 
     /**
@@ -110,7 +163,7 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
      */
     public void clearComponents(){
         super.getComponents().clear();
-        this.caption = this.getRoot().getTermText();
+        setCaption(this.getRoot().getTermText());
     }
 
     /*
@@ -232,6 +285,7 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
     }
 
     public void refreshTexComponents() {
+        String caption = getTexString();
         IndexRange range = rangeCalculator.getRange( this, caption );
         this.replaceCaption( caption.substring(range.getStart(), range.getEnd()) );
         this.populatingStringChanges();
@@ -246,19 +300,22 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
             parent.populatingStringChanges();
         }
 
+        StringBuilder sb = new StringBuilder(getTexString());
         for ( PrintablePomTaggedExpression ppte : getPrintableComponents() ){
-            this.caption += ppte.caption;
+            sb.append(ppte.getTexString());
         }
+        setCaption(sb.toString());
 
         super.setRoot(mathTerm);
     }
 
     private void replaceCaption(String newCaption) {
+        String caption = getTexString();
         if ( TeXPreProcessor.wrappedInCurlyBrackets(caption) && !TeXPreProcessor.wrappedInCurlyBrackets(newCaption) ){
             String start = caption.substring(0,1);
             String end = caption.substring(caption.length()-1);
-            this.caption = start + newCaption + end;
-        } else this.caption = newCaption;
+            setCaption(start + newCaption + end);
+        } else setCaption(newCaption);
     }
 
     /**
@@ -306,13 +363,14 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
      * Wraps the current caption in curly brackets, if it is not wrapped in curly brackets already
      */
     public void makeBalancedTexString() {
+        String caption = getTexString();
         if ( TeXPreProcessor.wrappedInCurlyBrackets(caption) ) return;
-        caption = "{" + caption + "}";
+        setCaption("{" + caption + "}");
         populatingStringChanges();
     }
 
     public void makeBalancedOptionalArgumentString() {
-        caption = "[" + caption + "]";
+        setCaption("[" + getTexString() + "]");
         populatingStringChanges();
     }
 
@@ -324,7 +382,13 @@ public class PrintablePomTaggedExpression extends PomTaggedExpression implements
      * from it's children.
      */
     public String getTexString() {
-        return caption;
+        String c = caption;
+        if ( c == null && source != null ) {
+            // the span is materialized only once. The source is kept, since it is shared with other nodes anyway
+            c = source.substring(start, end);
+            caption = c;
+        }
+        return c;
     }
 
     /**
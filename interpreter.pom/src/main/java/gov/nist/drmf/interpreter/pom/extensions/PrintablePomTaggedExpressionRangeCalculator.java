@@ -21,17 +21,32 @@ public class PrintablePomTaggedExpressionRangeCalculator {
     public PrintablePomTaggedExpressionRangeCalculator() {}
 
     public IndexRange getRange(PomTaggedExpression component, String expr) {
+        return getRange(component, expr, 0, expr.length());
+    }
+
+    /**
+     * Calculates the range of the given component within the region {@code [from, to)} of the given expression.
+     * It is identical to {@link #getRange(PomTaggedExpression, String)} with {@code expr.substring(from, to)},
+     * but it does not copy the region. The returned range is absolute, i.e., relative to the entire expression.
+     * @param component the component
+     * @param expr the expression
+     * @param from the start of the region (inclusive)
+     * @param to the end of the region (exclusive)
+     * @return the range of the component in the given expression
+     */
+    public IndexRange getRange(PomTaggedExpression component, String expr, int from, int to) {
         String thisMatch = getStartingStringPattern(component);
         String nextMatch = getEndingStringPattern(component);
 
         Pattern thisPattern = Pattern.compile(thisMatch);
         Pattern nextPattern = Pattern.compile(nextMatch);
 
-        Matcher thisM = thisPattern.matcher(expr);
-        Matcher nextM = nextPattern.matcher(expr);
+        // regions have opaque and anchoring bounds by default, i.e., they behave like substrings
+        Matcher thisM = thisPattern.matcher(expr).region(from, to);
+        Matcher nextM = nextPattern.matcher(expr).region(from, to);
 
-        int idxStart = 0;
-        int idxEnd = expr.length();
+        int idxStart = from;
+        int idxEnd = to;
 
         if (thisM.find()) {
             idxStart = thisM.start();
@@ -47,9 +62,9 @@ public class PrintablePomTaggedExpressionRangeCalculator {
         }
 
         // check before the wrapping { ... } if the brackets are correct now, or if we missed something
-        idxEnd = checkIndexForClosingBrackets(idxStart, idxEnd, expr);
+        idxEnd = checkIndexForClosingBrackets(idxStart, idxEnd, expr, from, to);
 
-        if (isStartingIndexOpenBracket(idxStart, expr) && isEndingIndexCloseBracket(idxEnd, expr)){
+        if (idxStart > from && isStartingIndexOpenBracket(idxStart, expr) && idxEnd < to && isEndingIndexCloseBracket(idxEnd, expr)){
             idxStart--;
             idxEnd++;
         }
@@ -171,31 +186,31 @@ public class PrintablePomTaggedExpressionRangeCalculator {
         } else return null;
     }
 
-    private int checkIndexForClosingBrackets(int start, int end, String expression) {
-        if (expression.length() == 0) return 0;
-
-        String sub = expression.substring(start, end);
-        int opened = countOpenBrackets(sub);
+    private int checkIndexForClosingBrackets(int start, int end, String expression, int from, int to) {
+        if (from == to) return from;
+        if (start < from || end > to || start > end)
+            throw new StringIndexOutOfBoundsException("begin " + (start-from) + ", end " + (end-from) + ", length " + (to-from));
 
-        return getEndIndex(opened, end, expression);
+        int opened = countOpenBrackets(expression, start, end);
+        return getEndIndex(opened, end, expression, to);
     }
 
-    private int countOpenBrackets(String sub) {
+    private int countOpenBrackets(String expression, int start, int end) {
         int opened = 0;
-        for (int i = 0; i < sub.length(); i++) {
-            if (isBracket(sub, i, '{')) opened++;
-            else if (isBracket(sub, i, '}')) opened--;
+        for (int i = start; i < end; i++) {
+            if (isBracket(expression, start, i, '{')) opened++;
+            else if (isBracket(expression, start, i, '}')) opened--;
         }
         return opened;
     }
 
-    private boolean isBracket(String sub, int i, char bracketSymb) {
-        if ( i > 0 && sub.charAt(i-1) == '\\' ) return false;
-        return sub.charAt(i) == bracketSymb;
+    private boolean isBracket(String expression, int start, int i, char bracketSymb) {
+        if ( i > start && expression.charAt(i-1) == '\\' ) return false;
+        return expression.charAt(i) == bracketSymb;
     }
 
-    private int getEndIndex(int opened, int end, String expression) {
-        while (opened > 0 && end < expression.length()) {
+    private int getEndIndex(int opened, int end, String expression, int to) {
+        while (opened > 0 && end < to) {
             if (expression.charAt(end) == '}') {
                 end++;
                 opened--;
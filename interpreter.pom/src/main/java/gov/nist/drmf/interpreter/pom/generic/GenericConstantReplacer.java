@@ -35,24 +35,35 @@ public class GenericConstantReplacer implements TranslationFeature<PrintablePomT
     }
 
     public PrintablePomTaggedExpression fixConstants(PrintablePomTaggedExpression pte) {
+        analyze(pte);
+        GenericRuleTraversal.apply(referencePTE, getRules());
+        return referencePTE;
+    }
+
+    /**
+     * Analyzes which constants should be replaced in the given expression. Must be called before
+     * the rules of {@link #getRules()} are applied.
+     * @param pte the entire expression
+     */
+    void analyze(PrintablePomTaggedExpression pte) {
         this.referencePTE = pte;
         this.replacePi = true;
         this.replaceE = analyzeE(pte);
         this.replaceI = analyzeI(pte);
-
-        replaceInternal(List.of(referencePTE));
-        fixImReOperatorInternal(List.of(referencePTE));
-        fixNotEquals(List.of(referencePTE));
-        return referencePTE;
     }
 
-    private void fixImReOperatorInternal(List<PomTaggedExpression> elements) {
-        if ( elements == null || elements.isEmpty() ) return;
+    /**
+     * @return the rules to replace constants, Im/Re operators and negated equal signs (in that order)
+     */
+    GenericRule[] getRules() {
+        return new GenericRule[]{this::replaceConstants, this::fixImReOperators, this::fixNotEquals};
+    }
 
-        LinkedList<PomTaggedExpression> newElements = new LinkedList<>();
+    private void fixImReOperators(List<PrintablePomTaggedExpression> elements) {
+        LinkedList<PrintablePomTaggedExpression> newElements = new LinkedList<>();
         boolean replaced = false;
         for ( int i = 0; i < elements.size(); i++ ) {
-            PomTaggedExpression pte = elements.get(i);
+            PrintablePomTaggedExpression pte = elements.get(i);
             if ( PomTaggedExpressionUtility.isOperatorname(pte) ) {
                 PomTaggedExpression next = pte.getNextSibling();
                 if ( next != null && next.getRoot().getTermText().toLowerCase().matches("im|re") ) {
@@ -67,12 +78,8 @@ public class GenericConstantReplacer implements TranslationFeature<PrintablePomT
         }
 
         if ( replaced ) {
-            PomTaggedExpression parent = newElements.get(0).getParent();
-            if ( parent != null ) parent.setComponents(newElements);
-        }
-
-        for ( PomTaggedExpression p : newElements ) {
-            if ( p != null && !p.getComponents().isEmpty() ) fixImReOperatorInternal(p.getComponents());
+            PrintablePomTaggedExpression parent = (PrintablePomTaggedExpression) newElements.get(0).getParent();
+            if ( parent != null ) parent.setPrintableComponents(newElements);
         }
     }
 
@@ -89,7 +96,6 @@ public class GenericConstantReplacer implements TranslationFeature<PrintablePomT
     }
 
     private void fixNotEquals(List<PrintablePomTaggedExpression> expr) {
-        if ( expr == null || expr.isEmpty() ) return;
         for (PrintablePomTaggedExpression pte : expr) {
             if (MathTermUtility.equals(pte.getRoot(), MathTermTags.negated_equals)) {
                 MathTerm term = pte.getRoot();
@@ -98,19 +104,15 @@ public class GenericConstantReplacer implements TranslationFeature<PrintablePomT
                 mlp.loadFeatures(term);
                 pte.setRoot(term);
             }
-            fixNotEquals(pte.getPrintableComponents());
         }
     }
 
-    private void replaceInternal(List<PrintablePomTaggedExpression> comps) {
-        if ( comps == null || comps.isEmpty() ) return;
-
+    private void replaceConstants(List<PrintablePomTaggedExpression> comps) {
         LinkedList<PrintablePomTaggedExpression> newElements = new LinkedList<>();
         boolean listChange = false;
         PrintablePomTaggedExpression parent = (PrintablePomTaggedExpression) comps.get(0).getParent();
         for ( PrintablePomTaggedExpression pte : comps ) {
             if ( !pte.hasNoChildren() ) {
-                replaceInternal(pte.getPrintableComponents());
                 newElements.add( pte );
                 continue;
             }
@@ -13,6 +13,7 @@ import mlp.PomTaggedExpression;
 
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -20,55 +21,68 @@ import java.util.Set;
  */
 public class GenericFunctionAnnotator implements TranslationFeature<PrintablePomTaggedExpression> {
 
-    private PrintablePomTaggedExpression pte;
+    private final Set<String> funcMemory = new HashSet<>();
+    private final Set<String> antiFuncMemory = new HashSet<>();
 
     public GenericFunctionAnnotator() {}
 
-    private GenericFunctionAnnotator(PrintablePomTaggedExpression pte) {
-        this.pte = pte;
+    @Override
+    public PrintablePomTaggedExpression preProcess(PrintablePomTaggedExpression pte) {
+        GenericFunctionAnnotator genericFunctionAnnotator = new GenericFunctionAnnotator();
+        return genericFunctionAnnotator.annotateFunctions(pte);
     }
 
     @Override
-    public PrintablePomTaggedExpression preProcess(PrintablePomTaggedExpression pte) {
-        GenericFunctionAnnotator genericFunctionAnnotator = new GenericFunctionAnnotator(pte);
-        return genericFunctionAnnotator.annotateFunctions();
+    public String getCacheKey() {
+        return GenericFunctionAnnotator.class.getSimpleName();
     }
 
-    private PrintablePomTaggedExpression annotateFunctions() {
-        Set<String> mem = new HashSet<>();
-        Set<String> antiMem = new HashSet<>();
-        findFunctionsRecursive(pte, mem, antiMem);
-        mem.removeAll(antiMem);
-        tagMemoryElementsAsFunction(pte, mem);
+    private PrintablePomTaggedExpression annotateFunctions(PrintablePomTaggedExpression pte) {
+        GenericRuleTraversal.apply(pte, this::findFunctions);
+        finishFunctionSearch();
+        if ( !funcMemory.isEmpty() ) GenericRuleTraversal.apply(pte, this::tagFunctions);
         return pte;
     }
 
-    private void tagMemoryElementsAsFunction(PomTaggedExpression pte, Set<String> funcMemory) {
-        if ( funcMemory.isEmpty() ) return;
-
-        if ( pte == null || pte.isEmpty() ) return;
-        if ( !pte.getComponents().isEmpty() ) {
-            for ( PomTaggedExpression child : pte.getComponents() ) tagMemoryElementsAsFunction(child, funcMemory);
-            return;
+    /**
+     * The rule that collects all functions. The functions must be collected in the entire expression
+     * before they can be tagged via {@link #tagFunctions(List)}.
+     * @param siblings the siblings
+     */
+    void findFunctions(List<PrintablePomTaggedExpression> siblings) {
+        for ( PrintablePomTaggedExpression pte : siblings ) {
+            if ( pte.isEmpty() || !pte.hasNoChildren() ) continue;
+
+            MathTerm term = pte.getRoot();
+            if ( nextIsEqual(pte) ) antiFuncMemory.add(term.getTermText());
+            else if (isFunctionLetter(term) && isFunction(pte) && isNotClosedExpression(pte)) {
+                funcMemory.add(term.getTermText());
+            }
         }
+    }
 
-        MathTerm term = pte.getRoot();
-        if (funcMemory.contains(term.getTermText())) {
-            PomTaggedExpressionUtility.tagAsFunction(pte);
-        }
+    /**
+     * Removes all elements from the found functions that cannot be functions (e.g., because they are defined
+     * on the left-hand side of an equation). Must be called once after {@link #findFunctions(List)} was
+     * applied to the entire expression.
+     */
+    void finishFunctionSearch() {
+        funcMemory.removeAll(antiFuncMemory);
     }
 
-    private void findFunctionsRecursive(PomTaggedExpression pte, Set<String> funcMemory, Set<String> antiFuncMemory) {
-        if ( pte == null || pte.isEmpty() ) return;
-        if ( !pte.getComponents().isEmpty() ) {
-            for ( PomTaggedExpression child : pte.getComponents() ) findFunctionsRecursive(child, funcMemory, antiFuncMemory);
-            return;
-        }
+    /**
+     * The rule that tags all elements as functions that were previously found by {@link #findFunctions(List)}.
+     * @param siblings the siblings
+     */
+    void tagFunctions(List<PrintablePomTaggedExpression> siblings) {
+        if ( funcMemory.isEmpty() ) return;
+        for ( PrintablePomTaggedExpression pte : siblings ) {
+            if ( pte.isEmpty() || !pte.hasNoChildren() ) continue;
 
-        MathTerm term = pte.getRoot();
-        if ( nextIsEqual(pte) ) antiFuncMemory.add(term.getTermText());
-        else if (isFunctionLetter(term) && isFunction(pte) && isNotClosedExpression(pte)) {
-            funcMemory.add(term.getTermText());
+            MathTerm term = pte.getRoot();
+            if (funcMemory.contains(term.getTermText())) {
+                PomTaggedExpressionUtility.tagAsFunction(pte);
+            }
         }
     }
 
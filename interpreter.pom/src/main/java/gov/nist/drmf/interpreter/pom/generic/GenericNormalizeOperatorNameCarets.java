@@ -28,19 +28,20 @@ public class GenericNormalizeOperatorNameCarets implements TranslationFeature<Pr
 
     public PrintablePomTaggedExpression normalize(PrintablePomTaggedExpression pte) {
         this.refPte = pte;
-        normalizeInternally(List.of(refPte));
+        GenericRuleTraversal.apply(refPte, this::normalizeCarets);
         return refPte;
     }
 
-    private void normalizeInternally(List<PrintablePomTaggedExpression> components) {
-        if ( components == null ) return;
+    /**
+     * The rule that moves carets after operator names behind the argument of the operator.
+     * @param components the siblings
+     */
+    void normalizeCarets(List<PrintablePomTaggedExpression> components) {
         for ( int i = 0; i < components.size(); i++ ) {
             PrintablePomTaggedExpression pte = components.get(i);
             if (PomTaggedExpressionUtility.isOperatorname(pte)) {
                 handleOperatorname(components, i);
             }
-
-            normalizeInternally(pte.getPrintableComponents());
         }
     }
 
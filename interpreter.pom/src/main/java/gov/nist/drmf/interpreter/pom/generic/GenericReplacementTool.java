@@ -11,20 +11,47 @@ import org.apache.logging.log4j.Logger;
 public class GenericReplacementTool implements TranslationFeature<PrintablePomTaggedExpression> {
     private static final Logger LOG = LogManager.getLogger(GenericReplacementTool.class.getName());
 
+    /**
+     * All features create their own (stateful) fixers for every expression, hence the chain can be shared.
+     */
+    private static final TranslationFeature<PrintablePomTaggedExpression> DEFAULT_REPLACEMENTS = TranslationFeature.combine(
+            new GenericDifferentialDFixer(),
+            new GenericFractionDerivFixer(),
+            GenericReplacementTool::applyNodeLocalReplacements
+    );
+
     @Override
     public PrintablePomTaggedExpression preProcess(PrintablePomTaggedExpression obj) {
-        TranslationFeature<PrintablePomTaggedExpression> fixer = defaultGenericReplacements();
-        return fixer.preProcess(obj);
+        return DEFAULT_REPLACEMENTS.preProcess(obj);
     }
 
     public static TranslationFeature<PrintablePomTaggedExpression> defaultGenericReplacements() {
-        return TranslationFeature.combine(
-                new GenericDifferentialDFixer(),
-                new GenericFractionDerivFixer(),
-                new GenericConstantReplacer(),
-                new GenericFunctionAnnotator(),
-                new GenericNormalizeOperatorNameCarets()
-        );
+        return DEFAULT_REPLACEMENTS;
+    }
+
+    /**
+     * Performs the same replacements as {@link GenericConstantReplacer}, {@link GenericFunctionAnnotator}
+     * and {@link GenericNormalizeOperatorNameCarets} (in that order) but shares the traversals of the tree.
+     * Since functions can only be tagged once all functions in the entire expression are known, the
+     * rules are applied in two traversals.
+     * @param pte the expression
+     * @return the same, but modified, expression
+     */
+    private static PrintablePomTaggedExpression applyNodeLocalReplacements(PrintablePomTaggedExpression pte) {
+        GenericConstantReplacer constantReplacer = new GenericConstantReplacer();
+        GenericFunctionAnnotator functionAnnotator = new GenericFunctionAnnotator();
+        GenericNormalizeOperatorNameCarets caretNormalizer = new GenericNormalizeOperatorNameCarets();
+
+        constantReplacer.analyze(pte);
+        GenericRule[] constantRules = constantReplacer.getRules();
+        GenericRule[] rules = new GenericRule[constantRules.length + 1];
+        System.arraycopy(constantRules, 0, rules, 0, constantRules.length);
+        rules[constantRules.length] = functionAnnotator::findFunctions;
+        GenericRuleTraversal.apply(pte, rules);
+
+        functionAnnotator.finishFunctionSearch();
+        GenericRuleTraversal.apply(pte, functionAnnotator::tagFunctions, caretNormalizer::normalizeCarets);
+        return pte;
     }
 
     public PrintablePomTaggedExpression getSemanticallyEnhancedExpression(PrintablePomTaggedExpression ppte) {
@@ -0,0 +1,21 @@
+package gov.nist.drmf.interpreter.pom.generic;
+
+import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
+
+import java.util.List;
+
+/**
+ * A node-local rule of the generic LaTeX normalization. A rule only rewrites the siblings it is given,
+ * i.e., it may change the siblings and their order but not their descendants. This allows to apply
+ * multiple rules in one traversal of the tree, see {@link GenericRuleTraversal}.
+ *
+ * @author Andre Greiner-Petter
+ */
+@FunctionalInterface
+interface GenericRule {
+    /**
+     * Applies the rule to the given siblings.
+     * @param siblings the live list of components of a node (or a singleton list of the root of the tree)
+     */
+    void apply(List<PrintablePomTaggedExpression> siblings);
+}
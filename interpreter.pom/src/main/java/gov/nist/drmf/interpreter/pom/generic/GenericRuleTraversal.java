@@ -0,0 +1,37 @@
+package gov.nist.drmf.interpreter.pom.generic;
+
+import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
+
+import java.util.List;
+
+/**
+ * Applies {@link GenericRule}s in one top-down traversal of the tree. On every level, all rules are
+ * applied to the siblings in the given order before the traversal continues with the children of the
+ * (rewritten) siblings.
+ *
+ * @author Andre Greiner-Petter
+ */
+final class GenericRuleTraversal {
+    private GenericRuleTraversal() {}
+
+    /**
+     * Applies the given rules to the entire tree.
+     * @param root the root of the tree
+     * @param rules the rules in the order they should be applied on each level
+     */
+    static void apply(PrintablePomTaggedExpression root, GenericRule... rules) {
+        apply(List.of(root), rules);
+    }
+
+    private static void apply(List<PrintablePomTaggedExpression> siblings, GenericRule[] rules) {
+        if ( siblings.isEmpty() ) return;
+        for ( GenericRule rule : rules ) {
+            rule.apply(siblings);
+        }
+
+        // the siblings are a live view on the components, hence it contains the rewritten siblings now
+        for ( int i = 0; i < siblings.size(); i++ ) {
+            apply(siblings.get(i).getPrintableComponents(), rules);
+        }
+    }
+}
@@ -7,10 +7,7 @@ import mlp.ParseException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -25,9 +22,20 @@ public class MOIDependencyGraph<T> implements IMOIGraph<T> {
     private final HashMap<String, MOINode<T>> vertices;
     private final HashMap<Connection, MOIDependency<T>> edges;
 
+    // inverted indices to find dependency candidates without matching every pair of MOIs
+    // tokens -> nodes that contain the token
+    private final HashMap<String, Set<String>> tokenIndex;
+    // tokens -> nodes that require the token in other MOIs to match them
+    private final HashMap<String, Set<String>> requiredTokenIndex;
+    // nodes that may match any other MOI
+    private final Set<String> unrestrictedNodes;
+
     public MOIDependencyGraph() {
         this.vertices = new HashMap<>();
         this.edges = new HashMap<>();
+        this.tokenIndex = new HashMap<>();
+        this.requiredTokenIndex = new HashMap<>();
+        this.unrestrictedNodes = new HashSet<>();
     }
 
     @Override
@@ -62,6 +70,7 @@ public class MOIDependencyGraph<T> implements IMOIGraph<T> {
         LOG.info("Setup dependencies for new node");
         updateDependencies(node);
         vertices.put(node.getId(), node);
+        index(node);
         return node;
     }
 
@@ -73,6 +82,7 @@ public class MOIDependencyGraph<T> implements IMOIGraph<T> {
     protected void addNode(MOINode<T> node) {
         if ( containsNode(node.getId()) ) return;
         vertices.put(node.getId(), node);
+        index(node);
     }
 
     /**
@@ -80,7 +90,9 @@ public class MOIDependencyGraph<T> implements IMOIGraph<T> {
      * @param node the node
      */
     private void updateDependencies(MOINode<T> node) throws NotMatchableException {
+        Set<String> candidates = getDependencyCandidates(node.getNode());
         for (MOINode<T> ref : vertices.values() ) {
+            if ( candidates != null && !candidates.contains(ref.getId()) ) continue;
             Set<MOIDependency<T>> dependencies = node.setupDependency(ref);
             for ( MOIDependency<T> dependency : dependencies ) {
                 this.edges.put(
@@ -93,6 +105,63 @@ public class MOIDependencyGraph<T> implements IMOIGraph<T> {
         }
     }
 
+    /**
+     * Collects the IDs of all nodes that may depend on the given MOI or the given MOI may depend on.
+     * All other nodes certainly do not share a dependency with the given MOI.
+     * @param moi the MOI
+     * @return the IDs of the candidates or null if every node is a candidate
+     */
+    private Set<String> getDependencyCandidates(MathematicalObjectOfInterest moi) {
+        if ( moi == null ) return null;
+        Set<String> requiredTokens = moi.getRequiredTokens();
+        if ( requiredTokens == null ) return null;
+
+        Set<String> candidates = new HashSet<>(unrestrictedNodes);
+        // nodes the given MOI matches
+        for ( String token : requiredTokens )
+            candidates.addAll(tokenIndex.getOrDefault(token, Collections.emptySet()));
+        // nodes that match the given MOI
+        for ( String token : moi.getTokens() )
+            candidates.addAll(requiredTokenIndex.getOrDefault(token, Collections.emptySet()));
+        return candidates;
+    }
+
+    private void index(MOINode<T> node) {
+        MathematicalObjectOfInterest moi = node.getNode();
+        if ( moi == null || moi.getTokens() == null ) {
+            unrestrictedNodes.add(node.getId());
+            return;
+        }
+
+        for ( String token : moi.getTokens() )
+            tokenIndex.computeIfAbsent(token, t -> new HashSet<>()).add(node.getId());
+
+        Set<String> requiredTokens = moi.getRequiredTokens();
+        if ( requiredTokens == null ) unrestrictedNodes.add(node.getId());
+        else for ( String token : requiredTokens )
+            requiredTokenIndex.computeIfAbsent(token, t -> new HashSet<>()).add(node.getId());
+    }
+
+    private void removeFromIndex(MOINode<T> node) {
+        unrestrictedNodes.remove(node.getId());
+        MathematicalObjectOfInterest moi = node.getNode();
+        if ( moi == null || moi.getTokens() == null ) return;
+
+        for ( String token : moi.getTokens() )
+            removeFromIndex(tokenIndex, token, node.getId());
+
+        Set<String> requiredTokens = moi.getRequiredTokens();
+        if ( requiredTokens != null ) for ( String token : requiredTokens )
+            removeFromIndex(requiredTokenIndex, token, node.getId());
+    }
+
+    private static void removeFromIndex(HashMap<String, Set<String>> index, String token, String id) {
+        Set<String> ids = index.get(token);
+        if ( ids == null ) return;
+        ids.remove(id);
+        if ( ids.isEmpty() ) index.remove(token);
+    }
+
     protected void addDependency(MOINode<T> source, MOINode<T> sink) {
         if ( source == null || sink == null ) return;
         MOIDependency<T> dependency = new MOIDependency<>(source, sink);
@@ -110,6 +179,7 @@ public class MOIDependencyGraph<T> implements IMOIGraph<T> {
     public MOINode<T> removeNode(String id) {
         MOINode<T> node = vertices.remove(id);
         if ( node == null ) return null;
+        removeFromIndex(node);
 
         Collection<? extends IDependency<T>> outgoingEdges = node.getOutgoingDependencies();
         for ( IDependency<T> out : outgoingEdges ) {
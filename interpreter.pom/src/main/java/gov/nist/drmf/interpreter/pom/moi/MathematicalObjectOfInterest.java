@@ -25,6 +25,7 @@ public class MathematicalObjectOfInterest {
     private static final SemanticMLPWrapper mlp = SemanticMLPWrapper.getStandardInstance();
 
     private final Set<String> identifiers;
+    private final Set<String> tokens;
     private final PrintablePomTaggedExpression moi;
     private MatchablePomTaggedExpression matchableMOI;
 
@@ -39,6 +40,7 @@ public class MathematicalObjectOfInterest {
      */
     private MathematicalObjectOfInterest() {
         this.identifiers = null;
+        this.tokens = null;
         this.moi = null;
         this.matchableMOI = null;
         this.originalLaTeX = "";
@@ -59,6 +61,8 @@ public class MathematicalObjectOfInterest {
                 .map( PrintablePomTaggedExpression::getRoot )
                 .map( MathTerm::getTermText )
                 .collect(Collectors.toSet());
+        this.tokens = new HashSet<>();
+        collectTokens(moi, this.tokens);
 
         if ( this.identifiers.size() > 1 ) {
             this.wildcardIdentifierMapping = replaceIdentifiersByWildcards(identifierNodes);
@@ -82,6 +86,14 @@ public class MathematicalObjectOfInterest {
         }
     }
 
+    private static void collectTokens(PrintablePomTaggedExpression node, Set<String> tokens) {
+        MathTerm term = node.getRoot();
+        if ( term != null && term.getTermText() != null && !term.getTermText().isEmpty() )
+            tokens.add(term.getTermText());
+        for ( PrintablePomTaggedExpression child : node.getPrintableComponents() )
+            collectTokens(child, tokens);
+    }
+
     private HashMap<String, String> replaceIdentifiersByWildcards(
             Collection<PrintablePomTaggedExpression> identifierNodes
     ) {
@@ -146,6 +158,34 @@ public class MathematicalObjectOfInterest {
         return identifiers;
     }
 
+    /**
+     * @return the texts of all terms of this MOI (including identifiers, operators, macros, and numbers)
+     */
+    public Set<String> getTokens() {
+        return tokens;
+    }
+
+    /**
+     * This MOI can only match another MOI (see {@link #match(MathematicalObjectOfInterest)}) if at least
+     * one of the returned tokens is also a token of the other MOI (see {@link #getTokens()}). For example,
+     * {@code f(x)} only matches MOIs that contain {@code f}, since {@code x} in parentheses is no primary identifier.
+     * This allows to skip the expensive tree matching for most pairs of MOIs.
+     *
+     * @return the tokens of which at least one must appear in another MOI to be matched by this MOI (if the set is
+     * empty, this MOI matches no other MOI) or null if this MOI can potentially match any other MOI
+     */
+    public Set<String> getRequiredTokens() {
+        if ( Objects.isNull(matchableMOI) ) return Collections.emptySet();
+        if ( !this.wildcardIdentifierMapping.isEmpty() ) {
+            // a match requires a wildcard that captured its potential primary identifier
+            if ( this.potentialPrimaryIdentifierWildcardMapping.isEmpty() ) return null;
+            return new HashSet<>(this.potentialPrimaryIdentifierWildcardMapping.values());
+        }
+        // without wildcards, the single identifier must appear literally
+        if ( this.identifiers.size() == 1 ) return new HashSet<>(this.identifiers);
+        return null;
+    }
+
     public PrintablePomTaggedExpression getMoi() {
         return moi;
     }
@@ -0,0 +1,182 @@
+package gov.nist.drmf.interpreter.pom;
+
+import gov.nist.drmf.interpreter.common.constants.GlobalPaths;
+import mlp.CharStream;
+import mlp.FeatureSet;
+import mlp.Lexicon;
+import mlp.LexiconFactory;
+import mlp.PomParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+public class LexiconSnapshotTests {
+
+    @TempDir
+    Path tempDir;
+
+    private Path copyLexicon(String name) throws IOException {
+        Path lexicon = tempDir.resolve(name);
+        Files.copy(GlobalPaths.PATH_LEXICONS.resolve(name), lexicon);
+        return lexicon;
+    }
+
+    private static Path compileMacros(Path lexicon) throws IOException {
+        return LexiconSnapshot.compile(
+                lexicon,
+                MacrosLexicon.SIGNAL_ENTRY,
+                MacrosLexicon.SIGNAL_FEATURESET,
+                MacrosLexicon.SIGNAL_LINE,
+                MacrosLexicon.SIGNAL_INLINE
+        );
+    }
+
+    private static Lexicon loadMacros(Path lexicon) {
+        return LexiconSnapshot.loadSnapshot(
+                lexicon,
+                MacrosLexicon.SIGNAL_ENTRY,
+                MacrosLexicon.SIGNAL_FEATURESET,
+                MacrosLexicon.SIGNAL_LINE,
+                MacrosLexicon.SIGNAL_INLINE
+        );
+    }
+
+    @Test
+    public void identicalMacrosLexiconTest() throws IOException {
+        Path lexicon = copyLexicon(LexiconSnapshot.DLMF_MACROS_LEXICON);
+        Path snapshot = compileMacros(lexicon);
+        assertTrue(Files.isRegularFile(snapshot));
+
+        Lexicon snapshotLexicon = loadMacros(lexicon);
+        assertNotNull(snapshotLexicon);
+
+        Map<String, List<FeatureSet>> expected = LexiconFactory.createLexiconMap(
+                lexicon,
+                MacrosLexicon.SIGNAL_ENTRY,
+                MacrosLexicon.SIGNAL_FEATURESET,
+                MacrosLexicon.SIGNAL_LINE,
+                MacrosLexicon.SIGNAL_INLINE
+        );
+        assertLexiconEquals(expected, snapshotLexicon.getLexiconMap());
+    }
+
+    @Test
+    public void identicalGlobalLexiconTest() throws IOException {
+        Path lexicon = copyLexicon(LexiconSnapshot.GLOBAL_LEXICON);
+        LexiconSnapshot.compile(
+                lexicon,
+                LexiconSnapshot.POM_SIGNAL_ENTRY,
+                LexiconSnapshot.POM_SIGNAL_FEATURESET,
+                LexiconSnapshot.POM_SIGNAL_LINE,
+                LexiconSnapshot.POM_SIGNAL_INLINE
+        );
+
+        Lexicon snapshotLexicon = LexiconSnapshot.loadLexicon(
+                lexicon,
+                LexiconSnapshot.POM_SIGNAL_ENTRY,
+                LexiconSnapshot.POM_SIGNAL_FEATURESET,
+                LexiconSnapshot.POM_SIGNAL_LINE,
+                LexiconSnapshot.POM_SIGNAL_INLINE
+        );
+
+        Map<String, List<FeatureSet>> expected = LexiconFactory.createLexiconMap(
+                lexicon,
+                LexiconSnapshot.POM_SIGNAL_ENTRY,
+                LexiconSnapshot.POM_SIGNAL_FEATURESET,
+                LexiconSnapshot.POM_SIGNAL_LINE,
+                LexiconSnapshot.POM_SIGNAL_INLINE
+        );
+        assertLexiconEquals(expected, snapshotLexicon.getLexiconMap());
+    }
+
+    @Test
+    public void staleSnapshotTest() throws IOException {
+        Path lexicon = copyLexicon(LexiconSnapshot.DLMF_MACROS_LEXICON);
+        compileMacros(lexicon);
+        assertNotNull(loadMacros(lexicon));
+
+        Files.writeString(lexicon, "\nSymbol: \\myMacro\n\n  Feature Set: dlmf-macro\n\tDLMF: \\myMacro\n", StandardOpenOption.APPEND);
+        assertNull(loadMacros(lexicon));
+
+        Lexicon fallback = LexiconSnapshot.loadLexicon(
+                lexicon,
+                MacrosLexicon.SIGNAL_ENTRY,
+                MacrosLexicon.SIGNAL_FEATURESET,
+                MacrosLexicon.SIGNAL_LINE,
+                MacrosLexicon.SIGNAL_INLINE
+        );
+        assertTrue(fallback.hasEntry("\\myMacro"));
+
+        compileMacros(lexicon);
+        Lexicon recompiled = loadMacros(lexicon);
+        assertNotNull(recompiled);
+        assertTrue(recompiled.hasEntry("\\myMacro"));
+    }
+
+    @Test
+    public void differentSignalsTest() throws IOException {
+        Path lexicon = copyLexicon(LexiconSnapshot.DLMF_MACROS_LEXICON);
+        compileMacros(lexicon);
+        assertNull(LexiconSnapshot.loadSnapshot(
+                lexicon,
+                LexiconSnapshot.POM_SIGNAL_ENTRY,
+                LexiconSnapshot.POM_SIGNAL_FEATURESET,
+                LexiconSnapshot.POM_SIGNAL_LINE,
+                LexiconSnapshot.POM_SIGNAL_INLINE
+        ));
+    }
+
+    @Test
+    public void missingSnapshotTest() throws IOException {
+        Path lexicon = copyLexicon(LexiconSnapshot.DLMF_MACROS_LEXICON);
+        assertNull(loadMacros(lexicon));
+    }
+
+    @Test
+    public void addLexiconsAfterPreloadedLexiconTest() throws IOException {
+        Path lexicons = Files.createDirectory(tempDir.resolve("Lexicons"));
+        for ( String file : List.of("thesaurus.txt", "global-ignorableLatex.txt", "MathAndTextCmdsWithParamsWithoutRelevantEffect.txt") )
+            Files.copy(GlobalPaths.PATH_LEXICONS.resolve(file), lexicons.resolve(file));
+        Files.writeString(lexicons.resolve("test-lexicon.txt"), "Symbol: \\myTestSymbol\n\n  Feature Set: letter\n");
+
+        Lexicon original = new PomParser((CharStream) null).getLexicon();
+        try {
+            PomParser parser = PomParserResources.createParser(new Lexicon(), tempDir);
+            // the lexicon is resolved relative to the reference directory
+            parser.addLexicons("test-lexicon.txt");
+            assertTrue(parser.getLexicon().hasEntry("\\myTestSymbol"));
+        } finally {
+            // the resources are static, restore them for all other tests
+            PomParserResources.createParser(original, GlobalPaths.PATH_REFERENCE_DATA);
+        }
+    }
+
+    private static void assertLexiconEquals(Map<String, List<FeatureSet>> expected, Map<String, List<FeatureSet>> actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for ( String key : expected.keySet() ) {
+            List<FeatureSet> expectedSets = expected.get(key);
+            List<FeatureSet> actualSets = actual.get(key);
+            assertEquals(expectedSets.size(), actualSets.size(), key);
+            for ( int i = 0; i < expectedSets.size(); i++ ) {
+                FeatureSet expectedSet = expectedSets.get(i);
+                FeatureSet actualSet = actualSets.get(i);
+                assertEquals(expectedSet.getFeatureSetName(), actualSet.getFeatureSetName(), key);
+                assertEquals(expectedSet.getFeatureNames(), actualSet.getFeatureNames(), key);
+                for ( String feature : expectedSet.getFeatureNames() ) {
+                    assertEquals(expectedSet.getFeature(feature), actualSet.getFeature(feature), key + ": " + feature);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package gov.nist.drmf.interpreter.pom;
+
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
+import mlp.ParseException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class MLPWrapperPoolTests {
+    private static final String[] EXPRESSIONS = new String[] {
+            "\\left( x^{1+x}_n \\right)",
+            "w=\\ifrac{(1-x^{2})}{\\Delta({q,p})}",
+            "\\JacobiP{\\alpha}{\\beta}{n}@{\\cos@{a\\Theta}}",
+            "\\sum_{n=0}^\\infty \\frac{z^n}{n!} = \\exp@{z}",
+            "\\int_{0}^{1} x \\diff{x}",
+            "\\prod_{k=1}^{n} (1-q^k)",
+            "\\EulerGamma@{z+1} = z \\EulerGamma@{z}",
+            "\\lim_{x \\to 0} \\frac{\\sin@{x}}{x}"
+    };
+
+    private static MLPWrapper mlp;
+
+    @BeforeAll
+    public static void setup() {
+        mlp = SemanticMLPWrapper.getStandardInstance();
+    }
+
+    @Test
+    public void sameTreesTest() throws Exception {
+        MLPWrapperPool<SemanticMLPWrapper> pool = SemanticMLPWrapper.createPool(4);
+        assertNotNull(pool);
+
+        List<String> expected = new ArrayList<>();
+        for ( String expr : EXPRESSIONS ) expected.add(mlp.parse(expr).toString());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for ( int round = 0; round < 10; round++ ) {
+                for ( String expr : EXPRESSIONS ) {
+                    results.add(executor.submit(() -> pool.parse(expr).toString()));
+                }
+            }
+
+            for ( int i = 0; i < results.size(); i++ ) {
+                assertEquals(expected.get(i % EXPRESSIONS.length), results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(4, pool.available());
+    }
+
+    @Test
+    public void borrowAndGiveBackTest() throws InterruptedException, ParseException {
+        MLPWrapperPool<SemanticMLPWrapper> pool = SemanticMLPWrapper.createPool(2);
+        assertNotNull(pool);
+        assertEquals(2, pool.size());
+
+        SemanticMLPWrapper first = pool.borrow();
+        SemanticMLPWrapper second = pool.borrow();
+        assertNotSame(first, second);
+        assertNotSame(mlp, first);
+        assertEquals(0, pool.available());
+
+        PrintablePomTaggedExpression ppte = first.parse("\\left( x^{1+x}_n \\right)");
+        assertEquals("\\left( x^{1+x}_n \\right)", ppte.getTexString());
+
+        pool.giveBack(first);
+        assertEquals(1, pool.available());
+        assertThrows(IllegalArgumentException.class, () -> pool.giveBack(first));
+
+        pool.giveBack(second);
+        assertEquals(2, pool.available());
+    }
+
+    @Test
+    public void foreignWrapperTest() {
+        MLPWrapperPool<SemanticMLPWrapper> pool = SemanticMLPWrapper.createPool(1);
+        assertNotNull(pool);
+        assertThrows(IllegalArgumentException.class, () -> pool.giveBack(SemanticMLPWrapper.getStandardInstance()));
+        assertThrows(IllegalArgumentException.class, () -> new MLPWrapperPool<>(0, SemanticMLPWrapper::getStandardInstance));
+    }
+
+    @Test
+    public void siblingMacrosTest() throws ParseException {
+        SiblingWrapper origin = new SiblingWrapper(mlp);
+        origin.addMacros("\\newcommand{\\myHalf}{\\frac{1}{2}}");
+        SiblingWrapper sibling = new SiblingWrapper(origin);
+
+        String expected = origin.simpleParse("x + \\myHalf").toString();
+        assertNotEquals(new SiblingWrapper(mlp).simpleParse("x + \\myHalf").toString(), expected);
+        assertEquals(expected, sibling.simpleParse("x + \\myHalf").toString());
+
+        // the macros are copied, not shared
+        sibling.addMacros("\\newcommand{\\myThird}{\\frac{1}{3}}");
+        assertNotEquals(sibling.simpleParse("\\myThird").toString(), origin.simpleParse("\\myThird").toString());
+    }
+
+    private static class SiblingWrapper extends MLPWrapper {
+        SiblingWrapper(MLPWrapper origin) {
+            super(origin);
+        }
+    }
+}
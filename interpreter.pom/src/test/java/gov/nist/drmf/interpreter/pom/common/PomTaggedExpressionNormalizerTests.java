@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Andre Greiner-Petter
@@ -119,6 +120,22 @@ public class PomTaggedExpressionNormalizerTests {
         );
     }
 
+    @Test
+    void plusMinusBranchesTest() throws ParseException {
+        PrintablePomTaggedExpression ppte = mlp.parse("a \\pm \\frac{b \\mp c}{2}");
+        PlusMinusBranches branches = PlusMinusBranches.find(ppte);
+        assertEquals(2, branches.size());
+
+        PrintablePomTaggedExpression first = branches.expand(ppte, true);
+        PrintablePomTaggedExpression second = branches.expand(ppte, false);
+        assertEquals("a + \\frac{b - c}{2}", first.getTexString());
+        assertEquals("a - \\frac{b + c}{2}", second.getTexString());
+        assertEquals("a \\pm \\frac{b \\mp c}{2}", ppte.getTexString());
+
+        assertTrue(PlusMinusBranches.find(first).isEmpty());
+        assertTrue(PlusMinusBranches.find(mlp.parse("a + b")).isEmpty());
+    }
+
     private void checkList(List<PrintablePomTaggedExpression> components, String... matches ) {
         assertEquals(matches.length, components.size(), "Length doesnt match: [" +
                 components.stream().map(PrintablePomTaggedExpression::getTexString).collect(Collectors.joining(", ")) + "] VS " + Arrays.toString(matches));
@@ -0,0 +1,74 @@
+package gov.nist.drmf.interpreter.pom.extensions;
+
+import gov.nist.drmf.interpreter.pom.MLPWrapper;
+import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import mlp.ParseException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class PomPatternCacheTests {
+    private static MLPWrapper mlp;
+
+    @BeforeAll
+    static void setup() {
+        mlp = SemanticMLPWrapper.getStandardInstance();
+    }
+
+    @Test
+    void hitTest() throws ParseException {
+        PomPatternCache cache = new PomPatternCache(10);
+        PomPattern first = cache.compile(new MatchablePomTaggedExpressionConfig(mlp, "var\\d"), "var1 + 1");
+        PomPattern second = cache.compile(new MatchablePomTaggedExpressionConfig(mlp, "var\\d"), "var1 + 1");
+        assertSame(first, second);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.5, cache.getHitRate());
+
+        // different wildcards are different patterns
+        PomPattern noWildcards = cache.compile(new MatchablePomTaggedExpressionConfig(mlp, ""), "var1 + 1");
+        assertNotSame(first, noWildcards);
+        assertEquals(2, cache.size());
+
+        assertTrue(first.match(mlp.parse("x + 1"), MatcherConfig.getExactMatchConfig()));
+        assertFalse(noWildcards.match(mlp.parse("x + 1"), MatcherConfig.getExactMatchConfig()));
+    }
+
+    @Test
+    void evictionTest() throws ParseException {
+        PomPatternCache cache = new PomPatternCache(2);
+        MatchablePomTaggedExpressionConfig config = new MatchablePomTaggedExpressionConfig(mlp, "var\\d");
+        PomPattern a = cache.compile(config, "a + var1");
+        cache.compile(config, "b + var1");
+        // a is now the most recently used pattern
+        cache.compile(config, "a + var1");
+        cache.compile(config, "c + var1");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertSame(a, cache.compile(config, "a + var1"));
+        assertEquals(2, cache.getHits());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    void defaultCacheTest() throws ParseException {
+        PomPattern pattern = PomMatcherBuilder.compileCached(mlp, "\\frac{var1}{var2}", "var\\d");
+        assertSame(pattern, PomMatcherBuilder.compileCached(mlp, "\\frac{var1}{var2}", "var\\d"));
+        assertTrue(PomPatternCache.getDefaultCache().getHits() > 0);
+    }
+
+    @Test
+    void illegalSizeTest() {
+        assertThrows(IllegalArgumentException.class, () -> new PomPatternCache(0));
+    }
+}
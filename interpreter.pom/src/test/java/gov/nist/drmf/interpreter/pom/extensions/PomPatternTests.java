@@ -0,0 +1,109 @@
+package gov.nist.drmf.interpreter.pom.extensions;
+
+import gov.nist.drmf.interpreter.common.exceptions.NotMatchableException;
+import gov.nist.drmf.interpreter.pom.MLPWrapper;
+import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
+import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
+import mlp.ParseException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Andre Greiner-Petter
+ */
+@AssumeMLPAvailability
+public class PomPatternTests {
+    private static MLPWrapper mlp;
+
+    @BeforeAll
+    static void setup() {
+        mlp = SemanticMLPWrapper.getStandardInstance();
+    }
+
+    @Test
+    void matchGroupsTest() throws ParseException {
+        PomPattern pattern = PomMatcherBuilder.compilePattern(mlp, "\\frac{var1}{var2}", "var\\d");
+        Map<String, String> groups = pattern.matchGroups(mlp.parse("\\frac{x}{y+1}"), MatcherConfig.getExactMatchConfig());
+        assertNotNull(groups);
+        assertEquals("x", groups.get("var1"));
+        assertEquals("y+1", groups.get("var2"));
+
+        assertNull(pattern.matchGroups(mlp.parse("x+1"), MatcherConfig.getExactMatchConfig()));
+        assertTrue(pattern.match(mlp.parse("\\frac{a}{b}"), MatcherConfig.getExactMatchConfig()));
+        assertEquals("\\frac{var1}{var2}", pattern.getPattern());
+    }
+
+    @Test
+    void nestedUseTest() throws ParseException {
+        PomPattern pattern = PomMatcherBuilder.compilePattern(mlp, "var1 + 1", "var\\d");
+        MatchablePomTaggedExpression outer = pattern.acquire();
+        assertTrue(outer.match(mlp.parse("x + 1")));
+
+        // a nested use must not touch the captures of the outer use
+        MatchablePomTaggedExpression inner = pattern.acquire();
+        assertNotSame(outer, inner);
+        assertTrue(inner.match(mlp.parse("y + 1")));
+        pattern.release(inner);
+
+        assertEquals("x", outer.getStringMatches().get("var1"));
+        pattern.release(outer);
+
+        // released trees are reused
+        assertSame(inner, pattern.acquire());
+    }
+
+    @Test
+    void matcherTest() throws ParseException {
+        PomPattern pattern = PomMatcherBuilder.compilePattern(mlp, "var1^2", "var\\d");
+        PomMatcher matcher = pattern.matcher(mlp.parse("x^2 + y^2"), MatcherConfig.getInPlaceMatchConfig());
+        List<String> hits = new LinkedList<>();
+        while ( matcher.find() ) hits.add(matcher.groups().get("var1"));
+        assertEquals(List.of("x", "y"), hits);
+    }
+
+    @Test
+    void concurrentTest() throws Exception {
+        PomPattern pattern = PomMatcherBuilder.compilePattern(mlp, "\\sin var1 + var2", "var\\d");
+        int n = 40;
+        List<Map<String, String>> expected = new LinkedList<>();
+        List<PrintablePomTaggedExpression> expressions = new LinkedList<>();
+        for ( int i = 0; i < n; i++ ) {
+            expressions.add(mlp.parse("\\sin x_" + i + " + " + i));
+            expected.add(Map.of("var1", "x_" + i, "var2", "" + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Map<String, String>>> futures = new LinkedList<>();
+            for ( PrintablePomTaggedExpression ppte : expressions ) {
+                futures.add(executor.submit(() -> pattern.matchGroups(ppte, MatcherConfig.getExactMatchConfig())));
+            }
+
+            for ( int i = 0; i < n; i++ ) {
+                assertEquals(expected.get(i), futures.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void notMatchableTest() {
+        assertThrows(
+                NotMatchableException.class,
+                () -> PomMatcherBuilder.compilePattern(
+                        new MatchablePomTaggedExpressionConfig(mlp, "var\\d").setFallbackConsecutiveWildcards(false),
+                        mlp.parse("var1 var2")
+                )
+        );
+    }
+}
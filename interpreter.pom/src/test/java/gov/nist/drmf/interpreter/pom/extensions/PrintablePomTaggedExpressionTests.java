@@ -74,6 +74,41 @@ public class PrintablePomTaggedExpressionTests {
         checkList(fracCompy, "{a+b}", "{b+c}");
     }
 
+    @Test
+    public void sharedSourceEditTest() throws ParseException {
+        String texString = "x + \\frac{ a + b }{c}";
+        PrintablePomTaggedExpression ppte = mlp.parse(texString);
+        PrintablePomTaggedExpression copy = new PrintablePomTaggedExpression(ppte);
+
+        // the nodes of both trees share the same source, so an edit must not change the other tree
+        copy.getPrintableComponents().get(0).setRoot(new MathTerm("y", MathTermTags.letter.tag()));
+        assertEquals("y + \\frac{ a + b }{c}", copy.getTexString());
+        assertEquals(texString, ppte.getTexString());
+        checkList(ppte.getPrintableComponents(), "x", "+", "\\frac{ a + b }{c}");
+        checkList(copy.getPrintableComponents(), "y", "+", "\\frac{ a + b }{c}");
+        checkList(ppte.getPrintableComponents().get(2).getPrintableComponents(), "a + b", "{c}");
+    }
+
+    @Test
+    public void copySharesFeatureSetsTest() throws ParseException {
+        PrintablePomTaggedExpression ppte = mlp.parse("\\alpha + 1");
+        PrintablePomTaggedExpression copy = new PrintablePomTaggedExpression(ppte);
+
+        MathTerm original = ppte.getPrintableComponents().get(0).getRoot();
+        MathTerm copied = copy.getPrintableComponents().get(0).getRoot();
+        assertNotSame(original, copied);
+        assertFalse(original.getAlternativeFeatureSets().isEmpty());
+        assertEquals(original.getAlternativeFeatureSets().size(), copied.getAlternativeFeatureSets().size());
+        for ( int i = 0; i < original.getAlternativeFeatureSets().size(); i++ )
+            assertSame(original.getAlternativeFeatureSets().get(i), copied.getAlternativeFeatureSets().get(i));
+
+        // the list of feature sets and the term itself are not shared
+        copied.getAlternativeFeatureSets().clear();
+        copied.setTermText("\\beta");
+        assertFalse(original.getAlternativeFeatureSets().isEmpty());
+        assertEquals("\\alpha", original.getTermText());
+    }
+
     @Test
     public void copyConstructorTest() throws ParseException {
         String texString = "a + b";
@@ -1,5 +1,6 @@
 package gov.nist.drmf.interpreter.pom.generic;
 
+import gov.nist.drmf.interpreter.common.interfaces.TranslationFeature;
 import gov.nist.drmf.interpreter.pom.SemanticMLPWrapper;
 import gov.nist.drmf.interpreter.pom.common.meta.AssumeMLPAvailability;
 import gov.nist.drmf.interpreter.pom.extensions.PrintablePomTaggedExpression;
@@ -9,6 +10,7 @@ import mlp.ParseException;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * @author Andre Greiner-Petter
@@ -104,4 +106,21 @@ public class GenericReplacementToolTests {
         ppte = replacementTool.getSemanticallyEnhancedExpression(ppte);
         assertEquals("P_{n}(z) = \\frac{1 }{2^n  n! } \\deriv [n]{ }{z}(z^2 - 1)^n", ppte.getTexString());
     }
+
+    @Test
+    void sharedTraversalTest() throws ParseException {
+        String expr = "f(x) + \\operatorname{Re}(z) \\not = e^{i \\pi} \\int_0^1 \\frac{d}{dt} g(t) dt";
+        PrintablePomTaggedExpression sequential = TranslationFeature.combine(
+                new GenericDifferentialDFixer(),
+                new GenericFractionDerivFixer(),
+                new GenericConstantReplacer(),
+                new GenericFunctionAnnotator(),
+                new GenericNormalizeOperatorNameCarets()
+        ).preProcess(mlp.parse(expr));
+
+        PrintablePomTaggedExpression shared = new GenericReplacementTool().preProcess(mlp.parse(expr));
+        assertEquals(sequential.getTexString(), shared.getTexString());
+        assertEquals(sequential.toString(), shared.toString());
+        assertSame(GenericReplacementTool.defaultGenericReplacements(), GenericReplacementTool.defaultGenericReplacements());
+    }
 }
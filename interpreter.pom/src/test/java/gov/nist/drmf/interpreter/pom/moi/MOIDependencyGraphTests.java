@@ -122,6 +122,33 @@ public class MOIDependencyGraphTests {
         assertEquals(1, graph.getSources().size());
     }
 
+    @Test
+    public void indexedDependenciesEqualPairwiseMatchesTest() throws ParseException {
+        String[] mois = new String[]{
+                "x", "z", "n", "\\alpha", "f(x)", "f(z)", "g(z)", "f(z) + g(z)", "\\Gamma(z)", "\\Gamma(z+1)",
+                "z \\Gamma(z)", "P_n^{(\\alpha, \\beta)}(x)", "P_n^{(\\alpha, \\beta)}(\\cos \\theta)",
+                "\\cos \\theta", "\\sin(x)", "\\sin(\\cos(x))", "a b", "2", "\\frac{1}{\\Gamma(z)}", "x^2 + y^2"
+        };
+
+        HashMap<String, String> library = new HashMap<>();
+        for ( int i = 0; i < mois.length; i++ ) library.put(Integer.toString(i), mois[i]);
+        MOIDependencyGraph<Void> graph = MOIDependencyGraphBuilder.generateGraph(library);
+
+        for ( MOINode<Void> source : graph.getVertices() ) {
+            for ( MOINode<Void> sink : graph.getVertices() ) {
+                if ( source == sink ) continue;
+                boolean matches = source.getNode().match(sink.getNode()) != null;
+                boolean edge = source.getOutgoingDependencies().stream().anyMatch( d -> d.getSink() == sink );
+                assertEquals(matches, edge, source.getNode().getOriginalLaTeX() + " -> " + sink.getNode().getOriginalLaTeX());
+            }
+        }
+
+        // removed nodes are no dependency candidates anymore
+        graph.removeNode("1");
+        MOINode<Void> z = graph.addNode("z", "z");
+        assertEquals(1, graph.getNode("6").getIngoingNodes().stream().filter( n -> n == z ).count());
+    }
+
     @Test
     public void nonMatchableMOIGraphTest() throws ParseException {
         HashMap<String, String> library = new HashMap<>();